@@ -0,0 +1,87 @@
+package seedu.address.logic.parser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.model.ModelManager;
+
+/**
+ * Benchmarks {@code AddressBookParser#parseCommand(String)} on commands as users type them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AddressBookParserBenchmark {
+
+    /**
+     * A parser used from the student list.
+     */
+    @State(Scope.Thread)
+    public static class StudentParser {
+        @Param({
+            "add -name Alex Yeoh -phone 87438807 -email alexyeoh@example.com -address Blk 30 Geylang Street 29"
+                    + " -subject chemistry,biology -tag friends",
+            "edit 3 -phone 91031282 -remark Prefers online lessons",
+            "filter -name alex -subject physics,english -tag friends",
+            "delete 12",
+            "show 5",
+            "link -student Alex Yeoh -lesson lesson1",
+        })
+        private String command;
+
+        private AddressBookParser parser;
+
+        @Setup
+        public void setUp() {
+            ModelManager model = new ModelManager();
+            model.setState(seedu.address.model.state.State.STUDENT);
+            parser = new AddressBookParser(model);
+        }
+    }
+
+    /**
+     * A parser used from the schedule list.
+     */
+    @State(Scope.Thread)
+    public static class ScheduleParser {
+        @Param({
+            "add -name lesson1 -start 12:30 -end 14:30 -day 23/12/20 -subject mathematics",
+            "filter -before 2023/10/10 -subject physics",
+            "addtask 2 Prepare CS2103T Slides",
+        })
+        private String command;
+
+        private AddressBookParser parser;
+
+        @Setup
+        public void setUp() {
+            ModelManager model = new ModelManager();
+            model.setState(seedu.address.model.state.State.SCHEDULE);
+            parser = new AddressBookParser(model);
+        }
+    }
+
+    @Benchmark
+    public Command parseStudentCommand(StudentParser studentParser) throws Exception {
+        return studentParser.parser.parseCommand(studentParser.command);
+    }
+
+    @Benchmark
+    public Command parseScheduleCommand(ScheduleParser scheduleParser) throws Exception {
+        return scheduleParser.parser.parseCommand(scheduleParser.command);
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.model.util.SyntheticDataUtil.getSyntheticAddressBook;
+import static seedu.address.model.util.SyntheticDataUtil.getSyntheticSchedule;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Benchmarks parsing filters with {@code FilterCommandParser} and applying them to large lists.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FilterCommandParserBenchmark {
+
+    /**
+     * A model in the student list with {@code size} persons.
+     */
+    @State(Scope.Thread)
+    public static class StudentModel {
+        @Param({"1000", "10000", "100000"})
+        private int size;
+
+        @Param({"-name alex", "-subject physics,english", "-tag friends", "-name yu -subject chemistry -tag family",
+            "-remark to -or -not -subject physics"})
+        private String filter;
+
+        private ModelManager model;
+        private FilterCommandParser parser;
+
+        @Setup
+        public void setUp() {
+            model = new ModelManager(getSyntheticAddressBook(size), new UserPrefs(), getSyntheticSchedule(0));
+            parser = new FilterCommandParser(seedu.address.model.state.State.STUDENT);
+        }
+    }
+
+    /**
+     * A model in the schedule list with {@code size} lessons.
+     */
+    @State(Scope.Thread)
+    public static class ScheduleModel {
+        @Param({"1000", "10000", "100000"})
+        private int size;
+
+        @Param({"-name lesson1", "-subject physics", "-before 2023/06/01", "-on 2023/03/15 -subject biology"})
+        private String filter;
+
+        private ModelManager model;
+        private FilterCommandParser parser;
+
+        @Setup
+        public void setUp() {
+            model = new ModelManager(getSyntheticAddressBook(0), new UserPrefs(), getSyntheticSchedule(size));
+            parser = new FilterCommandParser(seedu.address.model.state.State.SCHEDULE);
+        }
+    }
+
+    @Benchmark
+    public int filterPersons(StudentModel studentModel) throws Exception {
+        studentModel.parser.parse(studentModel.filter).execute(studentModel.model);
+        return studentModel.model.getFilteredPersonList().size();
+    }
+
+    @Benchmark
+    public int filterLessons(ScheduleModel scheduleModel) throws Exception {
+        scheduleModel.parser.parse(scheduleModel.filter).execute(scheduleModel.model);
+        return scheduleModel.model.getFilteredScheduleList().size();
+    }
+}
@@ -0,0 +1,109 @@
+package seedu.address.model;
+
+import static seedu.address.model.util.SyntheticDataUtil.DEFAULT_SEED;
+import static seedu.address.model.util.SyntheticDataUtil.getSyntheticLessons;
+import static seedu.address.model.util.SyntheticDataUtil.getSyntheticPersonLessonMap;
+import static seedu.address.model.util.SyntheticDataUtil.getSyntheticPersons;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Benchmarks linking persons to lessons in a {@code BiDirectionalMap} and updating the links on edits.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class BiDirectionalMapBenchmark {
+    private static final int LINKS_PER_PERSON = 3;
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private BiDirectionalMap<Person, Lesson> personLessonMap;
+    private Person person;
+    private Person renamedPerson;
+    private Lesson lesson;
+    private Lesson renamedLesson;
+    private Lesson unlinkedLesson;
+
+    @Setup
+    public void setUp() throws Exception {
+        List<Person> persons = List.of(getSyntheticPersons(size, DEFAULT_SEED));
+        List<Lesson> lessons = List.of(getSyntheticLessons(size, DEFAULT_SEED));
+        personLessonMap = getSyntheticPersonLessonMap(persons, lessons, LINKS_PER_PERSON, DEFAULT_SEED);
+
+        person = persons.get(size / 2);
+        renamedPerson = person.clone();
+        renamedPerson.setName(new Name("Renamed Student"));
+        lesson = lessons.get(size / 2);
+        renamedLesson = lesson.clone();
+        renamedLesson.setName(new Name("renamed lesson"));
+        unlinkedLesson = getSyntheticLessons(size + 1, DEFAULT_SEED)[size];
+    }
+
+    @Benchmark
+    public Name[] linkThenUnlink() {
+        personLessonMap.addMapping(person, unlinkedLesson);
+        personLessonMap.removeMapping(person, unlinkedLesson);
+        return personLessonMap.get(person);
+    }
+
+    @Benchmark
+    public Name[] get() {
+        return personLessonMap.get(person);
+    }
+
+    @Benchmark
+    public Name[] getReversed() {
+        return personLessonMap.getReversed(lesson);
+    }
+
+    @Benchmark
+    public int countLinked() {
+        return personLessonMap.countLinked(person);
+    }
+
+    @Benchmark
+    public String joinLinked() {
+        return personLessonMap.joinLinked(person);
+    }
+
+    @Benchmark
+    public Name[] renamePersonAndBack() {
+        personLessonMap.update(person, renamedPerson);
+        personLessonMap.update(renamedPerson, person);
+        return personLessonMap.get(person);
+    }
+
+    @Benchmark
+    public Name[] renameLessonAndBack() {
+        personLessonMap.updateReverse(lesson, renamedLesson);
+        personLessonMap.updateReverse(renamedLesson, lesson);
+        return personLessonMap.getReversed(lesson);
+    }
+
+    @Benchmark
+    public BiDirectionalMap<Person, Lesson> copy() {
+        return personLessonMap.copy();
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.model.lessons;
+
+import static seedu.address.model.util.SyntheticDataUtil.DEFAULT_SEED;
+import static seedu.address.model.util.SyntheticDataUtil.FIRST_LESSON_START;
+import static seedu.address.model.util.SyntheticDataUtil.getSyntheticLessons;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Subject;
+
+/**
+ * Benchmarks adding lessons to a {@code Schedule}, checking lessons for clashes and finding the lessons of a day.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ScheduleBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private List<Lesson> lessons;
+    private Schedule schedule;
+    private Lesson freeLesson;
+    private Lesson clashingLesson;
+    private DayRange middleDay;
+
+    @Setup
+    public void setUp() throws Exception {
+        lessons = List.of(getSyntheticLessons(size, DEFAULT_SEED));
+        schedule = new Schedule();
+        schedule.setLessons(lessons);
+
+        // the day after the last lesson is free
+        Lesson last = lessons.get(lessons.size() - 1);
+        freeLesson = new Lesson(new Name("free lesson"), new Time(FIRST_LESSON_START),
+                new Time(FIRST_LESSON_START.plusHours(1)), new Day(last.getDay().getDay().plusDays(1)),
+                new Subject("PHYSICS"), new TaskList());
+        Lesson middle = lessons.get(lessons.size() / 2);
+        clashingLesson = new Lesson(new Name("clashing lesson"), middle.getStart(), middle.getEnd(),
+                middle.getDay(), new Subject("PHYSICS"), new TaskList());
+        middleDay = DayRange.on(middle.getDay());
+    }
+
+    @Benchmark
+    public Schedule setLessons() {
+        Schedule newSchedule = new Schedule();
+        newSchedule.setLessons(lessons);
+        return newSchedule;
+    }
+
+    @Benchmark
+    public int addThenRemove() {
+        schedule.add(freeLesson);
+        schedule.remove(freeLesson);
+        return schedule.asUnmodifiableObservableList().size();
+    }
+
+    @Benchmark
+    public boolean hasLessonClashWith_free() {
+        return schedule.hasLessonClashWith(freeLesson);
+    }
+
+    @Benchmark
+    public boolean hasLessonClashWith_clashing() {
+        return schedule.hasLessonClashWith(clashingLesson);
+    }
+
+    @Benchmark
+    public int getLessonsIn() {
+        return schedule.getLessonsIn(middleDay).size();
+    }
+
+    @Benchmark
+    public long getLessonsFulfill_dayRange() {
+        return schedule.getLessonsFulfill(middleDay).size();
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.address.model.person;
+
+import static seedu.address.model.util.SyntheticDataUtil.DEFAULT_SEED;
+import static seedu.address.model.util.SyntheticDataUtil.getSyntheticPersons;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks adding persons to a {@code UniquePersonList}, looking them up and finding them by name.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class UniquePersonListBenchmark {
+    private static final String FIND_SEARCH_STRING = "ming tan 1";
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private List<Person> persons;
+    private UniquePersonList personList;
+    private Person newPerson;
+    private Person existingPerson;
+
+    @Setup
+    public void setUp() throws Exception {
+        persons = List.of(getSyntheticPersons(size, DEFAULT_SEED));
+        personList = new UniquePersonList();
+        personList.setPersons(persons);
+        newPerson = new Person(new Name("Zachary New Student"));
+        existingPerson = persons.get(persons.size() / 2);
+    }
+
+    @Benchmark
+    public UniquePersonList addAll() {
+        UniquePersonList newList = new UniquePersonList();
+        for (Person person : persons) {
+            newList.add(person);
+        }
+        return newList;
+    }
+
+    @Benchmark
+    public int addThenRemove() {
+        personList.add(newPerson);
+        personList.remove(newPerson);
+        return personList.asUnmodifiableObservableList().size();
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return personList.contains(existingPerson);
+    }
+
+    @Benchmark
+    public Person getPersonWithName() {
+        return personList.getPersonWithName(existingPerson.getName());
+    }
+
+    @Benchmark
+    public long findByNameIndex() {
+        Predicate<Person> predicate = personList.getNameContainsPredicate(FIND_SEARCH_STRING);
+        return personList.asUnmodifiableObservableList().stream().filter(predicate).count();
+    }
+
+    @Benchmark
+    public long findByNameScan() {
+        Predicate<Person> predicate = new NameContainsKeywordsPredicate(FIND_SEARCH_STRING);
+        return personList.asUnmodifiableObservableList().stream().filter(predicate).count();
+    }
+}
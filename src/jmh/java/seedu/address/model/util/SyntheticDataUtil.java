@@ -0,0 +1,142 @@
+package seedu.address.model.util;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.BiDirectionalMap;
+import seedu.address.model.ScheduleList;
+import seedu.address.model.lessons.Day;
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.lessons.Task;
+import seedu.address.model.lessons.TaskList;
+import seedu.address.model.lessons.Time;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Remark;
+import seedu.address.model.person.Subject;
+
+/**
+ * Contains utility methods for generating large amounts of valid data for the benchmarks.
+ * <p>
+ * The data is built from the sample data and is the same for the same count and seed.
+ * Persons have unique names, and lessons have unique names and never clash with one another.
+ */
+public class SyntheticDataUtil extends SampleDataUtil {
+    public static final long DEFAULT_SEED = 2103L;
+
+    public static final LocalDate FIRST_LESSON_DAY = LocalDate.of(2023, 1, 2);
+    public static final int LESSONS_PER_DAY = 8;
+    public static final LocalTime FIRST_LESSON_START = LocalTime.of(9, 0);
+
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Siti",
+        "Wei Ming", "Priya", "Hui Min"};
+    private static final String[] LAST_NAMES = {"Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Tan",
+        "Lim", "Kumar", "Wong"};
+    private static final String[] STREETS = {"Geylang Street 29", "Lorong 3 Serangoon Gardens", "Ang Mo Kio Street 74",
+        "Serangoon Gardens Street 26", "Tampines Street 20", "Aljunied Street 85"};
+    private static final String[] SUBJECTS = {"MATHEMATICS", "PHYSICS", "BIOLOGY", "CHEMISTRY", "ENGLISH"};
+    private static final String[] TAGS = {"friends", "colleagues", "neighbours", "family", "classmates", "exam",
+        "weekly", "online"};
+    private static final String[] TASKS = {"Mark homework", "Prepare worksheet", "Revise past paper",
+        "Print notes", "Update progress report"};
+    private static final int MAX_TASKS_PER_LESSON = 4;
+
+    /**
+     * Returns {@code count} persons generated with the given {@code seed}.
+     */
+    public static Person[] getSyntheticPersons(int count, long seed) {
+        Random random = new Random(seed);
+        Person[] persons = new Person[count];
+        try {
+            for (int i = 0; i < count; i++) {
+                String name = pick(random, FIRST_NAMES) + " " + pick(random, LAST_NAMES) + " " + i;
+                persons[i] = new Person(new Name(name),
+                        new Phone(String.valueOf(80000000 + random.nextInt(20000000))),
+                        new Email("student" + i + "@example.com"),
+                        new Address("Blk " + (1 + random.nextInt(999)) + " " + pick(random, STREETS)),
+                        getSubjectSet(pickDistinct(random, SUBJECTS, 1 + random.nextInt(2))),
+                        getTagSet(pickDistinct(random, TAGS, random.nextInt(3))),
+                        Remark.DEFAULT_REMARK);
+            }
+        } catch (ParseException e) {
+            throw new AssertionError("Synthetic persons should be valid.", e);
+        }
+        return persons;
+    }
+
+    /**
+     * Returns {@code count} lessons generated with the given {@code seed}.
+     * The lessons take up consecutive one hour slots, {@link #LESSONS_PER_DAY} a day from {@link #FIRST_LESSON_DAY}.
+     */
+    public static Lesson[] getSyntheticLessons(int count, long seed) {
+        Random random = new Random(seed);
+        Lesson[] lessons = new Lesson[count];
+        try {
+            for (int i = 0; i < count; i++) {
+                LocalTime start = FIRST_LESSON_START.plusHours(i % LESSONS_PER_DAY);
+                TaskList taskList = new TaskList();
+                int taskCount = random.nextInt(MAX_TASKS_PER_LESSON + 1);
+                for (String description : pickDistinct(random, TASKS, taskCount)) {
+                    taskList.add(new Task(description, random.nextBoolean()));
+                }
+                lessons[i] = new Lesson(new Name("lesson" + i), new Time(start), new Time(start.plusHours(1)),
+                        new Day(FIRST_LESSON_DAY.plusDays(i / LESSONS_PER_DAY)), new Subject(pick(random, SUBJECTS)),
+                        taskList);
+            }
+        } catch (ParseException e) {
+            throw new AssertionError("Synthetic lessons should be valid.", e);
+        }
+        return lessons;
+    }
+
+    public static AddressBook getSyntheticAddressBook(int count) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(List.of(getSyntheticPersons(count, DEFAULT_SEED)));
+        return addressBook;
+    }
+
+    public static ScheduleList getSyntheticSchedule(int count) {
+        ScheduleList scheduleList = new ScheduleList();
+        scheduleList.setLessons(List.of(getSyntheticLessons(count, DEFAULT_SEED)));
+        return scheduleList;
+    }
+
+    /**
+     * Returns a map linking each person to up to {@code linksPerPerson} lessons picked with the given {@code seed}.
+     */
+    public static BiDirectionalMap<Person, Lesson> getSyntheticPersonLessonMap(List<Person> persons,
+            List<Lesson> lessons, int linksPerPerson, long seed) {
+        Random random = new Random(seed);
+        BiDirectionalMap<Person, Lesson> personLessonMap = new BiDirectionalMap<>();
+        if (lessons.isEmpty()) {
+            return personLessonMap;
+        }
+        for (Person person : persons) {
+            for (int i = 0; i < linksPerPerson; i++) {
+                personLessonMap.addMapping(person, lessons.get(random.nextInt(lessons.size())));
+            }
+        }
+        return personLessonMap;
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String[] pickDistinct(Random random, String[] values, int count) {
+        Set<String> picked = new HashSet<>();
+        while (picked.size() < Math.min(count, values.length)) {
+            picked.add(pick(random, values));
+        }
+        return picked.toArray(new String[0]);
+    }
+}
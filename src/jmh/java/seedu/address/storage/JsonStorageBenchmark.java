@@ -0,0 +1,86 @@
+package seedu.address.storage;
+
+import static seedu.address.model.util.SyntheticDataUtil.getSyntheticAddressBook;
+import static seedu.address.model.util.SyntheticDataUtil.getSyntheticSchedule;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlySchedule;
+import seedu.address.model.ScheduleList;
+
+/**
+ * Benchmarks loading and saving the address book and schedule as JSON files through {@code JsonUtil}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class JsonStorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private Path folder;
+    private AddressBook addressBook;
+    private ScheduleList scheduleList;
+    private JsonAddressBookStorage addressBookStorage;
+    private JsonScheduleListStorage scheduleListStorage;
+
+    @Setup
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("tutormate-benchmark");
+        addressBook = getSyntheticAddressBook(size);
+        scheduleList = getSyntheticSchedule(size);
+        addressBookStorage = new JsonAddressBookStorage(folder.resolve("addressbook.json"));
+        scheduleListStorage = new JsonScheduleListStorage(folder.resolve("schedule.json"));
+        addressBookStorage.saveAddressBook(addressBook);
+        scheduleListStorage.saveScheduleList(scheduleList);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(addressBookStorage.getAddressBookFilePath());
+        Files.deleteIfExists(scheduleListStorage.getScheduleListFilePath());
+        Files.deleteIfExists(folder);
+    }
+
+    @Benchmark
+    public void saveAddressBook() throws IOException {
+        addressBookStorage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook readAddressBook() throws Exception {
+        return addressBookStorage.readAddressBook().get();
+    }
+
+    @Benchmark
+    public void saveScheduleList() throws IOException {
+        scheduleListStorage.saveScheduleList(scheduleList);
+    }
+
+    @Benchmark
+    public ReadOnlySchedule readScheduleList() throws Exception {
+        return scheduleListStorage.readScheduleList().get();
+    }
+}
@@ -0,0 +1,287 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.MetricsCenter;
+import seedu.address.commons.events.StartupPhaseEvent;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.model.AddressBook;
+import seedu.address.model.BiDirectionalMap;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlySchedule;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.ScheduleList;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryStorageManager;
+import seedu.address.storage.JournalStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonScheduleListStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ScheduleStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindSaver;
+
+/**
+ * The config, storage, model and logic of the application, set up from the config and data files.
+ * None of them need the JavaFX toolkit, so they are shared by the GUI and the headless application.
+ * Each phase of setting them up is recorded as a {@link StartupPhaseEvent} for JDK Flight Recorder.
+ */
+public class AppComponents {
+    private static final Logger logger = LogsCenter.getLogger(AppComponents.class);
+
+    private final Config config;
+    private final Storage storage;
+    private final Model model;
+    private final Logic logic;
+
+    private AppComponents(Config config, Storage storage, Model model, Logic logic) {
+        this.config = config;
+        this.storage = storage;
+        this.model = model;
+        this.logic = logic;
+    }
+
+    /**
+     * Sets up the components using the config file at {@code configFilePath},
+     * or the default config file if {@code configFilePath} is null.
+     */
+    public static AppComponents init(Path configFilePath) {
+        StartupPhaseEvent phase = StartupPhaseEvent.start("config");
+        Config config = initConfig(configFilePath);
+        initLogging(config);
+        phase.commit();
+
+        phase = StartupPhaseEvent.start("preferences");
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        phase.commit();
+
+        Storage storage;
+        if (userPrefs.getDataFormat() == UserPrefs.DataFormat.BINARY) {
+            storage = new BinaryStorageManager(userPrefsStorage, userPrefs.getAddressBookFilePath(),
+                    userPrefs.getScheduleListFilePath());
+        } else {
+            AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+            ScheduleStorage scheduleStorage = new JsonScheduleListStorage(userPrefs.getScheduleListFilePath());
+            storage = new StorageManager(addressBookStorage, userPrefsStorage, scheduleStorage);
+        }
+        if (userPrefs.getJournalFilePath().isPresent()) {
+            storage = new JournalStorage(storage, userPrefs.getJournalFilePath().get());
+        }
+
+        phase = StartupPhaseEvent.start("model");
+        Model model = initModelManager(storage, userPrefs);
+        phase.commit();
+
+        phase = StartupPhaseEvent.start("logic");
+        Logic logic = new LogicManager(model, new WriteBehindSaver(storage, WriteBehindSaver.DEFAULT_DELAY_MILLIS,
+                model.getLock().readLock()));
+        MetricsCenter.logPeriodically(config.getStatsLogIntervalSeconds(), () -> getEntityCounts(model));
+        phase.commit();
+
+        return new AppComponents(config, storage, model, logic);
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    /**
+     * Saves the data and preferences that have not been saved yet.
+     */
+    public void shutdown() {
+        MetricsCenter.stopLogging();
+        try {
+            logic.shutdown();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns the number of entries in {@code model}, read under its read lock.
+     */
+    private static String getEntityCounts(Model model) {
+        Lock readLock = model.getLock().readLock();
+        readLock.lock();
+        try {
+            return StatsCommand.getEntityCounts(model);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * Sample data, and data read without ids, is marked as changed, so that it is saved even if no command changes it.
+     */
+    private static Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+
+        Optional<ReadOnlyAddressBook> addressBookOptional;
+        Optional<ReadOnlySchedule> scheduleListOptional;
+        ReadOnlyAddressBook initialDataStudents;
+        ReadOnlySchedule initialDataLessons;
+        BiDirectionalMap<Person, Lesson> personLessonMap;
+        boolean isSampleAddressBook = false;
+        boolean isSampleSchedule = false;
+        boolean isAddressBookMissingIds = false;
+        boolean isScheduleListMissingIds = false;
+        try {
+            addressBookOptional = storage.readAddressBook();
+            if (!addressBookOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                        + " populated with a sample AddressBook.");
+                isSampleAddressBook = true;
+            }
+            initialDataStudents = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+            isAddressBookMissingIds = storage.isAddressBookMissingIds();
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                    + " Will be starting with an empty AddressBook.");
+            initialDataStudents = new AddressBook();
+        }
+        try {
+            scheduleListOptional = storage.readScheduleList();
+            if (!scheduleListOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getScheduleListFilePath()
+                        + " populated with a sample Schedule.");
+                isSampleSchedule = true;
+            }
+            initialDataLessons = scheduleListOptional.orElseGet(SampleDataUtil::getSampleSchedule);
+            isScheduleListMissingIds = storage.isScheduleListMissingIds();
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getScheduleListFilePath() + " could not be loaded."
+                    + " Will be starting with an empty Schedule List.");
+            initialDataLessons = new ScheduleList();
+        }
+        try {
+            personLessonMap = storage.getPersonLessonMap();
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getScheduleListFilePath() + " could not be loaded."
+                    + " Will be starting with an empty Schedule List.");
+            personLessonMap = new BiDirectionalMap<>();
+        }
+
+        Model model = new ModelManager(initialDataStudents, userPrefs, initialDataLessons, personLessonMap);
+        // sample data is not in storage yet, and links saved with earlier data may not match it
+        boolean isSampleData = isSampleAddressBook || isSampleSchedule;
+        // ids given to data saved without them must be saved before links refer to them
+        model.markModified(isSampleAddressBook || isAddressBookMissingIds, isSampleSchedule || isScheduleListMissingIds,
+                isSampleData);
+        return model;
+    }
+
+    private static void initLogging(Config config) {
+        LogsCenter.init(config);
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    private static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    private static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+}
@@ -0,0 +1,149 @@
+package seedu.address;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs the application without a GUI, so that it starts without the JavaFX toolkit.
+ * The commands in a file are executed as one batch, or commands are read one at a time from the standard input.
+ */
+public class HeadlessApp {
+    public static final String HEADLESS_FLAG = "--headless";
+    public static final String PROMPT = "> ";
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_FAILURE = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final Logic logic;
+    private final PrintStream out;
+    private final PrintStream err;
+
+    /**
+     * Creates a {@code HeadlessApp} that executes commands with {@code logic}, printing the results to {@code out}
+     * and the errors to {@code err}.
+     */
+    public HeadlessApp(Logic logic, PrintStream out, PrintStream err) {
+        requireNonNull(logic);
+        requireNonNull(out);
+        requireNonNull(err);
+        this.logic = logic;
+        this.out = out;
+        this.err = err;
+    }
+
+    /**
+     * Runs the application with the command-line arguments {@code args}.
+     * Named arguments take the form {@code --name=value}, and an unnamed argument is the file of commands to run.
+     */
+    public static void main(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        String commandFile = null;
+        for (String arg : args) {
+            if (arg.equals(HEADLESS_FLAG)) {
+                continue;
+            }
+            int separator = arg.indexOf('=');
+            if (arg.startsWith("--") && separator > 2) {
+                namedParameters.put(arg.substring(2, separator), arg.substring(separator + 1));
+            } else {
+                commandFile = arg;
+            }
+        }
+        if (commandFile != null && !FileUtil.isValidPath(commandFile)) {
+            System.err.println("Invalid command file path " + commandFile);
+            System.exit(EXIT_FAILURE);
+        }
+
+        logger.info("=============================[ Initializing AddressBook without GUI ]==============");
+        AppComponents components = AppComponents.init(AppParameters.parse(namedParameters).getConfigPath());
+        HeadlessApp app = new HeadlessApp(components.getLogic(), System.out, System.err);
+        int status;
+        if (commandFile == null) {
+            BufferedReader in = new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8));
+            status = app.runInteractive(in, System.console() != null);
+        } else {
+            status = app.runFile(Paths.get(commandFile));
+        }
+        logger.info("============================ [ Stopping Address Book ] =============================");
+        components.shutdown();
+        System.exit(status);
+    }
+
+    /**
+     * Executes the commands in the file at {@code commandFile} as one batch.
+     * Returns {@link #EXIT_FAILURE} if the file cannot be read or any command fails, in which case no data changes.
+     */
+    public int runFile(Path commandFile) {
+        List<String> commands;
+        try {
+            commands = RunCommand.readCommands(commandFile);
+        } catch (IOException e) {
+            err.println(String.format(RunCommand.MESSAGE_READ_FAILURE, commandFile, e.getMessage()));
+            return EXIT_FAILURE;
+        }
+        try {
+            out.println(logic.executeBatch(commands).getFeedbackToUser());
+            return EXIT_SUCCESS;
+        } catch (CommandException | ParseException e) {
+            err.println(e.getMessage());
+            return EXIT_FAILURE;
+        }
+    }
+
+    /**
+     * Executes the commands read from {@code in} one at a time, until the input ends or an exit command is executed.
+     * A failing command does not stop the later commands, but makes this return {@link #EXIT_FAILURE}.
+     */
+    public int runInteractive(BufferedReader in, boolean isPromptShown) {
+        int status = EXIT_SUCCESS;
+        try {
+            while (true) {
+                if (isPromptShown) {
+                    out.print(PROMPT);
+                    out.flush();
+                }
+                String commandText = in.readLine();
+                if (commandText == null) {
+                    return status;
+                }
+                if (commandText.isBlank()) {
+                    continue;
+                }
+                try {
+                    CommandResult commandResult = logic.execute(commandText);
+                    out.println(commandResult.getFeedbackToUser());
+                    if (commandResult.isExit()) {
+                        return status;
+                    }
+                } catch (CommandException | ParseException e) {
+                    err.println(e.getMessage());
+                    status = EXIT_FAILURE;
+                }
+            }
+        } catch (IOException e) {
+            err.println("Could not read commands: " + e.getMessage());
+            return EXIT_FAILURE;
+        }
+    }
+}
@@ -1,40 +1,18 @@
 package seedu.address;
 
-import java.io.IOException;
-import java.nio.file.Path;
-import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
-import seedu.address.commons.exceptions.DataLoadingException;
-import seedu.address.commons.util.ConfigUtil;
-import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.events.StartupPhaseEvent;
+import seedu.address.logic.AsyncLogic;
 import seedu.address.logic.Logic;
-import seedu.address.logic.LogicManager;
-import seedu.address.model.AddressBook;
-import seedu.address.model.BiDirectionalMap;
 import seedu.address.model.Model;
-import seedu.address.model.ModelManager;
-import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.ReadOnlySchedule;
-import seedu.address.model.ReadOnlyUserPrefs;
-import seedu.address.model.ScheduleList;
-import seedu.address.model.UserPrefs;
-import seedu.address.model.lessons.Lesson;
-import seedu.address.model.person.Person;
-import seedu.address.model.util.SampleDataUtil;
-import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
-import seedu.address.storage.JsonScheduleListStorage;
-import seedu.address.storage.JsonUserPrefsStorage;
-import seedu.address.storage.ScheduleStorage;
 import seedu.address.storage.Storage;
-import seedu.address.storage.StorageManager;
-import seedu.address.storage.UserPrefsStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
 
@@ -53,166 +31,43 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    private AppComponents components;
+    private AsyncLogic asyncLogic;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing AddressBook ]===========================");
         super.init();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
-        initLogging(config);
-
-        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        ScheduleStorage scheduleStorage = new JsonScheduleListStorage(userPrefs.getScheduleListFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage, scheduleStorage);
-
-        model = initModelManager(storage, userPrefs);
+        components = AppComponents.init(appParameters.getConfigPath());
+        config = components.getConfig();
+        storage = components.getStorage();
+        model = components.getModel();
 
-        logic = new LogicManager(model, storage);
+        StartupPhaseEvent phase = StartupPhaseEvent.start("ui");
+        // commands are executed in the background, and only their results are shown on the JavaFX thread
+        asyncLogic = new AsyncLogic(components.getLogic(), Platform::runLater);
+        logic = asyncLogic;
 
         ui = new UiManager(logic, model);
 
-        model.linkUi(ui);
-    }
-
-    /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
-     */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        logger.info("Using data file : " + storage.getAddressBookFilePath());
-
-        Optional<ReadOnlyAddressBook> addressBookOptional;
-        Optional<ReadOnlySchedule> scheduleListOptional;
-        ReadOnlyAddressBook initialDataStudents;
-        ReadOnlySchedule initialDataLessons;
-        BiDirectionalMap<Person, Lesson> personLessonMap;
-        try {
-            addressBookOptional = storage.readAddressBook();
-            if (!addressBookOptional.isPresent()) {
-                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
-                        + " populated with a sample AddressBook.");
-            }
-            initialDataStudents = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
-        } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
-                    + " Will be starting with an empty AddressBook.");
-            initialDataStudents = new AddressBook();
-        }
-        try {
-            scheduleListOptional = storage.readScheduleList();
-            if (!scheduleListOptional.isPresent()) {
-                logger.info("Creating a new data file " + storage.getScheduleListFilePath()
-                        + " populated with a sample Schedule.");
-            }
-            initialDataLessons = scheduleListOptional.orElseGet(SampleDataUtil::getSampleSchedule);
-        } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getScheduleListFilePath() + " could not be loaded."
-                    + " Will be starting with an empty Schedule List.");
-            initialDataLessons = new ScheduleList();
-        }
-        try {
-            personLessonMap = storage.getPersonLessonMap();
-        } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getScheduleListFilePath() + " could not be loaded."
-                    + " Will be starting with an empty Schedule List.");
-            personLessonMap = new BiDirectionalMap<>();
-        }
-
-        return new ModelManager(initialDataStudents, userPrefs, initialDataLessons, personLessonMap);
-    }
-
-    private void initLogging(Config config) {
-        LogsCenter.init(config);
-    }
-
-    /**
-     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
-     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
-     * if {@code configFilePath} is null.
-     */
-    protected Config initConfig(Path configFilePath) {
-        Config initializedConfig;
-        Path configFilePathUsed;
-
-        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
-
-        if (configFilePath != null) {
-            logger.info("Custom Config file specified " + configFilePath);
-            configFilePathUsed = configFilePath;
-        }
-
-        logger.info("Using config file : " + configFilePathUsed);
-
-        try {
-            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
-            if (!configOptional.isPresent()) {
-                logger.info("Creating new config file " + configFilePathUsed);
-            }
-            initializedConfig = configOptional.orElse(new Config());
-        } catch (DataLoadingException e) {
-            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
-                    + " Using default config properties.");
-            initializedConfig = new Config();
-        }
-
-        //Update config file in case it was missing to begin with or there are new/unused fields
-        try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-        return initializedConfig;
-    }
-
-    /**
-     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
-     * or a new {@code UserPrefs} with default configuration if errors occur when
-     * reading from the file.
-     */
-    protected UserPrefs initPrefs(UserPrefsStorage storage) {
-        Path prefsFilePath = storage.getUserPrefsFilePath();
-        logger.info("Using preference file : " + prefsFilePath);
-
-        UserPrefs initializedPrefs;
-        try {
-            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
-            if (!prefsOptional.isPresent()) {
-                logger.info("Creating new preference file " + prefsFilePath);
-            }
-            initializedPrefs = prefsOptional.orElse(new UserPrefs());
-        } catch (DataLoadingException e) {
-            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
-                    + " Using default preferences.");
-            initializedPrefs = new UserPrefs();
-        }
-
-        //Update prefs file in case it was missing to begin with or there are new/unused fields
-        try {
-            storage.saveUserPrefs(initializedPrefs);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-
-        return initializedPrefs;
+        model.linkUi(asyncLogic.deferring(ui));
+        phase.commit();
     }
 
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
+        StartupPhaseEvent phase = StartupPhaseEvent.start("window");
         ui.start(primaryStage);
+        phase.commit();
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
-        try {
-            storage.saveUserPrefs(model.getUserPrefs());
-        } catch (IOException e) {
-            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
-        }
+        asyncLogic.stopWorker();
+        components.shutdown();
     }
 }
@@ -17,6 +17,7 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private long statsLogIntervalSeconds = 0;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +35,17 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns how often the collected metrics are written to the log, in seconds, or 0 if they are not logged.
+     */
+    public long getStatsLogIntervalSeconds() {
+        return statsLogIntervalSeconds;
+    }
+
+    public void setStatsLogIntervalSeconds(long statsLogIntervalSeconds) {
+        this.statsLogIntervalSeconds = statsLogIntervalSeconds;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +59,13 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && statsLogIntervalSeconds == otherConfig.statsLogIntervalSeconds;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, statsLogIntervalSeconds);
     }
 
     @Override
@@ -60,6 +73,7 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("statsLogIntervalSeconds", statsLogIntervalSeconds)
                 .toString();
     }
 
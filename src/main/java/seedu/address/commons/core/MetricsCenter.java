@@ -0,0 +1,191 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.util.Histogram;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Records how long the app spends in each phase of handling a command, and how many bytes it writes to each file,
+ * in {@link Histogram}s that can be reported as percentiles.<br>
+ * Times are recorded per command word and bytes per file name. Only the first {@value #MAX_KEYS} keys of each
+ * kind get their own histogram; the rest are recorded together under {@value #OTHER_KEY}.
+ * The recorded metrics can also be written to the log at a fixed interval.
+ */
+public class MetricsCenter {
+    public static final String OTHER_KEY = "(other)";
+    public static final int MAX_KEYS = 100;
+
+    private static final long BYTES_PER_MEGABYTE = 1024 * 1024;
+    private static final String LINE_FORMAT = "  %1$s: n=%2$d, p50=%3$s, p99=%4$s, max=%5$s\n";
+    private static final Logger logger = LogsCenter.getLogger(MetricsCenter.class);
+
+    // Times in microseconds, created for every phase up front so the outer map is never changed
+    private static final Map<Phase, Map<String, Histogram>> times = new EnumMap<>(Phase.class);
+    private static final Map<String, Histogram> bytesWritten = new ConcurrentSkipListMap<>();
+    private static ScheduledExecutorService reportLogger;
+
+    static {
+        for (Phase phase : Phase.values()) {
+            times.put(phase, new ConcurrentSkipListMap<>());
+        }
+    }
+
+    /**
+     * A phase of handling a command that is timed.
+     */
+    public enum Phase {
+        PARSE("Parsing"),
+        EXECUTE("Executing"),
+        SAVE("Saving"),
+        REFRESH("Showing the result"),
+        WRITE("Writing to storage");
+
+        private final String description;
+
+        Phase(String description) {
+            this.description = description;
+        }
+    }
+
+    /**
+     * Records the time from {@code startNanos}, a reading of {@link System#nanoTime()}, until now
+     * as time spent in {@code phase} for {@code key}.
+     *
+     * @return the recorded time in nanoseconds.
+     */
+    public static long recordTime(Phase phase, String key, long startNanos) {
+        requireNonNull(phase);
+        requireNonNull(key);
+        long nanos = System.nanoTime() - startNanos;
+        histogramOf(times.get(phase), key).record(TimeUnit.NANOSECONDS.toMicros(nanos));
+        return nanos;
+    }
+
+    /**
+     * Records that {@code bytes} bytes were written to the file named {@code fileName}.
+     */
+    public static void recordBytesWritten(String fileName, long bytes) {
+        requireNonNull(fileName);
+        histogramOf(bytesWritten, fileName).record(bytes);
+    }
+
+    /**
+     * Returns the histogram of the times spent in {@code phase} for {@code key}, in microseconds,
+     * or an empty histogram if no time has been recorded for it.
+     */
+    public static Histogram getTimes(Phase phase, String key) {
+        return times.get(phase).getOrDefault(key, new Histogram());
+    }
+
+    /**
+     * Returns the histogram of the bytes written to the file named {@code fileName},
+     * or an empty histogram if nothing has been written to it.
+     */
+    public static Histogram getBytesWritten(String fileName) {
+        return bytesWritten.getOrDefault(fileName, new Histogram());
+    }
+
+    /**
+     * Returns the heap in use and the most the heap can grow to, in megabytes.
+     */
+    public static String getHeapUsage() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = runtime.totalMemory() - runtime.freeMemory();
+        return String.format("Heap: %1$d MB used of %2$d MB", used / BYTES_PER_MEGABYTE,
+                runtime.maxMemory() / BYTES_PER_MEGABYTE);
+    }
+
+    /**
+     * Returns the count, median, 99th percentile and maximum of every recorded metric, followed by the heap usage.
+     */
+    public static String getReport() {
+        StringBuilder report = new StringBuilder();
+        for (Phase phase : Phase.values()) {
+            Map<String, Histogram> histograms = times.get(phase);
+            if (!histograms.isEmpty()) {
+                report.append(phase.description).append(" (ms):\n");
+                histograms.forEach((key, histogram) -> appendLine(report, key, histogram, MetricsCenter::toMillis));
+            }
+        }
+        if (!bytesWritten.isEmpty()) {
+            report.append("Bytes written:\n");
+            bytesWritten.forEach((fileName, histogram) -> appendLine(report, fileName, histogram, String::valueOf));
+        }
+        return report.append(getHeapUsage()).toString();
+    }
+
+    /**
+     * Writes {@code details} and the report of all metrics to the log every {@code intervalSeconds} seconds,
+     * replacing any earlier schedule. Does nothing more if {@code intervalSeconds} is not positive.
+     */
+    public static synchronized void logPeriodically(long intervalSeconds, Supplier<String> details) {
+        requireNonNull(details);
+        stopLogging();
+        if (intervalSeconds <= 0) {
+            return;
+        }
+        logger.info("Metrics will be logged every " + intervalSeconds + " seconds");
+        reportLogger = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-logger");
+            thread.setDaemon(true);
+            return thread;
+        });
+        reportLogger.scheduleAtFixedRate(() -> {
+            try {
+                logger.info("Metrics:\n" + details.get() + "\n" + getReport());
+            } catch (RuntimeException e) {
+                logger.warning("Failed to log metrics: " + StringUtil.getDetails(e));
+            }
+        }, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops writing the metrics to the log.
+     */
+    public static synchronized void stopLogging() {
+        if (reportLogger != null) {
+            reportLogger.shutdown();
+            reportLogger = null;
+        }
+    }
+
+    /**
+     * Forgets all recorded metrics.
+     */
+    public static void clear() {
+        times.values().forEach(Map::clear);
+        bytesWritten.clear();
+    }
+
+    private static Histogram histogramOf(Map<String, Histogram> histograms, String key) {
+        Histogram histogram = histograms.get(key);
+        if (histogram != null) {
+            return histogram;
+        }
+        // the check is racy, so a few more than MAX_KEYS histograms may be created
+        String boundedKey = histograms.size() < MAX_KEYS ? key : OTHER_KEY;
+        return histograms.computeIfAbsent(boundedKey, k -> new Histogram());
+    }
+
+    private static void appendLine(StringBuilder report, String key, Histogram histogram,
+                                   LongFunction<String> format) {
+        report.append(String.format(LINE_FORMAT, key, histogram.getCount(),
+                format.apply(histogram.getValueAtPercentile(50)), format.apply(histogram.getValueAtPercentile(99)),
+                format.apply(histogram.getMax())));
+    }
+
+    private static String toMillis(long micros) {
+        return String.format("%.3f", micros / 1000.0);
+    }
+}
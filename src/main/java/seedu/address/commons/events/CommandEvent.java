@@ -0,0 +1,78 @@
+package seedu.address.commons.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A JDK Flight Recorder event for the execution of a command, from parsing it to saving its changes.
+ */
+@Name(CommandEvent.NAME)
+@Label("Command")
+@Category({"TutorMate", "Logic"})
+@Description("A command entered by the user, from parsing it to saving its changes")
+@StackTrace(false)
+public class CommandEvent extends Event {
+    public static final String NAME = "seedu.address.Command";
+    public static final String OUTCOME_SUCCESS = "success";
+    public static final String OUTCOME_PARSE_FAILURE = "parse failure";
+    public static final String OUTCOME_COMMAND_FAILURE = "command failure";
+    public static final String OUTCOME_UNEXPECTED_FAILURE = "unexpected failure";
+
+    @Label("Command Word")
+    private final String commandWord;
+
+    @Label("Parse Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    private long parseDuration;
+
+    @Label("Execute Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    private long executeDuration;
+
+    @Label("Save Duration")
+    @Timespan(Timespan.NANOSECONDS)
+    private long saveDuration;
+
+    @Label("Outcome")
+    private String outcome = OUTCOME_UNEXPECTED_FAILURE;
+
+    public CommandEvent(String commandWord) {
+        this.commandWord = commandWord;
+    }
+
+    /**
+     * Returns an event for {@code commandWord} that has begun timing.
+     */
+    public static CommandEvent start(String commandWord) {
+        CommandEvent event = new CommandEvent(commandWord);
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Adds {@code nanos} to the time spent parsing, as a batch parses several commands.
+     */
+    public void addParseDuration(long nanos) {
+        parseDuration += nanos;
+    }
+
+    /**
+     * Adds {@code nanos} to the time spent executing, as a batch executes several commands.
+     */
+    public void addExecuteDuration(long nanos) {
+        executeDuration += nanos;
+    }
+
+    public void addSaveDuration(long nanos) {
+        saveDuration += nanos;
+    }
+
+    public void setOutcome(String outcome) {
+        this.outcome = outcome;
+    }
+}
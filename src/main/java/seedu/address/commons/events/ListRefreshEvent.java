@@ -0,0 +1,43 @@
+package seedu.address.commons.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A JDK Flight Recorder event for a list panel refreshing the entries it shows.
+ */
+@Name(ListRefreshEvent.NAME)
+@Label("List Refresh")
+@Category({"TutorMate", "UI"})
+@Description("A list panel refreshing the entries it shows")
+@StackTrace(false)
+public class ListRefreshEvent extends Event {
+    public static final String NAME = "seedu.address.ListRefresh";
+
+    @Label("Panel")
+    private final String panel;
+
+    @Label("Item Count")
+    private int itemCount;
+
+    public ListRefreshEvent(String panel) {
+        this.panel = panel;
+    }
+
+    /**
+     * Returns an event for {@code panel} that has begun timing.
+     */
+    public static ListRefreshEvent start(String panel) {
+        ListRefreshEvent event = new ListRefreshEvent(panel);
+        event.begin();
+        return event;
+    }
+
+    public void setItemCount(int itemCount) {
+        this.itemCount = itemCount;
+    }
+}
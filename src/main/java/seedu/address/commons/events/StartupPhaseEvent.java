@@ -0,0 +1,36 @@
+package seedu.address.commons.events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A JDK Flight Recorder event for a phase of starting the app, such as reading the config or loading the data.
+ */
+@Name(StartupPhaseEvent.NAME)
+@Label("Startup Phase")
+@Category({"TutorMate", "Startup"})
+@Description("A phase of starting the app")
+@StackTrace(false)
+public class StartupPhaseEvent extends Event {
+    public static final String NAME = "seedu.address.StartupPhase";
+
+    @Label("Phase")
+    private final String phase;
+
+    public StartupPhaseEvent(String phase) {
+        this.phase = phase;
+    }
+
+    /**
+     * Returns an event for {@code phase} that has begun timing.
+     */
+    public static StartupPhaseEvent start(String phase) {
+        StartupPhaseEvent event = new StartupPhaseEvent(phase);
+        event.begin();
+        return event;
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.commons.events;
+
+import java.nio.file.Path;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * A JDK Flight Recorder event for saving data to a file or loading data from one.
+ */
+@Name(StorageEvent.NAME)
+@Label("Storage")
+@Category({"TutorMate", "Storage"})
+@Description("Data saved to or loaded from a file")
+@StackTrace(false)
+public class StorageEvent extends Event {
+    public static final String NAME = "seedu.address.Storage";
+    public static final String OPERATION_SAVE = "save";
+    public static final String OPERATION_LOAD = "load";
+
+    @Label("Operation")
+    private final String operation;
+
+    @Label("Path")
+    private final String path;
+
+    @Label("Bytes")
+    @DataAmount
+    private long bytes;
+
+    public StorageEvent(String operation, Path path) {
+        this.operation = operation;
+        this.path = path.toString();
+    }
+
+    /**
+     * Returns an event for {@code operation} on the file at {@code path} that has begun timing.
+     */
+    public static StorageEvent start(String operation, Path path) {
+        StorageEvent event = new StorageEvent(operation, path);
+        event.begin();
+        return event;
+    }
+
+    public void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+}
@@ -0,0 +1,103 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads and writes records of comma-separated values (CSV), one record at a time.
+ * A field that contains a comma, a double quote or a line break is enclosed in double quotes,
+ * with each double quote inside it doubled.
+ */
+public class CsvUtil {
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    /**
+     * Returns the fields of the next record read from {@code reader}, or null if there are no more records.
+     * An empty line is read as a record with a single empty field.
+     */
+    public static List<String> readRecord(BufferedReader reader) throws IOException {
+        requireNonNull(reader);
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        while (c != -1) {
+            if (isQuoted) {
+                if (c != QUOTE) {
+                    field.append((char) c);
+                } else if (!skipIf(reader, QUOTE)) {
+                    isQuoted = false;
+                } else {
+                    field.append(QUOTE);
+                }
+            } else if (c == QUOTE && field.length() == 0) {
+                isQuoted = true;
+            } else if (c == SEPARATOR) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c == '\r') {
+                skipIf(reader, '\n');
+                break;
+            } else {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    /**
+     * Writes {@code fields} to {@code writer} as one record, followed by a line break.
+     */
+    public static void writeRecord(Writer writer, List<String> fields) throws IOException {
+        requireNonNull(writer);
+        requireNonNull(fields);
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                writer.write(SEPARATOR);
+            }
+            writer.write(escape(fields.get(i)));
+        }
+        writer.write('\n');
+    }
+
+    /**
+     * Returns {@code field} as it is written in a record.
+     */
+    public static String escape(String field) {
+        requireNonNull(field);
+        boolean needsQuotes = false;
+        for (int i = 0; i < field.length() && !needsQuotes; i++) {
+            char c = field.charAt(i);
+            needsQuotes = c == SEPARATOR || c == QUOTE || c == '\n' || c == '\r';
+        }
+        if (!needsQuotes) {
+            return field;
+        }
+        return QUOTE + field.replace("\"", "\"\"") + QUOTE;
+    }
+
+    /**
+     * Consumes the next character of {@code reader} if it is {@code expected}, and returns whether it was.
+     */
+    private static boolean skipIf(BufferedReader reader, char expected) throws IOException {
+        reader.mark(1);
+        if (reader.read() == expected) {
+            return true;
+        }
+        reader.reset();
+        return false;
+    }
+}
@@ -1,10 +1,17 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+import seedu.address.commons.core.MetricsCenter;
+import seedu.address.commons.events.StorageEvent;
 
 /**
  * Writes and reads files
@@ -69,15 +76,61 @@ public class FileUtil {
      * Assumes file exists
      */
     public static String readFromFile(Path file) throws IOException {
-        return new String(Files.readAllBytes(file), CHARSET);
+        StorageEvent event = StorageEvent.start(StorageEvent.OPERATION_LOAD, file);
+        try {
+            byte[] bytes = Files.readAllBytes(file);
+            event.setBytes(bytes.length);
+            return new String(bytes, CHARSET);
+        } finally {
+            event.commit();
+        }
     }
 
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
+     * The content is first written to a temporary file in the same folder which then replaces {@code file},
+     * so {@code file} never holds partially written content.
      */
     public static void writeToFile(Path file, String content) throws IOException {
-        Files.write(file, content.getBytes(CHARSET));
+        byte[] bytes = content.getBytes(CHARSET);
+        writeToFile(file, out -> out.write(bytes));
+    }
+
+    /**
+     * Writes the content produced by {@code contentWriter} to a file, without holding all of it in memory.
+     * Like {@link #writeToFile(Path, String)}, {@code file} never holds partially written content.
+     * The number of bytes written is recorded in the {@link MetricsCenter} under the name of {@code file},
+     * and a {@link StorageEvent} is emitted for JDK Flight Recorder.
+     */
+    public static void writeToFile(Path file, ContentWriter contentWriter) throws IOException {
+        StorageEvent event = StorageEvent.start(StorageEvent.OPERATION_SAVE, file);
+        Path parentDir = file.toAbsolutePath().getParent();
+        Path tempFile = Files.createTempFile(parentDir, file.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(tempFile))) {
+                contentWriter.writeTo(out);
+            }
+            long bytes = Files.size(tempFile);
+            MetricsCenter.recordBytesWritten(file.getFileName().toString(), bytes);
+            event.setBytes(bytes);
+            try {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tempFile);
+            event.commit();
+        }
+    }
+
+    /**
+     * Writes the content of a file to an output stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
     }
 
 }
@@ -0,0 +1,101 @@
+package seedu.address.commons.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+
+/**
+ * Counts recorded non-negative values in buckets whose width grows with the value, in the style of an HDR
+ * histogram, so that percentiles can be read back with a bounded relative error using little memory.
+ * <p>
+ * Values below {@code 2^SUB_BUCKET_BITS} are counted exactly. Larger values share a bucket only with values that
+ * differ from them by less than one part in {@code 2^(SUB_BUCKET_BITS - 1)}, i.e. less than 1%.
+ * The buckets are only allocated up to the largest value recorded so far.
+ */
+public class Histogram {
+    public static final String MESSAGE_CONSTRAINTS = "Percentiles must be between 0 and 100";
+
+    private static final int SUB_BUCKET_BITS = 8;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKET_COUNT = SUB_BUCKET_COUNT / 2;
+
+    private long[] counts = new long[SUB_BUCKET_COUNT];
+    private long totalCount = 0;
+    private long totalValue = 0;
+    private long maxValue = 0;
+
+    /**
+     * Records one occurrence of {@code value}. Negative values are recorded as 0.
+     */
+    public synchronized void record(long value) {
+        long recorded = Math.max(value, 0);
+        int index = indexOf(recorded);
+        if (index >= counts.length) {
+            counts = Arrays.copyOf(counts, Math.max(index + 1, counts.length + HALF_SUB_BUCKET_COUNT));
+        }
+        counts[index]++;
+        totalCount++;
+        totalValue += recorded;
+        maxValue = Math.max(maxValue, recorded);
+    }
+
+    public synchronized long getCount() {
+        return totalCount;
+    }
+
+    public synchronized long getTotal() {
+        return totalValue;
+    }
+
+    public synchronized long getMax() {
+        return maxValue;
+    }
+
+    /**
+     * Returns the smallest recorded value that {@code percentile} percent of the recorded values are at most,
+     * rounded up to the largest value that shares its bucket, but never above the largest recorded value.
+     * Returns 0 if nothing has been recorded.
+     */
+    public synchronized long getValueAtPercentile(double percentile) {
+        checkArgument(percentile >= 0 && percentile <= 100, MESSAGE_CONSTRAINTS);
+        if (totalCount == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * totalCount));
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(highestValueAt(i), maxValue);
+            }
+        }
+        return maxValue;
+    }
+
+    /**
+     * Returns the bucket that {@code value} is counted in.
+     */
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        // value has its highest bit at position SUB_BUCKET_BITS - 1 + shift, so it is kept to SUB_BUCKET_BITS bits
+        int shift = 64 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) - HALF_SUB_BUCKET_COUNT;
+        return SUB_BUCKET_COUNT + (shift - 1) * HALF_SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * Returns the largest value counted in the bucket at {@code index}.
+     */
+    private static long highestValueAt(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = (index - SUB_BUCKET_COUNT) / HALF_SUB_BUCKET_COUNT + 1;
+        long subBucket = (index - SUB_BUCKET_COUNT) % HALF_SUB_BUCKET_COUNT + HALF_SUB_BUCKET_COUNT;
+        long highest = ((subBucket + 1) << shift) - 1;
+        // the last buckets would reach past Long.MAX_VALUE
+        return highest < 0 ? Long.MAX_VALUE : highest;
+    }
+}
@@ -3,25 +3,34 @@ package seedu.address.commons.util;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.databind.deser.std.FromStringDeserializer;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
 
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.StorageEvent;
 import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 
 /**
  * Converts a Java object instance to JSON and vice versa
@@ -92,6 +101,108 @@ public class JsonUtil {
     }
 
 
+    /**
+     * Reads the elements of the array field {@code arrayFieldName} of the JSON object in the given file one at a
+     * time, passing each element to {@code elementHandler} as soon as it is read.
+     * Unlike {@link #readJsonFile(Path, Class)}, the elements are never all held in memory as JSON-adapted objects.
+     * Other fields of the JSON object and {@code null} elements are skipped.
+     *
+     * @param filePath cannot be null.
+     * @return false if the file is not found.
+     * @throws DataLoadingException if loading of the JSON file failed.
+     * @throws IllegalValueException if {@code elementHandler} rejected an element.
+     */
+    public static <T> boolean readJsonArrayFile(Path filePath, String arrayFieldName, Class<T> elementClass,
+            ElementHandler<? super T> elementHandler) throws DataLoadingException, IllegalValueException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        StorageEvent event = StorageEvent.start(StorageEvent.OPERATION_LOAD, filePath);
+        try (InputStream in = Files.newInputStream(filePath);
+                JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, "Expected a JSON object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                if (parser.nextToken() != JsonToken.START_ARRAY || !fieldName.equals(arrayFieldName)) {
+                    parser.skipChildren();
+                    continue;
+                }
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    T element = objectMapper.readValue(parser, elementClass);
+                    if (element != null) {
+                        elementHandler.handle(element);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } finally {
+            commitWithFileSize(event, filePath);
+        }
+        return true;
+    }
+
+    /**
+     * Commits {@code event} with the size of the file at {@code filePath}, if the event is recorded.
+     */
+    private static void commitWithFileSize(StorageEvent event, Path filePath) {
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        try {
+            event.setBytes(Files.size(filePath));
+        } catch (IOException e) {
+            // the event is still worth recording without its size
+        }
+        event.commit();
+    }
+
+    /**
+     * Saves the given elements as the array field {@code arrayFieldName} of a JSON object in the specified file,
+     * converting each element with {@code adapter} only as it is written.
+     * Overwrites existing file if it exists, creates a new file if it doesn't.
+     *
+     * @param filePath cannot be null
+     * @throws IOException if there was an error during writing to the file
+     */
+    public static <S, T> void saveJsonArrayFile(Path filePath, String arrayFieldName, Iterable<S> elements,
+            Function<? super S, T> adapter) throws IOException {
+        requireNonNull(filePath);
+        requireNonNull(elements);
+
+        // the generator is flushed once when it is closed rather than after every element
+        ObjectWriter elementWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        FileUtil.writeToFile(filePath, out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.useDefaultPrettyPrinter();
+                generator.writeStartObject();
+                generator.writeArrayFieldStart(arrayFieldName);
+                for (S element : elements) {
+                    elementWriter.writeValue(generator, adapter.apply(element));
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+        });
+    }
+
+    /**
+     * Handles an element read by {@link #readJsonArrayFile(Path, String, Class, ElementHandler)}.
+     */
+    @FunctionalInterface
+    public interface ElementHandler<T> {
+        void handle(T element) throws IllegalValueException;
+    }
+
+
     /**
      * Converts a given string representation of a JSON data to instance of a class
      * @param <T> The generic type to create an instance of
@@ -111,6 +222,14 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line.
+     * @see #toJsonString(Object)
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -0,0 +1,483 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.stage.Stage;
+import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.MetricsCenter;
+import seedu.address.commons.core.MetricsCenter.Phase;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.lessons.Task;
+import seedu.address.model.person.Person;
+import seedu.address.model.state.State;
+import seedu.address.ui.Ui;
+
+/**
+ * A {@code Logic} that executes commands on a single background worker, so that parsing, changing the model and
+ * saving never hold up the UI thread.
+ * <p>
+ * Only the worker touches the wrapped logic and its model. The lists returned by this logic are copies kept on the
+ * UI thread: after each command, the changes to the lists, the refresh of the list UI, the Ui calls made by the model
+ * and the result of the command are handed to the UI thread together, through the executor given at creation.
+ * The changes to the lists are replayed on the copies one by one, so that only the rows that changed are redrawn.
+ * The time the UI thread takes to show them is recorded in the {@link MetricsCenter} by command word.
+ */
+public class AsyncLogic implements Logic {
+    public static final String MESSAGE_UNEXPECTED_FAILURE = "The command could not be completed: %1$s";
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncLogic.class);
+
+    private final Logic logic;
+    private final Executor uiExecutor;
+    private final ExecutorService worker;
+    private volatile Thread workerThread;
+
+    private final ObservableList<Person> persons;
+    private final ObservableList<Lesson> lessons;
+    private final ObservableList<Task> tasks;
+    private final ObservableList<Person> unmodifiablePersons;
+    private final ObservableList<Lesson> unmodifiableLessons;
+    private final ObservableList<Task> unmodifiableTasks;
+    private final BooleanProperty refreshListUi = new SimpleBooleanProperty(false);
+    private String[] displayedFieldsList;
+
+    // Changes seen by the worker since the last batch was handed to the UI thread, only used by the worker
+    private final ListChangeLog<Person> personListChanges;
+    private final ListChangeLog<Lesson> scheduleListChanges;
+    // Null until the tasks are first asked for, as gathering them creates the tasks of every lesson
+    private ListChangeLog<Task> taskListChanges;
+    private boolean isTaskListMirrored = false;
+    private boolean isListUiRefreshed = false;
+    private List<Runnable> uiCalls = new ArrayList<>();
+
+    /**
+     * Creates an {@code AsyncLogic} that executes commands with {@code logic} on a background worker,
+     * and hands their results to {@code uiExecutor}.
+     */
+    public AsyncLogic(Logic logic, Executor uiExecutor) {
+        requireNonNull(logic);
+        requireNonNull(uiExecutor);
+        this.logic = logic;
+        this.uiExecutor = uiExecutor;
+        this.worker = Executors.newSingleThreadExecutor(runnable -> {
+            workerThread = new Thread(runnable, "command-worker");
+            workerThread.setDaemon(true);
+            return workerThread;
+        });
+
+        persons = FXCollections.observableArrayList(logic.getFilteredPersonList());
+        lessons = FXCollections.observableArrayList(logic.getFilteredScheduleList());
+        tasks = FXCollections.observableArrayList();
+        unmodifiablePersons = FXCollections.unmodifiableObservableList(persons);
+        unmodifiableLessons = FXCollections.unmodifiableObservableList(lessons);
+        unmodifiableTasks = FXCollections.unmodifiableObservableList(tasks);
+        displayedFieldsList = logic.getDisplayedFieldsList();
+        personListChanges = new ListChangeLog<>(logic.getFilteredPersonList());
+        scheduleListChanges = new ListChangeLog<>(logic.getFilteredScheduleList());
+        logic.getRefreshListUi().addListener((observable, oldValue, newValue) -> isListUiRefreshed = true);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The command is queued to be executed by the worker, and this returns at once. Must be called on the UI thread.
+     */
+    @Override
+    public void submit(String commandText, Consumer<CommandResult> onSuccess, Consumer<Exception> onFailure) {
+        requireNonNull(commandText);
+        requireNonNull(onSuccess);
+        requireNonNull(onFailure);
+        worker.execute(() -> {
+            CommandResult result = null;
+            Exception failure = null;
+            try {
+                result = logic.execute(commandText);
+            } catch (CommandException | ParseException e) {
+                failure = e;
+            } catch (RuntimeException e) {
+                logger.severe("Unexpected failure of command " + commandText + ": " + StringUtil.getDetails(e));
+                failure = new CommandException(String.format(MESSAGE_UNEXPECTED_FAILURE, e), e);
+            }
+            CommandResult finalResult = result;
+            Exception finalFailure = failure;
+            handToUi(AddressBookParser.getCommandWord(commandText), () -> {
+                if (finalFailure == null) {
+                    onSuccess.accept(finalResult);
+                } else {
+                    onFailure.accept(finalFailure);
+                }
+            });
+        });
+    }
+
+    /**
+     * Returns a {@code Ui} that passes the calls made to it on the worker to {@code ui} on the UI thread,
+     * together with the other changes of the command that made them. Other calls are passed on immediately.
+     */
+    public Ui deferring(Ui ui) {
+        requireNonNull(ui);
+        return new DeferringUi(ui);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Waits for the worker to execute the command, so this should not be called on the UI thread.
+     */
+    @Override
+    public CommandResult execute(String commandText) throws CommandException, ParseException {
+        return runOnWorker(AddressBookParser.getCommandWord(commandText), () -> logic.execute(commandText));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Waits for the worker to execute the commands, so this should not be called on the UI thread.
+     */
+    @Override
+    public CommandResult executeBatch(List<String> commandTexts) throws CommandException, ParseException {
+        return runOnWorker(LogicManager.BATCH_METRICS_KEY, () -> logic.executeBatch(commandTexts));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The address book is changed by the worker, so it should only be read under the read lock of the model.
+     */
+    @Override
+    public ReadOnlyAddressBook getAddressBook() {
+        return logic.getAddressBook();
+    }
+
+    @Override
+    public ObservableList<Person> getFilteredPersonList() {
+        return unmodifiablePersons;
+    }
+
+    @Override
+    public ObservableList<Lesson> getFilteredScheduleList() {
+        return unmodifiableLessons;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The tasks are gathered by the worker the first time this is called, and the returned list is filled
+     * with them on the UI thread. Must be called on the UI thread.
+     */
+    @Override
+    public ObservableList<Task> getFullTaskList() {
+        if (!isTaskListMirrored) {
+            isTaskListMirrored = true;
+            worker.execute(() -> {
+                List<Task> items = new ArrayList<>(logic.getFullTaskList());
+                taskListChanges = new ListChangeLog<>(logic.getFullTaskList());
+                uiExecutor.execute(() -> tasks.setAll(items));
+            });
+        }
+        return unmodifiableTasks;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return logic.getAddressBookFilePath();
+    }
+
+    @Override
+    public String[] getDisplayedFieldsList() {
+        return displayedFieldsList;
+    }
+
+    @Override
+    public void setDisplayedFieldsList(String[] displayedFieldsList) {
+        worker.execute(() -> {
+            logic.setDisplayedFieldsList(displayedFieldsList);
+            handToUi(null, () -> { });
+        });
+    }
+
+    @Override
+    public GuiSettings getGuiSettings() {
+        return logic.getGuiSettings();
+    }
+
+    @Override
+    public void setGuiSettings(GuiSettings guiSettings) {
+        worker.execute(() -> logic.setGuiSettings(guiSettings));
+    }
+
+    @Override
+    public BooleanProperty getRefreshListUi() {
+        return refreshListUi;
+    }
+
+    @Override
+    public void refreshListUi() {
+        refreshListUi.set(!refreshListUi.get());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The handler is called on the UI thread.
+     */
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        logic.setSaveFailureHandler(message -> uiExecutor.execute(() -> saveFailureHandler.accept(message)));
+    }
+
+    /**
+     * Lets the worker finish the queued commands, then stops it.
+     * Commands submitted afterwards are rejected.
+     */
+    public void stopWorker() {
+        worker.shutdown();
+        try {
+            if (!worker.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS)) {
+                logger.warning("The command worker did not stop");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Lets the worker finish the queued commands, then writes all data that is waiting to be saved.
+     */
+    @Override
+    public void shutdown() throws IOException {
+        stopWorker();
+        logic.shutdown();
+    }
+
+    /**
+     * Hands the changes made by the worker since the last batch, followed by {@code completion}, to the UI thread.
+     * The time taken to show them is recorded under {@code metricsKey}, unless it is null.
+     * Must be called on the worker.
+     */
+    private void handToUi(String metricsKey, Runnable completion) {
+        Consumer<ObservableList<Person>> personListReplay = personListChanges.takeReplay();
+        Consumer<ObservableList<Lesson>> scheduleListReplay = scheduleListChanges.takeReplay();
+        Consumer<ObservableList<Task>> taskListReplay = taskListChanges == null ? null : taskListChanges.takeReplay();
+        boolean isRefreshed = isListUiRefreshed;
+        String[] fields = logic.getDisplayedFieldsList();
+        List<Runnable> calls = uiCalls;
+        isListUiRefreshed = false;
+        uiCalls = new ArrayList<>();
+
+        uiExecutor.execute(() -> {
+            long start = System.nanoTime();
+            displayedFieldsList = fields;
+            personListReplay.accept(persons);
+            scheduleListReplay.accept(lessons);
+            if (taskListReplay != null) {
+                taskListReplay.accept(tasks);
+            }
+            if (isRefreshed) {
+                refreshListUi();
+            }
+            calls.forEach(Runnable::run);
+            completion.run();
+            if (metricsKey != null) {
+                MetricsCenter.recordTime(Phase.REFRESH, metricsKey, start);
+            }
+        });
+    }
+
+    /**
+     * Runs {@code task} on the worker, waits for it and rethrows what it throws.
+     * The time taken to show its changes is recorded under {@code metricsKey}.
+     */
+    private CommandResult runOnWorker(String metricsKey, Callable<CommandResult> task)
+            throws CommandException, ParseException {
+        Future<CommandResult> future = worker.submit(() -> {
+            try {
+                return task.call();
+            } finally {
+                handToUi(metricsKey, () -> { });
+            }
+        });
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CommandException(String.format(MESSAGE_UNEXPECTED_FAILURE, e), e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof CommandException) {
+                throw (CommandException) cause;
+            }
+            if (cause instanceof ParseException) {
+                throw (ParseException) cause;
+            }
+            throw new CommandException(String.format(MESSAGE_UNEXPECTED_FAILURE, cause), cause);
+        }
+    }
+
+    /**
+     * Records the changes to a list of the wrapped logic, so that they can be replayed on its copy.
+     * Permutations, and more changes than are worth replaying one by one, are replayed by replacing the whole copy.
+     */
+    private static class ListChangeLog<T> implements ListChangeListener<T> {
+        private static final int MAX_CHANGES = 64;
+
+        private final ObservableList<T> source;
+        private List<Consumer<ObservableList<T>>> changes = new ArrayList<>();
+        private boolean isReplacedWhole = false;
+
+        ListChangeLog(ObservableList<T> source) {
+            this.source = source;
+            source.addListener(this);
+        }
+
+        @Override
+        public void onChanged(Change<? extends T> change) {
+            while (!isReplacedWhole && change.next()) {
+                if (change.wasPermutated()) {
+                    isReplacedWhole = true;
+                } else if (change.wasUpdated()) {
+                    // the copy holds the same items, but setting them again makes their rows be redrawn
+                    List<T> updated = new ArrayList<>(change.getList().subList(change.getFrom(), change.getTo()));
+                    recordReplaced(change.getFrom(), updated, updated, true);
+                } else {
+                    recordReplaced(change.getFrom(), new ArrayList<>(change.getRemoved()),
+                            new ArrayList<>(change.getAddedSubList()), false);
+                }
+            }
+            if (changes.size() > MAX_CHANGES) {
+                isReplacedWhole = true;
+            }
+            if (isReplacedWhole) {
+                changes.clear();
+            }
+        }
+
+        /**
+         * Records that {@code removed} at {@code from} was replaced by {@code added}.
+         * Leading and trailing items that were not replaced are left out, as lists such as a {@code FilteredList}
+         * report a change of their predicate as the replacement of all their items.
+         */
+        private void recordReplaced(int from, List<T> removed, List<T> added, boolean isSetAnyway) {
+            // the items are compared by reference, as an edited item is replaced by another that may be equal
+            int prefix = 0;
+            int maxUnchanged = Math.min(removed.size(), added.size());
+            while (!isSetAnyway && prefix < maxUnchanged && removed.get(prefix) == added.get(prefix)) {
+                prefix++;
+            }
+            int suffix = 0;
+            while (!isSetAnyway && prefix + suffix < maxUnchanged
+                    && removed.get(removed.size() - 1 - suffix) == added.get(added.size() - 1 - suffix)) {
+                suffix++;
+            }
+            int start = from + prefix;
+            int removedCount = removed.size() - prefix - suffix;
+            List<T> addedItems = added.subList(prefix, added.size() - suffix);
+
+            if (removedCount == addedItems.size()) {
+                for (int i = 0; i < removedCount; i++) {
+                    T item = addedItems.get(i);
+                    if (isSetAnyway || removed.get(prefix + i) != item) {
+                        int index = start + i;
+                        changes.add(copy -> copy.set(index, item));
+                    }
+                }
+                return;
+            }
+            if (removedCount > 0) {
+                changes.add(copy -> copy.remove(start, start + removedCount));
+            }
+            if (!addedItems.isEmpty()) {
+                changes.add(copy -> copy.addAll(start, addedItems));
+            }
+        }
+
+        /**
+         * Returns what replays the changes recorded since the last call on a copy of the source list,
+         * and forgets them. Must be called on the thread that changes the source list.
+         */
+        Consumer<ObservableList<T>> takeReplay() {
+            Consumer<ObservableList<T>> replay;
+            if (isReplacedWhole) {
+                List<T> items = new ArrayList<>(source);
+                replay = copy -> copy.setAll(items);
+            } else {
+                List<Consumer<ObservableList<T>>> recorded = changes;
+                replay = copy -> recorded.forEach(change -> change.accept(copy));
+            }
+            changes = new ArrayList<>();
+            isReplacedWhole = false;
+            return replay;
+        }
+    }
+
+    /**
+     * Defers the Ui calls made on the worker to the next batch handed to the UI thread.
+     */
+    private class DeferringUi implements Ui {
+        private final Ui ui;
+
+        DeferringUi(Ui ui) {
+            this.ui = ui;
+        }
+
+        private void call(Runnable uiCall) {
+            if (Thread.currentThread() == workerThread) {
+                uiCalls.add(uiCall);
+            } else {
+                uiCall.run();
+            }
+        }
+
+        @Override
+        public void start(Stage primaryStage) {
+            ui.start(primaryStage);
+        }
+
+        @Override
+        public void showPersonDetails(Person person) {
+            call(() -> ui.showPersonDetails(person));
+        }
+
+        @Override
+        public void showLessonDetails(Lesson lesson) {
+            call(() -> ui.showLessonDetails(lesson));
+        }
+
+        @Override
+        public void showTaskDetails(Task task) {
+            call(() -> ui.showTaskDetails(task));
+        }
+
+        @Override
+        public void changeLayout(State state) {
+            call(() -> ui.changeLayout(state));
+        }
+    }
+}
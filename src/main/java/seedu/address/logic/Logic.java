@@ -1,6 +1,9 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
 
 import javafx.beans.property.BooleanProperty;
 import javafx.collections.ObservableList;
@@ -26,6 +29,32 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the commands as one unit and returns the result.
+     * Either every command takes effect, or none of them do if any command fails.
+     * @param commandTexts The commands, in the order they are to be executed.
+     * @return the result of the batch execution.
+     * @throws CommandException If an error occurs during the execution of any command.
+     * @throws ParseException If an error occurs during the parsing of any command.
+     */
+    CommandResult executeBatch(List<String> commandTexts) throws CommandException, ParseException;
+
+    /**
+     * Executes the command, then calls {@code onSuccess} with its result, or {@code onFailure} with the
+     * {@code CommandException} or {@code ParseException} it failed with.
+     * By default, the command is executed on the calling thread before this returns.
+     */
+    default void submit(String commandText, Consumer<CommandResult> onSuccess, Consumer<Exception> onFailure) {
+        CommandResult commandResult;
+        try {
+            commandResult = execute(commandText);
+        } catch (CommandException | ParseException e) {
+            onFailure.accept(e);
+            return;
+        }
+        onSuccess.accept(commandResult);
+    }
+
     /**
      * Returns the AddressBook.
      *
@@ -67,4 +96,15 @@ public interface Logic {
 
     void refreshListUi();
 
+    /**
+     * Sets the handler that is called with a message when data saved in the background could not be written,
+     * and with null once it has been written. Such failures are not reported as the result of any command.
+     */
+    void setSaveFailureHandler(Consumer<String> saveFailureHandler);
+
+    /**
+     * Writes all data that is waiting to be saved to storage, and stops saving in the background.
+     * @throws IOException If the data could not be written.
+     */
+    void shutdown() throws IOException;
 }
@@ -1,8 +1,14 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.beans.property.BooleanProperty;
@@ -10,20 +16,31 @@ import javafx.beans.property.SimpleBooleanProperty;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.MetricsCenter;
+import seedu.address.commons.core.MetricsCenter.Phase;
+import seedu.address.commons.events.CommandEvent;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.BiDirectionalMap;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlySchedule;
 import seedu.address.model.lessons.Lesson;
 import seedu.address.model.lessons.Task;
 import seedu.address.model.person.Person;
 import seedu.address.storage.Storage;
+import seedu.address.storage.WriteBehindSaver;
 
 /**
  * The main LogicManager of the app.
+ * <p>
+ * Commands are executed one at a time. While a command changes the model, it holds the write lock of the model,
+ * so other threads can read the model under its read lock. Data is written to storage after the lock is released.
+ * The time taken to parse, execute and save each command is recorded in the {@link MetricsCenter} by command word,
+ * and a {@link CommandEvent} is emitted for JDK Flight Recorder.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_FORMAT = "Could not save data due to the following error: %s";
@@ -31,10 +48,16 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_BATCH_SUCCESS = "Executed %1$d commands.";
+    public static final String MESSAGE_BATCH_FAILURE =
+            "Command %1$d (%2$s) failed, so none of the commands took effect: %3$s";
+    public static final String MESSAGE_NESTED_BATCH = "A batch of commands cannot run another batch.";
+    public static final String BATCH_METRICS_KEY = "(batch)";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final WriteBehindSaver saver;
     private final AddressBookParser addressBookParser;
 
     private String[] displayedFieldsList = new String[0];
@@ -43,25 +66,240 @@ public class LogicManager implements Logic {
     private BooleanProperty refreshListUi = new SimpleBooleanProperty(false);
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}
+     * that saves changed data to storage after every command.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, new WriteBehindSaver(storage));
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} that saves changed data through {@code saver}.
+     */
+    public LogicManager(Model model, WriteBehindSaver saver) {
         this.model = model;
-        this.storage = storage;
+        this.saver = saver;
         addressBookParser = new AddressBookParser(model);
     }
 
     @Override
-    public CommandResult execute(String commandText) throws CommandException, ParseException {
+    public synchronized CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
         model.addCommandHistory(commandText);
+        String commandWord = AddressBookParser.getCommandWord(commandText);
+        return withEvent(commandWord, event -> executeCommand(commandText, commandWord, event));
+    }
+
+    /**
+     * Executes {@code commandText} on the model and saves the changes, adding the time taken to {@code event}.
+     */
+    private CommandResult executeCommand(String commandText, String commandWord, CommandEvent event)
+            throws CommandException, ParseException {
         CommandResult commandResult;
-        Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        Lock writeLock = model.getLock().writeLock();
+        writeLock.lock();
+        try {
+            commandResult = parseAndExecute(addressBookParser, model, commandText, event);
+            if (!commandResult.isBatch()) {
+                applyDisplayParams(commandResult.getDisplayParams());
+                save(commandWord, event);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+
+        if (commandResult.isBatch()) {
+            logger.info(commandResult.getFeedbackToUser());
+            return executeBatch(commandResult.getBatchCommands());
+        }
+        if (commandResult.isExit()) {
+            flush();
+        }
+        return commandResult;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The commands are executed one after another against a copy of the model. Only when all of them succeed are the
+     * changed address book, schedule list and links put into the model, each in a single change, and saved once.
+     * Other threads can read the model while the commands are executed, until the changes are put into it.
+     */
+    @Override
+    public synchronized CommandResult executeBatch(List<String> commandTexts) throws CommandException, ParseException {
+        requireNonNull(commandTexts);
+        logger.info("----------------[BATCH][" + commandTexts.size() + " commands]");
+        return withEvent(BATCH_METRICS_KEY, event -> executeCommands(commandTexts, event));
+    }
+
+    /**
+     * Executes {@code commandTexts} as a batch, adding the time taken to {@code event}.
+     */
+    private CommandResult executeCommands(List<String> commandTexts, CommandEvent event)
+            throws CommandException, ParseException {
+        // no other command can change the model until this batch is applied, so the copy stays up to date
+        Model workingModel;
+        Lock readLock = model.getLock().readLock();
+        readLock.lock();
+        try {
+            workingModel = model.copy();
+        } finally {
+            readLock.unlock();
+        }
+        AddressBookParser batchParser = new AddressBookParser(workingModel);
+        String[] displayParams = new String[0];
+        boolean isShowHelp = false;
+        boolean isExit = false;
+        List<Command> executedCommands = new ArrayList<>();
+        for (int i = 0; i < commandTexts.size(); i++) {
+            String commandText = commandTexts.get(i);
+            CommandResult commandResult;
+            try {
+                Command command = parse(batchParser, commandText, event);
+                commandResult = execute(command, workingModel, commandText, event);
+                executedCommands.add(command);
+                if (commandResult.isBatch()) {
+                    throw new CommandException(MESSAGE_NESTED_BATCH);
+                }
+            } catch (ParseException pe) {
+                throw new ParseException(String.format(MESSAGE_BATCH_FAILURE, i + 1, commandText, pe.getMessage()), pe);
+            } catch (CommandException ce) {
+                throw new CommandException(
+                        String.format(MESSAGE_BATCH_FAILURE, i + 1, commandText, ce.getMessage()), ce);
+            }
+            if (commandResult.getDisplayParams().length != 0) {
+                displayParams = commandResult.getDisplayParams();
+            }
+            isShowHelp |= commandResult.isShowHelp();
+            isExit |= commandResult.isExit();
+        }
+
+        Lock writeLock = model.getLock().writeLock();
+        writeLock.lock();
+        try {
+            applyBatch(workingModel, executedCommands);
+            applyDisplayParams(displayParams);
+            save(BATCH_METRICS_KEY, event);
+        } finally {
+            writeLock.unlock();
+        }
+        flush();
+        return new CommandResult(String.format(MESSAGE_BATCH_SUCCESS, commandTexts.size()), isShowHelp, isExit);
+    }
+
+    /**
+     * Runs {@code execution} with a {@code CommandEvent} for {@code commandWord},
+     * which is committed with the outcome of the execution.
+     */
+    private static CommandResult withEvent(String commandWord, Execution execution)
+            throws CommandException, ParseException {
+        CommandEvent event = CommandEvent.start(commandWord);
+        try {
+            CommandResult commandResult = execution.execute(event);
+            event.setOutcome(CommandEvent.OUTCOME_SUCCESS);
+            return commandResult;
+        } catch (ParseException pe) {
+            event.setOutcome(CommandEvent.OUTCOME_PARSE_FAILURE);
+            throw pe;
+        } catch (CommandException ce) {
+            event.setOutcome(CommandEvent.OUTCOME_COMMAND_FAILURE);
+            throw ce;
+        } finally {
+            event.commit();
+        }
+    }
+
+    /**
+     * Parses {@code commandText} with {@code parser} and executes the command on {@code targetModel},
+     * recording the time taken by each under the command word and adding it to {@code event}.
+     */
+    private static CommandResult parseAndExecute(AddressBookParser parser, Model targetModel, String commandText,
+                                                 CommandEvent event) throws CommandException, ParseException {
+        return execute(parse(parser, commandText, event), targetModel, commandText, event);
+    }
+
+    /**
+     * Parses {@code commandText} with {@code parser}, recording the time taken under the command word
+     * and adding it to {@code event}.
+     */
+    private static Command parse(AddressBookParser parser, String commandText, CommandEvent event)
+            throws ParseException {
+        long start = System.nanoTime();
+        try {
+            return parser.parseCommand(commandText);
+        } finally {
+            event.addParseDuration(MetricsCenter.recordTime(Phase.PARSE,
+                    AddressBookParser.getCommandWord(commandText), start));
+        }
+    }
+
+    /**
+     * Executes {@code command}, parsed from {@code commandText}, on {@code targetModel}, recording the time taken
+     * under the command word and adding it to {@code event}.
+     */
+    private static CommandResult execute(Command command, Model targetModel, String commandText, CommandEvent event)
+            throws CommandException {
+        long start = System.nanoTime();
+        try {
+            return command.execute(targetModel);
+        } finally {
+            event.addExecuteDuration(MetricsCenter.recordTime(Phase.EXECUTE,
+                    AddressBookParser.getCommandWord(commandText), start));
+        }
+    }
+
+    /**
+     * Puts the data that changed in {@code workingModel} into the model, and shows what {@code workingModel} shows
+     * after {@code executedCommands} were executed on it.
+     */
+    private void applyBatch(Model workingModel, List<Command> executedCommands) {
+        if (workingModel.isAddressBookModified()) {
+            model.setAddressBook(workingModel.getAddressBook());
+        }
+        if (workingModel.isScheduleListModified()) {
+            model.setScheduleList(workingModel.getScheduleList());
+        }
+        if (workingModel.isPersonLessonMapModified()) {
+            model.setPersonToLessonMap(workingModel.getPersonLessonMap());
+        }
+        model.setState(workingModel.getState());
+        refilter(executedCommands);
 
-        // Set displayFieldsList if there is a list of params specified
-        String[] displayParams = commandResult.getDisplayParams(); // array of strings eg. ["phone", "subjects"]
+        // the shown entries are looked up again, as unchanged data was not taken from the working model
+        Person shownPerson = workingModel.getCurrentlyDisplayedPerson();
+        if (shownPerson != null && model.getPersonById(shownPerson.getId()) != null) {
+            model.showPerson(model.getPersonById(shownPerson.getId()));
+        }
+        Lesson shownLesson = workingModel.getCurrentlyDisplayedLesson();
+        if (shownLesson != null && model.getLessonById(shownLesson.getId()) != null) {
+            model.showLesson(model.getLessonById(shownLesson.getId()));
+        }
+        Task shownTask = workingModel.getCurrentlyDisplayedTask();
+        if (shownTask != null) {
+            model.showTask(shownTask);
+        }
+    }
+
+    /**
+     * Sets the filters of the lists of the model to the last ones that {@code executedCommands} set.
+     * The filters are planned again, as those planned for the working model may rely on its indexes.
+     */
+    private void refilter(List<Command> executedCommands) {
+        boolean isPersonListFiltered = false;
+        boolean isScheduleListFiltered = false;
+        for (int i = executedCommands.size() - 1; i >= 0 && !(isPersonListFiltered && isScheduleListFiltered); i--) {
+            Command command = executedCommands.get(i);
+            isPersonListFiltered = isPersonListFiltered || command.refilterPersons(model);
+            isScheduleListFiltered = isScheduleListFiltered || command.refilterLessons(model);
+        }
+    }
+
+    /**
+     * Sets the displayed fields list if {@code displayParams} specifies any fields.
+     */
+    private void applyDisplayParams(String[] displayParams) {
+        // array of strings eg. ["phone", "subjects"]
         if (displayParams.length != 0) {
             if (displayParams[0].equals("none")) {
                 setDisplayedFieldsList(new String[0]);
@@ -69,18 +307,71 @@ public class LogicManager implements Logic {
                 setDisplayedFieldsList(displayParams);
             }
         }
+    }
 
+    /**
+     * Saves the changed data, recording the time taken under {@code metricsKey} and adding it to {@code event}.
+     * Must be called with the write lock of the model held.
+     */
+    private void save(String metricsKey, CommandEvent event) throws CommandException {
+        long start = System.nanoTime();
         try {
-            storage.saveAddressBook(model.getAddressBook());
-            storage.saveScheduleList(model.getScheduleList());
-            storage.savePersonLessonMap(model.getPersonLessonMap());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            saveModifiedData();
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw toCommandException(ioe);
+        } finally {
+            event.addSaveDuration(MetricsCenter.recordTime(Phase.SAVE, metricsKey, start));
         }
+    }
 
-        return commandResult;
+    @Override
+    public void setSaveFailureHandler(Consumer<String> saveFailureHandler) {
+        requireNonNull(saveFailureHandler);
+        saver.setBackgroundFailureHandler(failure ->
+                saveFailureHandler.accept(failure == null ? null : toCommandException(failure).getMessage()));
+    }
+
+    /**
+     * Waits for the saved data to be written.
+     */
+    private void flush() throws CommandException {
+        try {
+            saver.flush();
+        } catch (IOException ioe) {
+            throw toCommandException(ioe);
+        }
+    }
+
+    private static CommandException toCommandException(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage()), ioe);
+        }
+        return new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+    }
+
+    /**
+     * Saves only the data that the model reports as changed, so read-only commands do not write to storage.
+     */
+    private void saveModifiedData() throws IOException {
+        ReadOnlyAddressBook addressBook = model.isAddressBookModified() ? model.getAddressBook() : null;
+        ReadOnlySchedule scheduleList = model.isScheduleListModified() ? model.getScheduleList() : null;
+        BiDirectionalMap<Person, Lesson> personLessonMap =
+                model.isPersonLessonMapModified() ? model.getPersonLessonMap() : null;
+        // the saver keeps data it failed to write, so the flags can be cleared before saving
+        model.clearModifiedFlags();
+        saver.save(addressBook, scheduleList, personLessonMap);
+    }
+
+    @Override
+    public synchronized void shutdown() throws IOException {
+        Lock writeLock = model.getLock().writeLock();
+        writeLock.lock();
+        try {
+            saveModifiedData();
+        } finally {
+            writeLock.unlock();
+        }
+        saver.shutdown();
     }
 
     @Override
@@ -114,7 +405,13 @@ public class LogicManager implements Logic {
 
     @Override
     public void setGuiSettings(GuiSettings guiSettings) {
-        model.setGuiSettings(guiSettings);
+        Lock writeLock = model.getLock().writeLock();
+        writeLock.lock();
+        try {
+            model.setGuiSettings(guiSettings);
+        } finally {
+            writeLock.unlock();
+        }
     }
 
     @Override
@@ -134,4 +431,12 @@ public class LogicManager implements Logic {
     public void refreshListUi() {
         refreshListUi.setValue(!refreshListUi.getValue());
     }
+
+    /**
+     * Executes one or more commands, adding the time taken to {@code event}.
+     */
+    @FunctionalInterface
+    private interface Execution {
+        CommandResult execute(CommandEvent event) throws CommandException, ParseException;
+    }
 }
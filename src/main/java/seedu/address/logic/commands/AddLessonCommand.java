@@ -12,6 +12,8 @@ import seedu.address.model.state.State;
  */
 public class AddLessonCommand extends Command {
     public static final String COMMAND_WORD = "addlesson";
+    public static final String MESSAGE_DUPLICATE_LESSON = "Lesson with this name already exists in the schedule";
+    public static final String MESSAGE_CLASHING_LESSON = "Exist lesson clashes with this lesson: ";
     private Lesson lesson;
     /**
      * Creates an AddLessonCommand to add the specified {@code Lesson}
@@ -27,10 +29,9 @@ public class AddLessonCommand extends Command {
         if (model.hasLessonClashWith(lesson)) {
             Lesson clashingLesson = model.getLessonClashWith(lesson);
             if (clashingLesson.getName().equals(lesson.getName())) {
-                throw new CommandException("Lesson with this name already exists in the schedule");
+                throw new CommandException(MESSAGE_DUPLICATE_LESSON);
             }
-            throw new CommandException("Exist lesson clashes with this lesson: "
-                    + clashingLesson.toString());
+            throw new CommandException(MESSAGE_CLASHING_LESSON + clashingLesson.toString());
         }
         model.addLesson(lesson);
         model.setState(State.SCHEDULE);
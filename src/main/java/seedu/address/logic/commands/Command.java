@@ -17,4 +17,25 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Sets the filter of the person list of {@code model} to the one that the last execution of this command set
+     * on another model, planned again for the data of {@code model}.
+     * This lets a batch of commands executed on a copy of {@code model} show the same persons once it is applied.
+     *
+     * @return false if the last execution of this command did not set the filter of the person list.
+     */
+    public boolean refilterPersons(Model model) {
+        return false;
+    }
+
+    /**
+     * Sets the filter of the schedule list of {@code model} to the one that the last execution of this command set.
+     *
+     * @return false if the last execution of this command did not set the filter of the schedule list.
+     * @see #refilterPersons(Model)
+     */
+    public boolean refilterLessons(Model model) {
+        return false;
+    }
+
 }
@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.List;
 import java.util.Objects;
 
 import seedu.address.commons.util.ToStringBuilder;
@@ -22,14 +23,23 @@ public class CommandResult {
     /** The parameters on what to display for student details **/
     private final String[] displayParams;
 
+    /** The commands to be executed together as one batch, empty if there are none. */
+    private final List<String> batchCommands;
+
     /**
      * Constructs a {@code CommandResult} with the specified fields.
      */
     public CommandResult(String feedbackToUser, boolean showHelp, boolean exit, String[] displayParams) {
+        this(feedbackToUser, showHelp, exit, displayParams, List.of());
+    }
+
+    private CommandResult(String feedbackToUser, boolean showHelp, boolean exit, String[] displayParams,
+                          List<String> batchCommands) {
         this.feedbackToUser = requireNonNull(feedbackToUser);
         this.showHelp = showHelp;
         this.exit = exit;
         this.displayParams = displayParams;
+        this.batchCommands = List.copyOf(batchCommands);
     }
 
     public CommandResult(String feedbackToUser, boolean showHelp, boolean exit) {
@@ -48,6 +58,13 @@ public class CommandResult {
         this(feedbackToUser, false, false, displayParams);
     }
 
+    /**
+     * Constructs a {@code CommandResult} that asks for {@code batchCommands} to be executed as one batch.
+     */
+    public CommandResult(String feedbackToUser, List<String> batchCommands) {
+        this(feedbackToUser, false, false, new String[0], batchCommands);
+    }
+
     public String getFeedbackToUser() {
         return feedbackToUser;
     }
@@ -64,6 +81,14 @@ public class CommandResult {
         return displayParams;
     }
 
+    public List<String> getBatchCommands() {
+        return batchCommands;
+    }
+
+    public boolean isBatch() {
+        return !batchCommands.isEmpty();
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -78,12 +103,13 @@ public class CommandResult {
         CommandResult otherCommandResult = (CommandResult) other;
         return feedbackToUser.equals(otherCommandResult.feedbackToUser)
                 && showHelp == otherCommandResult.showHelp
-                && exit == otherCommandResult.exit;
+                && exit == otherCommandResult.exit
+                && batchCommands.equals(otherCommandResult.batchCommands);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(feedbackToUser, showHelp, exit);
+        return Objects.hash(feedbackToUser, showHelp, exit, batchCommands);
     }
 
     @Override
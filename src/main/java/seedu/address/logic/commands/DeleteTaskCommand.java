@@ -43,7 +43,7 @@ public class DeleteTaskCommand extends Command {
         } catch (IndexOutOfBoundsException e) {
             throw new CommandException("Task index do not belong to any tasks!");
         }
-        model.showLesson(model.getLessonClashWith(currentlyShownLesson));
+        model.showLesson(model.getLessonById(currentlyShownLesson.getId()));
         return new CommandResult(String.format(MESSAGE_DELETE_TASK_SUCCESS, taskToDelete));
     }
     @Override
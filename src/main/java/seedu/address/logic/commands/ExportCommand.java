@@ -0,0 +1,97 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.storage.CsvAdapter;
+
+/**
+ * Exports all persons, lessons and links to a CSV file that can be imported again.
+ * The rows are written one at a time, so the file is never held in memory.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Exports all students, lessons and links to a CSV file, which can be read by the import command.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/roster.csv";
+
+    public static final String MESSAGE_EXPORT_SUCCESS = "Exported %1$d students, %2$d lessons and %3$d links to %4$s";
+    public static final String MESSAGE_WRITE_FAILURE = "Could not write %1$s: %2$s";
+
+    private final Path filePath;
+
+    public ExportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        int[] linkCount = {0};
+        try {
+            FileUtil.createParentDirsOfFile(filePath);
+            FileUtil.writeToFile(filePath, out -> {
+                Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+                CsvUtil.writeRecord(writer, CsvAdapter.PERSON_HEADER);
+                for (Person person : model.getAddressBook().getPersonList()) {
+                    CsvUtil.writeRecord(writer, CsvAdapter.toRecord(person));
+                }
+                CsvUtil.writeRecord(writer, CsvAdapter.LESSON_HEADER);
+                for (Lesson lesson : model.getScheduleList().getLessonList()) {
+                    CsvUtil.writeRecord(writer, CsvAdapter.toRecord(lesson));
+                }
+                CsvUtil.writeRecord(writer, CsvAdapter.LINK_HEADER);
+                for (Person person : model.getAddressBook().getPersonList()) {
+                    for (Name lessonName : model.getLinkedWith(person)) {
+                        CsvUtil.writeRecord(writer, CsvAdapter.toLinkRecord(person.getName(), lessonName));
+                        linkCount[0]++;
+                    }
+                }
+                writer.flush();
+            });
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_WRITE_FAILURE, filePath, e.getMessage()), e);
+        }
+        return new CommandResult(String.format(MESSAGE_EXPORT_SUCCESS, model.getAddressBook().getPersonList().size(),
+                model.getScheduleList().getLessonList().size(), linkCount[0], filePath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return filePath.equals(otherExportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
@@ -1,23 +1,31 @@
 package seedu.address.logic.commands;
 
-import seedu.address.logic.MacroPredicate;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.filter.FilterPlanner;
+import seedu.address.logic.filter.FilterPredicate;
 import seedu.address.model.Model;
 import seedu.address.model.lessons.Lesson;
 /**
  * Represents a command that filters the list of lessons.
  */
 public class FilterLessonCommand extends FilterCommand {
-    private MacroPredicate<Lesson> predicate;
+    private FilterPredicate<Lesson> predicate;
     /**
      * Creates a FilterLessonCommand with the specified predicate.
      */
-    public FilterLessonCommand(MacroPredicate<Lesson> predicate) {
+    public FilterLessonCommand(FilterPredicate<Lesson> predicate) {
         this.predicate = predicate;
     }
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        model.updateFilteredScheduleList(predicate);
+        refilterLessons(model);
         return new CommandResult("Filtered schedule list successfully!");
     }
+
+    @Override
+    public boolean refilterLessons(Model model) {
+        FilterPlanner<Lesson> planner = new FilterPlanner<>(model, model.getScheduleList().getLessonList());
+        model.updateFilteredScheduleList(planner.plan(predicate));
+        return true;
+    }
 }
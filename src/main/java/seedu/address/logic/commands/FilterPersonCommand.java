@@ -1,23 +1,31 @@
 package seedu.address.logic.commands;
 
-import seedu.address.logic.MacroPredicate;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.filter.FilterPlanner;
+import seedu.address.logic.filter.FilterPredicate;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
 /**
  * Represents a command that filters the list of students.
  */
 public class FilterPersonCommand extends FilterCommand {
-    private MacroPredicate<Person> predicate;
+    private FilterPredicate<Person> predicate;
     /**
      * Creates a FilterPersonCommand with the specified predicate.
      */
-    public FilterPersonCommand(MacroPredicate<Person> predicate) {
+    public FilterPersonCommand(FilterPredicate<Person> predicate) {
         this.predicate = predicate;
     }
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        model.updateFilteredPersonList(predicate);
+        refilterPersons(model);
         return new CommandResult("Filtered student list successfully!");
     }
+
+    @Override
+    public boolean refilterPersons(Model model) {
+        FilterPlanner<Person> planner = new FilterPlanner<>(model, model.getAddressBook().getPersonList());
+        model.updateFilteredPersonList(planner.plan(predicate));
+        return true;
+    }
 }
@@ -2,14 +2,11 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.function.Predicate;
-
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.lessons.LessonContainsKeywordsPredicate;
-import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.state.State;
 
 /**
  * Finds and lists all persons or lessons in app whose name contains any of the argument keywords.
@@ -24,26 +21,26 @@ public class FindCommand extends Command {
             + "Parameter: SEARCH_STRING\n"
             + "Example: " + COMMAND_WORD + " alex yeoh";
 
-    private Predicate predicate;
     private final String trimmedArgs;
+    // the state in which this command was last executed, which decides the list it filtered
+    private State executedState;
 
     public FindCommand(String trimmedArgs) {
         this.trimmedArgs = trimmedArgs;
     }
 
-    @Override @SuppressWarnings("unchecked")
+    @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
+        executedState = model.getState();
         switch (model.getState()) {
         case STUDENT:
-            predicate = new NameContainsKeywordsPredicate(trimmedArgs);
-            model.updateFilteredPersonList(predicate);
+            model.updateFilteredPersonList(model.getPersonNameContainsPredicate(trimmedArgs));
             model.showPerson(null);
             return new CommandResult(
                     String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
         case SCHEDULE:
-            predicate = new LessonContainsKeywordsPredicate(trimmedArgs);
-            model.updateFilteredScheduleList(predicate);
+            model.updateFilteredScheduleList(model.getLessonNameContainsPredicate(trimmedArgs));
             model.showLesson(null);
             return new CommandResult(
                     String.format(Messages.MESSAGE_LESSONS_LISTED_OVERVIEW, model.getFilteredScheduleList().size()));
@@ -54,6 +51,24 @@ public class FindCommand extends Command {
 
     }
 
+    @Override
+    public boolean refilterPersons(Model model) {
+        if (executedState != State.STUDENT) {
+            return false;
+        }
+        model.updateFilteredPersonList(model.getPersonNameContainsPredicate(trimmedArgs));
+        return true;
+    }
+
+    @Override
+    public boolean refilterLessons(Model model) {
+        if (executedState != State.SCHEDULE) {
+            return false;
+        }
+        model.updateFilteredScheduleList(model.getLessonNameContainsPredicate(trimmedArgs));
+        return true;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
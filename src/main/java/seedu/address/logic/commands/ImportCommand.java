@@ -0,0 +1,189 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.CsvUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.storage.CsvAdapter;
+
+/**
+ * Imports the persons, lessons and links in a CSV file.
+ * The rows are read one at a time, and the persons and lessons in them are added to the model at once.
+ * Rows that cannot be imported are reported without stopping the import.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Imports the students, lessons and links in a CSV file, as written by the export command. "
+            + "Rows that cannot be imported are reported and skipped.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/roster.csv";
+
+    public static final String MESSAGE_IMPORT_SUCCESS = "Imported %1$d students, %2$d lessons and %3$d links from %4$s";
+    public static final String MESSAGE_ROW_ERRORS = "%1$d rows could not be imported:";
+    public static final String MESSAGE_ROW_ERROR = "Row %1$d: %2$s";
+    public static final String MESSAGE_MORE_ROW_ERRORS = "... and %1$d more";
+    public static final String MESSAGE_READ_FAILURE = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_UNKNOWN_TYPE = "The row type should be one of "
+            + CsvAdapter.PERSON_TYPE + ", " + CsvAdapter.LESSON_TYPE + " or " + CsvAdapter.LINK_TYPE + ", but is: %1$s";
+    public static final String MESSAGE_PERSON_NOT_FOUND = "There is no student named %1$s";
+    public static final String MESSAGE_LESSON_NOT_FOUND = "There is no lesson named %1$s";
+
+    /** Only the first errors are kept, so a file of bad rows does not fill the memory with messages. */
+    public static final int MAX_REPORTED_ERRORS = 20;
+
+    private final Path filePath;
+
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        RowErrors errors = new RowErrors();
+        List<Person> persons = new ArrayList<>();
+        List<Lesson> lessons = new ArrayList<>();
+        List<Name[]> links = new ArrayList<>();
+        Map<Object, Integer> rowNumbers = new IdentityHashMap<>();
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            List<String> record;
+            int rowNumber = 0;
+            while ((record = CsvUtil.readRecord(reader)) != null) {
+                rowNumber++;
+                if (CsvAdapter.isSkipped(record)) {
+                    continue;
+                }
+                try {
+                    String type = CsvAdapter.getType(record);
+                    switch (type) {
+                    case CsvAdapter.PERSON_TYPE:
+                        Person person = CsvAdapter.toPerson(record);
+                        rowNumbers.put(person, rowNumber);
+                        persons.add(person);
+                        break;
+                    case CsvAdapter.LESSON_TYPE:
+                        Lesson lesson = CsvAdapter.toLesson(record);
+                        rowNumbers.put(lesson, rowNumber);
+                        lessons.add(lesson);
+                        break;
+                    case CsvAdapter.LINK_TYPE:
+                        Name[] link = CsvAdapter.toLink(record);
+                        rowNumbers.put(link, rowNumber);
+                        links.add(link);
+                        break;
+                    default:
+                        throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_TYPE, type));
+                    }
+                } catch (IllegalValueException e) {
+                    errors.add(rowNumber, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILURE, filePath, e.getMessage()), e);
+        }
+
+        List<Person> rejectedPersons = model.addPersons(persons);
+        for (Person rejected : rejectedPersons) {
+            errors.add(rowNumbers.get(rejected), AddPersonCommand.MESSAGE_DUPLICATE_PERSON);
+        }
+        List<Lesson> rejectedLessons = model.addLessons(lessons);
+        for (Lesson rejected : rejectedLessons) {
+            Lesson clashingLesson = model.getLessonClashWith(rejected);
+            errors.add(rowNumbers.get(rejected), clashingLesson.getName().equals(rejected.getName())
+                    ? AddLessonCommand.MESSAGE_DUPLICATE_LESSON
+                    : AddLessonCommand.MESSAGE_CLASHING_LESSON + clashingLesson);
+        }
+        int linkCount = 0;
+        for (Name[] link : links) {
+            Person person = model.getPersonWithName(link[0]);
+            Lesson lesson = model.getLessonWithName(link[1]);
+            if (person == null) {
+                errors.add(rowNumbers.get(link), String.format(MESSAGE_PERSON_NOT_FOUND, link[0]));
+            } else if (lesson == null) {
+                errors.add(rowNumbers.get(link), String.format(MESSAGE_LESSON_NOT_FOUND, link[1]));
+            } else if (!model.isLinkedWith(person, lesson)) {
+                model.linkWith(person, lesson);
+                linkCount++;
+            }
+        }
+
+        String feedback = String.format(MESSAGE_IMPORT_SUCCESS, persons.size() - rejectedPersons.size(),
+                lessons.size() - rejectedLessons.size(), linkCount, filePath);
+        return new CommandResult(feedback + errors);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+
+    /**
+     * The errors of the rows that could not be imported, of which only the ones of the first rows are kept.
+     */
+    private static class RowErrors {
+        private final TreeMap<Integer, String> messages = new TreeMap<>();
+        private int count = 0;
+
+        void add(int rowNumber, String message) {
+            count++;
+            messages.put(rowNumber, String.format(MESSAGE_ROW_ERROR, rowNumber, message));
+            if (messages.size() > MAX_REPORTED_ERRORS) {
+                messages.pollLastEntry();
+            }
+        }
+
+        /**
+         * Returns the kept errors on lines of their own, or an empty string if there are no errors.
+         */
+        @Override
+        public String toString() {
+            if (count == 0) {
+                return "";
+            }
+            StringBuilder builder = new StringBuilder("\n").append(String.format(MESSAGE_ROW_ERRORS, count));
+            messages.values().forEach(message -> builder.append('\n').append(message));
+            if (count > messages.size()) {
+                builder.append('\n').append(String.format(MESSAGE_MORE_ROW_ERRORS, count - messages.size()));
+            }
+            return builder.toString();
+        }
+    }
+}
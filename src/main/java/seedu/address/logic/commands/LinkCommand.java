@@ -1,7 +1,5 @@
 package seedu.address.logic.commands;
 
-import java.util.Set;
-
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.lessons.Lesson;
@@ -33,16 +31,14 @@ public class LinkCommand extends Command {
     }
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        Set<Person> personSet = model.getPersonsFulfill(person -> person.getName().equals(studentName));
-        Set<Lesson> lessonSet = model.getLessonsFulfill(lesson -> lesson.getName().equals(lessonName));
-        if (personSet.isEmpty()) {
+        Person person = model.getPersonWithName(studentName);
+        Lesson lesson = model.getLessonWithName(lessonName);
+        if (person == null) {
             throw new CommandException("No such student with name " + studentName.toString() + " found");
-        } else if (lessonSet.isEmpty()) {
+        } else if (lesson == null) {
             throw new CommandException("No such lesson");
         } else {
-            Person person = personSet.iterator().next();
-            Lesson lesson = lessonSet.iterator().next();
-            if (Set.of(model.getLinkedWith(person)).contains(lessonName)) {
+            if (model.isLinkedWith(person, lesson)) {
                 throw new CommandException("The student is already linked to this lesson");
             }
             model.linkWith(person, lesson);
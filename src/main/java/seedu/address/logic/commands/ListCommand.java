@@ -62,6 +62,18 @@ public class ListCommand extends Command {
         }
     }
 
+    @Override
+    public boolean refilterPersons(Model model) {
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        return true;
+    }
+
+    @Override
+    public boolean refilterLessons(Model model) {
+        model.updateFilteredScheduleList(PREDICATE_SHOW_ALL_LESSONS);
+        return true;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
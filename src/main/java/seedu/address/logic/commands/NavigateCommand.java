@@ -1,5 +1,7 @@
 package seedu.address.logic.commands;
 
+import java.util.function.Predicate;
+
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.lessons.Lesson;
@@ -13,6 +15,10 @@ import seedu.address.model.state.State;
 public class NavigateCommand extends Command {
     public static final String COMMAND_WORD = "navigate";
 
+    // the filters set by the last execution of this command, which only depend on the names of the entries
+    private Predicate<Lesson> lessonFilter;
+    private Predicate<Person> personFilter;
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
 
@@ -26,14 +32,15 @@ public class NavigateCommand extends Command {
             if (names.length == 0) {
                 throw new CommandException("This student has no linked lessons");
             }
-            model.updateFilteredScheduleList(lesson -> {
+            lessonFilter = lesson -> {
                 for (Name name : names) {
                     if (lesson.getName().equals(name)) {
                         return true;
                     }
                 }
                 return false;
-            });
+            };
+            model.updateFilteredScheduleList(lessonFilter);
             model.showLesson(model.getFilteredScheduleList().get(0));
             model.setState(State.SCHEDULE);
             return new CommandResult("Navigated to student's lessons");
@@ -47,14 +54,15 @@ public class NavigateCommand extends Command {
             if (names2.length == 0) {
                 throw new CommandException("This lesson has no linked students");
             }
-            model.updateFilteredPersonList(person1 -> {
+            personFilter = person1 -> {
                 for (Name name : names2) {
                     if (person1.getName().equals(name)) {
                         return true;
                     }
                 }
                 return false;
-            });
+            };
+            model.updateFilteredPersonList(personFilter);
             model.showPerson(model.getFilteredPersonList().get(0));
             model.setState(State.STUDENT);
             return new CommandResult("Navigated to lesson's students");
@@ -63,4 +71,22 @@ public class NavigateCommand extends Command {
             throw new CommandException("Navigation from task list is not supported");
         }
     }
+
+    @Override
+    public boolean refilterPersons(Model model) {
+        if (personFilter == null) {
+            return false;
+        }
+        model.updateFilteredPersonList(personFilter);
+        return true;
+    }
+
+    @Override
+    public boolean refilterLessons(Model model) {
+        if (lessonFilter == null) {
+            return false;
+        }
+        model.updateFilteredScheduleList(lessonFilter);
+        return true;
+    }
 }
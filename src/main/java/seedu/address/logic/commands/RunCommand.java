@@ -0,0 +1,98 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+
+/**
+ * Runs the commands in a file as one batch.
+ * The commands are executed by the logic, which only changes the model if every command succeeds.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String COMMENT_PREFIX = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs the commands in a file, one command per line, as a single batch. "
+            + "If any command fails, none of the commands take effect.\n"
+            + "Blank lines and lines starting with " + COMMENT_PREFIX + " are skipped.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/commands.txt";
+
+    public static final String MESSAGE_RUN_SUCCESS = "Running %1$d commands from %2$s";
+    public static final String MESSAGE_NO_COMMANDS = "There are no commands in %1$s";
+    public static final String MESSAGE_READ_FAILURE = "Could not read commands from %1$s: %2$s";
+
+    private final Path filePath;
+
+    public RunCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        List<String> commands;
+        try {
+            commands = readCommands(filePath);
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_READ_FAILURE, filePath, e.getMessage()), e);
+        }
+        if (commands.isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_COMMANDS, filePath));
+        }
+        return new CommandResult(String.format(MESSAGE_RUN_SUCCESS, commands.size(), filePath), commands);
+    }
+
+    /**
+     * Returns the commands in the file at {@code filePath}, skipping blank lines and comments.
+     */
+    public static List<String> readCommands(Path filePath) throws IOException {
+        List<String> commands = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String command = line.trim();
+                if (!command.isEmpty() && !command.startsWith(COMMENT_PREFIX)) {
+                    commands.add(command);
+                }
+            }
+        }
+        return commands;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return filePath.equals(otherRunCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
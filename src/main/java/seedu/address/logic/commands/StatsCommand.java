@@ -0,0 +1,45 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.core.MetricsCenter;
+import seedu.address.model.BiDirectionalMap;
+import seedu.address.model.Model;
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.person.Person;
+
+/**
+ * Shows how many entries the app holds, how long each phase of the commands so far has taken and the heap usage.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_ENTITY_COUNTS = "%1$d students, %2$d lessons, %3$d tasks and %4$d links";
+
+    /**
+     * Returns the number of persons, lessons, tasks and links in {@code model}.
+     * The model must not change while this counts.
+     */
+    public static String getEntityCounts(Model model) {
+        requireNonNull(model);
+        // tasks and links are counted without creating the tasks of each lesson or the names of each link
+        int taskCount = 0;
+        for (Lesson lesson : model.getScheduleList().getLessonList()) {
+            taskCount += lesson.getTaskCount();
+        }
+        BiDirectionalMap<Person, Lesson> personLessonMap = model.getPersonLessonMap();
+        int linkCount = 0;
+        for (Person person : model.getAddressBook().getPersonList()) {
+            linkCount += personLessonMap.countLinked(person);
+        }
+        return String.format(MESSAGE_ENTITY_COUNTS, model.getAddressBook().getPersonList().size(),
+                model.getScheduleList().getLessonList().size(), taskCount, linkCount);
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        return new CommandResult(getEntityCounts(model) + "\n" + MetricsCenter.getReport());
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.logic.filter;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A composite predicate that is true for the entries that fulfill any of its predicates.
+ * When planned, the predicates that are cheap and accept the most entries are tested first.
+ */
+public class AnyOfPredicate<T> extends FilterPredicate<T> {
+    private final List<FilterPredicate<T>> predicates = new ArrayList<>();
+
+    @Override
+    public boolean test(T entry) {
+        for (FilterPredicate<T> predicate : predicates) {
+            if (predicate.test(entry)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void addPredicate(FilterPredicate<T> predicate) {
+        requireNonNull(predicate);
+        predicates.add(predicate);
+    }
+
+    public List<FilterPredicate<T>> getPredicates() {
+        return Collections.unmodifiableList(predicates);
+    }
+
+    @Override
+    Plan<T> plan(FilterPlanner<T> planner) {
+        List<Plan<T>> plans = new ArrayList<>();
+        for (FilterPredicate<T> predicate : predicates) {
+            plans.add(predicate.plan(planner));
+        }
+        // the expected cost is least when predicates are ordered by cost per accepted entry
+        plans.sort(Comparator.comparingDouble(plan -> plan.cost / Math.max(plan.selectivity, Double.MIN_VALUE)));
+
+        double cost = 0;
+        double rejected = 1;
+        boolean usesIndex = false;
+        for (Plan<T> plan : plans) {
+            cost += rejected * plan.cost;
+            rejected *= 1 - plan.selectivity;
+            usesIndex |= plan.usesIndex;
+        }
+        List<Predicate<T>> ordered = new ArrayList<>();
+        plans.forEach(plan -> ordered.add(plan.predicate));
+        return new Plan<>(entry -> {
+            for (Predicate<T> predicate : ordered) {
+                if (predicate.test(entry)) {
+                    return true;
+                }
+            }
+            return false;
+        }, cost, 1 - rejected, usesIndex);
+    }
+}
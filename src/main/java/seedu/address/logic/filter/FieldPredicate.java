@@ -0,0 +1,90 @@
+package seedu.address.logic.filter;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+
+/**
+ * A leaf of a filter query tree, which compares a field of an entry with a value.
+ * <p>
+ * Besides the predicate that checks an entry directly, a field predicate may know how to look its matches up in
+ * an index of the model, and how to count its matches from an index, which the planner prefers when available.
+ */
+public class FieldPredicate<T> extends FilterPredicate<T> {
+    private final String field;
+    private final FilterOperator operator;
+    private final Object value;
+    private final Predicate<T> scanPredicate;
+    private final Function<Model, Predicate<T>> indexLookup;
+    private final ToIntFunction<Model> indexCount;
+
+    /**
+     * Creates a field predicate that has no index and is checked with {@code scanPredicate}.
+     */
+    public FieldPredicate(String field, FilterOperator operator, Object value, Predicate<T> scanPredicate) {
+        this(field, operator, value, scanPredicate, null, null);
+    }
+
+    /**
+     * Creates a field predicate that is checked with {@code scanPredicate}, or with the predicate returned by
+     * {@code indexLookup} when planned, and whose matches are counted by {@code indexCount}.
+     * {@code indexLookup} and {@code indexCount} may be null if there is no such index.
+     */
+    public FieldPredicate(String field, FilterOperator operator, Object value, Predicate<T> scanPredicate,
+            Function<Model, Predicate<T>> indexLookup, ToIntFunction<Model> indexCount) {
+        requireAllNonNull(field, operator, value, scanPredicate);
+        this.field = field;
+        this.operator = operator;
+        this.value = value;
+        this.scanPredicate = scanPredicate;
+        this.indexLookup = indexLookup;
+        this.indexCount = indexCount;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public FilterOperator getOperator() {
+        return operator;
+    }
+
+    public Object getValue() {
+        return value;
+    }
+
+    public boolean hasIndex() {
+        return indexLookup != null;
+    }
+
+    @Override
+    public boolean test(T entry) {
+        requireNonNull(entry);
+        return scanPredicate.test(entry);
+    }
+
+    @Override
+    Plan<T> plan(FilterPlanner<T> planner) {
+        Predicate<T> predicate = hasIndex() ? indexLookup.apply(planner.getModel()) : scanPredicate;
+        double cost = hasIndex() ? FilterPlanner.INDEX_COST : operator.getScanCost();
+        double selectivity = indexCount != null
+                ? planner.getSelectivityOfCount(indexCount.applyAsInt(planner.getModel()))
+                : planner.estimateSelectivity(predicate);
+        return new Plan<>(predicate, cost, selectivity, hasIndex());
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("field", field)
+                .add("operator", operator)
+                .add("value", value)
+                .toString();
+    }
+}
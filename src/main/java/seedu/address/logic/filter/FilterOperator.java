@@ -0,0 +1,26 @@
+package seedu.address.logic.filter;
+
+/**
+ * Represents how a {@link FieldPredicate} compares a field of an entry with its value.
+ * Each operator has the relative cost of checking one entry without an index.
+ */
+public enum FilterOperator {
+    /** The field contains the value as a substring. */
+    CONTAINS(4),
+    /** The field, a group, has all of the values in the value. */
+    HAS_ALL(2),
+    /** The field is one of the values in the value. */
+    IS_ONE_OF(1),
+    /** The field is in the range that is the value. */
+    IN_RANGE(1);
+
+    private final int scanCost;
+
+    FilterOperator(int scanCost) {
+        this.scanCost = scanCost;
+    }
+
+    public int getScanCost() {
+        return scanCost;
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.logic.filter;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.Model;
+
+/**
+ * Plans a filter query tree over a list of entries into the predicate that is cheapest to test on average.
+ * <p>
+ * Field predicates with an index are looked up in the model's indexes, and the parts of each composite predicate
+ * are ordered by their cost and by their selectivity, which is counted from an index when possible and otherwise
+ * estimated from a sample of the entries. If no part of the tree uses an index and the list is large, the entries
+ * are tested in parallel up front, and the planned predicate looks the results up, testing only newer entries.
+ */
+public class FilterPlanner<T> {
+    static final double INDEX_COST = 0.5;
+    static final int SAMPLE_SIZE = 64;
+    static final int PARALLEL_SCAN_THRESHOLD = 10000;
+
+    private static final Logger logger = LogsCenter.getLogger(FilterPlanner.class);
+
+    private final Model model;
+    private final List<? extends T> entries;
+
+    /**
+     * Creates a planner for filtering {@code entries}, which are the entries of {@code model}.
+     */
+    public FilterPlanner(Model model, List<? extends T> entries) {
+        requireAllNonNull(model, entries);
+        this.model = model;
+        this.entries = entries;
+    }
+
+    /**
+     * Returns the predicate that is cheapest to test on average and is true for the same entries as {@code query}.
+     */
+    public Predicate<T> plan(FilterPredicate<T> query) {
+        Plan<T> plan = query.plan(this);
+        logger.fine(String.format("Planned filter with estimated cost %.2f and selectivity %.2f",
+                plan.cost, plan.selectivity));
+        if (plan.usesIndex || entries.size() < PARALLEL_SCAN_THRESHOLD) {
+            return plan.predicate;
+        }
+        return scanInParallel(plan.predicate);
+    }
+
+    Model getModel() {
+        return model;
+    }
+
+    /**
+     * Returns the fraction of the entries that {@code count} of them make up.
+     */
+    double getSelectivityOfCount(int count) {
+        return entries.isEmpty() ? 1 : (double) count / entries.size();
+    }
+
+    /**
+     * Returns the estimated fraction of the entries that fulfill {@code predicate}, from evenly spaced samples.
+     * The estimate is smoothed so that it is never exactly 0 or 1.
+     */
+    double estimateSelectivity(Predicate<T> predicate) {
+        int step = Math.max(1, entries.size() / SAMPLE_SIZE);
+        int sampled = 0;
+        int matched = 0;
+        for (int i = 0; i < entries.size(); i += step) {
+            sampled++;
+            if (predicate.test(entries.get(i))) {
+                matched++;
+            }
+        }
+        return (matched + 1.0) / (sampled + 2.0);
+    }
+
+    /**
+     * Tests every entry with {@code predicate} in parallel, and returns a predicate that looks the results up.
+     * Entries added later are tested when they are first looked up.
+     */
+    private Predicate<T> scanInParallel(Predicate<T> predicate) {
+        Map<T, Boolean> results = entries.parallelStream().collect(Collectors.toMap(
+                entry -> entry, predicate::test, (first, second) -> first, IdentityHashMap::new));
+        return entry -> {
+            Boolean result = results.get(entry);
+            return result != null ? result : predicate.test(entry);
+        };
+    }
+}
@@ -0,0 +1,17 @@
+package seedu.address.logic.filter;
+
+import java.util.function.Predicate;
+
+/**
+ * A node of a filter query tree over the entries of a list.
+ * <p>
+ * A tree can be tested directly, which tests its parts in the order they were added, or planned by a
+ * {@link FilterPlanner}, which uses the model's indexes and tests the parts in the order that is cheapest on average.
+ */
+public abstract class FilterPredicate<T> implements Predicate<T> {
+
+    /**
+     * Returns the plan of this node, with its parts planned by {@code planner}.
+     */
+    abstract Plan<T> plan(FilterPlanner<T> planner);
+}
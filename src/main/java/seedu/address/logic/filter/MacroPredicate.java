@@ -0,0 +1,66 @@
+package seedu.address.logic.filter;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A composite predicate that is true for the entries that fulfill all of its predicates.
+ * When planned, the predicates that are cheap and reject the most entries are tested first.
+ */
+public class MacroPredicate<T> extends FilterPredicate<T> {
+    private LinkedList<FilterPredicate<T>> predicates = new LinkedList<>();
+    @Override
+    public boolean test(T t) {
+        for (FilterPredicate<T> predicate : predicates) {
+            if (!predicate.test(t)) {
+                return false;
+            }
+        }
+        return true;
+    }
+    public void addPredicate(FilterPredicate<T> predicate) {
+        requireNonNull(predicate);
+        predicates.add(predicate);
+    }
+    public boolean isEmpty() {
+        return predicates.isEmpty();
+    }
+    public List<FilterPredicate<T>> getPredicates() {
+        return Collections.unmodifiableList(predicates);
+    }
+
+    @Override
+    Plan<T> plan(FilterPlanner<T> planner) {
+        List<Plan<T>> plans = new ArrayList<>();
+        for (FilterPredicate<T> predicate : predicates) {
+            plans.add(predicate.plan(planner));
+        }
+        // the expected cost is least when predicates are ordered by cost per rejected entry
+        plans.sort(Comparator.comparingDouble(plan -> plan.cost / Math.max(1 - plan.selectivity, Double.MIN_VALUE)));
+
+        double cost = 0;
+        double selectivity = 1;
+        boolean usesIndex = false;
+        for (Plan<T> plan : plans) {
+            cost += selectivity * plan.cost;
+            selectivity *= plan.selectivity;
+            usesIndex |= plan.usesIndex;
+        }
+        List<Predicate<T>> ordered = new ArrayList<>();
+        plans.forEach(plan -> ordered.add(plan.predicate));
+        return new Plan<>(entry -> {
+            for (Predicate<T> predicate : ordered) {
+                if (!predicate.test(entry)) {
+                    return false;
+                }
+            }
+            return true;
+        }, cost, selectivity, usesIndex);
+    }
+}
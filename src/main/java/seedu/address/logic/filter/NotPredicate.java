@@ -0,0 +1,33 @@
+package seedu.address.logic.filter;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A predicate that is true for the entries that do not fulfill its predicate.
+ */
+public class NotPredicate<T> extends FilterPredicate<T> {
+    private final FilterPredicate<T> predicate;
+
+    /**
+     * Creates a predicate that negates {@code predicate}.
+     */
+    public NotPredicate(FilterPredicate<T> predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+    }
+
+    public FilterPredicate<T> getPredicate() {
+        return predicate;
+    }
+
+    @Override
+    public boolean test(T entry) {
+        return !predicate.test(entry);
+    }
+
+    @Override
+    Plan<T> plan(FilterPlanner<T> planner) {
+        Plan<T> plan = predicate.plan(planner);
+        return new Plan<>(plan.predicate.negate(), plan.cost, 1 - plan.selectivity, plan.usesIndex);
+    }
+}
@@ -0,0 +1,21 @@
+package seedu.address.logic.filter;
+
+import java.util.function.Predicate;
+
+/**
+ * The plan of a {@link FilterPredicate}: the predicate to test entries with, the estimated cost of testing an entry,
+ * the estimated fraction of entries that pass, and whether the predicate uses an index.
+ */
+class Plan<T> {
+    final Predicate<T> predicate;
+    final double cost;
+    final double selectivity;
+    final boolean usesIndex;
+
+    Plan(Predicate<T> predicate, double cost, double selectivity, boolean usesIndex) {
+        this.predicate = predicate;
+        this.cost = cost;
+        this.selectivity = selectivity;
+        this.usesIndex = usesIndex;
+    }
+}
@@ -30,15 +30,16 @@ public class AddLessonCommandParser implements Parser<AddLessonCommand> {
      */
     public static Lesson parseLesson(String args, boolean nameIsOptional) throws ParseException {
         try {
+            ArgumentMap argumentMap = ArgumentTokenizer.tokenize(args);
             Lesson lesson = Lesson.getDefaultLesson();
-            lesson.setNameIfNotDefault(parseField("name", args, Name::of, nameIsOptional));
-            lesson.setSubjectIfNotDefault(parseField("subject", args, Subject::of));
-            lesson.setDayIfNotDefault(parseField("day", args, Day::of));
-            Time start = parseField("start", args, Time::of);
+            lesson.setNameIfNotDefault(parseField("name", argumentMap, Name::of, nameIsOptional));
+            lesson.setSubjectIfNotDefault(parseField("subject", argumentMap, Subject::of));
+            lesson.setDayIfNotDefault(parseField("day", argumentMap, Day::of));
+            Time start = parseField("start", argumentMap, Time::of);
             if (start == null) {
                 start = Time.DEFAULT_TIME;
             }
-            Time end = parseField("end", args, Time::of);
+            Time end = parseField("end", argumentMap, Time::of);
             if (end == null) {
                 end = Time.DEFAULT_TIME;
             }
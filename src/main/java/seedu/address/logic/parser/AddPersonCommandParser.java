@@ -35,14 +35,15 @@ public class AddPersonCommandParser implements Parser<AddPersonCommand> {
      */
     public static Person parsePerson(String args, boolean nameIsOptional) throws ParseException {
         try {
+            ArgumentMap argumentMap = ArgumentTokenizer.tokenize(args);
             Person person = Person.getDefaultPerson();
-            person.setNameIfNotDefault(parseField("name", args, Name::of, nameIsOptional));
-            person.setPhoneIfNotDefault(parseField("phone", args, Phone::of));
-            person.setEmailIfNotDefault(parseField("email", args, Email::of));
-            person.setAddressIfNotDefault(parseField("address", args, Address::of));
-            person.setSubjectsIfNotDefault(parseField("subject", args, Subjects::of));
-            person.setTagsIfNotDefault(parseField("tag", args, Tags::of));
-            person.setRemarkIfNotDefault(parseField("remark", args, Remark::of));
+            person.setNameIfNotDefault(parseField("name", argumentMap, Name::of, nameIsOptional));
+            person.setPhoneIfNotDefault(parseField("phone", argumentMap, Phone::of));
+            person.setEmailIfNotDefault(parseField("email", argumentMap, Email::of));
+            person.setAddressIfNotDefault(parseField("address", argumentMap, Address::of));
+            person.setSubjectsIfNotDefault(parseField("subject", argumentMap, Subjects::of));
+            person.setTagsIfNotDefault(parseField("tag", argumentMap, Tags::of));
+            person.setRemarkIfNotDefault(parseField("remark", argumentMap, Remark::of));
             return person;
         } catch (ParseException e) {
             throw new ParseException("Invalid person format: " + e.getMessage() + ". "
@@ -6,6 +6,8 @@ import static seedu.address.model.state.State.SCHEDULE;
 import static seedu.address.model.state.State.STUDENT;
 import static seedu.address.model.state.State.TASK;
 
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.logging.Logger;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -22,15 +24,20 @@ import seedu.address.logic.commands.DeleteTaskCommand;
 import seedu.address.logic.commands.EditLessonCommand;
 import seedu.address.logic.commands.EditPersonCommand;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ExportCommand;
 import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.ImportCommand;
 import seedu.address.logic.commands.LinkCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.NavigateCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.ShowCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
+import seedu.address.model.state.State;
 
 /**
  * Parses user input.
@@ -43,8 +50,35 @@ public class AddressBookParser {
     private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)\\s*(?<arguments>.*)");
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
     private final Model model;
+
+    // parsers keep no state between commands, so each is created once and reused
+    private final AddPersonCommandParser addPersonCommandParser = new AddPersonCommandParser();
+    private final EditPersonCommandParser editPersonCommandParser = new EditPersonCommandParser();
+    private final DeletePersonCommandParser deletePersonCommandParser = new DeletePersonCommandParser();
+    private final AddLessonCommandParser addLessonCommandParser = new AddLessonCommandParser();
+    private final EditLessonCommandParser editLessonCommandParser = new EditLessonCommandParser();
+    private final DeleteLessonCommandParser deleteLessonCommandParser = new DeleteLessonCommandParser();
+    private final AddTaskCommandParser addTaskCommandParser = new AddTaskCommandParser();
+    private final DeleteTaskCommandParser deleteTaskCommandParser = new DeleteTaskCommandParser();
+    private final ShowCommandParser showCommandParser = new ShowCommandParser();
+    private final FindCommandParser findCommandParser = new FindCommandParser();
+    private final ListCommandParser listCommandParser = new ListCommandParser();
+    private final LinkCommandParser linkCommandParser = new LinkCommandParser();
+    private final RunCommandParser runCommandParser = new RunCommandParser();
+    private final ImportCommandParser importCommandParser = new ImportCommandParser();
+    private final ExportCommandParser exportCommandParser = new ExportCommandParser();
+    private final LinkCommandParser statefulLinkCommandParser;
+    private final Map<State, FilterCommandParser> filterCommandParsers = new EnumMap<>(State.class);
+
+    /**
+     * Creates an {@code AddressBookParser} that parses commands in the current state of {@code model}.
+     */
     public AddressBookParser(Model model) {
         this.model = model;
+        this.statefulLinkCommandParser = new LinkCommandParser(model);
+        for (State state : State.values()) {
+            filterCommandParsers.put(state, new FilterCommandParser(state));
+        }
     }
 
     /**
@@ -107,52 +141,69 @@ public class AddressBookParser {
         switch (commandWord) {
 
         case AddPersonCommand.COMMAND_WORD:
-            return new AddPersonCommandParser().parse(arguments);
+            return addPersonCommandParser.parse(arguments);
         case EditPersonCommand.COMMAND_WORD:
-            return new EditPersonCommandParser().parse(arguments);
+            return editPersonCommandParser.parse(arguments);
         case DeletePersonCommand.COMMAND_WORD:
-            return new DeletePersonCommandParser().parse(arguments);
+            return deletePersonCommandParser.parse(arguments);
         case DeleteLessonCommand.COMMAND_WORD:
-            return new DeleteLessonCommandParser().parse(arguments);
+            return deleteLessonCommandParser.parse(arguments);
         case ShowCommand.COMMAND_WORD:
-            return new ShowCommandParser().parse(arguments);
+            return showCommandParser.parse(arguments);
         case ClearCommand.COMMAND_WORD:
             return new ClearCommand();
         case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
+            return findCommandParser.parse(arguments);
         case ListCommand.COMMAND_WORD:
-            return new ListCommandParser().parse(arguments);
+            return listCommandParser.parse(arguments);
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
         case HelpCommand.COMMAND_WORD:
             return new HelpCommand();
         case AddLessonCommand.COMMAND_WORD:
-            return new AddLessonCommandParser().parse(arguments);
+            return addLessonCommandParser.parse(arguments);
         case EditLessonCommand.COMMAND_WORD:
-            return new EditLessonCommandParser().parse(arguments);
+            return editLessonCommandParser.parse(arguments);
         case LinkCommand.STATEFUL_COMMAND_WORD:
-            return new LinkCommandParser(model).parse(arguments);
+            return statefulLinkCommandParser.parse(arguments);
         case LinkCommand.COMMAND_WORD:
-            return new LinkCommandParser().parse(arguments);
+            return linkCommandParser.parse(arguments);
         case AddTaskCommand.COMMAND_WORD:
             if (!model.sameState(SCHEDULE)) {
                 throw new ParseException("Please add tasks in the schedule list.");
             }
-            return new AddTaskCommandParser().parse(arguments);
+            return addTaskCommandParser.parse(arguments);
         case DeleteTaskCommand.COMMAND_WORD:
             if (!model.sameState(SCHEDULE)) {
                 throw new ParseException("Please delete tasks in the schedule list.");
             }
-            return new DeleteTaskCommandParser().parse(arguments);
+            return deleteTaskCommandParser.parse(arguments);
         case NavigateCommand.COMMAND_WORD:
         case "nav":
             return new NavigateCommand();
         case FilterCommand.COMMAND_WORD:
-            return new FilterCommandParser(model.getState()).parse(arguments);
+            return filterCommandParsers.get(model.getState()).parse(arguments);
+        case RunCommand.COMMAND_WORD:
+            return runCommandParser.parse(arguments);
+        case ImportCommand.COMMAND_WORD:
+            return importCommandParser.parse(arguments);
+        case ExportCommand.COMMAND_WORD:
+            return exportCommandParser.parse(arguments);
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand();
         default:
             logger.finer("This user input caused a ParseException: " + userInput);
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
     }
 
+    /**
+     * Returns the command word of {@code userInput} as it was typed, in lower case,
+     * or an empty string if {@code userInput} is blank.
+     */
+    public static String getCommandWord(String userInput) {
+        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
+        return matcher.lookingAt() ? matcher.group("commandWord").toLowerCase() : "";
+    }
+
 }
@@ -0,0 +1,66 @@
+package seedu.address.logic.parser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Stores the flags of an argument string and their values, as tokenized by {@link ArgumentTokenizer}.
+ * Only the first value of a repeated flag is kept; the flag is recorded as repeated instead.
+ * Every flag and its value is also kept in the order they appear, for arguments where order matters.
+ */
+public class ArgumentMap {
+    private final Map<String, String> flagValues = new HashMap<>();
+    private final Set<String> repeatedFlags = new HashSet<>();
+    private final List<Map.Entry<String, String>> arguments = new ArrayList<>();
+    private String preamble = "";
+
+    /**
+     * Records {@code value} as the value of {@code flag}, or marks {@code flag} as repeated if it already has one.
+     */
+    void put(String flag, String value) {
+        arguments.add(Map.entry(flag, value));
+        if (flagValues.containsKey(flag)) {
+            repeatedFlags.add(flag);
+            return;
+        }
+        flagValues.put(flag, value);
+    }
+
+    void setPreamble(String preamble) {
+        this.preamble = preamble;
+    }
+
+    /**
+     * Returns the trimmed value of {@code flag}, or null if the flag is not present.
+     */
+    public String getValue(String flag) {
+        return flagValues.get(flag);
+    }
+
+    public boolean hasFlag(String flag) {
+        return flagValues.containsKey(flag);
+    }
+
+    public boolean isRepeated(String flag) {
+        return repeatedFlags.contains(flag);
+    }
+
+    /**
+     * Returns every flag and its trimmed value, in the order they appear, including repeated flags.
+     */
+    public List<Map.Entry<String, String>> getArgumentsInOrder() {
+        return Collections.unmodifiableList(arguments);
+    }
+
+    /**
+     * Returns the trimmed text before the first flag.
+     */
+    public String getPreamble() {
+        return preamble;
+    }
+}
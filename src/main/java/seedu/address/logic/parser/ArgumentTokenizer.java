@@ -0,0 +1,56 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Tokenizes argument strings of the form {@code preamble -flag value -flag value ...} into an {@link ArgumentMap}.
+ * <p>
+ * A flag is a {@code -} followed by letters, at the start of the string or after whitespace.
+ * Its value is the text up to the next flag, so values may contain {@code -} elsewhere, e.g. {@code -remark A-level}.
+ * The string is scanned once, without regular expressions.
+ */
+public class ArgumentTokenizer {
+
+    /**
+     * Tokenizes {@code argsString} into its flags and their values.
+     */
+    public static ArgumentMap tokenize(String argsString) {
+        requireNonNull(argsString);
+        ArgumentMap argumentMap = new ArgumentMap();
+        int length = argsString.length();
+        String currentFlag = null;
+        int valueStart = 0;
+        int i = 0;
+        while (i < length) {
+            if (!isFlagStart(argsString, i)) {
+                i++;
+                continue;
+            }
+            record(argumentMap, currentFlag, argsString.substring(valueStart, i).trim());
+            int flagEnd = i + 1;
+            while (flagEnd < length && Character.isLetter(argsString.charAt(flagEnd))) {
+                flagEnd++;
+            }
+            currentFlag = argsString.substring(i + 1, flagEnd);
+            valueStart = flagEnd;
+            i = flagEnd;
+        }
+        record(argumentMap, currentFlag, argsString.substring(valueStart).trim());
+        return argumentMap;
+    }
+
+    private static boolean isFlagStart(String argsString, int index) {
+        return argsString.charAt(index) == '-'
+                && (index == 0 || Character.isWhitespace(argsString.charAt(index - 1)))
+                && index + 1 < argsString.length()
+                && Character.isLetter(argsString.charAt(index + 1));
+    }
+
+    private static void record(ArgumentMap argumentMap, String flag, String value) {
+        if (flag == null) {
+            argumentMap.setPreamble(value);
+        } else {
+            argumentMap.put(flag, value);
+        }
+    }
+}
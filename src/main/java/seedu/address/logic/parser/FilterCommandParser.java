@@ -2,12 +2,22 @@ package seedu.address.logic.parser;
 
 import static seedu.address.logic.parser.TypeParsingUtil.parseField;
 
-import seedu.address.logic.MacroPredicate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
 import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.commands.FilterLessonCommand;
 import seedu.address.logic.commands.FilterPersonCommand;
+import seedu.address.logic.filter.AnyOfPredicate;
+import seedu.address.logic.filter.FieldPredicate;
+import seedu.address.logic.filter.FilterOperator;
+import seedu.address.logic.filter.FilterPredicate;
+import seedu.address.logic.filter.MacroPredicate;
+import seedu.address.logic.filter.NotPredicate;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.lessons.Day;
+import seedu.address.model.lessons.DayRange;
 import seedu.address.model.lessons.Lesson;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
@@ -16,10 +26,14 @@ import seedu.address.model.person.Subjects;
 import seedu.address.model.person.Tags;
 import seedu.address.model.state.State;
 /**
- * Parses input arguments and creates a new FilterCommand object
+ * Parses input arguments and creates a new FilterCommand object.
+ * The fields given are combined into a filter query tree: {@code -not} before a field negates it, and {@code -or}
+ * separates groups of fields, of which an entry needs to match any one.
  */
 public class FilterCommandParser implements Parser<FilterCommand> {
     private static final String FILTER_NO_FIELDS_ERROR = "You must specify at least one unique field to filter!";
+    private static final String OR_FLAG = "or";
+    private static final String NOT_FLAG = "not";
     private final State state;
     /**
      * Creates a FilterCommandParser with the specified state.
@@ -29,68 +43,17 @@ public class FilterCommandParser implements Parser<FilterCommand> {
     }
     @Override
     public FilterCommand parse(String userInput) throws ParseException {
+        ArgumentMap argumentMap = ArgumentTokenizer.tokenize(userInput);
         if (state == State.STUDENT) {
             try {
-                MacroPredicate<Person> predicate = new MacroPredicate<>();
-                Name name = parseField("name", userInput, Name::of);
-                if (name != null) {
-                    predicate.addPredicate(person -> person.getName().contains(name));
-                }
-                Subjects subjects = parseField("subject", userInput, Subjects::of);
-                if (subjects != null) {
-                    predicate.addPredicate(person -> person.getSubjects().containAll(subjects));
-                }
-                Tags tags = parseField("tag", userInput, Tags::of);
-                if (tags != null) {
-                    predicate.addPredicate(person -> person.getTags().containAll(tags));
-                }
-                Remark remark = parseField("remark", userInput, Remark::of);
-                if (remark != null) {
-                    predicate.addPredicate(person -> person.getRemark().contains(remark));
-                }
-                if (predicate.isEmpty()) {
-                    throw new ParseException(FILTER_NO_FIELDS_ERROR);
-                }
-                return new FilterPersonCommand(predicate);
+                return new FilterPersonCommand(parseQuery(argumentMap, this::parsePersonGroup));
             } catch (ParseException e) {
                 throw new ParseException("Invalid filter format: " + e.getMessage() + ". "
                         + getFilterPersonUsageInfo());
             }
         } else if (state == State.SCHEDULE) {
             try {
-                MacroPredicate<Lesson> predicate = new MacroPredicate<>();
-                Name name = parseField("name", userInput, Name::of);
-                if (name != null) {
-                    predicate.addPredicate(lesson -> lesson.getName().contains(name));
-                }
-                Subjects subjects = parseField("subject", userInput, Subjects::of);
-
-                if (subjects != null) {
-                    predicate.addPredicate(lesson -> subjects.contains(lesson.getSubject()));
-                }
-                int count = 0;
-                Day before = parseField("before", userInput, Day::of);
-                if (before != null) {
-                    count += 1;
-                    predicate.addPredicate(lesson -> lesson.getDay().compareTo(before) < 0);
-                }
-                Day on = parseField("on", userInput, Day::of);
-                if (on != null) {
-                    count += 1;
-                    predicate.addPredicate(lesson -> lesson.getDay().equals(on));
-                }
-                Day after = parseField("after", userInput, Day::of);
-                if (after != null) {
-                    count += 1;
-                    predicate.addPredicate(lesson -> lesson.getDay().compareTo(after) > 0);
-                }
-                if (predicate.isEmpty()) {
-                    throw new ParseException(FILTER_NO_FIELDS_ERROR);
-                }
-                if (count > 1) {
-                    throw new ParseException("You can only use one of -before, -on, -after at a time");
-                }
-                return new FilterLessonCommand(predicate);
+                return new FilterLessonCommand(parseQuery(argumentMap, this::parseLessonGroup));
             } catch (ParseException e) {
                 throw new ParseException("Invalid filter format: " + e.getMessage() + ". "
                         + getFilterScheduleUsageInfo());
@@ -101,13 +64,195 @@ public class FilterCommandParser implements Parser<FilterCommand> {
             throw new ParseException("Filter cannot be used in this state!");
         }
     }
+
+    private MacroPredicate<Person> parsePersonGroup(FilterGroup group) throws ParseException {
+        MacroPredicate<Person> predicate = new MacroPredicate<>();
+        addPersonFields(predicate, group.arguments, false);
+        addPersonFields(predicate, group.negatedArguments, true);
+        if (predicate.isEmpty()) {
+            throw new ParseException(FILTER_NO_FIELDS_ERROR);
+        }
+        return predicate;
+    }
+
+    private void addPersonFields(MacroPredicate<Person> predicate, ArgumentMap argumentMap, boolean isNegated)
+            throws ParseException {
+        Name name = parseField("name", argumentMap, Name::of);
+        if (name != null) {
+            addField(predicate, isNegated, new FieldPredicate<>("name", FilterOperator.CONTAINS, name,
+                    person -> person.getName().contains(name),
+                    model -> model.getPersonNameContainsPredicate(name.fullName), null));
+        }
+        Subjects subjects = parseField("subject", argumentMap, Subjects::of);
+        if (subjects != null) {
+            addField(predicate, isNegated, new FieldPredicate<>("subject", FilterOperator.HAS_ALL, subjects,
+                    person -> person.getSubjects().containAll(subjects),
+                    model -> model.getPersonHasAllPredicate(subjects, new Tags()), null));
+        }
+        Tags tags = parseField("tag", argumentMap, Tags::of);
+        if (tags != null) {
+            addField(predicate, isNegated, new FieldPredicate<>("tag", FilterOperator.HAS_ALL, tags,
+                    person -> person.getTags().containAll(tags),
+                    model -> model.getPersonHasAllPredicate(new Subjects(), tags), null));
+        }
+        Remark remark = parseField("remark", argumentMap, Remark::of);
+        if (remark != null) {
+            addField(predicate, isNegated, new FieldPredicate<>("remark", FilterOperator.CONTAINS, remark,
+                    person -> person.getRemark().contains(remark)));
+        }
+    }
+
+    private MacroPredicate<Lesson> parseLessonGroup(FilterGroup group) throws ParseException {
+        MacroPredicate<Lesson> predicate = new MacroPredicate<>();
+        int dayFieldCount = addLessonFields(predicate, group.arguments, false)
+                + addLessonFields(predicate, group.negatedArguments, true);
+        if (predicate.isEmpty()) {
+            throw new ParseException(FILTER_NO_FIELDS_ERROR);
+        }
+        if (dayFieldCount > 1) {
+            throw new ParseException("You can only use one of -before, -on, -after at a time");
+        }
+        return predicate;
+    }
+
+    /**
+     * Adds the lesson fields in {@code argumentMap} to {@code predicate}, and returns how many of them are days.
+     */
+    private int addLessonFields(MacroPredicate<Lesson> predicate, ArgumentMap argumentMap, boolean isNegated)
+            throws ParseException {
+        Name name = parseField("name", argumentMap, Name::of);
+        if (name != null) {
+            addField(predicate, isNegated, new FieldPredicate<>("name", FilterOperator.CONTAINS, name,
+                    lesson -> lesson.getName().contains(name),
+                    model -> model.getLessonNameContainsPredicate(name.fullName), null));
+        }
+        Subjects subjects = parseField("subject", argumentMap, Subjects::of);
+        if (subjects != null) {
+            addField(predicate, isNegated, new FieldPredicate<>("subject", FilterOperator.IS_ONE_OF, subjects,
+                    lesson -> subjects.contains(lesson.getSubject())));
+        }
+        int count = 0;
+        Day before = parseField("before", argumentMap, Day::of);
+        if (before != null) {
+            count += 1;
+            addField(predicate, isNegated, dayRangePredicate(DayRange.before(before)));
+        }
+        Day on = parseField("on", argumentMap, Day::of);
+        if (on != null) {
+            count += 1;
+            addField(predicate, isNegated, dayRangePredicate(DayRange.on(on)));
+        }
+        Day after = parseField("after", argumentMap, Day::of);
+        if (after != null) {
+            count += 1;
+            addField(predicate, isNegated, dayRangePredicate(DayRange.after(after)));
+        }
+        return count;
+    }
+
+    private static <T> void addField(MacroPredicate<T> predicate, boolean isNegated, FilterPredicate<T> field) {
+        predicate.addPredicate(isNegated ? new NotPredicate<>(field) : field);
+    }
+
+    /**
+     * Returns the predicate for the lessons in {@code range}, which are counted from the sorted schedule.
+     */
+    private static FieldPredicate<Lesson> dayRangePredicate(DayRange range) {
+        return new FieldPredicate<>("day", FilterOperator.IN_RANGE, range, range,
+                null, model -> model.getLessonsIn(range).size());
+    }
+
+    /**
+     * Parses the groups of fields in {@code argumentMap} with {@code groupParser}, and returns a predicate that is
+     * true for the entries that match any group.
+     */
+    private static <T> FilterPredicate<T> parseQuery(ArgumentMap argumentMap, GroupParser<T> groupParser)
+            throws ParseException {
+        List<FilterGroup> groups = splitGroups(argumentMap);
+        if (groups.size() == 1) {
+            return groupParser.parse(groups.get(0));
+        }
+        AnyOfPredicate<T> predicate = new AnyOfPredicate<>();
+        for (FilterGroup group : groups) {
+            predicate.addPredicate(groupParser.parse(group));
+        }
+        return predicate;
+    }
+
+    /**
+     * Splits the flags in {@code argumentMap} into the groups separated by {@code -or}, noting the fields negated by
+     * {@code -not}.
+     */
+    private static List<FilterGroup> splitGroups(ArgumentMap argumentMap) throws ParseException {
+        List<FilterGroup> groups = new ArrayList<>();
+        FilterGroup group = new FilterGroup();
+        boolean isNegated = false;
+        for (Map.Entry<String, String> argument : argumentMap.getArgumentsInOrder()) {
+            String flag = argument.getKey();
+            boolean isOperator = flag.equals(OR_FLAG) || flag.equals(NOT_FLAG);
+            if (isOperator && !argument.getValue().isEmpty()) {
+                throw new ParseException("-" + flag + " should be followed by another flag, not "
+                        + argument.getValue());
+            }
+            if (isOperator && isNegated) {
+                throw new ParseException("-not should be followed by a field");
+            }
+            if (flag.equals(OR_FLAG)) {
+                if (group.isEmpty()) {
+                    throw new ParseException("-or should be between two groups of fields");
+                }
+                groups.add(group);
+                group = new FilterGroup();
+            } else if (flag.equals(NOT_FLAG)) {
+                isNegated = true;
+            } else {
+                group.add(flag, argument.getValue(), isNegated);
+                isNegated = false;
+            }
+        }
+        if (isNegated) {
+            throw new ParseException("-not should be followed by a field");
+        }
+        if (group.isEmpty() && !groups.isEmpty()) {
+            throw new ParseException("-or should be between two groups of fields");
+        }
+        groups.add(group);
+        return groups;
+    }
+
     public String getFilterPersonUsageInfo() {
         return "\nUsage: filter (any number of unique -[name|subject|tag|remark] [value]). "
-                + "\nFor example, filter -name John -subject physics,english";
+                + "\nPut -not before a field to exclude it, and -or between groups of fields to match any group. "
+                + "\nFor example, filter -name John -subject physics,english -or -not -tag sec4";
     }
     public String getFilterScheduleUsageInfo() {
         return "\nUsage: filter -(at least one of unique [-name|subject|before|on|after VALUE]). "
-                + "\nFor example, filter -before 2023/10/10 -subject physics"
-                + "\nNote you should only use one of -before, -on, -after at a time.";
+                + "\nPut -not before a field to exclude it, and -or between groups of fields to match any group. "
+                + "\nFor example, filter -before 2023/10/10 -subject physics -or -not -name tutorial"
+                + "\nNote you should only use one of -before, -on, -after at a time in each group.";
+    }
+
+    /**
+     * Parses a group of fields into a predicate that is true for the entries matching all of them.
+     */
+    @FunctionalInterface
+    private interface GroupParser<T> {
+        MacroPredicate<T> parse(FilterGroup group) throws ParseException;
+    }
+
+    /**
+     * The fields of a group between {@code -or} flags, with the fields negated by {@code -not} kept apart.
+     */
+    private static class FilterGroup {
+        private final ArgumentMap arguments = new ArgumentMap();
+        private final ArgumentMap negatedArguments = new ArgumentMap();
+
+        void add(String flag, String value, boolean isNegated) {
+            (isNegated ? negatedArguments : arguments).put(flag, value);
+        }
+
+        boolean isEmpty() {
+            return arguments.getArgumentsInOrder().isEmpty() && negatedArguments.getArgumentsInOrder().isEmpty();
+        }
     }
 }
@@ -63,8 +63,9 @@ public class LinkCommandParser implements Parser<LinkCommand> {
     }
     private LinkCommand staticParse(String args) throws ParseException {
         try {
-            Name studentName = parseField("student", args, Name::of, false);
-            Name lessonName = parseField("lesson", args, Name::of, false);
+            ArgumentMap argumentMap = ArgumentTokenizer.tokenize(args);
+            Name studentName = parseField("student", argumentMap, Name::of, false);
+            Name lessonName = parseField("lesson", argumentMap, Name::of, false);
             return new LinkCommand(lessonName, studentName);
         } catch (ParseException e) {
             throw new ParseException(e.getMessage() + "\n" + getStaticUsageInfo());
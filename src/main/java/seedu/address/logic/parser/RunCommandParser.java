@@ -0,0 +1,32 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+
+import seedu.address.logic.commands.RunCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RunCommand object
+ */
+public class RunCommandParser implements Parser<RunCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RunCommand
+     * and returns a RunCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RunCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+        }
+        try {
+            return new RunCommand(Paths.get(trimmedArgs));
+        } catch (InvalidPathException ipe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE), ipe);
+        }
+    }
+}
@@ -16,6 +16,14 @@ import seedu.address.model.util.Of;
  * Contains utility methods used for parsing strings into various desirable values, and validating them.
  */
 public class TypeParsingUtil {
+    private static final Pattern VALID_INDEX_PATTERN = Pattern.compile(STARTING_WITH_ONE_TO_FIVE_DIGITS);
+    private static final Pattern TOO_MANY_DIGITS_PATTERN =
+            Pattern.compile(RegularExpressionUtil.STARTING_WITH_MORE_THAN_FIVE_DIGITS);
+    private static final Pattern NEGATIVE_NUMBER_PATTERN =
+            Pattern.compile(RegularExpressionUtil.STARTING_WITH_NEGATIVE_NUMBER);
+    private static final Pattern DECIMAL_OR_DIVISION_PATTERN =
+            Pattern.compile(RegularExpressionUtil.ABUSING_INDEX_WITH_DECIMAL_OR_DIVISION);
+
     /**
      * Parses the number from the input string
      * @param input the input string where the flag is to be parsed from
@@ -53,23 +61,26 @@ public class TypeParsingUtil {
      * @throws RepeatedFlagException if more than one flag is found
      */
     public static String parseFlag(String flag, String input, boolean isOptional) throws ParseException {
-        Pattern p = Pattern.compile("-" + flag + "\\s*([\\w-:,._/@#$%&! ]*)");
-        Matcher m = p.matcher(input);
-        if (m.find()) {
-            String flagValue = m.group(1).trim();
-            if (input.indexOf("-" + flag) != input.lastIndexOf("-" + flag)) {
-                throw new RepeatedFlagException("Flag " + flag + " is repeated");
-            }
-            if (flagValue.contains(" -")) {
-                flagValue = flagValue.substring(0, flagValue.indexOf(" -"));
-            }
-            return flagValue;
-        } else {
-            if (isOptional) {
-                return null;
-            }
+        return parseFlag(flag, ArgumentTokenizer.tokenize(input), isOptional);
+    }
+
+    /**
+     * Parses the flag from the tokenized input
+     * @param flag the flag to parse
+     * @param argumentMap the tokenized input where the flag is to be parsed from
+     * @return the string after the flag
+     * @throws FlagNotFoundException if the flag is not found
+     * @throws RepeatedFlagException if more than one flag is found
+     */
+    public static String parseFlag(String flag, ArgumentMap argumentMap, boolean isOptional) throws ParseException {
+        if (argumentMap.isRepeated(flag)) {
+            throw new RepeatedFlagException("Flag " + flag + " is repeated");
+        }
+        String flagValue = argumentMap.getValue(flag);
+        if (flagValue == null && !isOptional) {
             throw new FlagNotFoundException("Flag " + flag + " not found");
         }
+        return flagValue;
     }
     public static String parseFlag(String flag, String input) throws ParseException {
         return parseFlag(flag, input, false);
@@ -79,15 +90,10 @@ public class TypeParsingUtil {
      * Parses the index from the input string
      */
     public static Integer parseIndex(String input, boolean isOptional) throws ParseException {
-        Pattern validIndexPattern = Pattern.compile(STARTING_WITH_ONE_TO_FIVE_DIGITS);
-        Pattern tooManyNumberPattern = Pattern.compile(RegularExpressionUtil.STARTING_WITH_MORE_THAN_FIVE_DIGITS);
-        Pattern negativeNumberPattern = Pattern.compile(RegularExpressionUtil.STARTING_WITH_NEGATIVE_NUMBER);
-        Pattern decimalOrDivisionPattern = Pattern
-                .compile(RegularExpressionUtil.ABUSING_INDEX_WITH_DECIMAL_OR_DIVISION);
-        Matcher indexMatcher = validIndexPattern.matcher(input);
-        if (decimalOrDivisionPattern.matcher(input).find()) {
+        Matcher indexMatcher = VALID_INDEX_PATTERN.matcher(input);
+        if (DECIMAL_OR_DIVISION_PATTERN.matcher(input).find()) {
             throw new InvalidInputException("Index input cannot be a decimal or fraction, allowed range: 1-99999.");
-        } else if (tooManyNumberPattern.matcher(input).find()) {
+        } else if (TOO_MANY_DIGITS_PATTERN.matcher(input).find()) {
             throw new InvalidInputException("Index input is too large(allowed range: 1-99999) "
                     + "or exceeds five digits(starting zeros included)");
         } else if (indexMatcher.find()) {
@@ -98,7 +104,7 @@ public class TypeParsingUtil {
             } else {
                 return ans;
             }
-        } else if (negativeNumberPattern.matcher(input).find()) {
+        } else if (NEGATIVE_NUMBER_PATTERN.matcher(input).find()) {
             throw new InvalidInputException("Index cannot be negative, allowed range: 1-99999");
         } else {
             if (isOptional) {
@@ -115,7 +121,21 @@ public class TypeParsingUtil {
                                                           String input,
                                                           Of<T> of,
                                                           boolean isOptional) throws ParseException {
-        String result = parseFlag(flagName, input, isOptional);
+        return parseField(flagName, ArgumentTokenizer.tokenize(input), of, isOptional);
+    }
+    public static <T extends ListEntryField> T parseField(String flagName,
+                                                          String input, Of<T> of) throws ParseException {
+        return parseField(flagName, input, of, true);
+    }
+
+    /**
+     * Parses the flag's value from the tokenized input
+     */
+    public static <T extends ListEntryField> T parseField(String flagName,
+                                                          ArgumentMap argumentMap,
+                                                          Of<T> of,
+                                                          boolean isOptional) throws ParseException {
+        String result = parseFlag(flagName, argumentMap, isOptional);
         if (result == null) {
             return null;
         } else {
@@ -127,7 +147,7 @@ public class TypeParsingUtil {
         }
     }
     public static <T extends ListEntryField> T parseField(String flagName,
-                                                          String input, Of<T> of) throws ParseException {
-        return parseField(flagName, input, of, true);
+                                                          ArgumentMap argumentMap, Of<T> of) throws ParseException {
+        return parseField(flagName, argumentMap, of, true);
     }
 }
@@ -1,14 +1,19 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Subjects;
+import seedu.address.model.person.Tags;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -77,11 +82,42 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.hasPersonClashWith(person);
     }
 
+    /**
+     * Returns a copy of the person with the given name, or null if there is no such person.
+     */
+    public Person getPersonWithName(Name name) {
+        requireNonNull(name);
+        return persons.getPersonWithName(name);
+    }
+
+    /**
+     * Returns the person with the given id, or null if there is no such person.
+     */
+    public Person getPersonById(long id) {
+        return persons.getPersonById(id);
+    }
+
     public Set<Person> getPersonsFulfill(Predicate<Person> predicate) {
         requireNonNull(predicate);
         return persons.getPersonsFulfill(predicate);
     }
 
+    /**
+     * Returns a predicate that is true for the persons whose name contains {@code substring}, ignoring case.
+     */
+    public Predicate<Person> getPersonNameContainsPredicate(String substring) {
+        requireNonNull(substring);
+        return persons.getNameContainsPredicate(substring);
+    }
+
+    /**
+     * Returns a predicate that is true for the persons having all of {@code subjects} and {@code tags}.
+     */
+    public Predicate<Person> getPersonHasAllPredicate(Subjects subjects, Tags tags) {
+        requireAllNonNull(subjects, tags);
+        return persons.getHasAllPredicate(subjects, tags);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
@@ -90,6 +126,13 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.add(p);
     }
 
+    /**
+     * Adds the persons whose names are not already taken to the address book, and returns the persons not added.
+     */
+    public List<Person> addPersons(Collection<Person> persons) {
+        return this.persons.addAll(persons);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
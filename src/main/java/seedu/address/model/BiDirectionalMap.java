@@ -2,175 +2,402 @@ package seedu.address.model;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import seedu.address.commons.util.FileUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Name;
 
 /**
  * Represents a map where each key is mapped to a set of values, and each value is mapped back to its keys.
+ * <p>
+ * Keys and values are identified by their {@link ListEntry#getId() ids}, so links survive renames, and the map only
+ * keeps the names of its entries to show them. Each id is given a slot on its side of the map, and the links of each
+ * slot are kept as a sorted array of the slots it is linked to on the other side. The arrays are never changed in
+ * place, so they can be shared between copies. A slot is released as soon as it has no links left, and is reused for
+ * the next new id.
+ * <p>
+ * The map is saved as the ids of the linked entries, so the names of a map that has been read back are unknown until
+ * it is {@link #resolve(Iterable, Iterable) resolved} against the entries. Maps saved before entries had ids refer to
+ * entries by name instead, and those links are kept aside until they are resolved in the same way.
  */
 public class BiDirectionalMap<T extends ListEntry<T>, P extends ListEntry<P>> {
-    private final Map<Name, HashSet<Name>> forwardMap = new HashMap<>();
-    private final Map<Name, HashSet<Name>> reverseMap = new HashMap<>();
+    /** Marks an entry saved by its id rather than by its name, which cannot contain it. */
+    public static final String ID_PREFIX = "#";
+
+    private static final int[] NO_LINKS = new int[0];
+    private static final String NAME_DELIMITER = ", ";
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<HashMap<String, HashSet<String>>> LINK_MAP_TYPE =
+            new TypeReference<HashMap<String, HashSet<String>>>() {};
+
+    private final Side keys;
+    private final Side values;
+    private final Map<String, Set<String>> unresolvedLinks;
+
+    public BiDirectionalMap() {
+        this(new Side(), new Side(), new HashMap<>());
+    }
+
+    private BiDirectionalMap(Side keys, Side values, Map<String, Set<String>> unresolvedLinks) {
+        this.keys = keys;
+        this.values = values;
+        this.unresolvedLinks = unresolvedLinks;
+    }
 
     /**
      * Adds a key-value pair and its reverse to the map
      */
     public void addMapping(T t, P p) {
-        forwardMap.putIfAbsent(t.getName(), new HashSet<>());
-        forwardMap.get(t.getName()).add(p.getName());
-        reverseMap.putIfAbsent(p.getName(), new HashSet<>());
-        reverseMap.get(p.getName()).add(t.getName());
+        link(t.getId(), t.getName(), p.getId(), p.getName());
+    }
+
+    private void link(long keyId, Name keyName, long valueId, Name valueName) {
+        int keySlot = keys.intern(keyId, keyName);
+        int valueSlot = values.intern(valueId, valueName);
+        keys.link(keySlot, valueSlot);
+        values.link(valueSlot, keySlot);
     }
 
     /**
      * Removes a key-value pair and its reverse from the map
      */
     public void removeMapping(T t, P p) {
-        forwardMap.get(t.getName()).remove(p.getName());
-        reverseMap.get(p.getName()).remove(t.getName());
+        int keySlot = keys.slotOf(t.getId());
+        int valueSlot = values.slotOf(p.getId());
+        if (keySlot < 0 || valueSlot < 0) {
+            return;
+        }
+        keys.unlink(keySlot, valueSlot);
+        values.unlink(valueSlot, keySlot);
+        keys.releaseIfUnlinked(keySlot);
+        values.releaseIfUnlinked(valueSlot);
     }
 
     /**
      * Returns the value associated with the key
      */
     public Name[] get(T t) {
-        if (!forwardMap.containsKey(t.getName())) {
-            return new Name[0];
-        }
-        return forwardMap.get(t.getName()).toArray(new Name[0]);
+        return keys.linkedNames(keys.slotOf(t.getId()), values);
     }
 
     /**
      * Returns the key associated with the value
      */
     public Name[] getReversed(P p) {
-        if (!reverseMap.containsKey(p.getName())) {
-            return new Name[0];
-        }
-        return reverseMap.get(p.getName()).toArray(new Name[0]);
+        return values.linkedNames(values.slotOf(p.getId()), keys);
+    }
+
+    /**
+     * Returns the number of values associated with the key.
+     */
+    public int countLinked(T t) {
+        return keys.linkCount(keys.slotOf(t.getId()));
+    }
+
+    /**
+     * Returns the number of keys associated with the value.
+     */
+    public int countLinkedReversed(P p) {
+        return values.linkCount(values.slotOf(p.getId()));
+    }
+
+    /**
+     * Returns true if the key is associated with the value.
+     */
+    public boolean isLinked(T t, P p) {
+        int keySlot = keys.slotOf(t.getId());
+        int valueSlot = values.slotOf(p.getId());
+        return keySlot >= 0 && valueSlot >= 0 && Arrays.binarySearch(keys.links.get(keySlot), valueSlot) >= 0;
+    }
+
+    /**
+     * Performs {@code action} on the name of each value associated with the key, without copying them.
+     */
+    public void forEachLinked(T t, Consumer<? super Name> action) {
+        keys.forEachLinkedName(keys.slotOf(t.getId()), values, action);
+    }
+
+    /**
+     * Performs {@code action} on the name of each key associated with the value, without copying them.
+     */
+    public void forEachLinkedReversed(P p, Consumer<? super Name> action) {
+        values.forEachLinkedName(values.slotOf(p.getId()), keys, action);
+    }
+
+    /**
+     * Returns the names of the values associated with the key separated by commas, or an empty string if there are
+     * none. The string is kept until the links of the key or the names of its values change.
+     */
+    public String joinLinked(T t) {
+        return keys.joinedNames(keys.slotOf(t.getId()), values);
+    }
+
+    /**
+     * Returns the names of the keys associated with the value separated by commas, or an empty string if there are
+     * none. The string is kept until the links of the value or the names of its keys change.
+     */
+    public String joinLinkedReversed(P p) {
+        return values.joinedNames(values.slotOf(p.getId()), keys);
     }
 
     /**
      * Delete a key and update its associated values from the map
      */
     public void remove(T t) {
-        Name[] names = get(t);
-        for (Name name : names) {
-            reverseMap.get(name).remove(t.getName());
-        }
-        if (forwardMap.containsKey(t.getName())) {
-            forwardMap.get(t.getName()).clear();
-        }
+        removeAll(keys, values, keys.slotOf(t.getId()));
     }
 
     /**
      * Delete a value and update its associated keys from the map
      */
     public void removeReverse(P p) {
-        Name[] names = getReversed(p);
-        for (Name name : names) {
-            forwardMap.get(name).remove(p.getName());
+        removeAll(values, keys, values.slotOf(p.getId()));
+    }
+
+    private static void removeAll(Side side, Side other, int slot) {
+        if (slot < 0) {
+            return;
         }
-        if (reverseMap.containsKey(p.getName())) {
-            reverseMap.get(p.getName()).clear();
+        for (int otherSlot : side.links.get(slot)) {
+            other.unlink(otherSlot, slot);
+            other.releaseIfUnlinked(otherSlot);
         }
+        side.setLinks(slot, NO_LINKS);
+        side.releaseIfUnlinked(slot);
     }
+
     /**
-     * When there is a name change to the key, this method should be called to update the map
+     * When there is a change to the key, this method should be called to update the map.
+     * A key that keeps its id keeps its links, and only the name shown for it changes.
      */
     public void update(T tOld, T tNew) {
-        if (tOld.equals(tNew)) {
+        replace(keys, values, tOld.getId(), tNew.getId(), tNew.getName());
+    }
+
+    /**
+     * When there is a change to the value, this method should be called to update the map.
+     * A value that keeps its id keeps its links, and only the name shown for it changes.
+     */
+    public void updateReverse(P pOld, P pNew) {
+        replace(values, keys, pOld.getId(), pNew.getId(), pNew.getName());
+    }
+
+    /**
+     * Updates the name shown for the key to its current name, such as after it is edited.
+     */
+    public void refresh(T t) {
+        update(t, t);
+    }
+
+    /**
+     * Updates the name shown for the value to its current name, such as after it is edited.
+     */
+    public void refreshReverse(P p) {
+        updateReverse(p, p);
+    }
+
+    /**
+     * Moves the links of {@code oldId} to {@code newId} and shows them under {@code newName}.
+     * If {@code newId} already has links of its own, the links of {@code oldId} are merged into them.
+     */
+    private static void replace(Side side, Side other, long oldId, long newId, Name newName) {
+        int slot = side.slotOf(oldId);
+        if (slot < 0) {
+            return;
+        }
+        int existingSlot = side.slotOf(newId);
+        if (existingSlot < 0 || existingSlot == slot) {
+            side.reassign(slot, newId, newName, other);
             return;
         }
-        Name[] names = get(tOld);
-        remove(tOld);
-        for (Name name : names) {
-            reverseMap.get(name).add(tNew.getName());
+        for (int otherSlot : side.links.get(slot)) {
+            other.unlink(otherSlot, slot);
+            other.link(otherSlot, existingSlot);
+            side.link(existingSlot, otherSlot);
         }
+        side.setLinks(slot, NO_LINKS);
+        side.releaseIfUnlinked(slot);
+        side.reassign(existingSlot, newId, newName, other);
+    }
 
-        // update the forward map
-        forwardMap.put(tNew.getName(), convertArrayToHashSet(names));
+    /**
+     * Looks up the entries of this map among {@code keyEntries} and {@code valueEntries}, so that the current names
+     * of the entries are shown and links saved by name are linked by id.
+     * Links to entries that are not found and whose names are unknown are dropped.
+     */
+    public void resolve(Iterable<? extends T> keyEntries, Iterable<? extends P> valueEntries) {
+        Map<Long, T> keysById = new HashMap<>();
+        Map<String, T> keysByName = new HashMap<>();
+        keyEntries.forEach(t -> {
+            keysById.put(t.getId(), t);
+            keysByName.put(Side.nameKeyOf(t.getName()), t);
+        });
+        Map<Long, P> valuesById = new HashMap<>();
+        Map<String, P> valuesByName = new HashMap<>();
+        valueEntries.forEach(p -> {
+            valuesById.put(p.getId(), p);
+            valuesByName.put(Side.nameKeyOf(p.getName()), p);
+        });
+
+        resolveSide(keys, values, keysById);
+        resolveSide(values, keys, valuesById);
+        unresolvedLinks.forEach((keyRef, valueRefs) -> {
+            T t = find(keyRef, keysById, keysByName);
+            for (String valueRef : valueRefs) {
+                P p = find(valueRef, valuesById, valuesByName);
+                if (t != null && p != null) {
+                    addMapping(t, p);
+                }
+            }
+        });
+        unresolvedLinks.clear();
     }
 
-    public <R> HashSet<R> convertArrayToHashSet(R[] list) {
-        return new HashSet<>(Arrays.asList(list));
+    private static void resolveSide(Side side, Side other, Map<Long, ? extends ListEntry<?>> entriesById) {
+        for (int slot = 0; slot < side.names.size(); slot++) {
+            if (side.isReleased(slot)) {
+                continue;
+            }
+            ListEntry<?> entry = entriesById.get(side.ids[slot]);
+            if (entry != null) {
+                side.reassign(slot, entry.getId(), entry.getName(), other);
+            } else if (side.names.get(slot) == null) {
+                removeAll(side, other, slot);
+            }
+        }
     }
 
-    /**
-     * When there is a name change to the value, this method should be called to update the map
-     */
-    public void updateReverse(P pOld, P pNew) {
-        Name[] names = getReversed(pOld);
-        removeReverse(pOld);
-        for (Name name : names) {
-            forwardMap.get(name).add(pNew.getName());
+    private static <E> E find(String ref, Map<Long, E> byId, Map<String, E> byName) {
+        if (ref.startsWith(ID_PREFIX)) {
+            try {
+                return byId.get(Long.parseLong(ref.substring(ID_PREFIX.length())));
+            } catch (NumberFormatException e) {
+                return null;
+            }
         }
+        return byName.get(ref.toLowerCase());
+    }
 
-        // update the reverse map
-        reverseMap.put(pNew.getName(), convertArrayToHashSet(names));
+    /**
+     * Returns a copy of this map that is not affected by later changes to this map.
+     */
+    public BiDirectionalMap<T, P> copy() {
+        Map<String, Set<String>> unresolvedCopy = new HashMap<>();
+        unresolvedLinks.forEach((key, refs) -> unresolvedCopy.put(key, new HashSet<>(refs)));
+        return new BiDirectionalMap<>(keys.copy(), values.copy(), unresolvedCopy);
     }
 
     /**
      * Saves a BiDirectionalMap to a json file
      */
     public void saveTo(Path p) {
-        HashMap<String, HashSet<String>> names = new HashMap<>();
-        for (Name name : forwardMap.keySet()) {
-            HashSet<String> strings = new HashSet<>();
-            for (Name name1 : forwardMap.get(name)) {
-                strings.add(name1.toString());
-            }
-            names.put(name.toString(), strings);
-        }
-        ObjectMapper objectMapper = new ObjectMapper();
         try {
-            objectMapper.writeValue(p.toFile(), names);
+            writeTo(p);
         } catch (IOException e) {
             Logger.getGlobal().warning("Failed to save BiDirectionalMap " + e.getMessage());
         }
     }
 
+    /**
+     * Saves a BiDirectionalMap to a json file, creating its folder if it is missing.
+     * @throws IOException if the file could not be written
+     */
+    public void writeTo(Path p) throws IOException {
+        HashMap<String, HashSet<String>> links = toLinkMap();
+        FileUtil.createParentDirsOfFile(p);
+        FileUtil.writeToFile(p, OBJECT_MAPPER.writeValueAsString(links));
+    }
+
     /**
      * Reads a BiDirectionalMap from a file
      */
     public static <T extends ListEntry<T>,
             P extends ListEntry<P>> BiDirectionalMap<T, P> readFrom(Path p) throws ParseException {
-        BiDirectionalMap<T, P> m = new BiDirectionalMap<>();
-        ObjectMapper objectMapper = new ObjectMapper();
-        TypeReference<HashMap<String, HashSet<String>>> typeRef;
-        typeRef = new TypeReference<HashMap<String, HashSet<String>>>() {};
         HashMap<String, HashSet<String>> data;
         try {
-            data = objectMapper.readValue(p.toFile(), typeRef);
+            data = OBJECT_MAPPER.readValue(FileUtil.readFromFile(p), LINK_MAP_TYPE);
         } catch (IOException e) {
             Logger.getGlobal().warning("Failed to read BiDirectionalMap " + e.getMessage());
             return new BiDirectionalMap<>();
         }
-        for (String name : data.keySet()) {
-            HashSet<Name> names = new HashSet<>();
-            for (String name1 : data.get(name)) {
-                names.add(new Name(name1));
+        return fromLinkMap(data);
+    }
+
+    /**
+     * Returns the forward mappings of this map, with each entry as its id after {@link #ID_PREFIX}.
+     * Links that have not been resolved yet are included as they were read.
+     */
+    public HashMap<String, HashSet<String>> toLinkMap() {
+        HashMap<String, HashSet<String>> links = new HashMap<>();
+        for (int slot = 0; slot < keys.names.size(); slot++) {
+            if (keys.isReleased(slot)) {
+                continue;
+            }
+            HashSet<String> refs = new HashSet<>();
+            for (int valueSlot : keys.links.get(slot)) {
+                refs.add(ID_PREFIX + values.ids[valueSlot]);
             }
-            m.forwardMap.put(new Name(name), names);
+            links.put(ID_PREFIX + keys.ids[slot], refs);
         }
-        for (Name name : m.forwardMap.keySet()) {
-            for (Name name1 : m.forwardMap.get(name)) {
-                m.reverseMap.putIfAbsent(name1, new HashSet<>());
-                m.reverseMap.get(name1).add(name);
+        unresolvedLinks.forEach((key, refs) -> links.computeIfAbsent(key, k -> new HashSet<>()).addAll(refs));
+        return links;
+    }
+
+    /**
+     * Creates a BiDirectionalMap from forward mappings in the format returned by {@link #toLinkMap()}.
+     * Entries may also be given by name, as they were saved before entries had ids, in which case their links are
+     * kept aside until the map is resolved.
+     * @throws ParseException if an entry is neither a valid id nor a valid name.
+     */
+    public static <T extends ListEntry<T>,
+            P extends ListEntry<P>> BiDirectionalMap<T, P> fromLinkMap(Map<String, ? extends Set<String>> data)
+            throws ParseException {
+        BiDirectionalMap<T, P> m = new BiDirectionalMap<>();
+        for (String key : data.keySet()) {
+            Long keyId = parseRef(key);
+            boolean isAllIds = keyId != null;
+            for (String value : data.get(key)) {
+                isAllIds &= parseRef(value) != null;
+            }
+            if (!isAllIds) {
+                m.unresolvedLinks.computeIfAbsent(key, k -> new HashSet<>()).addAll(data.get(key));
+                continue;
+            }
+            for (String value : data.get(key)) {
+                m.link(keyId, null, parseRef(value), null);
             }
         }
         return m;
     }
 
+    /**
+     * Returns the id that {@code ref} refers to, or null if it refers to an entry by name.
+     * @throws ParseException if {@code ref} is neither a valid id nor a valid name.
+     */
+    private static Long parseRef(String ref) throws ParseException {
+        if (!ref.startsWith(ID_PREFIX)) {
+            Name.of(ref);
+            return null;
+        }
+        try {
+            return Long.parseLong(ref.substring(ID_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            throw new ParseException("Invalid entry id: " + ref);
+        }
+    }
+
     /**
      * Faciliates comparison when testing.
      * @param o the other object to compare with
@@ -185,6 +412,197 @@ public class BiDirectionalMap<T extends ListEntry<T>, P extends ListEntry<P>> {
             return false;
         }
         BiDirectionalMap<?, ?> other = (BiDirectionalMap<?, ?>) o;
-        return forwardMap.equals(other.forwardMap) && reverseMap.equals(other.reverseMap);
+        return toLinkMap().equals(other.toLinkMap());
+    }
+
+    /**
+     * The entries on one side of the map, with the slots each entry is linked to on the other side.
+     * Lists are indexed by slot, and the name of an entry is null until it is known.
+     */
+    private static class Side {
+        private final Map<Long, Integer> slots;
+        private long[] ids;
+        private final ArrayList<Name> names;
+        private final ArrayList<int[]> links;
+        private final ArrayList<String> joinedNames;
+        private final BitSet releasedSlots;
+
+        Side() {
+            this(new HashMap<>(), new long[0], new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new BitSet());
+        }
+
+        private Side(Map<Long, Integer> slots, long[] ids, ArrayList<Name> names, ArrayList<int[]> links,
+                     ArrayList<String> joinedNames, BitSet releasedSlots) {
+            this.slots = slots;
+            this.ids = ids;
+            this.names = names;
+            this.links = links;
+            this.joinedNames = joinedNames;
+            this.releasedSlots = releasedSlots;
+        }
+
+        static String nameKeyOf(Name name) {
+            return name.fullName.toLowerCase();
+        }
+
+        int slotOf(long id) {
+            Integer slot = slots.get(id);
+            return slot == null ? -1 : slot;
+        }
+
+        boolean isReleased(int slot) {
+            return releasedSlots.get(slot);
+        }
+
+        /**
+         * Returns the slot of {@code id}, giving it one if it has none.
+         * A null {@code name} does not replace the name already known for the id.
+         */
+        int intern(long id, Name name) {
+            Integer existingSlot = slots.get(id);
+            if (existingSlot != null) {
+                if (name != null && names.get(existingSlot) == null) {
+                    names.set(existingSlot, name);
+                }
+                return existingSlot;
+            }
+            int slot = releasedSlots.nextSetBit(0);
+            if (slot < 0) {
+                slot = names.size();
+                if (slot == ids.length) {
+                    ids = Arrays.copyOf(ids, Math.max(8, slot * 2));
+                }
+                names.add(name);
+                links.add(NO_LINKS);
+                joinedNames.add(null);
+            } else {
+                releasedSlots.clear(slot);
+                names.set(slot, name);
+                links.set(slot, NO_LINKS);
+                joinedNames.set(slot, null);
+            }
+            ids[slot] = id;
+            slots.put(id, slot);
+            return slot;
+        }
+
+        /**
+         * Gives {@code slot} to {@code id} under {@code name}, and forgets the names joined from it on the other side.
+         */
+        void reassign(int slot, long id, Name name, Side other) {
+            if (ids[slot] != id) {
+                slots.remove(ids[slot]);
+                slots.put(id, slot);
+                ids[slot] = id;
+            }
+            Name oldName = names.get(slot);
+            if (oldName != null && oldName.fullName.equals(name.fullName)) {
+                return;
+            }
+            names.set(slot, name);
+            for (int otherSlot : links.get(slot)) {
+                other.joinedNames.set(otherSlot, null);
+            }
+        }
+
+        void releaseIfUnlinked(int slot) {
+            if (links.get(slot).length > 0) {
+                return;
+            }
+            slots.remove(ids[slot]);
+            names.set(slot, null);
+            joinedNames.set(slot, null);
+            releasedSlots.set(slot);
+        }
+
+        void setLinks(int slot, int[] otherSlots) {
+            links.set(slot, otherSlots);
+            joinedNames.set(slot, null);
+        }
+
+        void link(int slot, int otherSlot) {
+            int[] otherSlots = links.get(slot);
+            int position = Arrays.binarySearch(otherSlots, otherSlot);
+            if (position >= 0) {
+                return;
+            }
+            position = -position - 1;
+            int[] linked = new int[otherSlots.length + 1];
+            System.arraycopy(otherSlots, 0, linked, 0, position);
+            linked[position] = otherSlot;
+            System.arraycopy(otherSlots, position, linked, position + 1, otherSlots.length - position);
+            setLinks(slot, linked);
+        }
+
+        void unlink(int slot, int otherSlot) {
+            int[] otherSlots = links.get(slot);
+            int position = Arrays.binarySearch(otherSlots, otherSlot);
+            if (position < 0) {
+                return;
+            }
+            if (otherSlots.length == 1) {
+                setLinks(slot, NO_LINKS);
+                return;
+            }
+            int[] linked = new int[otherSlots.length - 1];
+            System.arraycopy(otherSlots, 0, linked, 0, position);
+            System.arraycopy(otherSlots, position + 1, linked, position, linked.length - position);
+            setLinks(slot, linked);
+        }
+
+        int linkCount(int slot) {
+            return slot < 0 ? 0 : links.get(slot).length;
+        }
+
+        Name[] linkedNames(int slot, Side other) {
+            if (slot < 0) {
+                return new Name[0];
+            }
+            ArrayList<Name> linked = new ArrayList<>(links.get(slot).length);
+            forEachLinkedName(slot, other, linked::add);
+            return linked.toArray(new Name[0]);
+        }
+
+        /**
+         * Performs {@code action} on the known names of the entries linked to {@code slot}.
+         */
+        void forEachLinkedName(int slot, Side other, Consumer<? super Name> action) {
+            if (slot < 0) {
+                return;
+            }
+            for (int otherSlot : links.get(slot)) {
+                Name name = other.names.get(otherSlot);
+                if (name != null) {
+                    action.accept(name);
+                }
+            }
+        }
+
+        String joinedNames(int slot, Side other) {
+            if (slot < 0) {
+                return "";
+            }
+            String joined = joinedNames.get(slot);
+            if (joined == null) {
+                StringBuilder builder = new StringBuilder();
+                forEachLinkedName(slot, other, name -> {
+                    if (builder.length() > 0) {
+                        builder.append(NAME_DELIMITER);
+                    }
+                    builder.append(name);
+                });
+                joined = builder.toString();
+                joinedNames.set(slot, joined);
+            }
+            return joined;
+        }
+
+        /**
+         * Returns a copy of this side. The link arrays are shared, as they are replaced rather than changed.
+         */
+        Side copy() {
+            return new Side(new HashMap<>(slots), ids.clone(), new ArrayList<>(names), new ArrayList<>(links),
+                    new ArrayList<>(joinedNames), (BitSet) releasedSlots.clone());
+        }
     }
 }
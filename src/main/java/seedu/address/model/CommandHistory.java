@@ -4,7 +4,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 
 /**
- * Represents the command history of the app
+ * Represents the command history of the app.
+ * <p>
+ * The history is stepped through on the UI thread while commands are added to it by the thread executing them,
+ * so its methods are synchronized.
  */
 public class CommandHistory {
 
@@ -34,7 +37,7 @@ public class CommandHistory {
      *
      * @return String of previous command
      */
-    public String prev() {
+    public synchronized String prev() {
         if (commands.size() == 0) {
             return "";
         }
@@ -49,7 +52,7 @@ public class CommandHistory {
      *
      * @return String of next command
      */
-    public String next() {
+    public synchronized String next() {
         if (commands.size() == 0) {
             return "";
         }
@@ -67,7 +70,7 @@ public class CommandHistory {
      *
      * @param commandText String of new command
      */
-    public void add(String commandText) {
+    public synchronized void add(String commandText) {
         commands.add(commandText);
         id = commands.size();
     }
@@ -76,7 +79,7 @@ public class CommandHistory {
      * Change the index of command history
      * @param index New index
      */
-    public void changeIndex(int index) {
+    public synchronized void changeIndex(int index) {
         id = index;
     }
 
@@ -1,12 +1,19 @@
 package seedu.address.model;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import seedu.address.model.lessons.Lesson;
 import seedu.address.model.lessons.Task;
 
 /**
  * Wraps all tasks
+ * <p>
+ * The tasks are kept in the order of their lessons and follow changes to the lesson list and to each lesson's tasks,
+ * applying only the tasks that changed. The tasks are first gathered when the list is first requested.
  */
 public class FullTaskList implements ReadOnlyFullTaskList {
     private ObservableList<Lesson> lessonList;
@@ -14,30 +21,188 @@ public class FullTaskList implements ReadOnlyFullTaskList {
     private final ObservableList<Task> internalUnmodifiableFullTaskList =
             FXCollections.unmodifiableObservableList(fullTaskList);
 
+    // the lessons whose tasks are in the full task list, in the same order as the lesson list
+    private final List<TrackedLesson> trackedLessons = new ArrayList<>();
+    private final ListChangeListener<Lesson> lessonListListener = this::onLessonListChanged;
+    private boolean isTracking = false;
+
 
     public FullTaskList() {
     }
 
 
+    /**
+     * Sets the schedule whose tasks are in this list.
+     * Setting the same schedule again only applies changes that this list could not observe.
+     */
     public void setFullTaskList(ReadOnlySchedule scheduleList) {
-        this.lessonList = scheduleList.getLessonList();
-        refreshFullTaskList();
+        ObservableList<Lesson> newLessonList = scheduleList.getLessonList();
+        if (newLessonList == lessonList) {
+            refreshFullTaskList();
+            return;
+        }
+        boolean wasTracking = isTracking;
+        stopTracking();
+        this.lessonList = newLessonList;
+        if (wasTracking) {
+            startTracking();
+        }
     }
 
     /**
      * Refreshes the Full Task List.
+     * Only lessons whose task list was replaced without a change to the lesson list are updated.
      */
     public void refreshFullTaskList() {
-        fullTaskList.clear();
-        for (Lesson lesson : lessonList) {
-            ObservableList<Task> tasks = lesson.getTaskList().asUnmodifiableObservableList();
-            fullTaskList.addAll(tasks);
+        if (!isTracking) {
+            return;
+        }
+        int offset = 0;
+        for (int i = 0; i < trackedLessons.size(); i++) {
+            TrackedLesson trackedLesson = trackedLessons.get(i);
+            ObservableList<Task> currentTasks = trackedLesson.lesson.getTaskList().asUnmodifiableObservableList();
+            if (currentTasks != trackedLesson.tasks) {
+                trackedLesson.unsubscribe();
+                fullTaskList.remove(offset, offset + trackedLesson.size);
+                trackedLesson = new TrackedLesson(trackedLesson.lesson);
+                trackedLessons.set(i, trackedLesson);
+                fullTaskList.addAll(offset, trackedLesson.tasks);
+            }
+            offset += trackedLesson.size;
         }
     }
 
     public ObservableList<Task> getFullTaskList() {
+        if (!isTracking) {
+            startTracking();
+        }
         return fullTaskList;
     }
 
+    private void startTracking() {
+        if (lessonList == null) {
+            return;
+        }
+        List<Task> tasks = new ArrayList<>();
+        for (Lesson lesson : lessonList) {
+            TrackedLesson trackedLesson = new TrackedLesson(lesson);
+            trackedLessons.add(trackedLesson);
+            tasks.addAll(trackedLesson.tasks);
+        }
+        lessonList.addListener(lessonListListener);
+        isTracking = true;
+        fullTaskList.setAll(tasks);
+    }
 
+    private void stopTracking() {
+        if (!isTracking) {
+            return;
+        }
+        lessonList.removeListener(lessonListListener);
+        trackedLessons.forEach(TrackedLesson::unsubscribe);
+        trackedLessons.clear();
+        isTracking = false;
+    }
+
+    /**
+     * Returns the position in the full task list of the first task of the lesson at {@code lessonIndex}.
+     */
+    private int offsetOf(int lessonIndex) {
+        int offset = 0;
+        for (int i = 0; i < lessonIndex; i++) {
+            offset += trackedLessons.get(i).size;
+        }
+        return offset;
+    }
+
+    private void onLessonListChanged(ListChangeListener.Change<? extends Lesson> change) {
+        while (change.next()) {
+            int from = change.getFrom();
+            int offset = offsetOf(from);
+            if (change.wasPermutated()) {
+                // the permutated lessons keep their tasks, which are put back in the new order
+                int to = change.getTo();
+                List<TrackedLesson> permutated = new ArrayList<>(trackedLessons.subList(from, to));
+                int permutatedTaskCount = 0;
+                for (int i = from; i < to; i++) {
+                    trackedLessons.set(change.getPermutation(i), permutated.get(i - from));
+                    permutatedTaskCount += permutated.get(i - from).size;
+                }
+                List<Task> tasks = new ArrayList<>(permutatedTaskCount);
+                for (int i = from; i < to; i++) {
+                    tasks.addAll(trackedLessons.get(i).tasks);
+                }
+                fullTaskList.remove(offset, offset + permutatedTaskCount);
+                fullTaskList.addAll(offset, tasks);
+                continue;
+            }
+            if (change.wasRemoved()) {
+                List<TrackedLesson> removed = trackedLessons.subList(from, from + change.getRemovedSize());
+                int removedTaskCount = 0;
+                for (TrackedLesson trackedLesson : removed) {
+                    trackedLesson.unsubscribe();
+                    removedTaskCount += trackedLesson.size;
+                }
+                removed.clear();
+                fullTaskList.remove(offset, offset + removedTaskCount);
+            }
+            if (change.wasAdded()) {
+                List<TrackedLesson> added = new ArrayList<>();
+                List<Task> addedTasks = new ArrayList<>();
+                for (Lesson lesson : change.getAddedSubList()) {
+                    TrackedLesson trackedLesson = new TrackedLesson(lesson);
+                    added.add(trackedLesson);
+                    addedTasks.addAll(trackedLesson.tasks);
+                }
+                trackedLessons.addAll(from, added);
+                fullTaskList.addAll(offset, addedTasks);
+            }
+        }
+    }
+
+    /**
+     * A lesson whose tasks are in the full task list, together with the listener that follows its task list.
+     */
+    private class TrackedLesson {
+        private final Lesson lesson;
+        private final ObservableList<Task> tasks;
+        private final ListChangeListener<Task> listener = this::onTasksChanged;
+        // the number of tasks of this lesson in the full task list
+        private int size;
+
+        TrackedLesson(Lesson lesson) {
+            this.lesson = lesson;
+            this.tasks = lesson.getTaskList().asUnmodifiableObservableList();
+            this.size = tasks.size();
+            tasks.addListener(listener);
+        }
+
+        void unsubscribe() {
+            tasks.removeListener(listener);
+        }
+
+        private void onTasksChanged(ListChangeListener.Change<? extends Task> change) {
+            int offset = offsetOf(trackedLessons.indexOf(this));
+            while (change.next()) {
+                int from = offset + change.getFrom();
+                if (change.wasPermutated()) {
+                    for (int i = change.getFrom(); i < change.getTo(); i++) {
+                        fullTaskList.set(offset + i, tasks.get(i));
+                    }
+                } else if (change.wasReplaced() && change.getRemovedSize() == change.getAddedSize()) {
+                    for (int i = 0; i < change.getAddedSize(); i++) {
+                        fullTaskList.set(from + i, change.getAddedSubList().get(i));
+                    }
+                } else {
+                    if (change.wasRemoved()) {
+                        fullTaskList.remove(from, from + change.getRemovedSize());
+                    }
+                    if (change.wasAdded()) {
+                        fullTaskList.addAll(from, change.getAddedSubList());
+                    }
+                }
+                size += change.getAddedSize() - change.getRemovedSize();
+            }
+        }
+    }
 }
@@ -1,12 +1,45 @@
 package seedu.address.model;
 
+import java.util.concurrent.atomic.AtomicLong;
+
 import seedu.address.model.person.Name;
 
 /**
  * Represents a ListEntry that is in the left list of the application and could be shown in the right
+ * <p>
+ * Each entry has a numeric id that never changes. A clone keeps the id of the entry it is cloned from, so an edited
+ * entry is still identified with the original, and a new entry gets an id that no other entry has been given.
  */
 public abstract class ListEntry<T> {
+    private static final AtomicLong nextId = new AtomicLong(1);
+
     protected Name name = Name.DEFAULT_NAME;
+    private final long id;
+
+    protected ListEntry() {
+        this(newId());
+    }
+
+    /**
+     * Creates an entry with the given {@code id}, such as one read from storage.
+     * Ids given to new entries afterwards are greater than {@code id}.
+     */
+    protected ListEntry(long id) {
+        this.id = id;
+        nextId.accumulateAndGet(id + 1, Math::max);
+    }
+
+    /**
+     * Returns an id that no entry has been given yet.
+     */
+    protected static long newId() {
+        return nextId.getAndIncrement();
+    }
+
+    public long getId() {
+        return id;
+    }
+
     public Name getName() {
         return name;
     }
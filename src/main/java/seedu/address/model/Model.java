@@ -1,15 +1,21 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.lessons.DayRange;
 import seedu.address.model.lessons.Lesson;
 import seedu.address.model.lessons.Task;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Subjects;
+import seedu.address.model.person.Tags;
 import seedu.address.model.state.State;
 import seedu.address.ui.Ui;
 
@@ -105,6 +111,12 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds the given persons at once, skipping those whose names are already taken.
+     * Returns the persons that were not added.
+     */
+    List<Person> addPersons(Collection<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -134,8 +146,32 @@ public interface Model {
     boolean hasLessonClashWith(Lesson lesson);
     public Set<Lesson> getLessonsFulfill(Predicate<Lesson> predicate);
 
+    /**
+     * Returns a predicate that is true for the lessons whose name contains {@code substring}, ignoring case.
+     * The predicate looks the lessons up in an index of their names instead of checking each name.
+     */
+    Predicate<Lesson> getLessonNameContainsPredicate(String substring);
+
+    /**
+     * Returns a view of the lessons on the days in {@code range}, in order, such as the lessons of today.
+     * The lessons are found by binary search on the sorted schedule, and the view must not be used after the
+     * schedule changes.
+     */
+    List<Lesson> getLessonsIn(DayRange range);
+
     Lesson getLessonClashWith(Lesson lesson);
 
+    /**
+     * Returns the lesson with the given id, or null if there is no such lesson.
+     * The lesson is looked up in an index of the ids, and is the one in the schedule list rather than a copy.
+     */
+    Lesson getLessonById(long id);
+
+    /**
+     * Returns the lesson with the given name, or null if there is no such lesson.
+     */
+    Lesson getLessonWithName(Name name);
+
     /**
      * Deletes the given lesson.
      * The lesson must exist in the schedule list.
@@ -154,6 +190,13 @@ public interface Model {
      */
     void addLesson(Lesson lesson);
 
+    /**
+     * Adds the given lessons at once, skipping those that clash with a lesson in the schedule list
+     * or with a lesson added before them.
+     * Returns the lessons that were not added.
+     */
+    List<Lesson> addLessons(Collection<Lesson> lessons);
+
     /**
      * Replaces the given lesson {@code target} with {@code editedLesson}.
      * {@code target} must exist in the schedule list.
@@ -223,13 +266,37 @@ public interface Model {
     int getTaskClashWith(Task task, int index);
     Boolean hasPersonClashWith(Person person);
     Person getPersonClashWith(Person person);
+
+    /**
+     * Returns a copy of the person with the given name, or null if there is no such person.
+     */
+    Person getPersonWithName(Name name);
+
+    /**
+     * Returns the person with the given id, or null if there is no such person.
+     * The person is looked up in an index of the ids, and is the one in the address book rather than a copy.
+     */
+    Person getPersonById(long id);
     public Set<Person> getPersonsFulfill(Predicate<Person> predicate);
+
+    /**
+     * Returns a predicate that is true for the persons whose name contains {@code substring}, ignoring case.
+     * The predicate looks the persons up in an index of their names instead of checking each name.
+     */
+    Predicate<Person> getPersonNameContainsPredicate(String substring);
+
+    /**
+     * Returns a predicate that is true for the persons having all of {@code subjects} and {@code tags}.
+     * The predicate intersects bitmap indexes of the subjects and tags instead of checking each person.
+     */
+    Predicate<Person> getPersonHasAllPredicate(Subjects subjects, Tags tags);
     default BiDirectionalMap<Person, Lesson> getPersonLessonMap() {
         return null;
     }
 
     void linkWith(Person person, Lesson lesson);
     void unLinkWith(Person person, Lesson lesson);
+    boolean isLinkedWith(Person person, Lesson lesson);
     String getLinkedPersonNameStr(Lesson lesson);
     String getLinkedLessonNameStr(Person person);
     Name[] getLinkedWith(Person person);
@@ -238,4 +305,44 @@ public interface Model {
     public void addCommandHistory(String commandText);
     public String getNextCommandHistory();
     public String getPrevCommandHistory();
+
+    /**
+     * Returns true if the address book has changed since the last call to {@link #clearModifiedFlags()}.
+     */
+    boolean isAddressBookModified();
+
+    /**
+     * Returns true if the schedule list has changed since the last call to {@link #clearModifiedFlags()}.
+     */
+    boolean isScheduleListModified();
+
+    /**
+     * Returns true if the person to lesson map may have changed since the last call to {@link #clearModifiedFlags()}.
+     */
+    boolean isPersonLessonMapModified();
+
+    /**
+     * Marks the given data as changed, so that it is saved even if no command changes it,
+     * e.g. when it was not loaded from storage. Data whose argument is false keeps its current flag.
+     */
+    void markModified(boolean isAddressBookModified, boolean isScheduleListModified,
+                      boolean isPersonLessonMapModified);
+
+    /**
+     * Marks all data as unchanged, typically after it has been handed over to storage.
+     */
+    void clearModifiedFlags();
+
+    /**
+     * Returns a copy of this model, with its own copies of the persons, lessons and links, that is in the same state
+     * and shows the same entries. Changes to the copy do not affect this model, and the copy is not linked to any ui.
+     */
+    Model copy();
+
+    /**
+     * Returns the lock that guards the data of this model. Commands hold its write lock while they change the model,
+     * so code on another thread must hold its read lock while reading the model to see it in a consistent state.
+     * The model does not take the lock itself.
+     */
+    ReadWriteLock getLock();
 }
@@ -4,19 +4,27 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
-import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.lessons.DayRange;
 import seedu.address.model.lessons.Lesson;
 import seedu.address.model.lessons.Task;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Subjects;
+import seedu.address.model.person.Tags;
 import seedu.address.model.state.State;
 import seedu.address.ui.Ui;
 
@@ -30,6 +38,7 @@ public class ModelManager implements Model {
     private final ScheduleList scheduleList;
 
     private final FullTaskList fullTaskList;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
     private final FilteredList<Lesson> filteredLessons;
@@ -42,6 +51,11 @@ public class ModelManager implements Model {
     private BiDirectionalMap<Person, Lesson> personToLessonMap;
     private CommandHistory commandHistory;
 
+    // Tracks which data has changed since it was last saved, so that unchanged data is not written again
+    private boolean isAddressBookModified = false;
+    private boolean isScheduleListModified = false;
+    private boolean isPersonLessonMapModified = false;
+
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
@@ -57,9 +71,17 @@ public class ModelManager implements Model {
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
         filteredLessons = new FilteredList<>(this.scheduleList.getLessonList());
         this.fullTaskList = new FullTaskList();
-        this.fullTaskList.setFullTaskList(scheduleList);
+        this.fullTaskList.setFullTaskList(this.scheduleList);
         personToLessonMap = new BiDirectionalMap<>();
         commandHistory = new CommandHistory();
+
+        // the person to lesson map is keyed by ids, so it only changes when links are added or removed
+        this.addressBook.getPersonList().addListener((ListChangeListener<Person>) change -> {
+            isAddressBookModified = true;
+        });
+        this.scheduleList.getLessonList().addListener((ListChangeListener<Lesson>) change -> {
+            isScheduleListModified = true;
+        });
     }
 
     /**
@@ -73,16 +95,43 @@ public class ModelManager implements Model {
                         ReadOnlySchedule scheduleList, BiDirectionalMap<Person, Lesson> map) {
         this(addressBook, userPrefs, scheduleList);
         personToLessonMap = map;
+        personToLessonMap.resolve(this.addressBook.getPersonList(), this.scheduleList.getLessonList());
     }
 
     public ModelManager() {
         this(new AddressBook(), new UserPrefs(), new ScheduleList());
     }
 
+    @Override
+    public Model copy() {
+        AddressBook addressBookCopy = new AddressBook();
+        addressBookCopy.setPersons(addressBook.getPersonList().stream().map(Person::clone)
+                .collect(Collectors.toList()));
+        ScheduleList scheduleListCopy = new ScheduleList();
+        scheduleListCopy.setLessons(scheduleList.getLessonList().stream().map(Lesson::clone)
+                .collect(Collectors.toList()));
+        ModelManager copy = new ModelManager(addressBookCopy, userPrefs, scheduleListCopy, personToLessonMap.copy());
+        copy.state = state;
+        copy.currentShowingPerson = currentShowingPerson == null
+                ? null : copy.getPersonById(currentShowingPerson.getId());
+        copy.currentShowingLesson = currentShowingLesson == null
+                ? null : copy.getLessonById(currentShowingLesson.getId());
+        // tasks cannot be changed, so the copied lessons share them with this model
+        copy.currentShowingTask = currentShowingTask;
+        return copy;
+    }
+
+    @Override
+    public ReadWriteLock getLock() {
+        return lock;
+    }
+
     //=========== PersonToLessonMap ==================================================================================
     @Override
     public void setPersonToLessonMap(BiDirectionalMap<Person, Lesson> map) {
         this.personToLessonMap = map;
+        personToLessonMap.resolve(addressBook.getPersonList(), scheduleList.getLessonList());
+        isPersonLessonMapModified = true;
     }
 
     //=========== UserPrefs ==================================================================================
@@ -157,9 +206,18 @@ public class ModelManager implements Model {
 
     public Person getPersonClashWith(Person person) {
         requireNonNull(person);
-        Set<Person> persons = addressBook.getPersonsFulfill(p -> p.hasSameName(person));
-        assert persons.size() <= 1;
-        return persons.stream().findFirst().orElse(null);
+        return addressBook.getPersonWithName(person.getName());
+    }
+
+    @Override
+    public Person getPersonWithName(Name name) {
+        requireNonNull(name);
+        return addressBook.getPersonWithName(name);
+    }
+
+    @Override
+    public Person getPersonById(long id) {
+        return addressBook.getPersonById(id);
     }
 
     public Set<Person> getPersonsFulfill(Predicate<Person> predicate) {
@@ -167,10 +225,23 @@ public class ModelManager implements Model {
         return addressBook.getPersonsFulfill(predicate);
     }
 
+    @Override
+    public Predicate<Person> getPersonNameContainsPredicate(String substring) {
+        requireNonNull(substring);
+        return addressBook.getPersonNameContainsPredicate(substring);
+    }
+
+    @Override
+    public Predicate<Person> getPersonHasAllPredicate(Subjects subjects, Tags tags) {
+        requireAllNonNull(subjects, tags);
+        return addressBook.getPersonHasAllPredicate(subjects, tags);
+    }
+
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
         personToLessonMap.remove(target);
+        isPersonLessonMapModified = true;
     }
 
     @Override
@@ -182,7 +253,17 @@ public class ModelManager implements Model {
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
+        // an edited person is added back with the id of the original, which keeps its links
+        personToLessonMap.refresh(person);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    @Override
+    public List<Person> addPersons(Collection<Person> persons) {
+        requireNonNull(persons);
+        List<Person> rejected = addressBook.addPersons(persons);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        return rejected;
     }
 
     @Override
@@ -243,15 +324,39 @@ public class ModelManager implements Model {
         requireNonNull(lesson);
         return scheduleList.getLessonClashWith(lesson);
     }
+    @Override
+    public Lesson getLessonById(long id) {
+        return scheduleList.getLessonById(id);
+    }
+
+    @Override
+    public Lesson getLessonWithName(Name name) {
+        requireNonNull(name);
+        return scheduleList.getLessonWithName(name);
+    }
+
     public Set<Lesson> getLessonsFulfill(Predicate<Lesson> predicate) {
         requireNonNull(predicate);
         return scheduleList.getLessonsFulfill(predicate);
     }
 
+    @Override
+    public Predicate<Lesson> getLessonNameContainsPredicate(String substring) {
+        requireNonNull(substring);
+        return scheduleList.getLessonNameContainsPredicate(substring);
+    }
+
+    @Override
+    public List<Lesson> getLessonsIn(DayRange range) {
+        requireNonNull(range);
+        return scheduleList.getLessonsIn(range);
+    }
+
     @Override
     public void deleteLesson(Lesson target) {
         scheduleList.removeLesson(target);
         personToLessonMap.removeReverse(target);
+        isPersonLessonMapModified = true;
     }
 
     @Override
@@ -262,9 +367,17 @@ public class ModelManager implements Model {
     @Override
     public void addLesson(Lesson lesson) {
         scheduleList.addLesson(lesson);
+        // an edited lesson is added back with the id of the original, which keeps its links
+        personToLessonMap.refreshReverse(lesson);
         //updateFilteredLessonList(PREDICATE_SHOW_ALL_LESSONS);
     }
 
+    @Override
+    public List<Lesson> addLessons(Collection<Lesson> lessons) {
+        requireNonNull(lessons);
+        return scheduleList.addLessons(lessons);
+    }
+
     @Override
     public void setLesson(Lesson target, Lesson editedLesson) {
         requireAllNonNull(target, editedLesson);
@@ -379,6 +492,8 @@ public class ModelManager implements Model {
     public String deleteTask(Lesson lesson, int index) {
         requireNonNull(index);
         requireNonNull(lesson);
+        // the task list is changed in place, which the schedule list does not observe
+        isScheduleListModified = true;
         return lesson.removeFromTaskList(index);
     }
 
@@ -431,9 +546,11 @@ public class ModelManager implements Model {
     }
     public void linkWith(Person person, Lesson lesson) {
         personToLessonMap.addMapping(person, lesson);
+        isPersonLessonMapModified = true;
     }
     public void unLinkWith(Person person, Lesson lesson) {
         personToLessonMap.removeMapping(person, lesson);
+        isPersonLessonMapModified = true;
     }
     public Name[] getLinkedWith(Person person) {
         return personToLessonMap.get(person);
@@ -441,13 +558,16 @@ public class ModelManager implements Model {
     public Name[] getLinkedWith(Lesson lesson) {
         return personToLessonMap.getReversed(lesson);
     }
+    public boolean isLinkedWith(Person person, Lesson lesson) {
+        return personToLessonMap.isLinked(person, lesson);
+    }
     public String getLinkedPersonNameStr(Lesson lesson) {
-        return Arrays.stream(personToLessonMap.getReversed(lesson)).map(Name::toString)
-                .reduce((a, b) -> a + ", " + b).orElse("Not linked to any Students yet");
+        String names = personToLessonMap.joinLinkedReversed(lesson);
+        return names.isEmpty() ? "Not linked to any Students yet" : names;
     }
     public String getLinkedLessonNameStr(Person person) {
-        return Arrays.stream(personToLessonMap.get(person)).map(Name::toString)
-                .reduce((a, b) -> a + ", " + b).orElse("Not linked to any Lessons yet");
+        String names = personToLessonMap.joinLinked(person);
+        return names.isEmpty() ? "Not linked to any Lessons yet" : names;
     }
 
     //=========== Command history ========================================================
@@ -464,4 +584,36 @@ public class ModelManager implements Model {
         return commandHistory.prev();
     }
 
+    //=========== Modification tracking ========================================================
+
+    @Override
+    public boolean isAddressBookModified() {
+        return isAddressBookModified;
+    }
+
+    @Override
+    public boolean isScheduleListModified() {
+        return isScheduleListModified;
+    }
+
+    @Override
+    public boolean isPersonLessonMapModified() {
+        return isPersonLessonMapModified;
+    }
+
+    @Override
+    public void markModified(boolean isAddressBookModified, boolean isScheduleListModified,
+                             boolean isPersonLessonMapModified) {
+        this.isAddressBookModified |= isAddressBookModified;
+        this.isScheduleListModified |= isScheduleListModified;
+        this.isPersonLessonMapModified |= isPersonLessonMapModified;
+    }
+
+    @Override
+    public void clearModifiedFlags() {
+        isAddressBookModified = false;
+        isScheduleListModified = false;
+        isPersonLessonMapModified = false;
+    }
+
 }
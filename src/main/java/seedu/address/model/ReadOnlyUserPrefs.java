@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Optional;
 
 import seedu.address.commons.core.GuiSettings;
 
@@ -15,4 +16,14 @@ public interface ReadOnlyUserPrefs {
 
     Path getScheduleListFilePath();
 
+    /**
+     * Returns the path of the journal that changes are appended to, if journaling is enabled.
+     */
+    Optional<Path> getJournalFilePath();
+
+    /**
+     * Returns the format that the data files are stored in.
+     */
+    UserPrefs.DataFormat getDataFormat();
+
 }
@@ -2,14 +2,17 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.lessons.DayRange;
 import seedu.address.model.lessons.Lesson;
 import seedu.address.model.lessons.Schedule;
+import seedu.address.model.person.Name;
 
 /**
  * Wraps all data at the schedule-list level
@@ -77,11 +80,43 @@ public class ScheduleList implements ReadOnlySchedule {
         return lessons.hasLessonClashWith(lesson);
     }
 
+    /**
+     * Returns the lesson with the given id, or null if there is no such lesson.
+     */
+    public Lesson getLessonById(long id) {
+        return lessons.getLessonById(id);
+    }
+
+    /**
+     * Returns the lesson with the given name, or null if there is no such lesson.
+     */
+    public Lesson getLessonWithName(Name name) {
+        requireNonNull(name);
+        return lessons.getLessonWithName(name);
+    }
+
     public Set<Lesson> getLessonsFulfill(Predicate<Lesson> predicate) {
         requireNonNull(predicate);
         return lessons.getLessonsFulfill(predicate);
     }
 
+    /**
+     * Returns a predicate that is true for the lessons whose name contains {@code substring}, ignoring case.
+     */
+    public Predicate<Lesson> getLessonNameContainsPredicate(String substring) {
+        requireNonNull(substring);
+        return lessons.getNameContainsPredicate(substring);
+    }
+
+    /**
+     * Returns a view of the lessons on the days in {@code range}, in order.
+     * The view must not be used after the schedule changes.
+     */
+    public List<Lesson> getLessonsIn(DayRange range) {
+        requireNonNull(range);
+        return lessons.getLessonsIn(range);
+    }
+
     /**
      * Returns the lesson that clashes with {@code lesson} if any. Else returns null.
      */
@@ -98,6 +133,13 @@ public class ScheduleList implements ReadOnlySchedule {
         lessons.add(l);
     }
 
+    /**
+     * Adds the lessons that do not clash with another lesson to the schedule list, and returns the lessons not added.
+     */
+    public List<Lesson> addLessons(Collection<Lesson> lessons) {
+        return this.lessons.addAll(lessons);
+    }
+
     /**
      * Replaces the given lesson {@code target} in the list with {@code editedLesson}.
      * {@code target} must exist in the schedule list.
@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
+import java.util.Optional;
 
 import seedu.address.commons.core.GuiSettings;
 
@@ -13,11 +14,23 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    /**
+     * Formats that the address book, schedule and person to lesson map can be stored in.
+     */
+    public enum DataFormat {
+        JSON, BINARY
+    }
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
 
     private Path scheduleListFilePath = Paths.get("data" , "schedulelist.json");
 
+    // Journaling is disabled unless a journal file is specified
+    private Path journalFilePath = null;
+
+    private DataFormat dataFormat = DataFormat.JSON;
+
     /**
      * Creates a {@code UserPrefs} with default values.
      */
@@ -39,6 +52,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
         setScheduleListFilePath(newUserPrefs.getScheduleListFilePath());
+        journalFilePath = newUserPrefs.getJournalFilePath().orElse(null);
+        setDataFormat(newUserPrefs.getDataFormat());
     }
 
     public GuiSettings getGuiSettings() {
@@ -68,6 +83,24 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.scheduleListFilePath = scheduleListFilePath;
     }
 
+    public Optional<Path> getJournalFilePath() {
+        return Optional.ofNullable(journalFilePath);
+    }
+
+    public void setJournalFilePath(Path journalFilePath) {
+        requireNonNull(journalFilePath);
+        this.journalFilePath = journalFilePath;
+    }
+
+    public DataFormat getDataFormat() {
+        return dataFormat;
+    }
+
+    public void setDataFormat(DataFormat dataFormat) {
+        requireNonNull(dataFormat);
+        this.dataFormat = dataFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -82,12 +115,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
                 && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
-                && scheduleListFilePath.equals(otherUserPrefs.scheduleListFilePath);
+                && scheduleListFilePath.equals(otherUserPrefs.scheduleListFilePath)
+                && Objects.equals(journalFilePath, otherUserPrefs.journalFilePath)
+                && dataFormat == otherUserPrefs.dataFormat;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath, scheduleListFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, scheduleListFilePath, journalFilePath, dataFormat);
     }
 
     @Override
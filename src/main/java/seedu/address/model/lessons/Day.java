@@ -1,8 +1,7 @@
 package seedu.address.model.lessons;
 
-import static seedu.address.logic.parser.RegularExpressionUtil.FOUR_DIGITS;
+import static seedu.address.logic.parser.RegularExpressionUtil.ONE_TO_FOUR_DIGITS;
 import static seedu.address.logic.parser.RegularExpressionUtil.ONE_TO_TWO_DIGITS;
-import static seedu.address.logic.parser.RegularExpressionUtil.TWO_DIGITS;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
@@ -21,6 +20,9 @@ import seedu.address.model.ListEntryField;
 public class Day extends ListEntryField {
     public static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("dd-MM-yyyy");
     public static final Day DEFAULT_DAY = new Day();
+    // matches dd, mm/dd, yy/mm/dd and yyyy/mm/dd, whose parts are told apart by their number and length
+    private static final Pattern DATE_PATTERN = Pattern.compile(ONE_TO_FOUR_DIGITS
+            + "(?:/" + ONE_TO_TWO_DIGITS + ")?(?:/" + ONE_TO_TWO_DIGITS + ")?");
     private LocalDate day;
     public Day(LocalDate day) {
         this.day = day;
@@ -57,47 +59,41 @@ public class Day extends ListEntryField {
      * @throws ParseException if the input is not a valid date
      */
     private static LocalDate parseDate(String input) throws ParseException {
-        String dayPattern = ONE_TO_TWO_DIGITS;
-        String monthDayPattern = ONE_TO_TWO_DIGITS + "/" + ONE_TO_TWO_DIGITS;
-        String yearMonthDayPattern2 = TWO_DIGITS + "/" + ONE_TO_TWO_DIGITS + "/" + ONE_TO_TWO_DIGITS;
-        String yearMonthDayPattern4 = FOUR_DIGITS + "/" + ONE_TO_TWO_DIGITS + "/" + ONE_TO_TWO_DIGITS;
-
-        Pattern dayP = Pattern.compile(dayPattern);
-        Pattern monthDayP = Pattern.compile(monthDayPattern);
-        Pattern yearMonthDayP2 = Pattern.compile(yearMonthDayPattern2);
-        Pattern yearMonthDayP4 = Pattern.compile(yearMonthDayPattern4);
-
-        Matcher dayM = dayP.matcher(input);
-        Matcher monthDayM = monthDayP.matcher(input);
-        Matcher yearMonthDayM2 = yearMonthDayP2.matcher(input);
-        Matcher yearMonthDayM4 = yearMonthDayP4.matcher(input);
-
-        if (yearMonthDayM2.matches()) {
-            int year = TypeParsingUtil.parseNum(yearMonthDayM2.group(1), 0, 99) + 2000;
-            int month = TypeParsingUtil.parseNum(yearMonthDayM2.group(2), 1, 12);
-            int day = TypeParsingUtil.parseNum(yearMonthDayM2.group(3), 1, findMaxDay(year, month));
+        Matcher m = DATE_PATTERN.matcher(input);
+        if (!m.matches()) {
+            throw invalidDate(input);
+        }
+        String first = m.group(1);
+        if (m.group(3) != null && first.length() == 2) {
+            int year = TypeParsingUtil.parseNum(first, 0, 99) + 2000;
+            int month = TypeParsingUtil.parseNum(m.group(2), 1, 12);
+            int day = TypeParsingUtil.parseNum(m.group(3), 1, findMaxDay(year, month));
             return LocalDate.of(year, month, day);
-        } else if (yearMonthDayM4.matches()) {
-            int year = TypeParsingUtil.parseNum(yearMonthDayM4.group(1), 0, 9999);
-            int month = TypeParsingUtil.parseNum(yearMonthDayM4.group(2), 1, 12);
-            int day = TypeParsingUtil.parseNum(yearMonthDayM4.group(3), 1, findMaxDay(year, month));
+        } else if (m.group(3) != null && first.length() == 4) {
+            int year = TypeParsingUtil.parseNum(first, 0, 9999);
+            int month = TypeParsingUtil.parseNum(m.group(2), 1, 12);
+            int day = TypeParsingUtil.parseNum(m.group(3), 1, findMaxDay(year, month));
             return LocalDate.of(year, month, day);
-        } else if (monthDayM.matches()) {
+        } else if (m.group(3) == null && m.group(2) != null && first.length() <= 2) {
             LocalDate now = LocalDate.now();
-            int month = TypeParsingUtil.parseNum(monthDayM.group(1), 1, 12);
-            int day = TypeParsingUtil.parseNum(monthDayM.group(2), 1, findMaxDay(now.getYear(), month));
+            int month = TypeParsingUtil.parseNum(first, 1, 12);
+            int day = TypeParsingUtil.parseNum(m.group(2), 1, findMaxDay(now.getYear(), month));
             return LocalDate.of(now.getYear(), month, day);
-        } else if (dayM.matches()) {
+        } else if (m.group(2) == null && first.length() <= 2) {
             LocalDate now = LocalDate.now();
-            int day = TypeParsingUtil.parseNum(dayM.group(1), 1, findMaxDay(now.getYear(), now.getMonthValue()));
+            int day = TypeParsingUtil.parseNum(first, 1, findMaxDay(now.getYear(), now.getMonthValue()));
             return LocalDate.of(now.getYear(), now.getMonth(), day);
         } else {
-            throw new InvalidInputException(input
-                    + " is not a valid date, please use yyyy/mm/dd or mm/dd or dd"
-                    + "\nfor example, assume today is 2023/11/3, to add 2023/11/29, could"
-                    + " use 29, 11/29, 2023/11/29 or 23/11/29");
+            throw invalidDate(input);
         }
     }
+
+    private static InvalidInputException invalidDate(String input) {
+        return new InvalidInputException(input
+                + " is not a valid date, please use yyyy/mm/dd or mm/dd or dd"
+                + "\nfor example, assume today is 2023/11/3, to add 2023/11/29, could"
+                + " use 29, 11/29, 2023/11/29 or 23/11/29");
+    }
     private static Integer findMaxDay(int year, int month) {
         if (month == 2) {
             if (year % 4 == 0) {
@@ -0,0 +1,98 @@
+package seedu.address.model.lessons;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Represents the days from a first day, inclusive, up to a last day, exclusive. Either end may be open.
+ * Lessons without a day come after every day, so they are only in ranges without a last day.
+ * As a predicate, a range is true for the lessons on its days.
+ */
+public class DayRange implements Predicate<Lesson> {
+    private final Day from;
+    private final Day to;
+
+    /**
+     * Constructs a {@code DayRange} from {@code from} up to {@code to}, where a null end is open.
+     */
+    public DayRange(Day from, Day to) {
+        this.from = from;
+        this.to = to;
+    }
+
+    /**
+     * Returns the range of the days before {@code day}.
+     */
+    public static DayRange before(Day day) {
+        return new DayRange(null, day);
+    }
+
+    /**
+     * Returns the range of {@code day} only.
+     */
+    public static DayRange on(Day day) {
+        return new DayRange(day, nextDay(day));
+    }
+
+    /**
+     * Returns the range of the days after {@code day}.
+     */
+    public static DayRange after(Day day) {
+        return new DayRange(nextDay(day), null);
+    }
+
+    public Day getFrom() {
+        return from;
+    }
+
+    public Day getTo() {
+        return to;
+    }
+
+    /**
+     * Returns true if {@code day} is in this range.
+     */
+    public boolean contains(Day day) {
+        return (from == null || day.compareTo(from) >= 0) && (to == null || day.compareTo(to) < 0);
+    }
+
+    @Override
+    public boolean test(Lesson lesson) {
+        return contains(lesson.getDay());
+    }
+
+    private static Day nextDay(Day day) {
+        return new Day(day.getDay().plusDays(1));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof DayRange)) {
+            return false;
+        }
+
+        DayRange otherRange = (DayRange) other;
+        return Objects.equals(from, otherRange.from) && Objects.equals(to, otherRange.to);
+    }
+
+    @Override
+    public int hashCode() {
+        // Day does not override hashCode, so hash the dates instead
+        return Objects.hash(from == null ? null : from.getDay(), to == null ? null : to.getDay());
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("from", from)
+                .add("to", to)
+                .toString();
+    }
+}
@@ -15,7 +15,7 @@ import seedu.address.model.person.Subject;
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
 public class Lesson extends ListEntry<Lesson> {
-    private static final Lesson DEFAULT_LESSON = new Lesson();
+    private static final Lesson DEFAULT_LESSON = new Lesson(newId());
     private Time start;
     private Time end;
     private Name name;
@@ -39,6 +39,15 @@ public class Lesson extends ListEntry<Lesson> {
      * @param studentNames The student attending this lesson. Note: Converted to ArrayList when stored
      */
     public Lesson(Name name, Time start, Time end, Day day, Subject subject, TaskList taskList, Name... studentNames) {
+        this(newId(), name, start, end, day, subject, taskList, studentNames);
+    }
+
+    /**
+     * Constructor for a Lesson Object with the given {@code id}, such as one read from storage.
+     */
+    public Lesson(long id, Name name, Time start, Time end, Day day, Subject subject, TaskList taskList,
+                  Name... studentNames) {
+        super(id);
         requireAllNonNull(name, start, end, day, subject, taskList, studentNames);
         this.name = name;
         this.start = start;
@@ -63,7 +72,8 @@ public class Lesson extends ListEntry<Lesson> {
         this(new Name(name), new Time(start), new Time(end), Day.of(day), new Subject(subject), taskList);
     }
 
-    private Lesson() {
+    private Lesson(long id) {
+        super(id);
         this.name = Name.DEFAULT_NAME;
         this.start = Time.DEFAULT_TIME;
         this.end = Time.DEFAULT_TIME;
@@ -72,8 +82,11 @@ public class Lesson extends ListEntry<Lesson> {
         this.taskList = TaskList.DEFAULT_TASKLIST;
     }
 
+    /**
+     * Returns a lesson with only default fields and an id of its own.
+     */
     public static Lesson getDefaultLesson() {
-        return DEFAULT_LESSON.clone();
+        return DEFAULT_LESSON.copyWithId(newId());
     }
 
     public Day getDay() {
@@ -223,6 +236,13 @@ public class Lesson extends ListEntry<Lesson> {
         return this.taskList.getTaskClashWith(toAdd);
     }
 
+    /**
+     * Returns the number of tasks of this lesson, without creating tasks that have not been loaded yet.
+     */
+    public int getTaskCount() {
+        return taskList.size();
+    }
+
     /**
      * Returns the list of tasks as a set.
      * @return
@@ -316,16 +336,22 @@ public class Lesson extends ListEntry<Lesson> {
     }
 
     /**
-     * Returns a clone of the lesson.
+     * Returns a clone of the lesson that has the same id.
+     * The fields of a lesson cannot be changed, so the clone shares them with this lesson,
+     * and only the task list, which can be changed in place, is copied.
      */
     @Override
     public Lesson clone() {
-        Lesson cloned = new Lesson();
-        cloned.setStartIfNotDefault(this.start.clone());
-        cloned.setEndIfNotDefault(this.end.clone());
-        cloned.setSubjectIfNotDefault(this.subject.clone());
-        cloned.setNameIfNotDefault(this.name.clone());
-        cloned.setDayIfNotDefault(this.day.clone());
+        return copyWithId(getId());
+    }
+
+    private Lesson copyWithId(long id) {
+        Lesson cloned = new Lesson(id);
+        cloned.setStartIfNotDefault(this.start);
+        cloned.setEndIfNotDefault(this.end);
+        cloned.setSubjectIfNotDefault(this.subject);
+        cloned.setNameIfNotDefault(this.name);
+        cloned.setDayIfNotDefault(this.day);
         cloned.taskList = taskList.clone();
         return cloned;
     }
@@ -0,0 +1,208 @@
+package seedu.address.model.lessons;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.address.model.person.Name;
+
+/**
+ * Indexes the lessons of a {@code Schedule} so that clash checks do not need to scan the whole schedule.
+ * Lessons are keyed by name for the name-equality clash rule, and by date with an interval index over their
+ * start times for the time-overlap clash rule.
+ * Lessons are tracked by identity, so a lesson must not be mutated while it is indexed.
+ */
+class LessonClashIndex {
+    private final Map<String, List<Lesson>> lessonsByName = new HashMap<>();
+    private final Map<LocalDate, DayIndex> lessonsByDay = new HashMap<>();
+    private final Map<Lesson, IndexKeys> indexedLessons = new IdentityHashMap<>();
+
+    /**
+     * Adds {@code lesson} to the index.
+     */
+    void add(Lesson lesson) {
+        requireNonNull(lesson);
+        if (indexedLessons.containsKey(lesson)) {
+            return;
+        }
+        IndexKeys keys = IndexKeys.of(lesson);
+        indexedLessons.put(lesson, keys);
+        lessonsByName.computeIfAbsent(keys.nameKey, k -> new ArrayList<>()).add(lesson);
+        if (keys.day != null) {
+            lessonsByDay.computeIfAbsent(keys.day, k -> new DayIndex()).add(lesson, keys.start, keys.end);
+        }
+    }
+
+    /**
+     * Removes {@code lesson} from the index. Does nothing if that exact lesson instance is not indexed.
+     */
+    void remove(Lesson lesson) {
+        requireNonNull(lesson);
+        IndexKeys keys = indexedLessons.remove(lesson);
+        if (keys == null) {
+            return;
+        }
+        List<Lesson> sameName = lessonsByName.get(keys.nameKey);
+        removeByIdentity(sameName, lesson);
+        if (sameName.isEmpty()) {
+            lessonsByName.remove(keys.nameKey);
+        }
+        if (keys.day != null) {
+            DayIndex dayIndex = lessonsByDay.get(keys.day);
+            dayIndex.remove(lesson, keys.start, keys.end);
+            if (dayIndex.isEmpty()) {
+                lessonsByDay.remove(keys.day);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code lessons}.
+     */
+    void setAll(Collection<Lesson> lessons) {
+        lessonsByName.clear();
+        lessonsByDay.clear();
+        indexedLessons.clear();
+        lessons.forEach(this::add);
+    }
+
+    /**
+     * Returns the indexed lessons whose name is equal to {@code name}.
+     */
+    List<Lesson> getLessonsWithName(Name name) {
+        requireNonNull(name);
+        List<Lesson> sameName = lessonsByName.get(toKey(name));
+        return sameName == null ? new ArrayList<>() : new ArrayList<>(sameName);
+    }
+
+    /**
+     * Returns the indexed lessons that clash with {@code toCheck}, in no particular order.
+     */
+    List<Lesson> getLessonsClashWith(Lesson toCheck) {
+        requireNonNull(toCheck);
+        List<Lesson> clashes = new ArrayList<>();
+        IdentityHashMap<Lesson, Boolean> seen = new IdentityHashMap<>();
+        for (Lesson candidate : getCandidates(toCheck)) {
+            if (seen.put(candidate, Boolean.TRUE) == null && toCheck.isClashWith(candidate)) {
+                clashes.add(candidate);
+            }
+        }
+        return clashes;
+    }
+
+    /**
+     * Returns true if any indexed lesson clashes with {@code toCheck}.
+     */
+    boolean hasLessonClashWith(Lesson toCheck) {
+        requireNonNull(toCheck);
+        return getCandidates(toCheck).stream().anyMatch(toCheck::isClashWith);
+    }
+
+    /**
+     * Returns a superset of the indexed lessons that may clash with {@code toCheck}.
+     * May contain the same lesson more than once.
+     */
+    private List<Lesson> getCandidates(Lesson toCheck) {
+        List<Lesson> candidates = new ArrayList<>();
+        List<Lesson> sameName = lessonsByName.get(toKey(toCheck.getName()));
+        if (sameName != null) {
+            candidates.addAll(sameName);
+        }
+        IndexKeys keys = IndexKeys.of(toCheck);
+        if (keys.day != null) {
+            DayIndex dayIndex = lessonsByDay.get(keys.day);
+            if (dayIndex != null) {
+                dayIndex.collectOverlapping(keys.start, keys.end, candidates);
+            }
+        }
+        return candidates;
+    }
+
+    private static String toKey(Name name) {
+        return name.fullName.toLowerCase();
+    }
+
+    private static void removeByIdentity(List<Lesson> lessons, Lesson toRemove) {
+        for (int i = 0; i < lessons.size(); i++) {
+            if (lessons.get(i) == toRemove) {
+                lessons.remove(i);
+                return;
+            }
+        }
+    }
+
+    /**
+     * The keys a lesson was indexed under, captured when it was added.
+     */
+    private static class IndexKeys {
+        private final String nameKey;
+        private final LocalDate day;
+        private final int start;
+        private final int end;
+
+        private IndexKeys(String nameKey, LocalDate day, int start, int end) {
+            this.nameKey = nameKey;
+            this.day = day;
+            this.start = start;
+            this.end = end;
+        }
+
+        /**
+         * Returns the keys of {@code lesson}. The day is null if the lesson has no complete time slot,
+         * since such a lesson can only clash through its name.
+         */
+        static IndexKeys of(Lesson lesson) {
+            String nameKey = toKey(lesson.getName());
+            if (lesson.getDay() == Day.DEFAULT_DAY
+                    || lesson.getStart() == Time.DEFAULT_TIME || lesson.getEnd() == Time.DEFAULT_TIME) {
+                return new IndexKeys(nameKey, null, 0, 0);
+            }
+            return new IndexKeys(nameKey, lesson.getDay().getDay(),
+                    lesson.getStart().getTime().toSecondOfDay(), lesson.getEnd().getTime().toSecondOfDay());
+        }
+    }
+
+    /**
+     * Lessons on a single date, ordered by start time.
+     * Tracks the longest lesson on the date so that every lesson overlapping a time slot
+     * can be found with a single range query over start times. The number of lessons of each duration is kept,
+     * so that the longest duration shrinks again when the longest lessons are removed.
+     */
+    private static class DayIndex {
+        private final TreeMap<Integer, List<Lesson>> lessonsByStart = new TreeMap<>();
+        private final TreeMap<Integer, Integer> lessonCountsByDuration = new TreeMap<>();
+
+        void add(Lesson lesson, int start, int end) {
+            lessonsByStart.computeIfAbsent(start, k -> new ArrayList<>()).add(lesson);
+            lessonCountsByDuration.merge(end - start, 1, Integer::sum);
+        }
+
+        void remove(Lesson lesson, int start, int end) {
+            List<Lesson> sameStart = lessonsByStart.get(start);
+            removeByIdentity(sameStart, lesson);
+            if (sameStart.isEmpty()) {
+                lessonsByStart.remove(start);
+            }
+            lessonCountsByDuration.computeIfPresent(end - start, (duration, count) -> count == 1 ? null : count - 1);
+        }
+
+        boolean isEmpty() {
+            return lessonsByStart.isEmpty();
+        }
+
+        /**
+         * Adds every lesson whose time slot may overlap the slot from {@code start} to {@code end} to {@code result}.
+         */
+        void collectOverlapping(int start, int end, List<Lesson> result) {
+            int longestDuration = lessonCountsByDuration.isEmpty() ? 0 : lessonCountsByDuration.lastKey();
+            lessonsByStart.subMap(start - longestDuration, true, end, true).values().forEach(result::addAll);
+        }
+    }
+}
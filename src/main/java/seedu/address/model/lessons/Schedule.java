@@ -3,9 +3,14 @@ package seedu.address.model.lessons;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -13,7 +18,9 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.lessons.exceptions.DuplicateLessonException;
 import seedu.address.model.lessons.exceptions.LessonNotFoundException;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.util.TrigramIndex;
 
 
 /**
@@ -23,6 +30,9 @@ import seedu.address.model.person.exceptions.DuplicatePersonException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Lesson#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Lessons are kept sorted by day and start time, so the lessons in a range of days are found by binary search.
+ * Lessons are indexed by id, and their names are indexed by trigram for substring searches.
+ *
  * Supports a minimal set of list operations.
  *
  */
@@ -30,6 +40,9 @@ public class Schedule implements Iterable<Lesson> {
 
     private final ObservableList<Lesson> internalSchedule = FXCollections.observableArrayList();
     private final LessonComparator lessonComparator = new LessonComparator();
+    private final LessonClashIndex clashIndex = new LessonClashIndex();
+    private final TrigramIndex<Lesson> nameIndex = new TrigramIndex<>();
+    private final Map<Long, Lesson> lessonsById = new HashMap<>();
     private final ObservableList<Lesson> internalUnmodifiableSchedule =
             FXCollections.unmodifiableObservableList(internalSchedule);
 
@@ -45,7 +58,7 @@ public class Schedule implements Iterable<Lesson> {
      */
     public boolean contains(Lesson toCheck) {
         requireNonNull(toCheck);
-        return internalSchedule.stream().anyMatch(toCheck::equals);
+        return findEquivalent(toCheck) != null;
     }
 
     /**
@@ -55,23 +68,67 @@ public class Schedule implements Iterable<Lesson> {
      */
     public boolean hasLessonClashWith(Lesson toCheck) {
         requireNonNull(toCheck);
-        return internalSchedule.stream().anyMatch(toCheck::isClashWith);
+        return clashIndex.hasLessonClashWith(toCheck);
     }
 
     /**
      * Returns the lesson that clashes with the given argument.
+     * If several lessons clash, the one that comes first in the schedule is returned.
      * @param toCheck Lesson to check
      * @return Lesson that clashes with the given argument.
      */
     public Lesson getLessonClashWith(Lesson toCheck) {
         requireNonNull(toCheck);
-        return internalSchedule.stream().filter(toCheck::isClashWith).findFirst().get();
+        return clashIndex.getLessonsClashWith(toCheck).stream()
+                .min(lessonComparator.thenComparingInt(this::positionOf)).get();
+    }
+
+    /**
+     * Returns the lesson with the given id, or null if there is no such lesson.
+     * The lesson is the one in the schedule rather than a clone, so it must be cloned before it is edited.
+     */
+    public Lesson getLessonById(long id) {
+        return lessonsById.get(id);
     }
 
+    /**
+     * Returns the lesson with the given name, or null if there is no such lesson.
+     * Lessons with the same name clash, so there is at most one.
+     */
+    public Lesson getLessonWithName(Name name) {
+        requireNonNull(name);
+        List<Lesson> sameName = clashIndex.getLessonsWithName(name);
+        return sameName.isEmpty() ? null : sameName.get(0);
+    }
+
+    /**
+     * Returns the lessons in the schedule that fulfill {@code predicate}.
+     * The lessons are the ones in the schedule rather than clones, so they must be cloned before they are edited.
+     */
     public Set<Lesson> getLessonsFulfill(Predicate<Lesson> predicate) {
         requireNonNull(predicate);
-        return internalSchedule.stream().filter(predicate)
-                .map(Lesson::clone).collect(java.util.stream.Collectors.toSet());
+        return Collections.unmodifiableSet(internalSchedule.stream().filter(predicate)
+                .collect(java.util.stream.Collectors.toSet()));
+    }
+
+    /**
+     * Returns a predicate that is true for the lessons in the schedule whose name contains {@code substring},
+     * ignoring case. The predicate searches the name index and follows later changes to the schedule.
+     */
+    public Predicate<Lesson> getNameContainsPredicate(String substring) {
+        requireNonNull(substring);
+        return nameIndex.containing(substring);
+    }
+
+    /**
+     * Returns a view of the lessons in the schedule on the days in {@code range}, in order.
+     * The ends of the view are found by binary search, so the view must not be used after the schedule changes.
+     */
+    public List<Lesson> getLessonsIn(DayRange range) {
+        requireNonNull(range);
+        int from = range.getFrom() == null ? 0 : firstPositionNotBefore(range.getFrom());
+        int to = range.getTo() == null ? internalSchedule.size() : firstPositionNotBefore(range.getTo());
+        return internalUnmodifiableSchedule.subList(from, Math.max(from, to));
     }
 
     /**
@@ -83,8 +140,34 @@ public class Schedule implements Iterable<Lesson> {
         if (contains(toAdd)) {
             throw new DuplicateLessonException();
         }
-        internalSchedule.add(toAdd);
-        internalSchedule.sort(lessonComparator);
+        insertInOrder(toAdd);
+    }
+
+    /**
+     * Adds the lessons in {@code toAdd} that clash with no lesson in the schedule and no earlier lesson in
+     * {@code toAdd}, and returns the lessons that were not added.
+     * The added lessons are merged into the schedule with a single change, so adding many lessons at once does not
+     * shift the schedule for each of them.
+     */
+    public List<Lesson> addAll(Collection<Lesson> toAdd) {
+        requireAllNonNull(toAdd);
+        List<Lesson> added = new ArrayList<>(toAdd.size());
+        List<Lesson> rejected = new ArrayList<>();
+        for (Lesson lesson : toAdd) {
+            if (clashIndex.hasLessonClashWith(lesson)) {
+                rejected.add(lesson);
+            } else {
+                // indexing each lesson as it is accepted lets later lessons be checked against it
+                clashIndex.add(lesson);
+                index(lesson);
+                added.add(lesson);
+            }
+        }
+        if (!added.isEmpty()) {
+            added.sort(lessonComparator);
+            internalSchedule.setAll(mergeSorted(internalSchedule, added));
+        }
+        return rejected;
     }
 
     /**
@@ -95,8 +178,8 @@ public class Schedule implements Iterable<Lesson> {
     public void setLesson(Lesson target, Lesson editedLesson) {
         requireAllNonNull(target, editedLesson);
 
-        int index = internalSchedule.indexOf(target);
-        if (index == -1) {
+        Lesson stored = findEquivalent(target);
+        if (stored == null) {
             throw new LessonNotFoundException();
         }
 
@@ -104,8 +187,17 @@ public class Schedule implements Iterable<Lesson> {
             throw new DuplicatePersonException();
         }
 
-        internalSchedule.set(index, editedLesson);
-        internalSchedule.sort(lessonComparator);
+        int index = positionOf(stored);
+        clashIndex.remove(stored);
+        unindex(stored);
+        if (fitsAt(index, editedLesson)) {
+            index(editedLesson);
+            internalSchedule.set(index, editedLesson);
+            clashIndex.add(editedLesson);
+        } else {
+            internalSchedule.remove(index);
+            insertInOrder(editedLesson);
+        }
     }
 
     /**
@@ -114,9 +206,13 @@ public class Schedule implements Iterable<Lesson> {
      */
     public void remove(Lesson toRemove) {
         requireNonNull(toRemove);
-        if (!internalSchedule.remove(toRemove)) {
+        Lesson stored = findEquivalent(toRemove);
+        if (stored == null) {
             throw new LessonNotFoundException();
         }
+        unindex(stored);
+        internalSchedule.remove(positionOf(stored));
+        clashIndex.remove(stored);
     }
 
     /**
@@ -129,8 +225,14 @@ public class Schedule implements Iterable<Lesson> {
             throw new DuplicateLessonException();
         }
 
-        internalSchedule.setAll(lessons);
-        internalSchedule.sort(lessonComparator);
+        nameIndex.clear();
+        lessonsById.clear();
+        lessons.forEach(this::index);
+        // sorting before replacing the contents lets listeners see a single change
+        List<Lesson> sortedLessons = new ArrayList<>(lessons);
+        sortedLessons.sort(lessonComparator);
+        internalSchedule.setAll(sortedLessons);
+        clashIndex.setAll(internalSchedule);
     }
 
     /**
@@ -167,17 +269,147 @@ public class Schedule implements Iterable<Lesson> {
 
     /**
      * Returns true if {@code lessons} contains only unique lessons.
+     * Equal lessons have equal names, so only lessons sharing a name are compared.
      */
     private boolean lessonsAreUnique(List<Lesson> lessons) {
-        for (int i = 0; i < lessons.size() - 1; i++) {
-            for (int j = i + 1; j < lessons.size(); j++) {
-                if (lessons.get(i).equals(lessons.get(j))) {
-                    return false;
-                }
+        Map<String, List<Lesson>> lessonsByName = new HashMap<>();
+        for (Lesson lesson : lessons) {
+            List<Lesson> sameName = lessonsByName.computeIfAbsent(
+                    lesson.getName().fullName.toLowerCase(), k -> new ArrayList<>());
+            if (sameName.stream().anyMatch(lesson::equals)) {
+                return false;
             }
+            sameName.add(lesson);
         }
         return true;
     }
+
+    /**
+     * Returns the lesson in the list that is equivalent to {@code toFind}, or null if there is none.
+     */
+    private Lesson findEquivalent(Lesson toFind) {
+        return clashIndex.getLessonsWithName(toFind.getName()).stream()
+                .filter(toFind::equals).findFirst().orElse(null);
+    }
+
+    /**
+     * Returns the position of the exact lesson instance {@code stored}, which must be in the list.
+     */
+    private int positionOf(Lesson stored) {
+        for (int i = lowerBound(stored); i < internalSchedule.size()
+                && lessonComparator.compare(internalSchedule.get(i), stored) == 0; i++) {
+            if (internalSchedule.get(i) == stored) {
+                return i;
+            }
+        }
+        // the list is only out of order if a lesson was modified in place, so fall back to a full scan
+        for (int i = 0; i < internalSchedule.size(); i++) {
+            if (internalSchedule.get(i) == stored) {
+                return i;
+            }
+        }
+        throw new LessonNotFoundException();
+    }
+
+    /**
+     * Inserts {@code toAdd} after every lesson that does not come after it, keeping the list sorted.
+     */
+    private void insertInOrder(Lesson toAdd) {
+        int low = 0;
+        int high = internalSchedule.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (lessonComparator.compare(internalSchedule.get(mid), toAdd) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        index(toAdd);
+        internalSchedule.add(low, toAdd);
+        clashIndex.add(toAdd);
+    }
+
+    /**
+     * Adds {@code lesson} to the id and name indexes.
+     */
+    private void index(Lesson lesson) {
+        lessonsById.put(lesson.getId(), lesson);
+        nameIndex.add(lesson, lesson.getName().fullName);
+    }
+
+    /**
+     * Removes {@code lesson} from the id and name indexes.
+     */
+    private void unindex(Lesson lesson) {
+        lessonsById.remove(lesson.getId(), lesson);
+        nameIndex.remove(lesson);
+    }
+
+    /**
+     * Returns the position of the first lesson that does not come before {@code lesson}.
+     */
+    private int lowerBound(Lesson lesson) {
+        int low = 0;
+        int high = internalSchedule.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (lessonComparator.compare(internalSchedule.get(mid), lesson) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the position of the first lesson whose day does not come before {@code day}.
+     */
+    private int firstPositionNotBefore(Day day) {
+        int low = 0;
+        int high = internalSchedule.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (internalSchedule.get(mid).getDay().compareTo(day) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the lessons of the sorted lists {@code existing} and {@code added} in order,
+     * with the lessons of {@code existing} before equally ordered lessons of {@code added}.
+     */
+    private List<Lesson> mergeSorted(List<Lesson> existing, List<Lesson> added) {
+        List<Lesson> merged = new ArrayList<>(existing.size() + added.size());
+        int i = 0;
+        int j = 0;
+        while (i < existing.size() && j < added.size()) {
+            if (lessonComparator.compare(existing.get(i), added.get(j)) <= 0) {
+                merged.add(existing.get(i++));
+            } else {
+                merged.add(added.get(j++));
+            }
+        }
+        merged.addAll(existing.subList(i, existing.size()));
+        merged.addAll(added.subList(j, added.size()));
+        return merged;
+    }
+
+    /**
+     * Returns true if {@code lesson} can replace the lesson at {@code index} without breaking the order of the list.
+     */
+    private boolean fitsAt(int index, Lesson lesson) {
+        boolean afterPrevious = index == 0
+                || lessonComparator.compare(internalSchedule.get(index - 1), lesson) <= 0;
+        boolean beforeNext = index == internalSchedule.size() - 1
+                || lessonComparator.compare(lesson, internalSchedule.get(index + 1)) <= 0;
+        return afterPrevious && beforeNext;
+    }
     class LessonComparator implements Comparator<Lesson> {
         @Override
         public int compare(Lesson lesson1, Lesson lesson2) {
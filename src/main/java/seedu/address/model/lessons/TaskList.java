@@ -2,11 +2,13 @@ package seedu.address.model.lessons;
 
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
-import static seedu.address.model.util.SerializeUtil.deserialize;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -26,21 +28,46 @@ import seedu.address.storage.JsonAdaptedTask;
  *
  * Supports a minimal set of list operations.
  *
+ * A task list loaded from storage keeps its tasks in their encoded form until they are first accessed,
+ * so the tasks of lessons that are never viewed are not created.
+ *
  * @see Task#isSameTask(Task)
  */
 public class TaskList extends ListEntryField implements Iterable<Task> {
     public static final TaskList DEFAULT_TASKLIST = new TaskList();
-    private final ObservableList<Task> internalTaskList = FXCollections.observableArrayList();
+    private ObservableList<Task> internalTaskList;
+
+    private ObservableList<Task> internalUnmodifiableTaskList;
 
-    private final ObservableList<Task> internalUnmodifiableTaskList =
-            FXCollections.unmodifiableObservableList(internalTaskList);
+    // the encoded tasks that have not been created yet, or null once the tasks are created
+    private List<String> encodedTasks;
 
 
     /**
      * Default constructor
      */
     public TaskList() {
+        encodedTasks = Collections.emptyList();
+    }
 
+    /**
+     * Returns the backing list, creating the tasks from their encoded form on first access.
+     */
+    private ObservableList<Task> tasks() {
+        if (encodedTasks != null) {
+            List<Task> decodedTasks = new ArrayList<>(encodedTasks.size());
+            for (String encodedTask : encodedTasks) {
+                try {
+                    decodedTasks.add(Task.deserialize(encodedTask));
+                } catch (ParseException e) {
+                    throw new AssertionError("Encoded tasks are checked when the task list is created.", e);
+                }
+            }
+            internalTaskList = FXCollections.observableArrayList(decodedTasks);
+            internalUnmodifiableTaskList = FXCollections.unmodifiableObservableList(internalTaskList);
+            encodedTasks = null;
+        }
+        return internalTaskList;
     }
 
     /**
@@ -48,7 +75,7 @@ public class TaskList extends ListEntryField implements Iterable<Task> {
      */
     public boolean contains(Task toCheck) {
         requireNonNull(toCheck);
-        return internalTaskList.stream().anyMatch(toCheck::isSameTask);
+        return tasks().stream().anyMatch(toCheck::isSameTask);
     }
     /**
      * Returns the task that clashes with the given argument.
@@ -57,9 +84,10 @@ public class TaskList extends ListEntryField implements Iterable<Task> {
      */
     public int getTaskClashWith(Task toCheck) {
         requireNonNull(toCheck);
+        List<Task> tasks = tasks();
         int index = 0;
-        for (int i = 0; i < internalTaskList.size(); i++) {
-            if (internalTaskList.get(i).isSameTask(toCheck)) {
+        for (int i = 0; i < tasks.size(); i++) {
+            if (tasks.get(i).isSameTask(toCheck)) {
                 index = i;
                 break;
             }
@@ -76,7 +104,7 @@ public class TaskList extends ListEntryField implements Iterable<Task> {
         if (contains(toAdd)) {
             throw new DuplicateTaskException();
         }
-        internalTaskList.add(toAdd);
+        tasks().add(toAdd);
     }
 
     /**
@@ -87,7 +115,7 @@ public class TaskList extends ListEntryField implements Iterable<Task> {
     public void setTask(Task target, Task editedTask) {
         requireAllNonNull(target, editedTask);
 
-        int index = internalTaskList.indexOf(target);
+        int index = tasks().indexOf(target);
         if (index == -1) {
             throw new TaskNotFoundException();
         }
@@ -96,7 +124,7 @@ public class TaskList extends ListEntryField implements Iterable<Task> {
             throw new DuplicateTaskException();
         }
 
-        internalTaskList.set(index, editedTask);
+        tasks().set(index, editedTask);
     }
 
     /**
@@ -105,8 +133,8 @@ public class TaskList extends ListEntryField implements Iterable<Task> {
      */
     public String remove(int index) {
         requireNonNull(index);
-        Task toRemove = internalTaskList.get(index);
-        if (!internalTaskList.remove(toRemove)) {
+        Task toRemove = tasks().get(index);
+        if (!tasks().remove(toRemove)) {
             throw new TaskNotFoundException();
         }
         return toRemove.toString();
@@ -114,7 +142,7 @@ public class TaskList extends ListEntryField implements Iterable<Task> {
 
     public void setTasks(TaskList replacement) {
         requireNonNull(replacement);
-        internalTaskList.setAll(replacement.internalTaskList);
+        tasks().setAll(replacement.tasks());
     }
 
     /**
@@ -127,7 +155,7 @@ public class TaskList extends ListEntryField implements Iterable<Task> {
             throw new DuplicateTaskException();
         }
 
-        internalTaskList.setAll(tasks);
+        tasks().setAll(tasks);
     }
 
     /**
@@ -137,14 +165,46 @@ public class TaskList extends ListEntryField implements Iterable<Task> {
      */
 
     public static TaskList of(List<JsonAdaptedTask> tasks) throws ParseException {
-        TaskList taskList = new TaskList();
-        for (JsonAdaptedTask taskString : tasks) {
-            // parse the task
-            Task task = deserialize(Task.DEFAULT_TASK, Task::deserialize, taskString.getTaskName());
-            taskList.add(task);
+        List<String> encodedTasks = new ArrayList<>(tasks.size());
+        for (JsonAdaptedTask task : tasks) {
+            encodedTasks.add(task.getTaskName());
+        }
+        return ofEncoded(encodedTasks);
+    }
+
+    /**
+     * Creates a TaskList from tasks encoded by {@link Task#serialize()}, without creating the tasks yet.
+     *
+     * @throws ParseException if a task is not encoded correctly.
+     * @throws DuplicateTaskException if two tasks have the same description.
+     */
+    public static TaskList ofEncoded(List<String> encodedTasks) throws ParseException {
+        Set<String> descriptions = new HashSet<>();
+        for (String encodedTask : encodedTasks) {
+            if (encodedTask.isEmpty() || !Task.isValidEncodedTask(encodedTask)) {
+                throw new ParseException(Task.DECODED_CONSTRAINTS);
+            }
+            if (!descriptions.add(encodedTask.substring(1).trim())) {
+                throw new DuplicateTaskException();
+            }
         }
+        TaskList taskList = new TaskList();
+        taskList.encodedTasks = new ArrayList<>(encodedTasks);
         return taskList;
+    }
 
+    /**
+     * Returns the tasks encoded by {@link Task#serialize()}, without creating tasks that have not been created yet.
+     */
+    public List<String> getEncodedTasks() {
+        if (encodedTasks != null) {
+            return Collections.unmodifiableList(encodedTasks);
+        }
+        List<String> encoded = new ArrayList<>(internalTaskList.size());
+        for (Task task : internalTaskList) {
+            encoded.add(task.serialize());
+        }
+        return encoded;
     }
 
 
@@ -152,12 +212,13 @@ public class TaskList extends ListEntryField implements Iterable<Task> {
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
     public ObservableList<Task> asUnmodifiableObservableList() {
+        tasks();
         return internalUnmodifiableTaskList;
     }
 
     @Override
     public Iterator<Task> iterator() {
-        return internalTaskList.iterator();
+        return tasks().iterator();
     }
 
     @Override
@@ -172,12 +233,16 @@ public class TaskList extends ListEntryField implements Iterable<Task> {
         }
 
         TaskList otherTaskList = (TaskList) other;
-        return internalTaskList.equals(otherTaskList.internalTaskList);
+        if (encodedTasks != null || otherTaskList.encodedTasks != null) {
+            // tasks are equal exactly when their encodings are, so tasks that have not been created are left so
+            return getEncodedTasks().equals(otherTaskList.getEncodedTasks());
+        }
+        return tasks().equals(otherTaskList.tasks());
     }
 
     @Override
     public int hashCode() {
-        return internalTaskList.hashCode();
+        return getEncodedTasks().hashCode();
     }
 
     /**
@@ -196,22 +261,28 @@ public class TaskList extends ListEntryField implements Iterable<Task> {
 
     /**
      * Returns the set of tasks in this tasklist.
+     * Tasks cannot be changed, so the returned list shares them with this tasklist.
      * @return
      */
     public ArrayList<Task> getTaskListClone() {
-        ArrayList<Task> tasksClone = new ArrayList<>();
-        for (Task task : internalTaskList) {
-            tasksClone.add(task.clone());
-        }
-        return tasksClone;
+        return new ArrayList<>(tasks());
     }
 
+    /**
+     * Returns a clone of this tasklist that is equal to this tasklist.
+     * Tasks cannot be changed, so the clone shares them with this tasklist instead of creating new tasks.
+     */
     @Override
     public TaskList clone() {
         TaskList cloned = new TaskList();
-        internalTaskList.forEach(task -> {
-            cloned.add(new Task(task.getDescription(), task.isDone()));
-        });
+        if (encodedTasks != null) {
+            // the encoded tasks are never modified, so they can be shared
+            cloned.encodedTasks = encodedTasks;
+            return cloned;
+        }
+        cloned.encodedTasks = null;
+        cloned.internalTaskList = FXCollections.observableArrayList(internalTaskList);
+        cloned.internalUnmodifiableTaskList = FXCollections.unmodifiableObservableList(cloned.internalTaskList);
         return cloned;
     }
 
@@ -219,6 +290,6 @@ public class TaskList extends ListEntryField implements Iterable<Task> {
      * Returns the size of the tasklist.
      */
     public int size() {
-        return internalTaskList.size();
+        return encodedTasks != null ? encodedTasks.size() : internalTaskList.size();
     }
 }
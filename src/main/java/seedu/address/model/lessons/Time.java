@@ -21,6 +21,7 @@ import seedu.address.model.ListEntryField;
 public class Time extends ListEntryField {
     public static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("h:mm a");
     public static final Time DEFAULT_TIME = new Time();
+    private static final Pattern TIME_PATTERN = Pattern.compile(format("%s:%s", ONE_TO_TWO_DIGITS, TWO_DIGITS));
     private LocalTime time;
     public Time(LocalTime time) {
         this.time = time;
@@ -37,6 +38,10 @@ public class Time extends ListEntryField {
         return new Time(str);
     }
 
+    public LocalTime getTime() {
+        return time;
+    }
+
     /**
      * Serializes a time into a string.
      */
@@ -51,9 +56,7 @@ public class Time extends ListEntryField {
      * @throws ParseException if the input is not a valid time
      */
     private static LocalTime parseTime(String input) throws ParseException {
-        String hourMinPattern = format("%s:%s", ONE_TO_TWO_DIGITS, TWO_DIGITS);
-        Pattern p = Pattern.compile(hourMinPattern);
-        Matcher m = p.matcher(input);
+        Matcher m = TIME_PATTERN.matcher(input);
         if (m.matches()) {
             int hour = TypeParsingUtil.parseNum(m.group(1));
             int min = TypeParsingUtil.parseNum(m.group(2));
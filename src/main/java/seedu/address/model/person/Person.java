@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
@@ -38,6 +39,16 @@ public class Person extends ListEntry<Person> {
      */
     public Person(Name name, Phone phone, Email email, Address address,
                   Set<Subject> subjects, Set<Tag> tags, Remark remark) {
+        this(newId(), name, phone, email, address, subjects, tags, remark);
+    }
+
+    /**
+     * Creates a person with the given {@code id}, such as one read from storage.
+     * Every field must be present and not null.
+     */
+    public Person(long id, Name name, Phone phone, Email email, Address address,
+                  Set<Subject> subjects, Set<Tag> tags, Remark remark) {
+        super(id);
         requireAllNonNull(name, phone, email, address, subjects, tags, remark);
         this.name = name;
         this.phone = phone;
@@ -47,8 +58,11 @@ public class Person extends ListEntry<Person> {
         this.tags = new Tags(tags);
         this.remark = remark;
     }
+    /**
+     * Returns a person with only default fields and an id of its own.
+     */
     public static Person getDefaultPerson() {
-        return DEFAULT_PERSON.clone();
+        return new Person(DEFAULT_PERSON.getName());
     }
 
     public Phone getPhone() {
@@ -101,7 +115,7 @@ public class Person extends ListEntry<Person> {
      * if modification is attempted.
      */
     public Set<Subject> getSubjectsSet() {
-        return subjects.getSubjectSetClone();
+        return subjects.asUnmodifiableSet();
     }
     public Subjects getSubjects() {
         return subjects;
@@ -186,11 +200,13 @@ public class Person extends ListEntry<Person> {
          */
     }
     /**
-     * Returns a clone of this person that is equal to this person.
+     * Returns a clone of this person that is equal to this person and has the same id.
+     * The fields of a person cannot be changed, so the clone shares them with this person,
+     * and only the sets of subjects and tags, which can be added to, are copied.
      */
     public Person clone() {
-        return new Person(name.clone(), phone.clone(), email.clone(), address.clone(),
-                subjects.getSubjectSetClone(), tags.getTagSetClone(), remark.clone());
+        return new Person(getId(), name, phone, email, address,
+                new HashSet<>(subjects.asUnmodifiableSet()), new HashSet<>(tags.asUnmodifiableSet()), remark);
     }
 
     int compareTo(Person p) {
@@ -232,7 +248,11 @@ public class Person extends ListEntry<Person> {
             setRemark(remark);
         }
     }
+    /**
+     * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
+     * if modification is attempted.
+     */
     public Set<Tag> getTagsSet() {
-        return tags.getTagSetClone();
+        return tags.asUnmodifiableSet();
     }
 }
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -8,15 +9,24 @@ import seedu.address.model.ListEntryField;
 
 /**
  * Represents a group of Subjects in the application.
+ * The subjects are also kept as a bitmask of {@link Subject.Subjects} values, so that groups can be compared
+ * without walking their sets.
  */
 public class Subjects extends ListEntryField {
     public static final Subjects DEFAULT_SUBJECTS = new Subjects();
     private Set<Subject> subjects;
+    private int mask;
     public Subjects() {
         subjects = new HashSet<>();
     }
+    /**
+     * Constructs a {@code Subjects} backed by {@code subjects}, which should not be changed afterwards.
+     */
     public Subjects(Set<Subject> subjects) {
         this.subjects = subjects;
+        for (Subject subject : subjects) {
+            mask |= toBit(subject);
+        }
     }
     @Override
     public ListEntryField clone() {
@@ -42,6 +52,13 @@ public class Subjects extends ListEntryField {
             throw new IllegalArgumentException("Subject already exists");
         }
         subjects.add(subject);
+        mask |= toBit(subject);
+    }
+    /**
+     * Returns the subjects as a set that cannot be modified.
+     */
+    public Set<Subject> asUnmodifiableSet() {
+        return Collections.unmodifiableSet(subjects);
     }
     public Set<Subject> getSubjectSetClone() {
         HashSet<Subject> subjectsClone = new HashSet<>();
@@ -62,9 +79,13 @@ public class Subjects extends ListEntryField {
         return subjects.equals(otherSubjects.subjects);
     }
     public boolean containAll(Subjects other) {
-        return subjects.containsAll(other.subjects);
+        return (mask & other.mask) == other.mask;
     }
     public boolean contains(Subject subject) {
-        return subjects.contains(subject);
+        return (mask & toBit(subject)) != 0;
+    }
+
+    private static int toBit(Subject subject) {
+        return 1 << subject.subjectName.ordinal();
     }
 }
@@ -1,6 +1,7 @@
 package seedu.address.model.person;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.Set;
 
@@ -52,6 +53,12 @@ public class Tags extends ListEntryField {
         }
         tags.add(tag);
     }
+    /**
+     * Returns the tags as a set that cannot be modified.
+     */
+    public Set<Tag> asUnmodifiableSet() {
+        return Collections.unmodifiableSet(tags);
+    }
     public Set<Tag> getTagSetClone() {
         HashSet<Tag> tagsClone = new HashSet<>();
         for (Tag tag : tags) {
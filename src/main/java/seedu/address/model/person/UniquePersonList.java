@@ -3,8 +3,14 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 
@@ -12,6 +18,8 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.util.BitmapIndex;
+import seedu.address.model.util.TrigramIndex;
 
 /**
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
@@ -20,6 +28,10 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Persons are kept sorted by name and indexed by their case-insensitive name and by their id, so that identity
+ * checks and lookups by name or id do not need to scan the list. Their names are also indexed by trigram for
+ * substring searches, and their subjects and tags are indexed by bitmap, so that filtering by them intersects bitmaps.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -29,26 +41,71 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<String, Person> personsByName = new HashMap<>();
+    private final Map<Long, Person> personsById = new HashMap<>();
+    private final TrigramIndex<Person> nameIndex = new TrigramIndex<>();
+    private final BitmapIndex<Person> subjectAndTagIndex = new BitmapIndex<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByName.containsKey(toKey(toCheck.getName()));
     }
     /**
      * Returns true if the list contains a person with the same name as the given argument.
      */
     public boolean hasPersonClashWith(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::hasSameName);
+        return personsByName.containsKey(toKey(toCheck.getName()));
+    }
+
+    /**
+     * Returns a clone of the person with the given name, or null if there is no such person.
+     */
+    public Person getPersonWithName(Name name) {
+        requireNonNull(name);
+        Person person = personsByName.get(toKey(name));
+        return person == null ? null : person.clone();
+    }
+
+    /**
+     * Returns the person with the given id, or null if there is no such person.
+     * The person is the one in the list rather than a clone, so it must be cloned before it is edited.
+     */
+    public Person getPersonById(long id) {
+        return personsById.get(id);
     }
 
+    /**
+     * Returns the persons in the list that fulfill {@code predicate}.
+     * The persons are the ones in the list rather than clones, so they must be cloned before they are edited.
+     */
     public Set<Person> getPersonsFulfill(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        return internalList.stream().filter(predicate)
-                .map(Person::clone).collect(java.util.stream.Collectors.toSet());
+        return Collections.unmodifiableSet(internalList.stream().filter(predicate)
+                .collect(java.util.stream.Collectors.toSet()));
+    }
+
+    /**
+     * Returns a predicate that is true for the persons in the list whose name contains {@code substring},
+     * ignoring case. The predicate searches the name index and follows later changes to the list.
+     */
+    public Predicate<Person> getNameContainsPredicate(String substring) {
+        requireNonNull(substring);
+        return nameIndex.containing(substring);
+    }
+
+    /**
+     * Returns a predicate that is true for the persons in the list having all of {@code subjects} and {@code tags}.
+     * The predicate intersects the bitmaps of the subject and tag index and follows later changes to the list.
+     */
+    public Predicate<Person> getHasAllPredicate(Subjects subjects, Tags tags) {
+        requireAllNonNull(subjects, tags);
+        List<Object> keys = new ArrayList<>(subjects.asUnmodifiableSet());
+        keys.addAll(tags.asUnmodifiableSet());
+        return subjectAndTagIndex.containingAll(keys);
     }
 
     /**
@@ -60,8 +117,32 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(toAdd);
-        internalList.sort(Person::compareTo);
+        insertInOrder(toAdd);
+    }
+
+    /**
+     * Adds the persons in {@code toAdd} whose names are not already in the list or taken by an earlier person in
+     * {@code toAdd}, and returns the persons that were not added.
+     * The names are checked by hashing and the added persons are merged into the list with a single change, so adding
+     * many persons at once does not shift the list for each of them.
+     */
+    public List<Person> addAll(Collection<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        List<Person> added = new ArrayList<>(toAdd.size());
+        List<Person> rejected = new ArrayList<>();
+        for (Person person : toAdd) {
+            if (personsByName.putIfAbsent(toKey(person.getName()), person) == null) {
+                index(person);
+                added.add(person);
+            } else {
+                rejected.add(person);
+            }
+        }
+        if (!added.isEmpty()) {
+            added.sort(Person::compareTo);
+            internalList.setAll(mergeSorted(internalList, added));
+        }
+        return rejected;
     }
 
     /**
@@ -72,8 +153,8 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Person stored = personsByName.get(toKey(target.getName()));
+        if (stored == null || !stored.equals(target)) {
             throw new PersonNotFoundException();
         }
 
@@ -81,8 +162,17 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
-        internalList.sort(Person::compareTo);
+        int index = positionOf(stored);
+        personsByName.remove(toKey(stored.getName()));
+        unindex(stored);
+        if (fitsAt(index, editedPerson)) {
+            index(editedPerson);
+            internalList.set(index, editedPerson);
+            personsByName.put(toKey(editedPerson.getName()), editedPerson);
+        } else {
+            internalList.remove(index);
+            insertInOrder(editedPerson);
+        }
     }
 
     /**
@@ -91,16 +181,20 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Person stored = personsByName.get(toKey(toRemove.getName()));
+        if (stored == null || !stored.equals(toRemove)) {
             throw new PersonNotFoundException();
         }
-        internalList.sort(Person::compareTo);
+        unindex(stored);
+        internalList.remove(positionOf(stored));
+        personsByName.remove(toKey(stored.getName()));
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        rebuildIndex(replacement.internalList);
+        // the replacement is kept sorted like this list, so it does not need sorting again
         internalList.setAll(replacement.internalList);
-        internalList.sort(Person::compareTo);
     }
 
     /**
@@ -113,8 +207,11 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.setAll(persons);
-        internalList.sort(Person::compareTo);
+        rebuildIndex(persons);
+        // sorting before replacing the contents lets listeners see a single change
+        List<Person> sortedPersons = new ArrayList<>(persons);
+        sortedPersons.sort(Person::compareTo);
+        internalList.setAll(sortedPersons);
     }
 
     /**
@@ -158,13 +255,130 @@ public class UniquePersonList implements Iterable<Person> {
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<String> names = new HashSet<>();
+        for (Person person : persons) {
+            if (!names.add(toKey(person.getName()))) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Returns the index key of {@code name}, which matches names the same way as {@code Name#equals(Object)}.
+     */
+    private static String toKey(Name name) {
+        return name.fullName.toLowerCase();
+    }
+
+    /**
+     * Replaces the contents of the indexes with {@code persons}.
+     * This is done before the list changes, so that listeners of the list see the new indexes.
+     */
+    private void rebuildIndex(List<Person> persons) {
+        personsByName.clear();
+        personsById.clear();
+        nameIndex.clear();
+        subjectAndTagIndex.clear();
+        for (Person person : persons) {
+            personsByName.put(toKey(person.getName()), person);
+            index(person);
+        }
+    }
+
+    /**
+     * Adds {@code person} to the id, the name and the subject and tag indexes.
+     */
+    private void index(Person person) {
+        personsById.put(person.getId(), person);
+        nameIndex.add(person, person.getName().fullName);
+        List<Object> keys = new ArrayList<>(person.getSubjectsSet());
+        keys.addAll(person.getTagsSet());
+        subjectAndTagIndex.add(person, keys);
+    }
+
+    /**
+     * Removes {@code person} from the id, the name and the subject and tag indexes.
+     */
+    private void unindex(Person person) {
+        personsById.remove(person.getId(), person);
+        nameIndex.remove(person);
+        subjectAndTagIndex.remove(person);
+    }
+
+    /**
+     * Returns the position of the exact person instance {@code stored}, which must be in the list.
+     */
+    private int positionOf(Person stored) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (internalList.get(mid).compareTo(stored) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        for (int i = low; i < internalList.size() && internalList.get(i).compareTo(stored) == 0; i++) {
+            if (internalList.get(i) == stored) {
+                return i;
+            }
+        }
+        // the list is only out of order if a person was renamed in place, so fall back to a full scan
+        for (int i = 0; i < internalList.size(); i++) {
+            if (internalList.get(i) == stored) {
+                return i;
+            }
+        }
+        throw new PersonNotFoundException();
+    }
+
+    /**
+     * Inserts {@code toAdd} after every person that does not come after it, keeping the list sorted.
+     */
+    private void insertInOrder(Person toAdd) {
+        int low = 0;
+        int high = internalList.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (internalList.get(mid).compareTo(toAdd) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        index(toAdd);
+        internalList.add(low, toAdd);
+        personsByName.put(toKey(toAdd.getName()), toAdd);
+    }
+
+    /**
+     * Returns the persons of the sorted lists {@code existing} and {@code added} in order,
+     * with the persons of {@code existing} before equally ordered persons of {@code added}.
+     */
+    private static List<Person> mergeSorted(List<Person> existing, List<Person> added) {
+        List<Person> merged = new ArrayList<>(existing.size() + added.size());
+        int i = 0;
+        int j = 0;
+        while (i < existing.size() && j < added.size()) {
+            if (existing.get(i).compareTo(added.get(j)) <= 0) {
+                merged.add(existing.get(i++));
+            } else {
+                merged.add(added.get(j++));
+            }
+        }
+        merged.addAll(existing.subList(i, existing.size()));
+        merged.addAll(added.subList(j, added.size()));
+        return merged;
+    }
+
+    /**
+     * Returns true if {@code person} can replace the person at {@code index} without breaking the order of the list.
+     */
+    private boolean fitsAt(int index, Person person) {
+        boolean afterPrevious = index == 0 || internalList.get(index - 1).compareTo(person) <= 0;
+        boolean beforeNext = index == internalList.size() - 1 || person.compareTo(internalList.get(index + 1)) <= 0;
+        return afterPrevious && beforeNext;
+    }
 }
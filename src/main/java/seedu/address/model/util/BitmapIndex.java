@@ -0,0 +1,157 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Indexes entries by the keys they have, such as their subjects and tags, so that the entries having all of a
+ * group of keys can be found by intersecting bitmaps instead of checking every entry.
+ * <p>
+ * Each entry takes up a slot, and slots freed by removed entries are reused, so that the bitmaps stay dense.
+ * Each distinct key is given an id, and the bitmap of a key id has the slots of the entries having that key.
+ * Entries are tracked by identity, so an entry must be removed and added again when its keys change.
+ */
+public class BitmapIndex<T> {
+    private final Map<T, Integer> slots = new IdentityHashMap<>();
+    private final List<T> entriesBySlot = new ArrayList<>();
+    private final List<int[]> keyIdsBySlot = new ArrayList<>();
+    private final BitSet occupiedSlots = new BitSet();
+
+    private final Map<Object, Integer> keyIds = new HashMap<>();
+    private final List<BitSet> bitmapsByKeyId = new ArrayList<>();
+    private int modificationCount = 0;
+
+    /**
+     * Adds {@code entry} to the index under each of {@code keys}.
+     * Does nothing if that exact entry is already indexed.
+     */
+    public void add(T entry, Collection<?> keys) {
+        requireNonNull(entry);
+        requireNonNull(keys);
+        if (slots.containsKey(entry)) {
+            return;
+        }
+        int slot = occupiedSlots.nextClearBit(0);
+        int[] entryKeyIds = keys.stream().mapToInt(this::idOf).distinct().toArray();
+        for (int keyId : entryKeyIds) {
+            bitmapsByKeyId.get(keyId).set(slot);
+        }
+        if (slot == entriesBySlot.size()) {
+            entriesBySlot.add(entry);
+            keyIdsBySlot.add(entryKeyIds);
+        } else {
+            entriesBySlot.set(slot, entry);
+            keyIdsBySlot.set(slot, entryKeyIds);
+        }
+        occupiedSlots.set(slot);
+        slots.put(entry, slot);
+        modificationCount++;
+    }
+
+    /**
+     * Removes {@code entry} from the index. Does nothing if that exact entry is not indexed.
+     */
+    public void remove(T entry) {
+        requireNonNull(entry);
+        Integer slot = slots.remove(entry);
+        if (slot == null) {
+            return;
+        }
+        for (int keyId : keyIdsBySlot.get(slot)) {
+            bitmapsByKeyId.get(keyId).clear(slot);
+        }
+        entriesBySlot.set(slot, null);
+        keyIdsBySlot.set(slot, null);
+        occupiedSlots.clear(slot);
+        modificationCount++;
+    }
+
+    public void clear() {
+        slots.clear();
+        entriesBySlot.clear();
+        keyIdsBySlot.clear();
+        occupiedSlots.clear();
+        keyIds.clear();
+        bitmapsByKeyId.clear();
+        modificationCount++;
+    }
+
+    /**
+     * Returns the indexed entries having all of {@code keys}, or all indexed entries if {@code keys} is empty.
+     */
+    public List<T> find(Collection<?> keys) {
+        BitSet matches = findSlots(keys);
+        List<T> entries = new ArrayList<>(matches.cardinality());
+        for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+            entries.add(entriesBySlot.get(slot));
+        }
+        return entries;
+    }
+
+    /**
+     * Returns a predicate that is true for the indexed entries having all of {@code keys}.
+     * The predicate follows later changes to the index, searching it again only after it has changed.
+     */
+    public Predicate<T> containingAll(Collection<?> keys) {
+        requireNonNull(keys);
+        List<?> searchKeys = List.copyOf(keys);
+        return new Predicate<>() {
+            private BitSet matches;
+            private int searchedAt;
+
+            @Override
+            public boolean test(T entry) {
+                if (matches == null || searchedAt != modificationCount) {
+                    matches = findSlots(searchKeys);
+                    searchedAt = modificationCount;
+                }
+                Integer slot = slots.get(entry);
+                return slot != null && matches.get(slot);
+            }
+        };
+    }
+
+    /**
+     * Returns the slots of the entries having all of {@code keys}, intersecting the smallest bitmaps first.
+     */
+    private BitSet findSlots(Collection<?> keys) {
+        requireNonNull(keys);
+        List<BitSet> bitmaps = new ArrayList<>(keys.size());
+        for (Object key : keys) {
+            Integer keyId = keyIds.get(key);
+            if (keyId == null) {
+                return new BitSet();
+            }
+            bitmaps.add(bitmapsByKeyId.get(keyId));
+        }
+        if (bitmaps.isEmpty()) {
+            return (BitSet) occupiedSlots.clone();
+        }
+        bitmaps.sort(Comparator.comparingInt(BitSet::cardinality));
+        BitSet matches = (BitSet) bitmaps.get(0).clone();
+        for (int i = 1; i < bitmaps.size() && !matches.isEmpty(); i++) {
+            matches.and(bitmaps.get(i));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the id of {@code key}, giving it the next id if it has none.
+     */
+    private int idOf(Object key) {
+        requireNonNull(key);
+        return keyIds.computeIfAbsent(key, k -> {
+            bitmapsByKeyId.add(new BitSet());
+            return bitmapsByKeyId.size() - 1;
+        });
+    }
+}
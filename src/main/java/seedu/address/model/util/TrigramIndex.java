@@ -0,0 +1,132 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * Indexes entries by the three-character substrings (trigrams) of their text, ignoring case, so that entries whose
+ * text contains a search string can be found without scanning every entry.
+ * <p>
+ * A search only verifies the entries that share the search string's rarest trigram.
+ * Search strings shorter than a trigram are checked against every entry, which needs no lowercasing.
+ * Entries are tracked by identity, so an entry must be removed and added again when its text changes.
+ */
+public class TrigramIndex<T> {
+    private static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<T>> entriesByGram = new HashMap<>();
+    private final Map<T, String> indexedTexts = new IdentityHashMap<>();
+    private int modificationCount = 0;
+
+    /**
+     * Adds {@code entry} to the index under {@code text}.
+     * Does nothing if that exact entry is already indexed.
+     */
+    public void add(T entry, String text) {
+        requireNonNull(entry);
+        requireNonNull(text);
+        if (indexedTexts.containsKey(entry)) {
+            return;
+        }
+        String key = text.toLowerCase();
+        indexedTexts.put(entry, key);
+        for (int i = 0; i + GRAM_LENGTH <= key.length(); i++) {
+            entriesByGram.computeIfAbsent(key.substring(i, i + GRAM_LENGTH), k -> newIdentitySet()).add(entry);
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Removes {@code entry} from the index. Does nothing if that exact entry is not indexed.
+     */
+    public void remove(T entry) {
+        requireNonNull(entry);
+        String key = indexedTexts.remove(entry);
+        if (key == null) {
+            return;
+        }
+        for (int i = 0; i + GRAM_LENGTH <= key.length(); i++) {
+            String gram = key.substring(i, i + GRAM_LENGTH);
+            Set<T> entries = entriesByGram.get(gram);
+            if (entries != null) {
+                entries.remove(entry);
+                if (entries.isEmpty()) {
+                    entriesByGram.remove(gram);
+                }
+            }
+        }
+        modificationCount++;
+    }
+
+    public void clear() {
+        entriesByGram.clear();
+        indexedTexts.clear();
+        modificationCount++;
+    }
+
+    /**
+     * Returns the indexed entries whose text contains {@code searchString}, ignoring case.
+     * The returned set compares entries by identity.
+     */
+    public Set<T> find(String searchString) {
+        requireNonNull(searchString);
+        String query = searchString.toLowerCase();
+        Set<T> matches = newIdentitySet();
+        if (query.length() < GRAM_LENGTH) {
+            indexedTexts.forEach((entry, key) -> {
+                if (key.contains(query)) {
+                    matches.add(entry);
+                }
+            });
+            return matches;
+        }
+
+        Set<T> candidates = null;
+        for (int i = 0; i + GRAM_LENGTH <= query.length(); i++) {
+            Set<T> entries = entriesByGram.get(query.substring(i, i + GRAM_LENGTH));
+            if (entries == null) {
+                return matches;
+            }
+            if (candidates == null || entries.size() < candidates.size()) {
+                candidates = entries;
+            }
+        }
+        for (T candidate : candidates) {
+            if (indexedTexts.get(candidate).contains(query)) {
+                matches.add(candidate);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns a predicate that is true for the indexed entries whose text contains {@code searchString}, ignoring case.
+     * The predicate follows later changes to the index, searching it again only after it has changed.
+     */
+    public Predicate<T> containing(String searchString) {
+        requireNonNull(searchString);
+        return new Predicate<>() {
+            private Set<T> matches;
+            private int searchedAt;
+
+            @Override
+            public boolean test(T entry) {
+                if (matches == null || searchedAt != modificationCount) {
+                    matches = find(searchString);
+                    searchedAt = modificationCount;
+                }
+                return matches.contains(entry);
+            }
+        };
+    }
+
+    private static <T> Set<T> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+}
@@ -30,6 +30,12 @@ public interface AddressBookStorage {
      */
     Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException;
 
+    /**
+     * Returns true if the address book last read had persons without ids, as they were saved before persons had ids.
+     * The ids they were given when read are only kept once the address book is saved again.
+     */
+    boolean isAddressBookMissingIds();
+
     /**
      * Saves the given {@link ReadOnlyAddressBook} to the storage.
      * @param addressBook cannot be null.
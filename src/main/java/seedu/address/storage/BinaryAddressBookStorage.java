@@ -0,0 +1,151 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Subject;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a {@link BinarySnapshot} on the hard disk.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+    private boolean isMissingIds = false;
+    private AddressBookStorage fallbackStorage;
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} that reads from {@code fallbackStorage} while there is no snapshot,
+     * so that data saved in another format is kept when switching to this one.
+     */
+    public BinaryAddressBookStorage(Path filePath, AddressBookStorage fallbackStorage) {
+        this.filePath = filePath;
+        this.fallbackStorage = fallbackStorage;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            Optional<ReadOnlyAddressBook> fallbackData = fallbackStorage.readAddressBook();
+            isMissingIds = fallbackStorage.isAddressBookMissingIds();
+            return fallbackData;
+        }
+
+        try {
+            BinarySnapshot.Reader reader = BinarySnapshot.Reader.open(filePath, BinarySnapshot.KIND_ADDRESS_BOOK);
+            AddressBook addressBook = new AddressBook();
+            int personCount = reader.readInt();
+            isMissingIds = !reader.hasIds() && personCount > 0;
+            for (int i = 0; i < personCount; i++) {
+                Person person = readPerson(reader).toModelType();
+                if (addressBook.hasPerson(person)) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                }
+                addressBook.addPerson(person);
+            }
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from snapshot file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Reads a person into a {@code JsonAdaptedPerson}, so that it is checked in the same way as a person in JSON.
+     */
+    private static JsonAdaptedPerson readPerson(BinarySnapshot.Reader reader) throws IllegalValueException {
+        Long id = reader.hasIds() ? reader.readLong() : null;
+        String name = reader.readString();
+        String phone = reader.readString();
+        String email = reader.readString();
+        String address = reader.readString();
+        int subjectCount = reader.readInt();
+        List<JsonAdaptedSubject> subjects = new ArrayList<>();
+        for (int i = 0; i < subjectCount; i++) {
+            subjects.add(new JsonAdaptedSubject(reader.readString()));
+        }
+        int tagCount = reader.readInt();
+        List<JsonAdaptedTag> tags = new ArrayList<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new JsonAdaptedTag(reader.readString()));
+        }
+        String remark = reader.readString();
+        return new JsonAdaptedPerson(id, name, phone, email, address, subjects, tags, remark);
+    }
+
+    @Override
+    public boolean isAddressBookMissingIds() {
+        return isMissingIds;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        BinarySnapshot.Writer writer = new BinarySnapshot.Writer(BinarySnapshot.KIND_ADDRESS_BOOK);
+        writer.writeInt(addressBook.getPersonList().size());
+        for (Person person : addressBook.getPersonList()) {
+            writer.writeLong(person.getId());
+            writer.writeString(person.getName().fullName);
+            writer.writeString(person.getPhone().value);
+            writer.writeString(person.getEmail().value);
+            writer.writeString(person.getAddress().value);
+            writer.writeInt(person.getSubjectsSet().size());
+            for (Subject subject : person.getSubjectsSet()) {
+                writer.writeString(subject.subjectName.toString());
+            }
+            writer.writeInt(person.getTagsSet().size());
+            for (Tag tag : person.getTagsSet()) {
+                writer.writeString(tag.tagName);
+            }
+            writer.writeString(person.getRemark().value);
+        }
+        writer.writeTo(filePath);
+    }
+
+}
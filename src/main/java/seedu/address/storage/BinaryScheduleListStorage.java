@@ -0,0 +1,176 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.util.SerializeUtil.deserialize;
+import static seedu.address.model.util.SerializeUtil.serialize;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlySchedule;
+import seedu.address.model.ScheduleList;
+import seedu.address.model.lessons.Day;
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.lessons.TaskList;
+import seedu.address.model.lessons.Time;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Subject;
+
+/**
+ * A class to access ScheduleList data stored as a {@link BinarySnapshot} on the hard disk.
+ * Dates are stored as epoch days and times as seconds of the day.
+ */
+public class BinaryScheduleListStorage implements ScheduleStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryScheduleListStorage.class);
+
+    private Path filePath;
+    private boolean isMissingIds = false;
+    private ScheduleStorage fallbackStorage;
+
+    /**
+     * Creates a {@code BinaryScheduleListStorage} that reads from {@code fallbackStorage} while there is no snapshot,
+     * so that data saved in another format is kept when switching to this one.
+     */
+    public BinaryScheduleListStorage(Path filePath, ScheduleStorage fallbackStorage) {
+        this.filePath = filePath;
+        this.fallbackStorage = fallbackStorage;
+    }
+
+    public Path getScheduleListFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlySchedule> readScheduleList() throws DataLoadingException {
+        return readScheduleList(filePath);
+    }
+
+    /**
+     * Similar to {@link #readScheduleList()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlySchedule> readScheduleList(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            Optional<ReadOnlySchedule> fallbackData = fallbackStorage.readScheduleList();
+            isMissingIds = fallbackStorage.isScheduleListMissingIds();
+            return fallbackData;
+        }
+
+        try {
+            BinarySnapshot.Reader reader = BinarySnapshot.Reader.open(filePath, BinarySnapshot.KIND_SCHEDULE);
+            ScheduleList scheduleList = new ScheduleList();
+            int lessonCount = reader.readInt();
+            isMissingIds = !reader.hasIds() && lessonCount > 0;
+            for (int i = 0; i < lessonCount; i++) {
+                Lesson lesson = readLesson(reader);
+                if (scheduleList.hasLesson(lesson)) {
+                    throw new IllegalValueException(JsonSerializableSchedule.MESSAGE_DUPLICATE_LESSON);
+                }
+                scheduleList.addLesson(lesson);
+            }
+            return Optional.of(scheduleList);
+        } catch (IOException e) {
+            logger.warning("Error reading from snapshot file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    private static Lesson readLesson(BinarySnapshot.Reader reader) throws IllegalValueException {
+        Long id = reader.hasIds() ? reader.readLong() : null;
+        String name = reader.readString();
+        int start = reader.readInt();
+        int end = reader.readInt();
+        int day = reader.readInt();
+        String subject = reader.readString();
+        int taskCount = reader.readInt();
+        try {
+            // the tasks are kept encoded as by Task#serialize(), so they are only created when first used
+            List<String> encodedTasks = new ArrayList<>(taskCount);
+            for (int i = 0; i < taskCount; i++) {
+                boolean isDone = reader.readBoolean();
+                encodedTasks.add((isDone ? "+" : "-") + reader.readString());
+            }
+            TaskList taskList = TaskList.ofEncoded(encodedTasks);
+            Name lessonName = deserialize(Name.DEFAULT_NAME, Name::of, name);
+            Day lessonDay = day == BinarySnapshot.NO_VALUE ? Day.DEFAULT_DAY : new Day(LocalDate.ofEpochDay(day));
+            Subject lessonSubject = deserialize(Subject.DEFAULT_SUBJECT, Subject::of, subject);
+            return id == null
+                    ? new Lesson(lessonName, toTime(start), toTime(end), lessonDay, lessonSubject, taskList)
+                    : new Lesson(id, lessonName, toTime(start), toTime(end), lessonDay, lessonSubject, taskList);
+        } catch (IllegalValueException ive) {
+            throw ive;
+        } catch (Exception e) {
+            throw new IllegalValueException(e.getMessage());
+        }
+    }
+
+    private static Time toTime(int secondOfDay) {
+        return secondOfDay == BinarySnapshot.NO_VALUE
+                ? Time.DEFAULT_TIME
+                : new Time(LocalTime.ofSecondOfDay(secondOfDay));
+    }
+
+    private static int fromTime(Time time) {
+        return time == Time.DEFAULT_TIME ? BinarySnapshot.NO_VALUE : time.getTime().toSecondOfDay();
+    }
+
+    @Override
+    public boolean isScheduleListMissingIds() {
+        return isMissingIds;
+    }
+
+    @Override
+    public void saveScheduleList(ReadOnlySchedule schedule) throws IOException {
+        saveScheduleList(schedule, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveScheduleList(ReadOnlySchedule)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveScheduleList(ReadOnlySchedule schedule, Path filePath) throws IOException {
+        requireNonNull(schedule);
+        requireNonNull(filePath);
+
+        BinarySnapshot.Writer writer = new BinarySnapshot.Writer(BinarySnapshot.KIND_SCHEDULE);
+        writer.writeInt(schedule.getLessonList().size());
+        for (Lesson lesson : schedule.getLessonList()) {
+            writer.writeLong(lesson.getId());
+            writer.writeString(serialize(lesson.getName()));
+            writer.writeInt(fromTime(lesson.getStart()));
+            writer.writeInt(fromTime(lesson.getEnd()));
+            writer.writeInt(lesson.getDay() == Day.DEFAULT_DAY
+                    ? BinarySnapshot.NO_VALUE
+                    : (int) lesson.getDay().getDay().toEpochDay());
+            writer.writeString(serialize(lesson.getSubject()));
+            // written from the encoded tasks, so that task lists that have not been used are not decoded
+            List<String> encodedTasks = lesson.getTaskList().getEncodedTasks();
+            writer.writeInt(encodedTasks.size());
+            for (String encodedTask : encodedTasks) {
+                writer.writeBoolean(encodedTask.charAt(0) == '+');
+                writer.writeString(encodedTask.substring(1));
+            }
+        }
+        writer.writeTo(filePath);
+    }
+
+}
@@ -0,0 +1,253 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.events.StorageEvent;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * The binary snapshot format that data files can be stored in instead of JSON.
+ * <p>
+ * A snapshot starts with a header made of a magic number, the format version and the kind of data stored.
+ * It is followed by a string table and a body, each prefixed with its length in bytes and its CRC32 checksum.
+ * Every distinct string is stored once in the string table and referred to from the body by its index,
+ * so repeated values such as subjects and tags take up four bytes each.
+ */
+final class BinarySnapshot {
+
+    static final int MAGIC = 0x544D534E;
+    /** Version 2 added the ids of persons and lessons, which version 1 snapshots are read without. */
+    static final short VERSION = 2;
+    static final short VERSION_WITH_IDS = 2;
+
+    static final byte KIND_ADDRESS_BOOK = 1;
+    static final byte KIND_SCHEDULE = 2;
+    static final byte KIND_PERSON_LESSON_MAP = 3;
+
+    /** Stored in place of an int or string index that has no value. */
+    static final int NO_VALUE = Integer.MIN_VALUE;
+
+    private static final int HEADER_SIZE = Integer.BYTES + Short.BYTES + Byte.BYTES;
+
+    private BinarySnapshot() {}
+
+    /**
+     * Builds the string table and body of a snapshot in memory, then writes them to a file.
+     */
+    static class Writer {
+        private final Map<String, Integer> stringIndices = new HashMap<>();
+        private final ByteArrayOutputStream stringBytes = new ByteArrayOutputStream();
+        private final DataOutputStream strings = new DataOutputStream(stringBytes);
+        private final ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream();
+        private final DataOutputStream body = new DataOutputStream(bodyBytes);
+        private final byte kind;
+
+        Writer(byte kind) {
+            this.kind = kind;
+        }
+
+        void writeInt(int value) throws IOException {
+            body.writeInt(value);
+        }
+
+        void writeLong(long value) throws IOException {
+            body.writeLong(value);
+        }
+
+        void writeBoolean(boolean value) throws IOException {
+            body.writeBoolean(value);
+        }
+
+        /**
+         * Writes the index of {@code value} in the string table, adding it to the table if it is new.
+         * A null {@code value} is written as {@link #NO_VALUE}.
+         */
+        void writeString(String value) throws IOException {
+            if (value == null) {
+                body.writeInt(NO_VALUE);
+                return;
+            }
+            Integer index = stringIndices.get(value);
+            if (index == null) {
+                index = stringIndices.size();
+                stringIndices.put(value, index);
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                strings.writeInt(bytes.length);
+                strings.write(bytes);
+            }
+            body.writeInt(index);
+        }
+
+        /**
+         * Writes the snapshot to {@code file}, replacing it only once it is completely written.
+         */
+        void writeTo(Path file) throws IOException {
+            byte[] stringTable = stringBytes.toByteArray();
+            byte[] bodyContent = bodyBytes.toByteArray();
+            FileUtil.createParentDirsOfFile(file);
+            FileUtil.writeToFile(file, out -> {
+                DataOutputStream data = new DataOutputStream(out);
+                data.writeInt(MAGIC);
+                data.writeShort(VERSION);
+                data.writeByte(kind);
+                data.writeInt(stringIndices.size());
+                writeSection(data, stringTable);
+                writeSection(data, bodyContent);
+                data.flush();
+            });
+        }
+
+        private static void writeSection(DataOutputStream data, byte[] section) throws IOException {
+            CRC32 checksum = new CRC32();
+            checksum.update(section);
+            data.writeInt(section.length);
+            data.writeInt((int) checksum.getValue());
+            data.write(section);
+        }
+    }
+
+    /**
+     * Reads the body of a snapshot file held in memory.
+     * The header and checksums are verified before any of the body is read.
+     */
+    static class Reader {
+        private final short version;
+        private final List<String> strings;
+        private final ByteBuffer body;
+
+        private Reader(short version, List<String> strings, ByteBuffer body) {
+            this.version = version;
+            this.strings = strings;
+            this.body = body;
+        }
+
+        /**
+         * Returns true if the snapshot was written in a version that stores the ids of persons and lessons.
+         */
+        boolean hasIds() {
+            return version >= VERSION_WITH_IDS;
+        }
+
+        /**
+         * Reads {@code file} into memory and verifies that it is an intact snapshot of the given kind.
+         *
+         * @throws IOException if the file could not be read.
+         * @throws IllegalValueException if the file is not a snapshot of the given kind or is corrupted.
+         */
+        static Reader open(Path file, byte kind) throws IOException, IllegalValueException {
+            StorageEvent event = StorageEvent.start(StorageEvent.OPERATION_LOAD, file);
+            // read onto the heap rather than mapped, as a mapped file cannot be replaced on some platforms
+            // until the mapping is garbage collected, which would make the next save of the file fail
+            ByteBuffer buffer;
+            try {
+                buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+            } catch (IOException e) {
+                event.commit();
+                throw e;
+            }
+            event.setBytes(buffer.capacity());
+            try {
+                if (buffer.remaining() < HEADER_SIZE || buffer.getInt() != MAGIC) {
+                    throw new IllegalValueException("Not a snapshot file: " + file);
+                }
+                short version = buffer.getShort();
+                if (version < 1 || version > VERSION) {
+                    throw new IllegalValueException("Unsupported snapshot version " + version + ": " + file);
+                }
+                if (buffer.get() != kind) {
+                    throw new IllegalValueException("Snapshot holds a different kind of data: " + file);
+                }
+                int stringCount = buffer.getInt();
+                ByteBuffer stringTable = readSection(buffer, file);
+                ByteBuffer body = readSection(buffer, file);
+
+                // the count is not covered by a checksum, so it is checked before anything is sized by it
+                if (stringCount < 0 || stringCount > stringTable.remaining() / Integer.BYTES) {
+                    throw new IllegalValueException("Snapshot file is corrupted: " + file);
+                }
+                List<String> strings = new ArrayList<>(stringCount);
+                for (int i = 0; i < stringCount; i++) {
+                    int length = stringTable.getInt();
+                    if (length < 0 || length > stringTable.remaining()) {
+                        throw new IllegalValueException("Snapshot file is corrupted: " + file);
+                    }
+                    byte[] bytes = new byte[length];
+                    stringTable.get(bytes);
+                    strings.add(new String(bytes, StandardCharsets.UTF_8));
+                }
+                return new Reader(version, strings, body);
+            } catch (BufferUnderflowException | IllegalArgumentException | NegativeArraySizeException e) {
+                throw new IllegalValueException("Snapshot file is truncated: " + file);
+            } finally {
+                // reading the checksums has read the whole file
+                event.commit();
+            }
+        }
+
+        private static ByteBuffer readSection(ByteBuffer buffer, Path file) throws IllegalValueException {
+            int length = buffer.getInt();
+            int expectedChecksum = buffer.getInt();
+            ByteBuffer section = buffer.slice();
+            section.limit(length);
+            buffer.position(buffer.position() + length);
+
+            CRC32 checksum = new CRC32();
+            checksum.update(section.duplicate());
+            if ((int) checksum.getValue() != expectedChecksum) {
+                throw new IllegalValueException("Snapshot file is corrupted: " + file);
+            }
+            return section;
+        }
+
+        int readInt() throws IllegalValueException {
+            try {
+                return body.getInt();
+            } catch (BufferUnderflowException e) {
+                throw new IllegalValueException("Snapshot ended unexpectedly");
+            }
+        }
+
+        long readLong() throws IllegalValueException {
+            try {
+                return body.getLong();
+            } catch (BufferUnderflowException e) {
+                throw new IllegalValueException("Snapshot ended unexpectedly");
+            }
+        }
+
+        boolean readBoolean() throws IllegalValueException {
+            try {
+                return body.get() != 0;
+            } catch (BufferUnderflowException e) {
+                throw new IllegalValueException("Snapshot ended unexpectedly");
+            }
+        }
+
+        /**
+         * Reads a string written by {@link Writer#writeString(String)}, which is null if it had no value.
+         */
+        String readString() throws IllegalValueException {
+            int index = readInt();
+            if (index == NO_VALUE) {
+                return null;
+            }
+            if (index < 0 || index >= strings.size()) {
+                throw new IllegalValueException("Snapshot refers to a missing string " + index);
+            }
+            return strings.get(index);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.BiDirectionalMap;
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.person.Person;
+
+/**
+ * Manages storage of all data as {@link BinarySnapshot}s in local storage.
+ * Each snapshot is kept next to the JSON file of the same data, which is read instead while the snapshot is missing.
+ */
+public class BinaryStorageManager extends StorageManager {
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryStorageManager.class);
+
+    private static final String SNAPSHOT_FILE_EXTENSION = ".bin";
+
+    private final Path personLessonMapFilePath;
+
+    /**
+     * Creates a {@code BinaryStorageManager} that keeps its snapshots next to the given JSON data files.
+     */
+    public BinaryStorageManager(UserPrefsStorage userPrefsStorage, Path addressBookFilePath,
+                                Path scheduleListFilePath) {
+        this(userPrefsStorage, addressBookFilePath, scheduleListFilePath,
+                toSnapshotFilePath(Paths.get("data", "personLessonMap.json")));
+    }
+
+    BinaryStorageManager(UserPrefsStorage userPrefsStorage, Path addressBookFilePath, Path scheduleListFilePath,
+                         Path personLessonMapFilePath) {
+        super(new BinaryAddressBookStorage(toSnapshotFilePath(addressBookFilePath),
+                        new JsonAddressBookStorage(addressBookFilePath)),
+                userPrefsStorage,
+                new BinaryScheduleListStorage(toSnapshotFilePath(scheduleListFilePath),
+                        new JsonScheduleListStorage(scheduleListFilePath)));
+        this.personLessonMapFilePath = personLessonMapFilePath;
+    }
+
+    /**
+     * Returns the path of the snapshot kept next to {@code jsonFilePath}.
+     */
+    public static Path toSnapshotFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        String baseName = fileName.endsWith(".json") ? fileName.substring(0, fileName.length() - 5) : fileName;
+        return jsonFilePath.resolveSibling(baseName + SNAPSHOT_FILE_EXTENSION);
+    }
+
+    @Override
+    public BiDirectionalMap<Person, Lesson> getPersonLessonMap() throws DataLoadingException {
+        if (!Files.exists(personLessonMapFilePath)) {
+            return super.getPersonLessonMap();
+        }
+
+        try {
+            BinarySnapshot.Reader reader = BinarySnapshot.Reader.open(personLessonMapFilePath,
+                    BinarySnapshot.KIND_PERSON_LESSON_MAP);
+            Map<String, Set<String>> names = new HashMap<>();
+            int keyCount = reader.readInt();
+            for (int i = 0; i < keyCount; i++) {
+                String key = readName(reader);
+                int valueCount = reader.readInt();
+                Set<String> values = new HashSet<>();
+                for (int j = 0; j < valueCount; j++) {
+                    values.add(readName(reader));
+                }
+                names.put(key, values);
+            }
+            return BiDirectionalMap.fromLinkMap(names);
+        } catch (IOException e) {
+            logger.warning("Error reading from snapshot file " + personLessonMapFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + personLessonMapFilePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    private static String readName(BinarySnapshot.Reader reader) throws IllegalValueException {
+        String name = reader.readString();
+        if (name == null) {
+            throw new IllegalValueException("Person to lesson map has a missing name");
+        }
+        return name;
+    }
+
+    @Override
+    public void savePersonLessonMap(BiDirectionalMap<Person, Lesson> personLessonMap) throws IOException {
+        HashMap<String, HashSet<String>> names = personLessonMap.toLinkMap();
+        BinarySnapshot.Writer writer = new BinarySnapshot.Writer(BinarySnapshot.KIND_PERSON_LESSON_MAP);
+        writer.writeInt(names.size());
+        for (Map.Entry<String, HashSet<String>> entry : names.entrySet()) {
+            writer.writeString(entry.getKey());
+            writer.writeInt(entry.getValue().size());
+            for (String value : entry.getValue()) {
+                writer.writeString(value);
+            }
+        }
+        writer.writeTo(personLessonMapFilePath);
+    }
+}
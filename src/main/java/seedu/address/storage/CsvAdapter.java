@@ -0,0 +1,182 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.util.SerializeUtil.serialize;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ListEntryField;
+import seedu.address.model.lessons.Day;
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.lessons.Time;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Subject;
+
+/**
+ * Converts persons, lessons and links to and from records of comma-separated values.
+ * <p>
+ * The first field of a record is its type, followed by the fields of {@link #PERSON_HEADER}, {@link #LESSON_HEADER}
+ * or {@link #LINK_HEADER}. An empty field stands for a value that is yet to be added, except for a remark, which is
+ * kept as it is. The subjects and tags of a person are separated by semicolons, and each task of a lesson is a field
+ * of its own, encoded as by the JSON storage.
+ * Records are converted through the JSON adapted entries, so they are checked in the same way as the data files.
+ */
+public class CsvAdapter {
+    public static final String PERSON_TYPE = "person";
+    public static final String LESSON_TYPE = "lesson";
+    public static final String LINK_TYPE = "link";
+    public static final String COMMENT_PREFIX = "#";
+
+    public static final List<String> PERSON_HEADER =
+            List.of(COMMENT_PREFIX + PERSON_TYPE, "name", "phone", "email", "address", "subjects", "tags", "remark");
+    public static final List<String> LESSON_HEADER =
+            List.of(COMMENT_PREFIX + LESSON_TYPE, "name", "day", "start", "end", "subject", "tasks...");
+    public static final List<String> LINK_HEADER = List.of(COMMENT_PREFIX + LINK_TYPE, "person", "lesson");
+
+    public static final String MESSAGE_WRONG_FIELD_COUNT = "A %1$s record should have %2$s fields, but it has %3$d.";
+
+    private static final String VALUE_SEPARATOR = ";";
+
+    /**
+     * Returns true if {@code record} is blank or a comment, which are skipped when records are read.
+     */
+    public static boolean isSkipped(List<String> record) {
+        requireNonNull(record);
+        String first = record.get(0).trim();
+        return first.startsWith(COMMENT_PREFIX) || (record.size() == 1 && first.isEmpty());
+    }
+
+    /**
+     * Returns the type of {@code record}, in lower case.
+     */
+    public static String getType(List<String> record) {
+        requireNonNull(record);
+        return record.get(0).trim().toLowerCase();
+    }
+
+    /**
+     * Returns the record of {@code person}.
+     */
+    public static List<String> toRecord(Person person) {
+        requireNonNull(person);
+        return List.of(PERSON_TYPE, person.getName().fullName,
+                orEmpty(person.getPhone().value, Phone.DEFAULT_PHONE_MESSAGE),
+                orEmpty(person.getEmail().value, Email.DEFAULT_EMAIL_MESSAGE),
+                orEmpty(person.getAddress().value, Address.DEFAULT_ADDRESS_MESSAGE),
+                person.getSubjectsSet().stream().map(subject -> new JsonAdaptedSubject(subject).getSubjectName())
+                        .sorted().collect(Collectors.joining(VALUE_SEPARATOR)),
+                person.getTagsSet().stream().map(tag -> new JsonAdaptedTag(tag).getTagName())
+                        .sorted().collect(Collectors.joining(VALUE_SEPARATOR)),
+                person.getRemark().value);
+    }
+
+    /**
+     * Returns the record of {@code lesson}, including its tasks.
+     */
+    public static List<String> toRecord(Lesson lesson) {
+        requireNonNull(lesson);
+        List<String> record = new ArrayList<>(List.of(LESSON_TYPE, orEmpty(lesson.getName(), Name.DEFAULT_NAME),
+                orEmpty(lesson.getDay(), Day.DEFAULT_DAY), orEmpty(lesson.getStart(), Time.DEFAULT_TIME),
+                orEmpty(lesson.getEnd(), Time.DEFAULT_TIME), orEmpty(lesson.getSubject(), Subject.DEFAULT_SUBJECT)));
+        // encoded tasks are copied as they are, so tasks that have not been loaded are not created
+        record.addAll(lesson.getTaskList().getEncodedTasks());
+        return record;
+    }
+
+    /**
+     * Returns the record of a link between the person named {@code personName} and the lesson named {@code lessonName}.
+     */
+    public static List<String> toLinkRecord(Name personName, Name lessonName) {
+        requireNonNull(personName);
+        requireNonNull(lessonName);
+        return List.of(LINK_TYPE, personName.fullName, lessonName.fullName);
+    }
+
+    /**
+     * Returns the person in the person record {@code record}.
+     *
+     * @throws IllegalValueException if the record does not describe a valid person.
+     */
+    public static Person toPerson(List<String> record) throws IllegalValueException {
+        requireFieldCount(record, PERSON_HEADER.size(), false);
+        String name = record.get(1).trim();
+        return new JsonAdaptedPerson(name.isEmpty() ? null : name,
+                orDefault(record.get(2), Phone.DEFAULT_PHONE_MESSAGE),
+                orDefault(record.get(3), Email.DEFAULT_EMAIL_MESSAGE),
+                orDefault(record.get(4), Address.DEFAULT_ADDRESS_MESSAGE),
+                splitValues(record.get(5)).stream().map(JsonAdaptedSubject::new).collect(Collectors.toList()),
+                splitValues(record.get(6)).stream().map(JsonAdaptedTag::new).collect(Collectors.toList()),
+                record.get(7)).toModelType();
+    }
+
+    /**
+     * Returns the lesson in the lesson record {@code record}, with its tasks.
+     *
+     * @throws IllegalValueException if the record does not describe a valid lesson.
+     */
+    public static Lesson toLesson(List<String> record) throws IllegalValueException {
+        requireFieldCount(record, LESSON_HEADER.size() - 1, true);
+        List<JsonAdaptedTask> tasks = record.subList(LESSON_HEADER.size() - 1, record.size()).stream()
+                .map(String::trim).filter(task -> !task.isEmpty()).map(JsonAdaptedTask::new)
+                .collect(Collectors.toList());
+        return new JsonAdaptedLesson(orDefault(record.get(1), Name.DEFAULT_NAME.toString()),
+                orDefault(record.get(3), Time.DEFAULT_TIME.toString()),
+                orDefault(record.get(4), Time.DEFAULT_TIME.toString()),
+                orDefault(record.get(2), Day.DEFAULT_DAY.toString()),
+                orDefault(record.get(5), Subject.DEFAULT_SUBJECT.toString()), null, tasks).toModelType();
+    }
+
+    /**
+     * Returns the names of the person and the lesson in the link record {@code record}, in that order.
+     *
+     * @throws IllegalValueException if either name is not a valid name.
+     */
+    public static Name[] toLink(List<String> record) throws IllegalValueException {
+        requireFieldCount(record, LINK_HEADER.size(), false);
+        String personName = record.get(1).trim();
+        String lessonName = record.get(2).trim();
+        if (!Name.isValidName(personName) || !Name.isValidName(lessonName)) {
+            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+        }
+        return new Name[] {new Name(personName), new Name(lessonName)};
+    }
+
+    /**
+     * Throws an {@code IllegalValueException} unless {@code record} has {@code count} fields,
+     * or at least {@code count} fields if {@code isMinimum}.
+     */
+    private static void requireFieldCount(List<String> record, int count, boolean isMinimum)
+            throws IllegalValueException {
+        requireNonNull(record);
+        if (record.size() < count || (!isMinimum && record.size() != count)) {
+            throw new IllegalValueException(String.format(MESSAGE_WRONG_FIELD_COUNT, getType(record),
+                    (isMinimum ? "at least " : "") + count, record.size()));
+        }
+    }
+
+    private static List<String> splitValues(String field) {
+        return Arrays.stream(field.split(VALUE_SEPARATOR)).map(String::trim).filter(value -> !value.isEmpty())
+                .collect(Collectors.toList());
+    }
+
+    private static String orEmpty(String value, String defaultValue) {
+        return value.equals(defaultValue) ? "" : value;
+    }
+
+    private static String orEmpty(ListEntryField value, ListEntryField defaultValue) {
+        return orEmpty(serialize(value), defaultValue.toString());
+    }
+
+    private static String orDefault(String field, String defaultValue) {
+        String value = field.trim();
+        return value.isEmpty() ? defaultValue : value;
+    }
+}
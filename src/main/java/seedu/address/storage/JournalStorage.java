@@ -0,0 +1,719 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.MetricsCenter;
+import seedu.address.commons.events.StorageEvent;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.BiDirectionalMap;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlySchedule;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.ScheduleList;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAdaptedJournalRecord.Type;
+
+/**
+ * A {@code Storage} that appends changes to a journal instead of rewriting the data files on every save.
+ * Each save is compared against the data as last persisted, and one record is made per added, edited or
+ * removed person, lesson or link. The records of a save, or of all the data saved together through
+ * {@link #saveTogether(Saving)}, are appended as a single line, so a crash while appending loses either all or none
+ * of them. On reading, the journal is replayed on top of the snapshots kept by the wrapped storage.
+ * Once the journal holds enough records, it is compacted by writing fresh snapshots and emptying it.
+ * Records replace or remove whole entries by name, so replaying a record more than once is harmless.
+ */
+public class JournalStorage implements Storage {
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 500;
+    public static final String CORRUPTED_FILE_SUFFIX = ".corrupt";
+
+    private static final String MESSAGE_UNREADABLE_LINE = "The journal has a line that cannot be read";
+    // Stands for a line of the journal that could not be read
+    private static final JsonAdaptedJournalRecord UNREADABLE_LINE =
+            new JsonAdaptedJournalRecord(null, null, null, null, null);
+
+    private static final Logger logger = LogsCenter.getLogger(JournalStorage.class);
+
+    private final Storage snapshotStorage;
+    private final Path journalFilePath;
+    private final int compactionThreshold;
+
+    // The data as last persisted, keyed by name. Null until the data is read or saved for the first time.
+    // Persons are replaced rather than changed when edited, so they are kept as is and compared by identity first.
+    private Map<String, Person> persistedPersons;
+    private Map<String, Lesson> persistedLessons;
+    private Map<String, Set<String>> persistedLinks;
+    // The records in the journal, parsed once when the first of the data is read and kept in step with the journal
+    private List<JsonAdaptedJournalRecord> journalRecords;
+    private int journalRecordCount = 0;
+    // Set when a snapshot is replaced, so that records it makes unnecessary, and any unreadable lines, are dropped
+    private boolean isCompactionDue = false;
+    // Set when persons or lessons were read without ids, so that the ids they were given are saved in a snapshot
+    private boolean isAddressBookMissingIds = false;
+    private boolean isScheduleListMissingIds = false;
+    // The records of the data being saved together, or null if data is not being saved together
+    private List<JsonAdaptedJournalRecord> pendingRecords;
+
+    /**
+     * Creates a {@code JournalStorage} that keeps its snapshots in {@code snapshotStorage} and appends
+     * changes to the journal at {@code journalFilePath}.
+     */
+    public JournalStorage(Storage snapshotStorage, Path journalFilePath) {
+        this(snapshotStorage, journalFilePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a {@code JournalStorage} that compacts its journal once it holds {@code compactionThreshold} records.
+     */
+    public JournalStorage(Storage snapshotStorage, Path journalFilePath, int compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        requireNonNull(journalFilePath);
+        assert compactionThreshold > 0;
+        this.snapshotStorage = snapshotStorage;
+        this.journalFilePath = journalFilePath;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public Path getJournalFilePath() {
+        return journalFilePath;
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return snapshotStorage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataLoadingException {
+        return snapshotStorage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) throws IOException {
+        snapshotStorage.saveUserPrefs(userPrefs);
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    /**
+     * Returns the address book in the snapshot with the journal replayed on top of it.
+     * Returns {@code Optional.empty()} if there is neither a snapshot nor any journaled person.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook();
+        List<JsonAdaptedJournalRecord> records = readJournal();
+        persistedPersons = replayPersons(snapshot, records);
+        isAddressBookMissingIds = snapshotStorage.isAddressBookMissingIds()
+                || records.stream().anyMatch(record -> record.getType() == Type.PUT_PERSON && record.isMissingId());
+        if (!snapshot.isPresent() && persistedPersons.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(toAddressBook(persistedPersons));
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath} only, without replaying the journal.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        return snapshotStorage.readAddressBook(filePath);
+    }
+
+    @Override
+    public synchronized boolean isAddressBookMissingIds() {
+        return isAddressBookMissingIds;
+    }
+
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        Map<String, Person> current = new LinkedHashMap<>();
+        addressBook.getPersonList().forEach(person -> current.put(toKey(person.getName()), person));
+
+        if (!loadPersonsForSaving() || isAddressBookMissingIds) {
+            // the snapshot cannot be replayed on, or lacks ids, so replace it instead of journaling on top of it
+            writeToJournal(List.of(JsonAdaptedJournalRecord.of(Type.RESET_PERSONS, null)));
+            snapshotStorage.saveAddressBook(addressBook);
+            persistedPersons = current;
+            isAddressBookMissingIds = false;
+            isCompactionDue = true;
+            compactIfNeeded();
+            return;
+        }
+
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        current.forEach((key, person) -> {
+            Person persisted = persistedPersons.get(key);
+            if (persisted != person && !isSame(persisted, person, Person::getName)) {
+                records.add(JsonAdaptedJournalRecord.putPerson(person));
+            }
+        });
+        persistedPersons.keySet().stream().filter(key -> !current.containsKey(key))
+                .forEach(key -> records.add(JsonAdaptedJournalRecord.of(Type.REMOVE_PERSON, key)));
+
+        appendToJournal(records);
+        persistedPersons = current;
+        compactIfNeeded();
+    }
+
+    /**
+     * Writes a snapshot to {@code filePath} only, without touching the journal.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+    }
+
+    // ================ ScheduleStorage methods ==============================
+
+    @Override
+    public Path getScheduleListFilePath() {
+        return snapshotStorage.getScheduleListFilePath();
+    }
+
+    /**
+     * Returns the schedule list in the snapshot with the journal replayed on top of it.
+     * Returns {@code Optional.empty()} if there is neither a snapshot nor any journaled lesson.
+     */
+    @Override
+    public synchronized Optional<ReadOnlySchedule> readScheduleList() throws DataLoadingException {
+        Optional<ReadOnlySchedule> snapshot = snapshotStorage.readScheduleList();
+        List<JsonAdaptedJournalRecord> records = readJournal();
+        persistedLessons = replayLessons(snapshot, records);
+        isScheduleListMissingIds = snapshotStorage.isScheduleListMissingIds()
+                || records.stream().anyMatch(record -> record.getType() == Type.PUT_LESSON && record.isMissingId());
+        if (!snapshot.isPresent() && persistedLessons.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(toScheduleList(persistedLessons));
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath} only, without replaying the journal.
+     */
+    @Override
+    public Optional<ReadOnlySchedule> readScheduleList(Path filePath) throws DataLoadingException {
+        return snapshotStorage.readScheduleList(filePath);
+    }
+
+    @Override
+    public synchronized boolean isScheduleListMissingIds() {
+        return isScheduleListMissingIds;
+    }
+
+    @Override
+    public synchronized void saveScheduleList(ReadOnlySchedule scheduleList) throws IOException {
+        requireNonNull(scheduleList);
+        // lessons are kept as clones, as their task lists can be changed in place
+        Map<String, Lesson> current = new LinkedHashMap<>();
+
+        if (!loadLessonsForSaving() || isScheduleListMissingIds) {
+            // the snapshot cannot be replayed on, or lacks ids, so replace it instead of journaling on top of it
+            writeToJournal(List.of(JsonAdaptedJournalRecord.of(Type.RESET_LESSONS, null)));
+            snapshotStorage.saveScheduleList(scheduleList);
+            scheduleList.getLessonList().forEach(lesson -> current.put(toKey(lesson.getName()), lesson.clone()));
+            persistedLessons = current;
+            isScheduleListMissingIds = false;
+            isCompactionDue = true;
+            compactIfNeeded();
+            return;
+        }
+
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        for (Lesson lesson : scheduleList.getLessonList()) {
+            String key = toKey(lesson.getName());
+            Lesson persisted = persistedLessons.get(key);
+            if (isSame(persisted, lesson, Lesson::getName)) {
+                current.put(key, persisted);
+            } else {
+                records.add(JsonAdaptedJournalRecord.putLesson(lesson));
+                current.put(key, lesson.clone());
+            }
+        }
+        persistedLessons.keySet().stream().filter(key -> !current.containsKey(key))
+                .forEach(key -> records.add(JsonAdaptedJournalRecord.of(Type.REMOVE_LESSON, key)));
+
+        appendToJournal(records);
+        persistedLessons = current;
+        compactIfNeeded();
+    }
+
+    /**
+     * Writes a snapshot to {@code filePath} only, without touching the journal.
+     */
+    @Override
+    public void saveScheduleList(ReadOnlySchedule scheduleList, Path filePath) throws IOException {
+        snapshotStorage.saveScheduleList(scheduleList, filePath);
+    }
+
+    // ================ Person to lesson map methods ==============================
+
+    /**
+     * Returns the person to lesson map in the snapshot with the journal replayed on top of it.
+     */
+    @Override
+    public synchronized BiDirectionalMap<Person, Lesson> getPersonLessonMap() throws DataLoadingException {
+        persistedLinks = replayLinks(snapshotStorage.getPersonLessonMap(), readJournal());
+        try {
+            return BiDirectionalMap.fromLinkMap(persistedLinks);
+        } catch (ParseException e) {
+            throw new DataLoadingException(e);
+        }
+    }
+
+    @Override
+    public synchronized void savePersonLessonMap(BiDirectionalMap<Person, Lesson> personLessonMap)
+            throws IOException {
+        requireNonNull(personLessonMap);
+        Map<String, Set<String>> current = new HashMap<>(personLessonMap.toLinkMap());
+
+        if (!loadLinksForSaving()) {
+            // the snapshot cannot be replayed on, so replace it instead of journaling on top of it
+            writeToJournal(List.of(JsonAdaptedJournalRecord.of(Type.RESET_LINKS, null)));
+            snapshotStorage.savePersonLessonMap(personLessonMap);
+            persistedLinks = current;
+            isCompactionDue = true;
+            compactIfNeeded();
+            return;
+        }
+
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        current.forEach((key, links) -> {
+            if (!links.equals(persistedLinks.get(key))) {
+                records.add(JsonAdaptedJournalRecord.putLinks(key, new ArrayList<>(links)));
+            }
+        });
+        persistedLinks.keySet().stream().filter(key -> !current.containsKey(key))
+                .forEach(key -> records.add(JsonAdaptedJournalRecord.of(Type.REMOVE_LINKS, key)));
+
+        appendToJournal(records);
+        persistedLinks = current;
+        compactIfNeeded();
+    }
+
+    // ================ Journal =================================================
+
+    /**
+     * Writes the persisted data to fresh snapshots and empties the journal.
+     * The snapshots are written before the journal is emptied, so a crash in between only causes records
+     * to be replayed on a snapshot that already contains them.
+     */
+    public synchronized void compact() throws IOException {
+        if (!loadPersonsForSaving() || !loadLessonsForSaving() || !loadLinksForSaving()) {
+            logger.warning("Skipping compaction of " + journalFilePath + " as some data could not be loaded");
+            return;
+        }
+        snapshotStorage.saveAddressBook(toAddressBook(persistedPersons));
+        snapshotStorage.saveScheduleList(toScheduleList(persistedLessons));
+        try {
+            snapshotStorage.savePersonLessonMap(BiDirectionalMap.fromLinkMap(persistedLinks));
+        } catch (ParseException e) {
+            throw new IOException(e);
+        }
+        Files.write(journalFilePath, new byte[0]);
+        journalRecords = new ArrayList<>();
+        journalRecordCount = 0;
+        isCompactionDue = false;
+        isAddressBookMissingIds = false;
+        isScheduleListMissingIds = false;
+        logger.info("Compacted journal " + journalFilePath);
+    }
+
+    private void compactIfNeeded() throws IOException {
+        // data being saved together is compacted once all of it has been appended
+        if (pendingRecords == null && (isCompactionDue || journalRecordCount >= compactionThreshold)) {
+            compact();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The records of all the data saved by {@code saving} are appended to the journal as a single line.
+     * Data that has to replace its snapshot instead is written at once.
+     */
+    @Override
+    public synchronized void saveTogether(Saving saving) throws IOException {
+        requireNonNull(saving);
+        if (pendingRecords != null) {
+            saving.save();
+            return;
+        }
+
+        Map<String, Person> oldPersons = persistedPersons;
+        Map<String, Lesson> oldLessons = persistedLessons;
+        Map<String, Set<String>> oldLinks = persistedLinks;
+        pendingRecords = new ArrayList<>();
+        try {
+            saving.save();
+            List<JsonAdaptedJournalRecord> records = pendingRecords;
+            pendingRecords = null;
+            writeToJournal(records);
+        } catch (IOException | RuntimeException e) {
+            // none of the records were appended, so the data is compared against what was persisted before
+            persistedPersons = oldPersons;
+            persistedLessons = oldLessons;
+            persistedLinks = oldLinks;
+            throw e;
+        } finally {
+            pendingRecords = null;
+        }
+        compactIfNeeded();
+    }
+
+    /**
+     * Appends {@code records} to the journal, or keeps them to be appended later if data is being saved together.
+     */
+    private void appendToJournal(List<JsonAdaptedJournalRecord> records) throws IOException {
+        if (pendingRecords != null) {
+            pendingRecords.addAll(records);
+            return;
+        }
+        writeToJournal(records);
+    }
+
+    /**
+     * Appends {@code records} to the journal as a single line.
+     */
+    private void writeToJournal(List<JsonAdaptedJournalRecord> records) throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
+        String line = JsonUtil.toCompactJsonString(records) + '\n';
+        byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+        StorageEvent event = StorageEvent.start(StorageEvent.OPERATION_SAVE, journalFilePath);
+        event.setBytes(bytes.length);
+        try {
+            FileUtil.createParentDirsOfFile(journalFilePath);
+            Files.write(journalFilePath, bytes, StandardOpenOption.CREATE, StandardOpenOption.APPEND,
+                    StandardOpenOption.DSYNC);
+        } finally {
+            event.commit();
+        }
+        MetricsCenter.recordBytesWritten(journalFilePath.getFileName().toString(), bytes.length);
+        if (journalRecords != null) {
+            journalRecords.addAll(records);
+        }
+        journalRecordCount += records.size();
+    }
+
+    /**
+     * Returns all records in the journal, reading them from the file only the first time,
+     * so that the address book, schedule list and links are replayed from a single read.
+     * A last line without a line break was cut off by a crash while appending, so it is dropped from the file
+     * together with all the records in it. Any other line that cannot be read is kept in the returned records as
+     * {@link #UNREADABLE_LINE}, so that each kind of data fails to load only until it is next reset.
+     *
+     * @throws DataLoadingException if the journal could not be read.
+     */
+    private List<JsonAdaptedJournalRecord> readJournal() throws DataLoadingException {
+        if (journalRecords != null) {
+            return journalRecords;
+        }
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        if (!Files.exists(journalFilePath)) {
+            journalRecords = records;
+            journalRecordCount = 0;
+            return records;
+        }
+
+        long completeLength = 0;
+        long totalLength;
+        boolean hasUnreadableLine = false;
+        StorageEvent event = StorageEvent.start(StorageEvent.OPERATION_LOAD, journalFilePath);
+        try (BufferedReader reader = Files.newBufferedReader(journalFilePath, StandardCharsets.UTF_8)) {
+            totalLength = Files.size(journalFilePath);
+            String line;
+            while ((line = reader.readLine()) != null) {
+                long lineLength = line.getBytes(StandardCharsets.UTF_8).length + 1;
+                if (completeLength + lineLength > totalLength) {
+                    break;
+                }
+                try {
+                    if (line.startsWith("[")) {
+                        records.addAll(Arrays.asList(
+                                JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord[].class)));
+                    } else if (!line.isEmpty()) {
+                        // journals written before records were grouped hold a single record per line
+                        records.add(JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class));
+                    }
+                } catch (JsonProcessingException e) {
+                    // the data is only replayed past this line once it has been reset to a fresh snapshot
+                    logger.warning("Unreadable line in journal " + journalFilePath + ": " + e.getMessage());
+                    records.add(UNREADABLE_LINE);
+                    hasUnreadableLine = true;
+                }
+                completeLength += lineLength;
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from journal " + journalFilePath + ": " + e);
+            throw new DataLoadingException(e);
+        } finally {
+            event.setBytes(completeLength);
+            event.commit();
+        }
+
+        if (completeLength < totalLength) {
+            logger.warning("Dropping incomplete last line of journal " + journalFilePath);
+            try (FileChannel channel = FileChannel.open(journalFilePath, StandardOpenOption.WRITE)) {
+                channel.truncate(completeLength);
+            } catch (IOException e) {
+                throw new DataLoadingException(e);
+            }
+        }
+        if (hasUnreadableLine) {
+            keepCorruptedJournal();
+        }
+        journalRecords = records;
+        journalRecordCount = records.size();
+        return records;
+    }
+
+    /**
+     * Copies the journal aside, so that the lines that could not be read can be recovered by hand
+     * after the journal is compacted.
+     */
+    private void keepCorruptedJournal() {
+        Path copy = journalFilePath.resolveSibling(journalFilePath.getFileName() + CORRUPTED_FILE_SUFFIX);
+        try {
+            Files.copy(journalFilePath, copy, StandardCopyOption.REPLACE_EXISTING);
+            logger.warning("Kept a copy of the corrupted journal at " + copy);
+        } catch (IOException e) {
+            logger.warning("Could not keep a copy of the corrupted journal " + journalFilePath + ": " + e);
+        }
+    }
+
+    private Map<String, Person> replayPersons(Optional<ReadOnlyAddressBook> snapshot,
+                                              List<JsonAdaptedJournalRecord> records) throws DataLoadingException {
+        Map<String, Person> persons = new LinkedHashMap<>();
+        snapshot.ifPresent(addressBook -> addressBook.getPersonList()
+                .forEach(person -> persons.put(toKey(person.getName()), person)));
+        IllegalValueException failure = null;
+        for (JsonAdaptedJournalRecord record : records) {
+            try {
+                switch (getType(record)) {
+                case PUT_PERSON:
+                    Person person = record.toPerson();
+                    persons.put(toKey(person.getName()), person);
+                    break;
+                case REMOVE_PERSON:
+                    persons.remove(record.getKey());
+                    break;
+                case RESET_PERSONS:
+                    persons.clear();
+                    snapshot.ifPresent(addressBook -> addressBook.getPersonList()
+                            .forEach(p -> persons.put(toKey(p.getName()), p)));
+                    failure = null;
+                    break;
+                default:
+                    break;
+                }
+            } catch (IllegalValueException ive) {
+                failure = ive;
+            }
+        }
+        throwIfUnreadable(failure);
+        return persons;
+    }
+
+    private Map<String, Lesson> replayLessons(Optional<ReadOnlySchedule> snapshot,
+                                              List<JsonAdaptedJournalRecord> records) throws DataLoadingException {
+        Map<String, Lesson> lessons = new LinkedHashMap<>();
+        snapshot.ifPresent(scheduleList -> scheduleList.getLessonList()
+                .forEach(lesson -> lessons.put(toKey(lesson.getName()), lesson)));
+        IllegalValueException failure = null;
+        for (JsonAdaptedJournalRecord record : records) {
+            try {
+                switch (getType(record)) {
+                case PUT_LESSON:
+                    Lesson lesson = record.toLesson();
+                    lessons.put(toKey(lesson.getName()), lesson);
+                    break;
+                case REMOVE_LESSON:
+                    lessons.remove(record.getKey());
+                    break;
+                case RESET_LESSONS:
+                    lessons.clear();
+                    snapshot.ifPresent(scheduleList -> scheduleList.getLessonList()
+                            .forEach(l -> lessons.put(toKey(l.getName()), l)));
+                    failure = null;
+                    break;
+                default:
+                    break;
+                }
+            } catch (IllegalValueException ive) {
+                failure = ive;
+            }
+        }
+        throwIfUnreadable(failure);
+        return lessons;
+    }
+
+    private Map<String, Set<String>> replayLinks(BiDirectionalMap<Person, Lesson> snapshot,
+                                                 List<JsonAdaptedJournalRecord> records) throws DataLoadingException {
+        Map<String, Set<String>> links = new HashMap<>(snapshot.toLinkMap());
+        IllegalValueException failure = null;
+        for (JsonAdaptedJournalRecord record : records) {
+            try {
+                switch (getType(record)) {
+                case PUT_LINKS:
+                    links.put(record.getKey(), new HashSet<>(record.getLinks()));
+                    break;
+                case REMOVE_LINKS:
+                    links.remove(record.getKey());
+                    break;
+                case RESET_LINKS:
+                    links.clear();
+                    links.putAll(snapshot.toLinkMap());
+                    failure = null;
+                    break;
+                default:
+                    break;
+                }
+            } catch (IllegalValueException ive) {
+                failure = ive;
+            }
+        }
+        throwIfUnreadable(failure);
+        return links;
+    }
+
+    /**
+     * Returns the type of {@code record}.
+     *
+     * @throws IllegalValueException if {@code record} stands for a line of the journal that could not be read.
+     */
+    private static Type getType(JsonAdaptedJournalRecord record) throws IllegalValueException {
+        if (record == UNREADABLE_LINE) {
+            throw new IllegalValueException(MESSAGE_UNREADABLE_LINE);
+        }
+        return record.getType();
+    }
+
+    /**
+     * Throws {@code failure}, the last record that could not be replayed since the data was last reset, if any.
+     * Records before a reset do not matter, as the reset replaces the data with its snapshot.
+     */
+    private void throwIfUnreadable(IllegalValueException failure) throws DataLoadingException {
+        if (failure != null) {
+            logger.info("Illegal values found in " + journalFilePath + ": " + failure.getMessage());
+            throw new DataLoadingException(failure);
+        }
+    }
+
+    /**
+     * Loads the persisted persons if they have not been loaded yet.
+     * Returns false if they could not be loaded, in which case new records cannot be replayed on the snapshot.
+     */
+    private boolean loadPersonsForSaving() {
+        if (persistedPersons != null) {
+            return true;
+        }
+        try {
+            readAddressBook();
+            return true;
+        } catch (DataLoadingException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @see #loadPersonsForSaving()
+     */
+    private boolean loadLessonsForSaving() {
+        if (persistedLessons != null) {
+            return true;
+        }
+        try {
+            readScheduleList();
+            return true;
+        } catch (DataLoadingException e) {
+            return false;
+        }
+    }
+
+    /**
+     * @see #loadPersonsForSaving()
+     */
+    private boolean loadLinksForSaving() {
+        if (persistedLinks != null) {
+            return true;
+        }
+        try {
+            getPersonLessonMap();
+            return true;
+        } catch (DataLoadingException e) {
+            return false;
+        }
+    }
+
+    private static AddressBook toAddressBook(Map<String, Person> persons) {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(new ArrayList<>(persons.values()));
+        return addressBook;
+    }
+
+    /**
+     * Returns a schedule list of clones of {@code lessons}, so that the persisted lessons are not changed with it.
+     */
+    private static ScheduleList toScheduleList(Map<String, Lesson> lessons) {
+        ScheduleList scheduleList = new ScheduleList();
+        scheduleList.setLessons(lessons.values().stream().map(Lesson::clone).collect(Collectors.toList()));
+        return scheduleList;
+    }
+
+    /**
+     * Returns the key of an entry with the given name, which matches names the same way as {@code Name#equals}.
+     */
+    private static String toKey(Name name) {
+        return name.fullName.toLowerCase();
+    }
+
+    /**
+     * Returns true if {@code persisted} and {@code current} are equal, including the exact case of their names.
+     */
+    private static <T> boolean isSame(T persisted, T current, Function<T, Name> nameOf) {
+        return current.equals(persisted)
+                && Objects.equals(nameOf.apply(persisted).fullName, nameOf.apply(current).fullName);
+    }
+}
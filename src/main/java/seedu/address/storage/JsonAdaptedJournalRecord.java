@@ -0,0 +1,112 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a single change recorded in the journal of {@link JournalStorage}.
+ * Only the fields relevant to the record's {@link Type} are present.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    /**
+     * Kinds of changes that can be recorded.
+     * A {@code RESET} record means that all earlier records of the same data have been written to its snapshot.
+     */
+    enum Type {
+        PUT_PERSON, REMOVE_PERSON, RESET_PERSONS,
+        PUT_LESSON, REMOVE_LESSON, RESET_LESSONS,
+        PUT_LINKS, REMOVE_LINKS, RESET_LINKS
+    }
+
+    private final Type type;
+    private final String key;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedLesson lesson;
+    private final List<String> links;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given record details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("type") Type type, @JsonProperty("key") String key,
+            @JsonProperty("person") JsonAdaptedPerson person, @JsonProperty("lesson") JsonAdaptedLesson lesson,
+            @JsonProperty("links") List<String> links) {
+        this.type = type;
+        this.key = key;
+        this.person = person;
+        this.lesson = lesson;
+        this.links = links;
+    }
+
+    static JsonAdaptedJournalRecord putPerson(Person person) {
+        return new JsonAdaptedJournalRecord(Type.PUT_PERSON, null, new JsonAdaptedPerson(person), null, null);
+    }
+
+    static JsonAdaptedJournalRecord putLesson(Lesson lesson) {
+        return new JsonAdaptedJournalRecord(Type.PUT_LESSON, null, null, new JsonAdaptedLesson(lesson), null);
+    }
+
+    static JsonAdaptedJournalRecord putLinks(String key, List<String> links) {
+        return new JsonAdaptedJournalRecord(Type.PUT_LINKS, key, null, null, new ArrayList<>(links));
+    }
+
+    /**
+     * Creates a record of the given type that only needs a key, such as a removal or a reset.
+     */
+    static JsonAdaptedJournalRecord of(Type type, String key) {
+        return new JsonAdaptedJournalRecord(type, key, null, null, null);
+    }
+
+    Type getType() {
+        return type;
+    }
+
+    String getKey() {
+        return key;
+    }
+
+    List<String> getLinks() {
+        return links == null ? new ArrayList<>() : links;
+    }
+
+    /**
+     * Returns true if the person or lesson in this record was saved without an id.
+     */
+    boolean isMissingId() {
+        return (person != null && !person.hasId()) || (lesson != null && !lesson.hasId());
+    }
+
+    /**
+     * Converts the person in this record into the model's {@code Person} object.
+     *
+     * @throws IllegalValueException if this record has no person or the person is invalid.
+     */
+    Person toPerson() throws IllegalValueException {
+        if (person == null) {
+            throw new IllegalValueException("Journal record " + type + " has no person");
+        }
+        return person.toModelType();
+    }
+
+    /**
+     * Converts the lesson in this record into the model's {@code Lesson} object.
+     *
+     * @throws IllegalValueException if this record has no lesson or the lesson is invalid.
+     */
+    Lesson toLesson() throws IllegalValueException {
+        if (lesson == null) {
+            throw new IllegalValueException("Journal record " + type + " has no lesson");
+        }
+        return lesson.toModelType();
+    }
+}
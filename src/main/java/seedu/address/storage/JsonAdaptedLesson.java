@@ -23,6 +23,7 @@ import seedu.address.model.person.Subject;
  * Jackson-friendly version of {@link Lesson}
  */
 public class JsonAdaptedLesson {
+    private final Long id;
     private final String start;
     private final String end;
     private final String day;
@@ -31,16 +32,19 @@ public class JsonAdaptedLesson {
     private final List<JsonAdaptedTask> taskList = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonAdaptedPerson} with the given person details.
+     * Constructs a {@code JsonAdaptedLesson} with the given lesson details.
+     * A lesson without an {@code id}, such as one saved before lessons had ids, is given a new id.
      */
     @JsonCreator
-    public JsonAdaptedLesson(@JsonProperty("name") String name,
+    public JsonAdaptedLesson(@JsonProperty("id") Long id,
+                             @JsonProperty("name") String name,
                              @JsonProperty("start") String start,
                              @JsonProperty("end") String end,
                              @JsonProperty("day") String day,
                              @JsonProperty("subject") String subject,
                              @JsonProperty("remarks") String remark,
                              @JsonProperty("taskList") List<JsonAdaptedTask> taskList) {
+        this.id = id;
         this.name = name;
         this.start = start;
         this.end = end;
@@ -51,17 +55,35 @@ public class JsonAdaptedLesson {
         }
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedLesson} with the given lesson details and no id.
+     */
+    public JsonAdaptedLesson(String name, String start, String end, String day, String subject, String remark,
+                             List<JsonAdaptedTask> taskList) {
+        this(null, name, start, end, day, subject, remark, taskList);
+    }
+
     /**
      * Converts a given {@code Lesson} into this class for Jackson use.
      */
     public JsonAdaptedLesson(Lesson source) {
+        id = source.getId();
         name = serialize(source.getName());
         start = serialize(source.getStart());
         end = serialize(source.getEnd());
         day = serialize(source.getDay());
         subject = serialize(source.getSubject());
-        taskList.addAll(source.getTaskListClone().stream().map(JsonAdaptedTask::new).collect(Collectors.toList()));
+        // encoded tasks are copied as they are, so tasks that have not been loaded are not created
+        taskList.addAll(source.getTaskList().getEncodedTasks().stream()
+                .map(JsonAdaptedTask::new).collect(Collectors.toList()));
     }
+    /**
+     * Returns true if this lesson was saved with an id.
+     */
+    public boolean hasId() {
+        return id != null;
+    }
+
     /**
      * Converts this Jackson-friendly adapted lesson object into the model's {@code Lesson} object.
      *
@@ -76,7 +98,9 @@ public class JsonAdaptedLesson {
             Subject subject = deserialize(Subject.DEFAULT_SUBJECT, Subject::of, this.subject);
             TaskList taskList = TaskList.of(this.taskList);
 
-            return new Lesson(name, start, end, day, subject, taskList);
+            return id == null
+                    ? new Lesson(name, start, end, day, subject, taskList)
+                    : new Lesson(id, name, start, end, day, subject, taskList);
         } catch (Exception e) {
             throw new IllegalValueException(e.getMessage());
         }
@@ -26,6 +26,7 @@ class JsonAdaptedPerson {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Person's %s field is missing!";
 
+    private final Long id;
     private final String name;
     private final String phone;
     private final String email;
@@ -36,12 +37,14 @@ class JsonAdaptedPerson {
 
     /**
      * Constructs a {@code JsonAdaptedPerson} with the given person details.
+     * A person without an {@code id}, such as one saved before persons had ids, is given a new id.
      */
     @JsonCreator
-    public JsonAdaptedPerson(@JsonProperty("name") String name, @JsonProperty("phone") String phone,
-            @JsonProperty("email") String email, @JsonProperty("address") String address,
-            @JsonProperty("subjects") List<JsonAdaptedSubject> subjects,
+    public JsonAdaptedPerson(@JsonProperty("id") Long id, @JsonProperty("name") String name,
+            @JsonProperty("phone") String phone, @JsonProperty("email") String email,
+            @JsonProperty("address") String address, @JsonProperty("subjects") List<JsonAdaptedSubject> subjects,
             @JsonProperty("tags") List<JsonAdaptedTag> tags, @JsonProperty("remark") String remark) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.email = email;
@@ -56,10 +59,19 @@ class JsonAdaptedPerson {
 
     }
 
+    /**
+     * Constructs a {@code JsonAdaptedPerson} with the given person details and no id.
+     */
+    public JsonAdaptedPerson(String name, String phone, String email, String address,
+            List<JsonAdaptedSubject> subjects, List<JsonAdaptedTag> tags, String remark) {
+        this(null, name, phone, email, address, subjects, tags, remark);
+    }
+
     /**
      * Converts a given {@code Person} into this class for Jackson use.
      */
     public JsonAdaptedPerson(Person source) {
+        id = source.getId();
         name = source.getName().fullName;
         phone = source.getPhone().value;
         email = source.getEmail().value;
@@ -73,6 +85,13 @@ class JsonAdaptedPerson {
         remark = source.getRemark().value;
     }
 
+    /**
+     * Returns true if this person was saved with an id.
+     */
+    public boolean hasId() {
+        return id != null;
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
      *
@@ -142,7 +161,11 @@ class JsonAdaptedPerson {
         }
         final Remark modelRemark = new Remark(remark);
 
-        return new Person(modelName, modelPhone, modelEmail, modelAddress, modelSubjects, modelTags, modelRemark);
+        if (id == null) {
+            return new Person(modelName, modelPhone, modelEmail, modelAddress, modelSubjects, modelTags, modelRemark);
+        }
+        return new Person(id, modelName, modelPhone, modelEmail, modelAddress, modelSubjects, modelTags,
+                modelRemark);
     }
 
 }
@@ -12,7 +12,9 @@ import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
@@ -21,7 +23,10 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
+    private static final String PERSONS_FIELD = "persons";
+
     private Path filePath;
+    private boolean isMissingIds = false;
 
     public JsonAddressBookStorage(Path filePath) {
         this.filePath = filePath;
@@ -45,20 +50,31 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
-            return Optional.empty();
-        }
-
+        // each person is converted as soon as it is read, so the file is never held in memory as a whole
+        AddressBook addressBook = new AddressBook();
+        isMissingIds = false;
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            boolean isFound = JsonUtil.readJsonArrayFile(filePath, PERSONS_FIELD, JsonAdaptedPerson.class,
+                    jsonPerson -> {
+                        Person person = jsonPerson.toModelType();
+                        isMissingIds |= !jsonPerson.hasId();
+                        if (addressBook.hasPerson(person)) {
+                            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                        }
+                        addressBook.addPerson(person);
+                    });
+            return isFound ? Optional.of(addressBook) : Optional.empty();
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
     }
 
+    @Override
+    public boolean isAddressBookMissingIds() {
+        return isMissingIds;
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, filePath);
@@ -74,7 +90,7 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        JsonUtil.saveJsonArrayFile(filePath, PERSONS_FIELD, addressBook.getPersonList(), JsonAdaptedPerson::new);
     }
 
 }
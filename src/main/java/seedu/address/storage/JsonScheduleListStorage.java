@@ -13,6 +13,8 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlySchedule;
+import seedu.address.model.ScheduleList;
+import seedu.address.model.lessons.Lesson;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
@@ -21,7 +23,10 @@ public class JsonScheduleListStorage implements ScheduleStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonScheduleListStorage.class);
 
+    private static final String LESSONS_FIELD = "lessons";
+
     private Path filePath;
+    private boolean isMissingIds = false;
 
     public JsonScheduleListStorage(Path filePath) {
         this.filePath = filePath;
@@ -45,20 +50,31 @@ public class JsonScheduleListStorage implements ScheduleStorage {
     public Optional<ReadOnlySchedule> readScheduleList(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableSchedule> jsonSchedule = JsonUtil.readJsonFile(
-                filePath, JsonSerializableSchedule.class);
-        if (!jsonSchedule.isPresent()) {
-            return Optional.empty();
-        }
-
+        // each lesson is converted as soon as it is read, so the file is never held in memory as a whole
+        ScheduleList scheduleList = new ScheduleList();
+        isMissingIds = false;
         try {
-            return Optional.of(jsonSchedule.get().toModelType());
+            boolean isFound = JsonUtil.readJsonArrayFile(filePath, LESSONS_FIELD, JsonAdaptedLesson.class,
+                    jsonLesson -> {
+                        Lesson lesson = jsonLesson.toModelType();
+                        isMissingIds |= !jsonLesson.hasId();
+                        if (scheduleList.hasLesson(lesson)) {
+                            throw new IllegalValueException(JsonSerializableSchedule.MESSAGE_DUPLICATE_LESSON);
+                        }
+                        scheduleList.addLesson(lesson);
+                    });
+            return isFound ? Optional.of(scheduleList) : Optional.empty();
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
     }
 
+    @Override
+    public boolean isScheduleListMissingIds() {
+        return isMissingIds;
+    }
+
     @Override
     public void saveScheduleList(ReadOnlySchedule schedule) throws IOException {
         saveScheduleList(schedule, filePath);
@@ -74,7 +90,7 @@ public class JsonScheduleListStorage implements ScheduleStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableSchedule(schedule), filePath);
+        JsonUtil.saveJsonArrayFile(filePath, LESSONS_FIELD, schedule.getLessonList(), JsonAdaptedLesson::new);
     }
 
 }
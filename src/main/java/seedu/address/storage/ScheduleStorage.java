@@ -30,6 +30,12 @@ public interface ScheduleStorage {
      */
     Optional<ReadOnlySchedule> readScheduleList(Path filePath) throws DataLoadingException;
 
+    /**
+     * Returns true if the schedule list last read had lessons without ids, as they were saved before lessons had ids.
+     * The ids they were given when read are only kept once the schedule list is saved again.
+     */
+    boolean isScheduleListMissingIds();
+
     /**
      * Saves the given {@link ReadOnlySchedule} to the storage.
      * @param scheduleList cannot be null.
@@ -44,5 +44,20 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage, ScheduleS
     BiDirectionalMap<Person, Lesson> getPersonLessonMap() throws DataLoadingException;
     void savePersonLessonMap(BiDirectionalMap<Person, Lesson> personLessonMap) throws IOException;
 
-
+    /**
+     * Runs {@code saving}, which saves data through this storage, so that where this storage supports it,
+     * the data is saved as a single change that a crash cannot leave partly saved.
+     * By default, each piece of data is saved as soon as {@code saving} saves it.
+     */
+    default void saveTogether(Saving saving) throws IOException {
+        saving.save();
+    }
+
+    /**
+     * Saves data through a {@code Storage}.
+     */
+    @FunctionalInterface
+    interface Saving {
+        void save() throws IOException;
+    }
 }
@@ -74,6 +74,11 @@ public class StorageManager implements Storage {
         return addressBookStorage.readAddressBook(filePath);
     }
 
+    @Override
+    public boolean isAddressBookMissingIds() {
+        return addressBookStorage.isAddressBookMissingIds();
+    }
+
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
         saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
@@ -103,6 +108,11 @@ public class StorageManager implements Storage {
         return scheduleListStorage.readScheduleList(filePath);
     }
 
+    @Override
+    public boolean isScheduleListMissingIds() {
+        return scheduleListStorage.isScheduleListMissingIds();
+    }
+
     @Override
     public void saveScheduleList(ReadOnlySchedule scheduleList) throws IOException {
         saveScheduleList(scheduleList, scheduleListStorage.getScheduleListFilePath());
@@ -122,6 +132,6 @@ public class StorageManager implements Storage {
         }
     }
     public void savePersonLessonMap(BiDirectionalMap<Person, Lesson> personLessonMap) throws IOException {
-        personLessonMap.saveTo(Paths.get("data", "personLessonMap.json"));
+        personLessonMap.writeTo(Paths.get("data", "personLessonMap.json"));
     }
 }
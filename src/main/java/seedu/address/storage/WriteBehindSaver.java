@@ -0,0 +1,289 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.MetricsCenter;
+import seedu.address.commons.core.MetricsCenter.Phase;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.BiDirectionalMap;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlySchedule;
+import seedu.address.model.ScheduleList;
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.person.Person;
+
+/**
+ * Saves data to {@code Storage} on behalf of the Logic component.
+ * When created with a delay, saves are written in the background and a burst of saves within the delay is
+ * coalesced into a single write of the latest data. Otherwise, every save is written immediately.
+ * <p>
+ * When also given the lock that guards the saved data, the background writer copies the data under that lock just
+ * before writing it, so that a burst of saves costs a single copy made off the saving thread.
+ * <p>
+ * A failed background write is retried later. It is not reported to the next save, which may be unrelated to it,
+ * but logged and passed to the background failure handler instead.
+ */
+public class WriteBehindSaver {
+    public static final long DEFAULT_DELAY_MILLIS = 300;
+    public static final String ADDRESS_BOOK_KEY = "addressBook";
+    public static final String SCHEDULE_LIST_KEY = "scheduleList";
+    public static final String PERSON_LESSON_MAP_KEY = "personLessonMap";
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindSaver.class);
+
+    private final Storage storage;
+    private final long delayMillis;
+    private final ScheduledExecutorService executor;
+    // Guards the saved data while it is copied in the background, or null if it is copied when saved
+    private final Lock dataLock;
+    // Held while writing to storage, so that an older snapshot is never written after a newer one
+    private final Object writeLock = new Object();
+
+    private ReadOnlyAddressBook pendingAddressBook;
+    private ReadOnlySchedule pendingScheduleList;
+    private BiDirectionalMap<Person, Lesson> pendingPersonLessonMap;
+    private ScheduledFuture<?> scheduledWrite;
+    // Whether the last background write failed, only used by the background writer
+    private boolean isBackgroundFailing = false;
+    private volatile Consumer<IOException> backgroundFailureHandler = failure -> { };
+
+    /**
+     * Creates a {@code WriteBehindSaver} that writes to {@code storage} immediately on every save.
+     */
+    public WriteBehindSaver(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+        this.delayMillis = 0;
+        this.executor = null;
+        this.dataLock = null;
+    }
+
+    /**
+     * Creates a {@code WriteBehindSaver} that writes to {@code storage} in the background,
+     * {@code delayMillis} milliseconds after the first of a burst of saves.
+     * The data is copied when it is saved.
+     */
+    public WriteBehindSaver(Storage storage, long delayMillis) {
+        this(storage, delayMillis, null);
+    }
+
+    /**
+     * Creates a {@code WriteBehindSaver} that writes to {@code storage} in the background,
+     * {@code delayMillis} milliseconds after the first of a burst of saves.
+     * The data is copied in the background while holding {@code dataLock}, which must be held by anyone changing it.
+     * If {@code dataLock} is null, the data is copied when it is saved instead.
+     */
+    public WriteBehindSaver(Storage storage, long delayMillis, Lock dataLock) {
+        requireNonNull(storage);
+        assert delayMillis > 0;
+        this.storage = storage;
+        this.delayMillis = delayMillis;
+        this.dataLock = dataLock;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "write-behind-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Saves the given data. A null argument means that data has not changed and need not be written.
+     * In write-behind mode without a data lock, the data is copied so that later changes to it are not written by
+     * this save. With a data lock, the data is copied only when it is written, and may include later changes.
+     *
+     * @throws IOException if the data could not be written immediately.
+     */
+    public void save(ReadOnlyAddressBook addressBook, ReadOnlySchedule scheduleList,
+                     BiDirectionalMap<Person, Lesson> personLessonMap) throws IOException {
+        if (executor == null) {
+            enqueue(addressBook, scheduleList, personLessonMap);
+            flush();
+            return;
+        }
+
+        if (dataLock == null) {
+            enqueue(addressBook == null ? null : new AddressBook(addressBook),
+                    scheduleList == null ? null : copyOf(scheduleList),
+                    personLessonMap == null ? null : personLessonMap.copy());
+        } else {
+            enqueue(addressBook, scheduleList, personLessonMap);
+        }
+        scheduleWrite();
+    }
+
+    /**
+     * Writes all pending data to storage before returning.
+     *
+     * @throws IOException if the data could not be written.
+     */
+    public void flush() throws IOException {
+        writePending();
+    }
+
+    /**
+     * Sets the handler that is called on the background writer with the failure of a background write,
+     * and with null when a background write succeeds after one failed.
+     */
+    public void setBackgroundFailureHandler(Consumer<IOException> backgroundFailureHandler) {
+        requireNonNull(backgroundFailureHandler);
+        this.backgroundFailureHandler = backgroundFailureHandler;
+    }
+
+    /**
+     * Writes all pending data and stops the background writer.
+     *
+     * @throws IOException if the data could not be written.
+     */
+    public void shutdown() throws IOException {
+        try {
+            flush();
+        } finally {
+            if (executor != null) {
+                synchronized (this) {
+                    executor.shutdown();
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes all pending data to storage, keeping the data pending if it could not be written.
+     */
+    private void writePending() throws IOException {
+        synchronized (writeLock) {
+            ReadOnlyAddressBook addressBook;
+            ReadOnlySchedule scheduleList;
+            BiDirectionalMap<Person, Lesson> personLessonMap;
+            synchronized (this) {
+                addressBook = pendingAddressBook;
+                scheduleList = pendingScheduleList;
+                personLessonMap = pendingPersonLessonMap;
+                pendingAddressBook = null;
+                pendingScheduleList = null;
+                pendingPersonLessonMap = null;
+            }
+
+            if (dataLock != null) {
+                // only the data that was saved as changed is copied, and the lock is not held while writing
+                dataLock.lock();
+                try {
+                    addressBook = addressBook == null ? null : new AddressBook(addressBook);
+                    scheduleList = scheduleList == null ? null : copyOf(scheduleList);
+                    personLessonMap = personLessonMap == null ? null : personLessonMap.copy();
+                } finally {
+                    dataLock.unlock();
+                }
+            }
+
+            try {
+                write(addressBook, scheduleList, personLessonMap);
+            } catch (IOException e) {
+                // keep the data so that it is written on the next attempt, unless newer data has arrived
+                enqueueIfAbsent(addressBook, scheduleList, personLessonMap);
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Schedules a background write unless one is already waiting to run.
+     * A write that is already running does not count, as it may have taken its data before the latest save.
+     */
+    private synchronized void scheduleWrite() {
+        if (scheduledWrite == null && !executor.isShutdown()) {
+            scheduledWrite = executor.schedule(this::writeInBackground, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void writeInBackground() {
+        synchronized (this) {
+            scheduledWrite = null;
+        }
+        try {
+            writePending();
+        } catch (IOException e) {
+            logger.warning("Failed to save data in the background: " + StringUtil.getDetails(e));
+            isBackgroundFailing = true;
+            backgroundFailureHandler.accept(e);
+            // the data that failed to be written is still pending, so try again later
+            scheduleWrite();
+            return;
+        }
+        if (isBackgroundFailing) {
+            logger.info("Saved data in the background after an earlier failure");
+            isBackgroundFailing = false;
+            backgroundFailureHandler.accept(null);
+        }
+    }
+
+    /**
+     * Writes the given data together, recording the time taken to write each of them in the {@link MetricsCenter}.
+     */
+    private void write(ReadOnlyAddressBook addressBook, ReadOnlySchedule scheduleList,
+                       BiDirectionalMap<Person, Lesson> personLessonMap) throws IOException {
+        storage.saveTogether(() -> {
+            if (addressBook != null) {
+                long start = System.nanoTime();
+                storage.saveAddressBook(addressBook);
+                MetricsCenter.recordTime(Phase.WRITE, ADDRESS_BOOK_KEY, start);
+            }
+            if (scheduleList != null) {
+                long start = System.nanoTime();
+                storage.saveScheduleList(scheduleList);
+                MetricsCenter.recordTime(Phase.WRITE, SCHEDULE_LIST_KEY, start);
+            }
+            if (personLessonMap != null) {
+                long start = System.nanoTime();
+                storage.savePersonLessonMap(personLessonMap);
+                MetricsCenter.recordTime(Phase.WRITE, PERSON_LESSON_MAP_KEY, start);
+            }
+        });
+    }
+
+    private synchronized void enqueue(ReadOnlyAddressBook addressBook, ReadOnlySchedule scheduleList,
+                                      BiDirectionalMap<Person, Lesson> personLessonMap) {
+        if (addressBook != null) {
+            pendingAddressBook = addressBook;
+        }
+        if (scheduleList != null) {
+            pendingScheduleList = scheduleList;
+        }
+        if (personLessonMap != null) {
+            pendingPersonLessonMap = personLessonMap;
+        }
+    }
+
+    private synchronized void enqueueIfAbsent(ReadOnlyAddressBook addressBook, ReadOnlySchedule scheduleList,
+                                              BiDirectionalMap<Person, Lesson> personLessonMap) {
+        if (pendingAddressBook == null) {
+            pendingAddressBook = addressBook;
+        }
+        if (pendingScheduleList == null) {
+            pendingScheduleList = scheduleList;
+        }
+        if (pendingPersonLessonMap == null) {
+            pendingPersonLessonMap = personLessonMap;
+        }
+    }
+
+    /**
+     * Returns a copy of {@code scheduleList} whose lessons are cloned, as task lists are modified in place.
+     */
+    private static ReadOnlySchedule copyOf(ReadOnlySchedule scheduleList) {
+        ScheduleList copy = new ScheduleList();
+        copy.setLessons(scheduleList.getLessonList().stream().map(Lesson::clone).collect(Collectors.toList()));
+        return copy;
+    }
+}
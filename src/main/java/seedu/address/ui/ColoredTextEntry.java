@@ -1,5 +1,9 @@
 package seedu.address.ui;
 
+import java.util.HashMap;
+import java.util.Map;
+
+import javafx.geometry.Bounds;
 import javafx.scene.layout.StackPane;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
@@ -9,8 +13,11 @@ import javafx.scene.text.Text;
 
 /**
  * A custom UI component that displays a colored text entry.
+ * The size of each text is measured once and remembered, as the font is always the same.
  */
 public class ColoredTextEntry extends StackPane {
+    private static final Map<String, Bounds> textBounds = new HashMap<>();
+
     /**
      * Creates a colored text entry.
      * @param text The text content to display.
@@ -20,8 +27,8 @@ public class ColoredTextEntry extends StackPane {
         Text textNode = new Text(text);
         textNode.setFont(Font.font("Segoe UI Semibold", FontWeight.BOLD, 10));
         textNode.setFill(Color.WHITE);
-        Rectangle rectangle = new Rectangle(textNode.getLayoutBounds().getWidth() + 15,
-                textNode.getLayoutBounds().getHeight() + 10);
+        Bounds bounds = textBounds.computeIfAbsent(text, t -> textNode.getLayoutBounds());
+        Rectangle rectangle = new Rectangle(bounds.getWidth() + 15, bounds.getHeight() + 10);
         rectangle.setArcWidth(20); // Customize the arc width to make it curved.
         rectangle.setArcHeight(20); // Customize the arc height to make it curved.
         rectangle.setFill(Color.web(color));
@@ -4,9 +4,6 @@ import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import javafx.scene.layout.Region;
-import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * The UI component that is responsible for receiving user command inputs.
@@ -49,12 +46,14 @@ public class CommandBox extends UiPart<Region> {
             return;
         }
 
-        try {
-            commandExecutor.execute(commandText);
-            commandTextField.setText("");
-        } catch (CommandException | ParseException e) {
+        commandTextField.setText("");
+        commandExecutor.execute(commandText, () -> {
+            // the command is put back to be corrected, unless another command has been typed in the meantime
+            if (commandTextField.getText().isEmpty()) {
+                commandTextField.setText(commandText);
+            }
             setStyleToIndicateCommandFailure();
-        }
+        });
     }
 
     /**
@@ -83,11 +82,12 @@ public class CommandBox extends UiPart<Region> {
     @FunctionalInterface
     public interface CommandExecutor {
         /**
-         * Executes the command and returns the result.
+         * Executes the command, and runs {@code onFailure} if the command fails.
+         * The command may complete after this returns.
          *
-         * @see seedu.address.logic.Logic#execute(String)
+         * @see seedu.address.logic.Logic#submit(String, java.util.function.Consumer, java.util.function.Consumer)
          */
-        CommandResult execute(String commandText) throws CommandException, ParseException;
+        void execute(String commandText, Runnable onFailure);
     }
 
 }
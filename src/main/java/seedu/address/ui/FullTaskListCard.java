@@ -22,7 +22,7 @@ public class FullTaskListCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Task task;
+    private Task task;
     @FXML
     private VBox fields;
 
@@ -34,13 +34,31 @@ public class FullTaskListCard extends UiPart<Region> {
     private Label id;
 
 
+    /**
+     * Creates an empty {@code FullTaskListCard}, to be filled in by {@link #setTask(Task, int)}.
+     */
+    public FullTaskListCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code TaskCode} with the given {@code Task} and index to display.
      */
     public FullTaskListCard(Task task, int displayedIndex) {
-        super(FXML);
+        this();
+        setTask(task, displayedIndex);
+    }
+
+    /**
+     * Displays the given {@code Task} and index in this card, in place of what it displayed before.
+     */
+    public void setTask(Task task, int displayedIndex) {
         this.task = task;
         id.setText(displayedIndex + ". ");
         desc.setText(task.getDescription());
     }
+
+    public Task getTask() {
+        return task;
+    }
 }
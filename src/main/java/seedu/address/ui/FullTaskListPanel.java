@@ -10,6 +10,7 @@ import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.ListRefreshEvent;
 import seedu.address.logic.Logic;
 import seedu.address.model.lessons.Task;
 
@@ -22,18 +23,18 @@ public class FullTaskListPanel extends UiPart<Region> {
 
     private Logic logic;
     private BooleanProperty reRenderUi;
+    private boolean isShowingTasks = false;
 
     @FXML
     private ListView<Task> fullTaskListView;
 
     /**
-     * Creates a {@code TaskListPanel} with the given {@code ObservableList}.
+     * Creates a {@code TaskListPanel} for the tasks of {@code logic}, which are only gathered once they are shown.
      */
     public FullTaskListPanel(Logic logic) {
         super(FXML);
         this.logic = logic;
         this.reRenderUi = logic.getRefreshListUi(); // Connect to the logic manager's boolean flag
-        fullTaskListView.setItems(logic.getFullTaskList());
         fullTaskListView.setCellFactory(listView -> new FullTaskListViewCell());
         // Listens for a change in reRenderUi value and updates UI, the actual value is irrelevant
         reRenderUi.addListener(new ChangeListener<Boolean>() {
@@ -44,15 +45,37 @@ public class FullTaskListPanel extends UiPart<Region> {
         });
 
     }
+
+    /**
+     * Shows the tasks in this panel, gathering them the first time this is called,
+     * so that the tasks of lessons loaded from storage are not created until the tasks are viewed.
+     */
+    public void showTasks() {
+        if (isShowingTasks) {
+            return;
+        }
+        isShowingTasks = true;
+        fullTaskListView.setItems(logic.getFullTaskList());
+    }
+
     private void refreshUI() {
+        if (!isShowingTasks) {
+            return;
+        }
+        ListRefreshEvent event = ListRefreshEvent.start("FullTaskListPanel");
         fullTaskListView.setItems(logic.getFullTaskList());
-        fullTaskListView.setCellFactory(listView -> new FullTaskListViewCell());
+        fullTaskListView.refresh();
+        event.setItemCount(fullTaskListView.getItems().size());
+        event.commit();
     }
 
     /**
-     * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * Custom {@code ListCell} that displays the graphics of a {@code Task} using a {@code FullTaskListCard}.
+     * The cell keeps one card, which displays whichever task the cell is showing.
      */
     class FullTaskListViewCell extends ListCell<Task> {
+        private FullTaskListCard taskCard;
+
         @Override
         protected void updateItem(Task task, boolean empty) {
             super.updateItem(task, empty);
@@ -61,7 +84,11 @@ public class FullTaskListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new FullTaskListCard(task, getIndex() + 1).getRoot());
+                if (taskCard == null) {
+                    taskCard = new FullTaskListCard();
+                }
+                taskCard.setTask(task, getIndex() + 1);
+                setGraphic(taskCard.getRoot());
             }
         }
     }
@@ -23,7 +23,7 @@ public class LessonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Lesson lesson;
+    private Lesson lesson;
     @FXML
     private VBox fields;
 
@@ -39,11 +39,25 @@ public class LessonCard extends UiPart<Region> {
     private Label duration;
 
 
+    /**
+     * Creates an empty {@code LessonCard}, to be filled in by {@link #setLesson(Lesson, int)}.
+     */
+    public LessonCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code LessonCard} with the given {@code Lesson} and index to display.
      */
     public LessonCard(Lesson lesson, int displayedIndex, Model model) {
-        super(FXML);
+        this();
+        setLesson(lesson, displayedIndex);
+    }
+
+    /**
+     * Displays the given {@code Lesson} and index in this card, in place of what it displayed before.
+     */
+    public void setLesson(Lesson lesson, int displayedIndex) {
         this.lesson = lesson;
         id.setText(displayedIndex + ". ");
         name.setText(lesson.getLessonNameStr());
@@ -51,5 +65,7 @@ public class LessonCard extends UiPart<Region> {
         duration.setText(lesson.getLessonDurationStr());
     }
 
-
+    public Lesson getLesson() {
+        return lesson;
+    }
 }
@@ -10,6 +10,7 @@ import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.ListRefreshEvent;
 import seedu.address.logic.Logic;
 import seedu.address.model.Model;
 import seedu.address.model.lessons.Lesson;
@@ -48,13 +49,19 @@ public class LessonListPanel extends UiPart<Region> {
     }
 
     private void refreshUI() {
+        ListRefreshEvent event = ListRefreshEvent.start("LessonListPanel");
         scheduleListView.refresh();
+        event.setItemCount(scheduleListView.getItems().size());
+        event.commit();
     }
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Lesson} using a {@code LessonCard}.
+     * The cell keeps one card, which displays whichever lesson the cell is showing.
      */
     class ScheduleListViewCell extends ListCell<Lesson> {
+        private LessonCard lessonCard;
+
         @Override
         protected void updateItem(Lesson lesson, boolean empty) {
             super.updateItem(lesson, empty);
@@ -63,7 +70,11 @@ public class LessonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new LessonCard(lesson, getIndex() + 1, model).getRoot());
+                if (lessonCard == null) {
+                    lessonCard = new LessonCard();
+                }
+                lessonCard.setLesson(lesson, getIndex() + 1);
+                setGraphic(lessonCard.getRoot());
             }
         }
     }
@@ -1,10 +1,13 @@
 package seedu.address.ui;
 
 import java.util.ArrayList;
+import java.util.concurrent.locks.Lock;
 import java.util.logging.Logger;
 
+import javafx.animation.PauseTransition;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
+import javafx.scene.Cursor;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.SplitPane;
 import javafx.scene.control.TextInputControl;
@@ -15,12 +18,11 @@ import javafx.scene.layout.AnchorPane;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
+import javafx.util.Duration;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
-import seedu.address.logic.commands.CommandResult;
-import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.model.Model;
 import seedu.address.model.lessons.Lesson;
 import seedu.address.model.lessons.Task;
@@ -34,6 +36,8 @@ import seedu.address.model.state.State;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    // Commands that complete sooner than this do not show that they are running, so the window does not flicker
+    private static final Duration BUSY_INDICATOR_DELAY = Duration.millis(200);
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
@@ -42,6 +46,8 @@ public class MainWindow extends UiPart<Stage> {
     private Model model;
     private ArrayList<String> prevCommand = new ArrayList<>();
     private int prevCommandId = 0;
+    private int runningCommandCount = 0;
+    private final PauseTransition busyIndicatorDelay = new PauseTransition(BUSY_INDICATOR_DELAY);
 
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
@@ -51,6 +57,7 @@ public class MainWindow extends UiPart<Stage> {
     private FullTaskListPanel fullTaskListPanel;
     private TaskDetailPanel taskDetailPanel;
     private ResultDisplay resultDisplay;
+    private StatusBarFooter statusBarFooter;
     private HelpWindow helpWindow;
     private CommandBox commandBox;
 
@@ -194,7 +201,9 @@ public class MainWindow extends UiPart<Stage> {
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        logic.setSaveFailureHandler(statusBarFooter::showSaveFailure);
+        busyIndicatorDelay.setOnFinished(event -> setBusy(true));
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
@@ -251,13 +260,18 @@ public class MainWindow extends UiPart<Stage> {
     }
 
     /**
-     * Executes the command and returns the result.
+     * Executes the command, shows its result once it completes, and runs {@code onFailure} if it fails.
+     * The window shows that commands are running while any of them takes long.
      *
-     * @see seedu.address.logic.Logic#execute(String)
+     * @see seedu.address.logic.Logic#submit(String, java.util.function.Consumer, java.util.function.Consumer)
      */
-    private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
-        try {
-            CommandResult commandResult = logic.execute(commandText);
+    private void executeCommand(String commandText, Runnable onFailure) {
+        long start = System.nanoTime();
+        if (runningCommandCount++ == 0) {
+            busyIndicatorDelay.playFromStart();
+        }
+        logic.submit(commandText, commandResult -> {
+            handleCommandCompleted(commandText, start);
             updateDetailPanels();
             logger.info("Result: " + commandResult.getFeedbackToUser());
             resultDisplay.setFeedbackToUser(commandResult.getFeedbackToUser());
@@ -269,14 +283,31 @@ public class MainWindow extends UiPart<Stage> {
             if (commandResult.isExit()) {
                 handleExit();
             }
-            return commandResult;
-        } catch (CommandException | ParseException e) {
+        }, e -> {
+            handleCommandCompleted(commandText, start);
+            updateDetailPanels();
             logger.info("An error occurred while executing command: " + commandText);
             resultDisplay.setFeedbackToUser(e.getMessage());
-            throw e;
+            onFailure.run();
+        });
+    }
+
+    private void handleCommandCompleted(String commandText, long start) {
+        statusBarFooter.showCommandTime(AddressBookParser.getCommandWord(commandText), System.nanoTime() - start);
+        if (--runningCommandCount == 0) {
+            busyIndicatorDelay.stop();
+            setBusy(false);
         }
     }
 
+    /**
+     * Shows or hides that commands are running, in the status bar and with the cursor.
+     */
+    private void setBusy(boolean isBusy) {
+        statusBarFooter.setBusy(isBusy);
+        primaryStage.getScene().setCursor(isBusy ? Cursor.WAIT : Cursor.DEFAULT);
+    }
+
     /**
      * Sets the Person Details in the Student Detail Panel and shows it.
      *
@@ -288,7 +319,7 @@ public class MainWindow extends UiPart<Stage> {
             return;
         }
         studentDetailList.setVisible(true);
-        studentDetailListPanel.setPersonDetails(person, model);
+        readModelIfIdle(() -> studentDetailListPanel.setPersonDetails(person, model));
     }
 
     /**
@@ -302,20 +333,38 @@ public class MainWindow extends UiPart<Stage> {
             return;
         }
         lessonDetailList.setVisible(true);
-        lessonDetailListPanel.setLessonDetails(lesson, model);
+        readModelIfIdle(() -> lessonDetailListPanel.setLessonDetails(lesson, model));
     }
 
     /**
      * Updates the detail panels if there is a detail of lesson or person shown.
      */
     public void updateDetailPanels() {
-        Person currentPerson = model.getCurrentlyDisplayedPerson();
-        Lesson currentLesson = model.getCurrentlyDisplayedLesson();
-        if (currentLesson != null) {
-            lessonDetailListPanel.setLessonDetails(currentLesson, model);
+        readModelIfIdle(() -> {
+            Person currentPerson = model.getCurrentlyDisplayedPerson();
+            Lesson currentLesson = model.getCurrentlyDisplayedLesson();
+            if (currentLesson != null) {
+                lessonDetailListPanel.setLessonDetails(currentLesson, model);
+            }
+            if (currentPerson != null) {
+                studentDetailListPanel.setPersonDetails(currentPerson, model);
+            }
+        });
+    }
+
+    /**
+     * Runs {@code reader} under the read lock of the model, unless a command is changing the model.
+     * The UI thread does not wait for the command, as the detail panels are updated again when it completes.
+     */
+    private void readModelIfIdle(Runnable reader) {
+        Lock readLock = model.getLock().readLock();
+        if (!readLock.tryLock()) {
+            return;
         }
-        if (currentPerson != null) {
-            studentDetailListPanel.setPersonDetails(currentPerson, model);
+        try {
+            reader.run();
+        } finally {
+            readLock.unlock();
         }
     }
 
@@ -350,6 +399,7 @@ public class MainWindow extends UiPart<Stage> {
             contentSplitPane.getItems().addAll(personList, studentDetailList);
             break;
         case TASK:
+            fullTaskListPanel.showTasks();
             contentSplitPane.getItems().addAll(fullTaskList, taskDetailListPanel);
             break;
         default:
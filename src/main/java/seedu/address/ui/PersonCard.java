@@ -1,5 +1,8 @@
 package seedu.address.ui;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
@@ -7,6 +10,7 @@ import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Subject;
 
 /**
  * A UI component that displays information of a {@code Person}.
@@ -23,7 +27,8 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private final Map<Subject, ColoredTextEntry> subjectBadges = new HashMap<>();
+    private Person person;
     @FXML
     private VBox fields;
 
@@ -36,16 +41,37 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private FlowPane tags;
 
+    /**
+     * Creates an empty {@code PersonCard}, to be filled in by {@link #setPerson(Person, int, String[])}.
+     */
+    public PersonCard() {
+        super(FXML);
+    }
+
     /**
      * Creates a {@code PersonCode} with the given {@code Person} and index to display.
      */
     public PersonCard(Person person, int displayedIndex, String[] displayFields) {
-        super(FXML);
+        this();
+        setPerson(person, displayedIndex, displayFields);
+    }
+
+    /**
+     * Displays the given {@code Person} and index in this card, in place of what it displayed before.
+     * The subject badges built for earlier persons are reused.
+     */
+    public void setPerson(Person person, int displayedIndex, String[] displayFields) {
         this.person = person;
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
+        fields.getChildren().clear();
+        tags.getChildren().clear();
         for (String field : displayFields) {
-            PersonCardFieldBuilder.build(field, person, fields, tags);
+            PersonCardFieldBuilder.build(field, person, fields, tags, subjectBadges);
         }
     }
+
+    public Person getPerson() {
+        return person;
+    }
 }
@@ -1,11 +1,13 @@
 package seedu.address.ui;
 
 import java.util.Comparator;
+import java.util.Map;
 
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.VBox;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Subject;
 
 
 /**
@@ -13,13 +15,15 @@ import seedu.address.model.person.Person;
  */
 public class PersonCardFieldBuilder {
     /**
-     * Build a field of a person card
+     * Build a field of a person card, reusing the badges in {@code subjectBadges} and keeping new ones in it
      * @param fieldName the name of the field
      * @param person the person
      * @param fields the fields
      * @param tags the tags
+     * @param subjectBadges the badges already built for the card, by subject
      */
-    public static void build(String fieldName, Person person, VBox fields, FlowPane tags) {
+    public static void build(String fieldName, Person person, VBox fields, FlowPane tags,
+            Map<Subject, ColoredTextEntry> subjectBadges) {
         switch (fieldName) {
         case "phone":
             buildPhone(person, fields, tags);
@@ -34,7 +38,7 @@ public class PersonCardFieldBuilder {
             buildTags(person, fields, tags);
             break;
         case "subjects":
-            buildSubjects(person, fields, tags);
+            buildSubjects(person, fields, subjectBadges);
             break;
         case "remark":
             buildRemark(person, fields, tags);
@@ -70,12 +74,12 @@ public class PersonCardFieldBuilder {
                 .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
     }
 
-    static void buildSubjects(Person person, VBox fields, FlowPane tags) {
+    static void buildSubjects(Person person, VBox fields, Map<Subject, ColoredTextEntry> subjectBadges) {
         FlowPane subjects = new FlowPane();
         person.getSubjectsSet().stream()
                 .sorted(Comparator.comparing(subject -> subject.subjectName))
-                .forEach(subject -> subjects.getChildren()
-                        .add(new ColoredTextEntry(subject.subjectName.toString(), subject.getColour())));
+                .forEach(subject -> subjects.getChildren().add(subjectBadges.computeIfAbsent(subject,
+                        s -> new ColoredTextEntry(s.subjectName.toString(), s.getColour()))));
         subjects.setHgap(10);
         fields.getChildren().add(subjects);
     }
@@ -10,6 +10,7 @@ import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.ListRefreshEvent;
 import seedu.address.logic.Logic;
 import seedu.address.model.person.Person;
 
@@ -45,14 +46,20 @@ public class PersonListPanel extends UiPart<Region> {
 
     }
     private void refreshUI() {
+        ListRefreshEvent event = ListRefreshEvent.start("PersonListPanel");
         personListView.setItems(logic.getFilteredPersonList());
-        personListView.setCellFactory(listView -> new PersonListViewCell());
+        personListView.refresh();
+        event.setItemCount(personListView.getItems().size());
+        event.commit();
     }
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Person} using a {@code PersonCard}.
+     * The cell keeps one card, which displays whichever person the cell is showing.
      */
     class PersonListViewCell extends ListCell<Person> {
+        private PersonCard personCard;
+
         @Override
         protected void updateItem(Person person, boolean empty) {
             super.updateItem(person, empty);
@@ -61,7 +68,11 @@ public class PersonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1, logic.getDisplayedFieldsList()).getRoot());
+                if (personCard == null) {
+                    personCard = new PersonCard();
+                }
+                personCard.setPerson(person, getIndex() + 1, logic.getDisplayedFieldsList());
+                setGraphic(personCard.getRoot());
             }
         }
     }
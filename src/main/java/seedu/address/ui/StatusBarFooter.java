@@ -6,6 +6,8 @@ import java.nio.file.Paths;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
+import seedu.address.commons.core.MetricsCenter;
+import seedu.address.commons.core.MetricsCenter.Phase;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -13,9 +15,17 @@ import javafx.scene.layout.Region;
 public class StatusBarFooter extends UiPart<Region> {
 
     private static final String FXML = "StatusBarFooter.fxml";
+    private static final String BUSY_MESSAGE = "Working...";
+    private static final String METRICS_FORMAT = "  %1$s: %2$.1f ms (p99 executing: %3$.1f ms) | %4$s";
 
     @FXML
     private Label saveLocationStatus;
+    @FXML
+    private Label busyStatus;
+    @FXML
+    private Label metricsStatus;
+    @FXML
+    private Label saveFailureStatus;
 
     /**
      * Creates a {@code StatusBarFooter} with the given {@code Path}.
@@ -25,4 +35,28 @@ public class StatusBarFooter extends UiPart<Region> {
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
     }
 
+    /**
+     * Shows or hides the indicator that a command is still running.
+     */
+    public void setBusy(boolean isBusy) {
+        busyStatus.setText(isBusy ? BUSY_MESSAGE : "");
+    }
+
+    /**
+     * Shows that data could not be saved in the background, or clears it if {@code message} is null.
+     */
+    public void showSaveFailure(String message) {
+        saveFailureStatus.setText(message == null ? "" : message);
+    }
+
+    /**
+     * Shows how long the last command took from being entered to its result being shown,
+     * the 99th percentile of the times taken to execute its command word and the heap usage.
+     */
+    public void showCommandTime(String commandWord, long elapsedNanos) {
+        long p99Micros = MetricsCenter.getTimes(Phase.EXECUTE, commandWord).getValueAtPercentile(99);
+        metricsStatus.setText(String.format(METRICS_FORMAT, commandWord, elapsedNanos / 1e6, p99Micros / 1e3,
+                MetricsCenter.getHeapUsage()));
+    }
+
 }
@@ -0,0 +1,87 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.AddPersonCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonScheduleListStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class HeadlessAppTest {
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private HeadlessApp app;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonScheduleListStorage(temporaryFolder.resolve("scheduleList.json")));
+        app = new HeadlessApp(new LogicManager(model, storage), new PrintStream(out, true, StandardCharsets.UTF_8),
+                new PrintStream(err, true, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void runFile_validCommands_success() throws Exception {
+        Path commandFile = temporaryFolder.resolve("commands.txt");
+        Files.write(commandFile, List.of("addPerson -name Amy Bee", "addPerson -name Bob Choo"));
+
+        assertEquals(HeadlessApp.EXIT_SUCCESS, app.runFile(commandFile));
+        assertEquals(2, model.getAddressBook().getPersonList().size());
+        assertEquals(String.format(LogicManager.MESSAGE_BATCH_SUCCESS, 2), output(out).trim());
+    }
+
+    @Test
+    public void runFile_failingCommand_nothingChanges() throws Exception {
+        Path commandFile = temporaryFolder.resolve("commands.txt");
+        Files.write(commandFile, List.of("addPerson -name Amy Bee", "addPerson -name Amy Bee"));
+
+        assertEquals(HeadlessApp.EXIT_FAILURE, app.runFile(commandFile));
+        assertEquals(0, model.getAddressBook().getPersonList().size());
+        assertTrue(output(err).contains(AddPersonCommand.MESSAGE_DUPLICATE_PERSON));
+    }
+
+    @Test
+    public void runFile_missingFile_failure() {
+        assertEquals(HeadlessApp.EXIT_FAILURE, app.runFile(temporaryFolder.resolve("missing.txt")));
+    }
+
+    @Test
+    public void runInteractive_continuesAfterFailureAndStopsAtExit() {
+        BufferedReader in = new BufferedReader(new StringReader(String.join("\n", "addPerson -name Amy Bee", "",
+                "deletePerson 9", ExitCommand.COMMAND_WORD, "addPerson -name Bob Choo")));
+
+        assertEquals(HeadlessApp.EXIT_FAILURE, app.runInteractive(in, false));
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+        assertTrue(output(out).contains(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT));
+        assertTrue(!output(err).isEmpty());
+    }
+
+    private static String output(ByteArrayOutputStream stream) {
+        return stream.toString(StandardCharsets.UTF_8);
+    }
+}
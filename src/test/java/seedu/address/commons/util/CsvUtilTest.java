@@ -0,0 +1,44 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvUtilTest {
+
+    @Test
+    public void writeRecord_specialCharacters_readBackUnchanged() throws IOException {
+        List<String> first = List.of("plain", "with, comma", "with \"quotes\"", "two\nlines", "");
+        List<String> second = List.of("", "last");
+        StringWriter writer = new StringWriter();
+        CsvUtil.writeRecord(writer, first);
+        CsvUtil.writeRecord(writer, second);
+
+        BufferedReader reader = new BufferedReader(new StringReader(writer.toString()));
+        assertEquals(first, CsvUtil.readRecord(reader));
+        assertEquals(second, CsvUtil.readRecord(reader));
+        assertNull(CsvUtil.readRecord(reader));
+    }
+
+    @Test
+    public void readRecord_windowsLineBreaksAndEmptyLines_success() throws IOException {
+        BufferedReader reader = new BufferedReader(new StringReader("a,b\r\n\r\n\"c\"\"d\",e"));
+        assertEquals(List.of("a", "b"), CsvUtil.readRecord(reader));
+        assertEquals(List.of(""), CsvUtil.readRecord(reader));
+        assertEquals(List.of("c\"d", "e"), CsvUtil.readRecord(reader));
+        assertNull(CsvUtil.readRecord(reader));
+    }
+
+    @Test
+    public void escape_noSpecialCharacters_unchanged() {
+        assertEquals("Alex Yeoh", CsvUtil.escape("Alex Yeoh"));
+        assertEquals("\"a,b\"", CsvUtil.escape("a,b"));
+    }
+}
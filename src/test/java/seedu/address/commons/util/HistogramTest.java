@@ -0,0 +1,64 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class HistogramTest {
+
+    @Test
+    public void getValueAtPercentile_nothingRecorded_returnsZero() {
+        Histogram histogram = new Histogram();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(0, histogram.getMax());
+    }
+
+    @Test
+    public void getValueAtPercentile_smallValues_exact() {
+        Histogram histogram = new Histogram();
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+        assertEquals(100, histogram.getCount());
+        assertEquals(5050, histogram.getTotal());
+        assertEquals(1, histogram.getValueAtPercentile(0));
+        assertEquals(50, histogram.getValueAtPercentile(50));
+        assertEquals(99, histogram.getValueAtPercentile(99));
+        assertEquals(100, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void getValueAtPercentile_largeValues_withinOnePercent() {
+        Histogram histogram = new Histogram();
+        for (long i = 1; i <= 10_000; i++) {
+            histogram.record(i * 997);
+        }
+        assertWithinOnePercent(5_000 * 997, histogram.getValueAtPercentile(50));
+        assertWithinOnePercent(9_900 * 997, histogram.getValueAtPercentile(99));
+        assertEquals(10_000 * 997, histogram.getValueAtPercentile(100));
+        assertEquals(10_000 * 997, histogram.getMax());
+    }
+
+    @Test
+    public void record_extremeValues_recorded() {
+        Histogram histogram = new Histogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(0, histogram.getValueAtPercentile(50));
+        assertEquals(Long.MAX_VALUE, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void getValueAtPercentile_invalidPercentile_throwsIllegalArgumentException() {
+        Histogram histogram = new Histogram();
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(101));
+        assertThrows(IllegalArgumentException.class, () -> histogram.getValueAtPercentile(-1));
+    }
+
+    private static void assertWithinOnePercent(long expected, long actual) {
+        assertTrue(Math.abs(actual - expected) <= expected / 100, "Expected about " + expected + " but was " + actual);
+    }
+}
@@ -1,12 +1,20 @@
 package seedu.address.commons.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.testutil.SerializableTestClass;
 import seedu.address.testutil.TestUtil;
 
@@ -39,6 +47,47 @@ public class JsonUtilTest {
         assertEquals(serializableTestClass.getMapOfIntegerToString(), SerializableTestClass.getHashMapTestValues());
     }
 
+    @Test
+    public void saveThenReadJsonArrayFile_elementsReadInOrder() throws Exception {
+        List<Integer> elements = Arrays.asList(3, 1, 2);
+        JsonUtil.saveJsonArrayFile(SERIALIZATION_FILE, "elements", elements, String::valueOf);
+
+        List<String> readElements = new ArrayList<>();
+        assertTrue(JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "elements", String.class, readElements::add));
+        assertEquals(Arrays.asList("3", "1", "2"), readElements);
+    }
+
+    @Test
+    public void readJsonArrayFile_otherFields_skipped() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{\"other\": {\"elements\": [\"x\"]}, \"elements\": [\"a\", null]}");
+
+        List<String> readElements = new ArrayList<>();
+        assertTrue(JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "elements", String.class, readElements::add));
+        assertEquals(Arrays.asList("a"), readElements);
+    }
+
+    @Test
+    public void readJsonArrayFile_handlerRejectsElement_throwsIllegalValueException() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "{\"elements\": [\"a\"]}");
+        assertThrows(IllegalValueException.class, () -> JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "elements",
+                String.class, element -> {
+                    throw new IllegalValueException(element);
+                }));
+    }
+
+    @Test
+    public void readJsonArrayFile_notJsonObject_throwsDataLoadingException() throws Exception {
+        FileUtil.writeToFile(SERIALIZATION_FILE, "[\"a\"]");
+        assertThrows(DataLoadingException.class, () -> JsonUtil.readJsonArrayFile(SERIALIZATION_FILE, "elements",
+                String.class, element -> { }));
+    }
+
+    @Test
+    public void readJsonArrayFile_missingFile_returnsFalse() throws Exception {
+        assertFalse(JsonUtil.readJsonArrayFile(TestUtil.getFilePathInSandboxFolder("missing.json"), "elements",
+                String.class, element -> { }));
+    }
+
     //TODO: @Test jsonUtil_readJsonStringToObjectInstance_correctObject()
 
     //TODO: @Test jsonUtil_writeThenReadObjectToJson_correctObject()
@@ -0,0 +1,203 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ListChangeListener;
+import javafx.stage.Stage;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ModelManager;
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.lessons.Task;
+import seedu.address.model.person.Person;
+import seedu.address.model.state.State;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonScheduleListStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.ui.Ui;
+
+public class AsyncLogicTest {
+    private static final long TIMEOUT_SECONDS = 10;
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final BlockingQueue<Runnable> uiTasks = new LinkedBlockingQueue<>();
+    private final List<String> uiCalls = new ArrayList<>();
+    private final List<CommandResult> results = new ArrayList<>();
+    private final List<Exception> failures = new ArrayList<>();
+    private ModelManager model = new ModelManager();
+    private AsyncLogic asyncLogic;
+
+    @BeforeEach
+    public void setUp() {
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")),
+                new JsonScheduleListStorage(temporaryFolder.resolve("scheduleList.json")));
+        asyncLogic = new AsyncLogic(new LogicManager(model, storage), uiTasks::add);
+        model.linkUi(asyncLogic.deferring(new RecordingUi()));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        asyncLogic.stopWorker();
+    }
+
+    @Test
+    public void submit_validCommand_changesShownTogetherOnUiThread() throws Exception {
+        asyncLogic.submit("addPerson -name Amy Bee", results::add, failures::add);
+        Runnable batch = nextUiTask();
+
+        // the worker has changed the model, but nothing is shown until the batch runs
+        assertEquals(1, model.getFilteredPersonList().size());
+        assertTrue(asyncLogic.getFilteredPersonList().isEmpty());
+        assertTrue(uiCalls.isEmpty());
+        assertTrue(results.isEmpty());
+
+        batch.run();
+        assertEquals(model.getFilteredPersonList(), asyncLogic.getFilteredPersonList());
+        assertEquals(List.of("changeLayout " + State.STUDENT, "showPersonDetails Amy Bee"), uiCalls);
+        assertEquals(1, results.size());
+        assertTrue(failures.isEmpty());
+    }
+
+    @Test
+    public void submit_invalidCommand_failureHandedToUiThread() throws Exception {
+        asyncLogic.submit("uicfhmowqewca", results::add, failures::add);
+        nextUiTask().run();
+
+        assertTrue(results.isEmpty());
+        assertEquals(1, failures.size());
+        assertTrue(failures.get(0) instanceof ParseException);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, failures.get(0).getMessage());
+    }
+
+    @Test
+    public void submit_severalCommands_executedInOrder() throws Exception {
+        asyncLogic.submit("addPerson -name Amy Bee", results::add, failures::add);
+        asyncLogic.submit("addPerson -name Amy Bee", results::add, failures::add);
+        asyncLogic.submit("addPerson -name Bob Choo", results::add, failures::add);
+
+        nextUiTask().run();
+        nextUiTask().run();
+        nextUiTask().run();
+
+        assertEquals(2, results.size());
+        assertEquals(1, failures.size());
+        assertEquals(2, asyncLogic.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void execute_fromOtherThread_waitsForWorker() throws Exception {
+        CommandResult result = asyncLogic.execute("addPerson -name Amy Bee");
+        assertNotNull(result);
+        assertEquals(1, model.getFilteredPersonList().size());
+
+        nextUiTask().run();
+        assertEquals(1, asyncLogic.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void submit_itemRemoved_onlyThatItemRemovedFromCopy() throws Exception {
+        asyncLogic.submit("addPerson -name Amy Bee", results::add, failures::add);
+        asyncLogic.submit("addPerson -name Bob Choo", results::add, failures::add);
+        asyncLogic.submit("addPerson -name Cat Dee", results::add, failures::add);
+        nextUiTask().run();
+        nextUiTask().run();
+        nextUiTask().run();
+        Person first = asyncLogic.getFilteredPersonList().get(0);
+        List<String> changes = new ArrayList<>();
+        asyncLogic.getFilteredPersonList().addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + " -" + change.getRemovedSize() + " +" + change.getAddedSize());
+            }
+        });
+
+        asyncLogic.submit("deletePerson 2", results::add, failures::add);
+        nextUiTask().run();
+
+        assertTrue(failures.isEmpty());
+        assertEquals(List.of("1 -1 +0"), changes);
+        assertEquals(model.getFilteredPersonList(), asyncLogic.getFilteredPersonList());
+        assertSame(first, asyncLogic.getFilteredPersonList().get(0));
+    }
+
+    @Test
+    public void getFullTaskList_firstCall_tasksMirroredFromThen() throws Exception {
+        asyncLogic.execute("addLesson -name Maths");
+        asyncLogic.execute("addtask 1 do homework");
+        nextUiTask().run();
+        nextUiTask().run();
+
+        // the tasks are only gathered once they are asked for
+        List<Task> tasks = asyncLogic.getFullTaskList();
+        assertTrue(tasks.isEmpty());
+        nextUiTask().run();
+        assertEquals(model.getFullTaskList(), tasks);
+
+        asyncLogic.execute("addtask 1 do revision");
+        nextUiTask().run();
+        assertEquals(2, tasks.size());
+        assertEquals(model.getFullTaskList(), tasks);
+    }
+
+    @Test
+    public void deferring_callNotOnWorker_passedOnImmediately() {
+        model.showTask(null);
+        assertEquals(List.of("showTaskDetails"), uiCalls);
+    }
+
+    private Runnable nextUiTask() throws InterruptedException {
+        Runnable task = uiTasks.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        assertNotNull(task, "The worker did not hand anything to the UI thread");
+        return task;
+    }
+
+    /**
+     * A Ui that records the calls made to it.
+     */
+    private class RecordingUi implements Ui {
+        @Override
+        public void start(Stage primaryStage) {
+            uiCalls.add("start");
+        }
+
+        @Override
+        public void showPersonDetails(Person person) {
+            uiCalls.add("showPersonDetails " + person.getName());
+        }
+
+        @Override
+        public void showLessonDetails(Lesson lesson) {
+            uiCalls.add("showLessonDetails " + lesson.getName());
+        }
+
+        @Override
+        public void showTaskDetails(Task task) {
+            uiCalls.add("showTaskDetails");
+        }
+
+        @Override
+        public void changeLayout(State state) {
+            uiCalls.add("changeLayout " + state);
+        }
+    }
+}
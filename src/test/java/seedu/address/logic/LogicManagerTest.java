@@ -1,21 +1,36 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
+import javafx.collections.ListChangeListener;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import seedu.address.commons.core.MetricsCenter;
+import seedu.address.commons.core.MetricsCenter.Phase;
+import seedu.address.commons.events.CommandEvent;
+import seedu.address.commons.events.StorageEvent;
 import seedu.address.logic.commands.AddPersonCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RunCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.ListCommandParser;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -78,6 +93,91 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, expectedMessage, model);
     }
 
+    @Test
+    public void submit_commands_resultsPassedOnBeforeReturning() {
+        List<Object> outcomes = new ArrayList<>();
+        logic.submit(ListCommand.COMMAND_WORD, outcomes::add, outcomes::add);
+        logic.submit("uicfhmowqewca", outcomes::add, outcomes::add);
+        assertEquals(2, outcomes.size());
+        assertTrue(outcomes.get(0) instanceof CommandResult);
+        assertTrue(outcomes.get(1) instanceof ParseException);
+    }
+
+    @Test
+    public void execute_readerHoldsLock_waitsForReader() throws Exception {
+        List<Exception> failures = new ArrayList<>();
+        Thread commandThread = new Thread(() -> {
+            try {
+                logic.execute("addPerson -name Amy Bee");
+            } catch (CommandException | ParseException e) {
+                failures.add(e);
+            }
+        });
+
+        model.getLock().readLock().lock();
+        try {
+            commandThread.start();
+            commandThread.join(200);
+            assertTrue(commandThread.isAlive());
+            assertTrue(model.getFilteredPersonList().isEmpty());
+        } finally {
+            model.getLock().readLock().unlock();
+        }
+        commandThread.join();
+        assertTrue(failures.isEmpty());
+        assertEquals(1, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void execute_readOnlyCommand_doesNotSave() throws Exception {
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+        assertFalse(Files.exists(temporaryFolder.resolve("scheduleList.json")));
+    }
+
+    @Test
+    public void execute_commands_timesRecordedByCommandWord() throws Exception {
+        MetricsCenter.clear();
+        logic.execute("addPerson -name Amy Bee");
+        assertThrows(CommandException.class, () -> logic.execute("addPerson -name Amy Bee"));
+
+        assertEquals(2, MetricsCenter.getTimes(Phase.PARSE, "addperson").getCount());
+        assertEquals(2, MetricsCenter.getTimes(Phase.EXECUTE, "addperson").getCount());
+        assertEquals(1, MetricsCenter.getTimes(Phase.SAVE, "addperson").getCount());
+        assertEquals(1, MetricsCenter.getBytesWritten("addressBook.json").getCount());
+        assertTrue(MetricsCenter.getBytesWritten("addressBook.json").getMax() > 0);
+    }
+
+    @Test
+    public void execute_commands_flightRecorderEventsEmitted() throws Exception {
+        Path recordingFile = temporaryFolder.resolve("recording.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(CommandEvent.NAME);
+            recording.enable(StorageEvent.NAME);
+            recording.start();
+            logic.execute("addPerson -name Amy Bee");
+            assertThrows(ParseException.class, () -> logic.execute("uicfhmowqewca"));
+            recording.stop();
+            recording.dump(recordingFile);
+        }
+        List<RecordedEvent> events = RecordingFile.readAllEvents(recordingFile).stream()
+                .sorted((first, second) -> first.getStartTime().compareTo(second.getStartTime()))
+                .collect(Collectors.toList());
+
+        List<RecordedEvent> commandEvents = eventsNamed(events, CommandEvent.NAME);
+        assertEquals(2, commandEvents.size());
+        assertEquals("addperson", commandEvents.get(0).getString("commandWord"));
+        assertEquals(CommandEvent.OUTCOME_SUCCESS, commandEvents.get(0).getString("outcome"));
+        assertEquals("uicfhmowqewca", commandEvents.get(1).getString("commandWord"));
+        assertEquals(CommandEvent.OUTCOME_PARSE_FAILURE, commandEvents.get(1).getString("outcome"));
+
+        List<RecordedEvent> storageEvents = eventsNamed(events, StorageEvent.NAME);
+        assertEquals(1, storageEvents.size());
+        assertEquals(StorageEvent.OPERATION_SAVE, storageEvents.get(0).getString("operation"));
+        assertEquals(temporaryFolder.resolve("addressBook.json").toString(), storageEvents.get(0).getString("path"));
+        assertTrue(storageEvents.get(0).getLong("bytes") > 0);
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
@@ -90,6 +190,66 @@ public class LogicManagerTest {
                 LogicManager.FILE_OPS_PERMISSION_ERROR_FORMAT, DUMMY_AD_EXCEPTION.getMessage()));
     }
 
+    @Test
+    public void executeBatch_allCommandsSucceed_changesAndSavesOnce() throws Exception {
+        int[] changeCount = {0};
+        model.getAddressBook().getPersonList().addListener((ListChangeListener<Person>) change -> changeCount[0]++);
+
+        CommandResult result = logic.executeBatch(List.of("addPerson -name Amy Bee", "addPerson -name Bob Choo",
+                "deletePerson 1"));
+
+        assertEquals(String.format(LogicManager.MESSAGE_BATCH_SUCCESS, 3), result.getFeedbackToUser());
+        assertEquals(1, model.getAddressBook().getPersonList().size());
+        assertEquals(new Name("Bob Choo"), model.getAddressBook().getPersonList().get(0).getName());
+        assertEquals(1, changeCount[0]);
+        assertEquals(State.STUDENT, model.getState());
+        assertTrue(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void executeBatch_endsWithFind_listFilteredInModel() throws Exception {
+        logic.executeBatch(List.of("addPerson -name Amy Bee", "addPerson -name Bob Choo", "find Bob"));
+
+        assertEquals(2, model.getAddressBook().getPersonList().size());
+        assertEquals(1, model.getFilteredPersonList().size());
+        assertEquals(new Name("Bob Choo"), model.getFilteredPersonList().get(0).getName());
+    }
+
+    @Test
+    public void executeBatch_commandFails_nothingChanges() {
+        String failingCommand = "addPerson -name Amy Bee";
+        String expectedMessage = String.format(LogicManager.MESSAGE_BATCH_FAILURE, 2, failingCommand,
+                AddPersonCommand.MESSAGE_DUPLICATE_PERSON);
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs(), model.getScheduleList());
+
+        assertThrows(CommandException.class, expectedMessage, () -> logic.executeBatch(
+                List.of("addPerson -name Amy Bee", failingCommand, "addPerson -name Bob Choo")));
+        assertEquals(expectedModel, model);
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void execute_runCommand_executesFileAsBatch() throws Exception {
+        Path commandFile = temporaryFolder.resolve("commands.txt");
+        Files.write(commandFile, List.of("# students for the new term", "addPerson -name Amy Bee", "",
+                "addPerson -name Bob Choo"));
+
+        CommandResult result = logic.execute(RunCommand.COMMAND_WORD + " " + commandFile);
+
+        assertEquals(String.format(LogicManager.MESSAGE_BATCH_SUCCESS, 2), result.getFeedbackToUser());
+        assertEquals(2, model.getAddressBook().getPersonList().size());
+    }
+
+    @Test
+    public void executeBatch_nestedRun_throwsCommandException() throws Exception {
+        Path commandFile = temporaryFolder.resolve("commands.txt");
+        Files.write(commandFile, List.of("list"));
+        String runCommand = RunCommand.COMMAND_WORD + " " + commandFile;
+
+        assertThrows(CommandException.class, String.format(LogicManager.MESSAGE_BATCH_FAILURE, 1, runCommand,
+                LogicManager.MESSAGE_NESTED_BATCH), () -> logic.executeBatch(List.of(runCommand)));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -205,4 +365,10 @@ public class LogicManagerTest {
             throw new AssertionError("Parsing and execution of add command should succeed.", e1);
         }
     }
+
+    private static List<RecordedEvent> eventsNamed(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(name))
+                .collect(Collectors.toList());
+    }
 }
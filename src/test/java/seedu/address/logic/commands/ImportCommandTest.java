@@ -0,0 +1,99 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalLessons.getTypicalScheduleList;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.person.Person;
+
+public class ImportCommandTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), getTypicalScheduleList());
+
+    @Test
+    public void execute_exportedFile_restoresModel() throws CommandException {
+        Person person = model.getAddressBook().getPersonList().get(0);
+        Lesson lesson = model.getScheduleList().getLessonList().get(0);
+        model.linkWith(person, lesson);
+        Path filePath = testFolder.resolve("roster.csv");
+        new ExportCommand(filePath).execute(model);
+
+        Model importedModel = new ModelManager();
+        CommandResult result = new ImportCommand(filePath).execute(importedModel);
+
+        assertEquals(String.format(ImportCommand.MESSAGE_IMPORT_SUCCESS, model.getAddressBook().getPersonList().size(),
+                model.getScheduleList().getLessonList().size(), 1, filePath), result.getFeedbackToUser());
+        assertEquals(model.getAddressBook().getPersonList(), importedModel.getAddressBook().getPersonList());
+        assertEquals(model.getScheduleList().getLessonList(), importedModel.getScheduleList().getLessonList());
+        assertTrue(importedModel.isLinkedWith(importedModel.getPersonWithName(person.getName()),
+                importedModel.getLessonWithName(lesson.getName())));
+    }
+
+    @Test
+    public void execute_badRows_reportedAndRestImported() throws IOException, CommandException {
+        Path filePath = testFolder.resolve("bad.csv");
+        FileUtil.writeToFile(filePath, String.join("\n",
+                "#person,name,phone,email,address,subjects,tags,remark",
+                "person,Amy Bee,11111111,amy@example.com,,,,",
+                "person,Amy Bee,22222222,,,,,",
+                "person,Bad Phone,abc,,,,,",
+                "lesson,Maths,02-01-2023,9:00 AM,10:00 AM,MATHEMATICS",
+                "lesson,Science,02-01-2023,9:30 AM,10:30 AM,PHYSICS",
+                "link,Amy Bee,Maths",
+                "link,Nobody,Maths",
+                "unknown,row"));
+
+        CommandResult result = new ImportCommand(filePath).execute(model);
+        String feedback = result.getFeedbackToUser();
+
+        assertTrue(feedback.startsWith(String.format(ImportCommand.MESSAGE_IMPORT_SUCCESS, 1, 1, 1, filePath)));
+        assertTrue(feedback.contains(String.format(ImportCommand.MESSAGE_ROW_ERRORS, 5)));
+        assertTrue(feedback.contains(String.format(ImportCommand.MESSAGE_ROW_ERROR, 3,
+                AddPersonCommand.MESSAGE_DUPLICATE_PERSON)));
+        assertTrue(feedback.contains(String.format(ImportCommand.MESSAGE_ROW_ERROR, 4, "")));
+        assertTrue(feedback.contains(String.format(ImportCommand.MESSAGE_ROW_ERROR, 6,
+                AddLessonCommand.MESSAGE_CLASHING_LESSON)));
+        assertTrue(feedback.contains(String.format(ImportCommand.MESSAGE_ROW_ERROR, 8,
+                String.format(ImportCommand.MESSAGE_PERSON_NOT_FOUND, "Nobody"))));
+        assertTrue(feedback.contains(String.format(ImportCommand.MESSAGE_ROW_ERROR, 9,
+                String.format(ImportCommand.MESSAGE_UNKNOWN_TYPE, "unknown"))));
+        assertFalse(feedback.contains("Row 2:"));
+        assertTrue(feedback.indexOf("Row 3:") < feedback.indexOf("Row 9:"));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path filePath = testFolder.resolve("missing.csv");
+        String message = String.format(ImportCommand.MESSAGE_READ_FAILURE, filePath, filePath);
+        assertCommandFailure(new ImportCommand(filePath), model, message);
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCommand = new ImportCommand(Paths.get("a.csv"));
+        assertTrue(importCommand.equals(importCommand));
+        assertTrue(importCommand.equals(new ImportCommand(Paths.get("a.csv"))));
+        assertFalse(importCommand.equals(new ImportCommand(Paths.get("b.csv"))));
+        assertFalse(importCommand.equals(null));
+        assertFalse(importCommand.equals(1));
+    }
+}
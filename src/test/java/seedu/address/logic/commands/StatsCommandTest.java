@@ -0,0 +1,38 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalLessons.getTypicalScheduleList;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.MetricsCenter;
+import seedu.address.commons.core.MetricsCenter.Phase;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.person.Person;
+
+public class StatsCommandTest {
+
+    @Test
+    public void execute_typicalModel_showsCountsAndTimes() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs(), getTypicalScheduleList());
+        Person person = model.getAddressBook().getPersonList().get(0);
+        Lesson lesson = model.getScheduleList().getLessonList().get(0);
+        model.linkWith(person, lesson);
+        MetricsCenter.clear();
+        MetricsCenter.recordTime(Phase.EXECUTE, "addperson", System.nanoTime());
+
+        String feedback = new StatsCommand().execute(model).getFeedbackToUser();
+
+        String expectedCounts = String.format(StatsCommand.MESSAGE_ENTITY_COUNTS,
+                model.getAddressBook().getPersonList().size(), model.getScheduleList().getLessonList().size(),
+                model.getFullTaskList().size(), 1);
+        assertEquals(expectedCounts, feedback.split("\n")[0]);
+        assertTrue(feedback.contains("  addperson: n=1, "));
+        assertTrue(feedback.contains("Heap: "));
+    }
+}
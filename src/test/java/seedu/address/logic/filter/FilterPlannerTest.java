@@ -0,0 +1,103 @@
+package seedu.address.logic.filter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Subject;
+import seedu.address.model.person.Subjects;
+import seedu.address.model.person.Tags;
+import seedu.address.model.util.SyntheticDataUtil;
+
+public class FilterPlannerTest {
+    private static final Subject PHYSICS = new Subject("PHYSICS");
+
+    private final Model model = new ModelManager(SyntheticDataUtil.getSyntheticAddressBook(
+            FilterPlanner.PARALLEL_SCAN_THRESHOLD), new UserPrefs(), SyntheticDataUtil.getSyntheticSchedule(0));
+    private final List<Person> persons = model.getAddressBook().getPersonList();
+
+    private static FieldPredicate<Person> hasPhysics() {
+        return new FieldPredicate<>("subject", FilterOperator.HAS_ALL, PHYSICS,
+                person -> person.getSubjects().contains(PHYSICS));
+    }
+
+    private static FieldPredicate<Person> nameContains(String substring) {
+        return new FieldPredicate<>("name", FilterOperator.CONTAINS, substring,
+                person -> person.getName().fullName.toLowerCase().contains(substring));
+    }
+
+    @Test
+    public void plan_sameEntriesAsQuery() {
+        MacroPredicate<Person> allOf = new MacroPredicate<>();
+        allOf.addPredicate(nameContains("a"));
+        allOf.addPredicate(new NotPredicate<>(hasPhysics()));
+        AnyOfPredicate<Person> query = new AnyOfPredicate<>();
+        query.addPredicate(allOf);
+        query.addPredicate(nameContains("wong 1"));
+
+        Predicate<Person> planned = new FilterPlanner<Person>(model, persons).plan(query);
+        for (Person person : persons) {
+            assertEquals(query.test(person), planned.test(person));
+        }
+    }
+
+    @Test
+    public void plan_indexedPredicate_usesIndex() {
+        Subjects subjects = new Subjects();
+        subjects.add(PHYSICS);
+        FieldPredicate<Person> indexed = new FieldPredicate<>("subject", FilterOperator.HAS_ALL, subjects,
+                person -> person.getSubjects().containAll(subjects),
+                m -> m.getPersonHasAllPredicate(subjects, new Tags()), null);
+        Predicate<Person> planned = new FilterPlanner<Person>(model, persons).plan(indexed);
+        for (Person person : persons) {
+            assertEquals(indexed.test(person), planned.test(person));
+        }
+        // a person not in the model is not in the index
+        assertFalse(planned.test(new Person(persons.get(0).getName())));
+    }
+
+    @Test
+    public void plan_allOf_selectivePredicateFirst() {
+        List<String> tested = new ArrayList<>();
+        FieldPredicate<Person> rare = new FieldPredicate<>("name", FilterOperator.CONTAINS, "rare", person -> {
+            tested.add("rare");
+            return false;
+        });
+        FieldPredicate<Person> common = new FieldPredicate<>("name", FilterOperator.CONTAINS, "common", person -> {
+            tested.add("common");
+            return true;
+        });
+        MacroPredicate<Person> query = new MacroPredicate<>();
+        query.addPredicate(common);
+        query.addPredicate(rare);
+
+        List<Person> fewPersons = persons.subList(0, 10);
+        Predicate<Person> planned = new FilterPlanner<Person>(model, fewPersons).plan(query);
+        tested.clear();
+        assertFalse(planned.test(fewPersons.get(0)));
+        assertEquals(List.of("rare"), tested);
+    }
+
+    @Test
+    public void plan_noIndexOnLargeList_scansInParallelAndTestsNewEntries() throws ParseException {
+        FieldPredicate<Person> query = nameContains("yeoh");
+        Predicate<Person> planned = new FilterPlanner<Person>(model, persons).plan(query);
+        for (Person person : persons) {
+            assertEquals(query.test(person), planned.test(person));
+        }
+        Person newPerson = new Person(new Name("New Yeoh"));
+        assertTrue(planned.test(newPerson));
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.RepeatedFlagException;
+
+public class ArgumentTokenizerTest {
+
+    @Test
+    public void tokenize_noFlags_allPreamble() {
+        ArgumentMap argumentMap = ArgumentTokenizer.tokenize("  some text  ");
+        assertEquals("some text", argumentMap.getPreamble());
+        assertFalse(argumentMap.hasFlag("some"));
+    }
+
+    @Test
+    public void tokenize_flags_valuesTrimmed() {
+        ArgumentMap argumentMap = ArgumentTokenizer.tokenize("1 -name  Alex Yeoh -phone 87438807  -remark");
+        assertEquals("1", argumentMap.getPreamble());
+        assertEquals("Alex Yeoh", argumentMap.getValue("name"));
+        assertEquals("87438807", argumentMap.getValue("phone"));
+        assertEquals("", argumentMap.getValue("remark"));
+        assertNull(argumentMap.getValue("email"));
+    }
+
+    @Test
+    public void tokenize_dashInsideValue_notAFlag() {
+        ArgumentMap argumentMap = ArgumentTokenizer.tokenize("-remark A-level -address Blk 3 -05 -email a-b@c.com");
+        assertEquals("A-level", argumentMap.getValue("remark"));
+        assertEquals("Blk 3 -05", argumentMap.getValue("address"));
+        assertEquals("a-b@c.com", argumentMap.getValue("email"));
+    }
+
+    @Test
+    public void tokenize_repeatedFlag_firstValueKept() {
+        ArgumentMap argumentMap = ArgumentTokenizer.tokenize("-tag friends -name Alex -tag family");
+        assertTrue(argumentMap.isRepeated("tag"));
+        assertFalse(argumentMap.isRepeated("name"));
+        assertEquals("friends", argumentMap.getValue("tag"));
+        assertThrows(RepeatedFlagException.class, () -> TypeParsingUtil.parseFlag("tag", argumentMap, true));
+    }
+
+    @Test
+    public void tokenize_flagFollowedByDigits_flagIsLettersOnly() {
+        assertEquals("123", ArgumentTokenizer.tokenize("-index123").getValue("index"));
+    }
+}
@@ -202,4 +202,62 @@ void test_personFilter_subjects() throws ParseException, CommandException {
     void test_multipleBeforeOnAfter() {
         assertThrows(ParseException.class, () -> lessonFilter.parse(" -before 1 -on 1"));
     }
+
+    @Test
+    void test_personFilter_orAndNot() throws ParseException, CommandException {
+        Person person = Person.getDefaultPerson();
+        person.setTags(Tags.of("tag1,tag2"));
+        person.setName(Name.of("person 1"));
+        Person person2 = Person.getDefaultPerson();
+        person2.setTags(Tags.of("tag1,tag3"));
+        person2.setName(Name.of("person 2"));
+        Person person3 = Person.getDefaultPerson();
+        person3.setTags(Tags.of("tag4"));
+        person3.setName(Name.of("person 3"));
+        model.addPerson(person);
+        model.addPerson(person2);
+        model.addPerson(person3);
+        personFilter.parse(" -tag tag2 -or -tag tag4").execute(model);
+        assertTrue(model.getFilteredPersonList().contains(person));
+        assertFalse(model.getFilteredPersonList().contains(person2));
+        assertTrue(model.getFilteredPersonList().contains(person3));
+        personFilter.parse(" -tag tag1 -not -tag tag2").execute(model);
+        assertFalse(model.getFilteredPersonList().contains(person));
+        assertTrue(model.getFilteredPersonList().contains(person2));
+        assertFalse(model.getFilteredPersonList().contains(person3));
+        personFilter.parse(" -name person -not -tag tag1 -or -name person 1").execute(model);
+        assertTrue(model.getFilteredPersonList().contains(person));
+        assertFalse(model.getFilteredPersonList().contains(person2));
+        assertTrue(model.getFilteredPersonList().contains(person3));
+    }
+
+    @Test
+    void test_lessonFilter_orAndNot() throws ParseException, CommandException {
+        Lesson lesson = Lesson.getDefaultLesson();
+        lesson.setSubject(Subject.of("physics"));
+        lesson.setDay(Day.of("1"));
+        Lesson lesson2 = Lesson.getDefaultLesson();
+        lesson2.setSubject(Subject.of("chemistry"));
+        lesson2.setDay(Day.of("3"));
+        model.addLesson(lesson);
+        model.addLesson(lesson2);
+        lessonFilter.parse(" -before 2 -or -after 2").execute(model);
+        assertTrue(model.getFilteredScheduleList().contains(lesson));
+        assertTrue(model.getFilteredScheduleList().contains(lesson2));
+        lessonFilter.parse(" -not -subject physics -on 3").execute(model);
+        assertFalse(model.getFilteredScheduleList().contains(lesson));
+        assertTrue(model.getFilteredScheduleList().contains(lesson2));
+    }
+
+    @Test
+    void test_orAndNot_invalid() {
+        assertThrows(ParseException.class, () -> personFilter.parse(" -or -name a"));
+        assertThrows(ParseException.class, () -> personFilter.parse(" -name a -or"));
+        assertThrows(ParseException.class, () -> personFilter.parse(" -name a -or -or -name b"));
+        assertThrows(ParseException.class, () -> personFilter.parse(" -name a -not"));
+        assertThrows(ParseException.class, () -> personFilter.parse(" -not -or -name a"));
+        assertThrows(ParseException.class, () -> personFilter.parse(" -not a -name b"));
+        assertThrows(ParseException.class, () -> personFilter.parse(" -name a -name b -or -tag c"));
+        assertThrows(ParseException.class, () -> lessonFilter.parse(" -on 1 -or -before 1 -after 1"));
+    }
 }
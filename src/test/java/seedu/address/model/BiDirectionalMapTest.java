@@ -2,13 +2,17 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -162,9 +166,9 @@ public class BiDirectionalMapTest {
 
         biDirectionalMap.update(oldPerson, updatedPerson);
 
-
-        assertEquals(0, biDirectionalMap.get(oldPerson).length);
+        // the updated person is a clone with the same id, so it keeps the links
         assertEquals(1, biDirectionalMap.get(updatedPerson).length);
+        assertArrayEquals(new Name[]{updatedPerson.getName()}, biDirectionalMap.getReversed(lesson1));
     }
 
     // Update the lesson name
@@ -184,8 +188,122 @@ public class BiDirectionalMapTest {
 
         biDirectionalMap.updateReverse(oldLesson, updatedLesson);
 
-        assertEquals(0, biDirectionalMap.getReversed(oldLesson).length);
+        // the updated lesson is a clone with the same id, so it keeps the links
         assertEquals(1, biDirectionalMap.getReversed(updatedLesson).length);
+        assertArrayEquals(new Name[]{updatedLesson.getName()}, biDirectionalMap.get(person));
+    }
+
+    @Test
+    public void removeMapping_lastLink_compactsEntries() throws ParseException {
+        Person person = TypicalPersons.ALICE;
+        Lesson lesson = TypicalLessons.getSample1();
+
+        biDirectionalMap.addMapping(person, lesson);
+        biDirectionalMap.removeMapping(person, lesson);
+
+        assertFalse(biDirectionalMap.isLinked(person, lesson));
+        assertEquals(0, biDirectionalMap.countLinked(person));
+        assertEquals(0, biDirectionalMap.countLinkedReversed(lesson));
+        assertTrue(biDirectionalMap.toLinkMap().isEmpty());
+        assertEquals(new BiDirectionalMap<>(), biDirectionalMap);
+    }
+
+    @Test
+    public void forEachLinkedAndJoinLinked_followChanges() throws ParseException {
+        Person person = TypicalPersons.ALICE.clone();
+        Lesson lesson1 = TypicalLessons.getSample1();
+        Lesson lesson2 = TypicalLessons.getSample2();
+
+        assertEquals("", biDirectionalMap.joinLinked(person));
+        biDirectionalMap.addMapping(person, lesson1);
+        biDirectionalMap.addMapping(person, lesson2);
+
+        List<Name> visited = new ArrayList<>();
+        biDirectionalMap.forEachLinked(person, visited::add);
+        assertEquals(List.of(lesson1.getName(), lesson2.getName()), visited);
+        assertEquals(lesson1.getName() + ", " + lesson2.getName(), biDirectionalMap.joinLinked(person));
+        assertEquals(person.getName().toString(), biDirectionalMap.joinLinkedReversed(lesson1));
+
+        Person renamedPerson = person.clone();
+        renamedPerson.setName(new Name("Aliced"));
+        biDirectionalMap.update(person, renamedPerson);
+        assertEquals("Aliced", biDirectionalMap.joinLinkedReversed(lesson1));
+
+        biDirectionalMap.removeReverse(lesson1);
+        assertEquals(lesson2.getName().toString(), biDirectionalMap.joinLinked(renamedPerson));
+    }
+
+    @Test
+    public void updateStudentName_toLinkedName_mergesLinks() throws ParseException {
+        Person person1 = TypicalPersons.ALICE;
+        Person person2 = TypicalPersons.BOB;
+        Lesson lesson1 = TypicalLessons.getSample1();
+        Lesson lesson2 = TypicalLessons.getSample2();
+
+        biDirectionalMap.addMapping(person1, lesson1);
+        biDirectionalMap.addMapping(person2, lesson2);
+        biDirectionalMap.update(person1, person2);
+
+        assertEquals(0, biDirectionalMap.countLinked(person1));
+        assertEquals(2, biDirectionalMap.countLinked(person2));
+        assertArrayEquals(new Name[]{person2.getName()}, biDirectionalMap.getReversed(lesson1));
+    }
+
+    @Test
+    public void copy_laterChanges_notShared() throws ParseException {
+        Person person = TypicalPersons.ALICE;
+        Lesson lesson1 = TypicalLessons.getSample1();
+        Lesson lesson2 = TypicalLessons.getSample2();
+
+        biDirectionalMap.addMapping(person, lesson1);
+        BiDirectionalMap<Person, Lesson> copy = biDirectionalMap.copy();
+        biDirectionalMap.addMapping(person, lesson2);
+        biDirectionalMap.removeMapping(person, lesson1);
+
+        assertArrayEquals(new Name[]{lesson1.getName()}, copy.get(person));
+        assertArrayEquals(new Name[]{lesson2.getName()}, biDirectionalMap.get(person));
+    }
+
+    @Test
+    public void fromLinkMap_linksById_resolvedToCurrentNames() throws ParseException {
+        Person person = TypicalPersons.ALICE;
+        Lesson lesson = TypicalLessons.getSample1();
+        biDirectionalMap.addMapping(person, lesson);
+
+        BiDirectionalMap<Person, Lesson> readBack = BiDirectionalMap.fromLinkMap(biDirectionalMap.toLinkMap());
+        assertEquals(biDirectionalMap, readBack);
+        assertTrue(readBack.isLinked(person, lesson));
+
+        Lesson renamedLesson = lesson.clone();
+        renamedLesson.setName(new Name("Renamed Lesson"));
+        readBack.resolve(List.of(person), List.of(renamedLesson));
+        assertArrayEquals(new Name[]{renamedLesson.getName()}, readBack.get(person));
+    }
+
+    @Test
+    public void fromLinkMap_linksByName_resolvedToIds() throws ParseException {
+        Person person = TypicalPersons.ALICE;
+        Lesson lesson = TypicalLessons.getSample1();
+        Map<String, Set<String>> legacyLinks = Map.of(person.getName().fullName, Set.of(lesson.getName().fullName,
+                "Missing Lesson"));
+
+        BiDirectionalMap<Person, Lesson> readBack = BiDirectionalMap.fromLinkMap(legacyLinks);
+        readBack.resolve(List.of(person), List.of(lesson));
+
+        BiDirectionalMap<Person, Lesson> expected = new BiDirectionalMap<>();
+        expected.addMapping(person, lesson);
+        assertEquals(expected, readBack);
+    }
+
+    @Test
+    public void resolve_unknownId_linkDropped() throws ParseException {
+        Person person = TypicalPersons.ALICE;
+        Lesson lesson = TypicalLessons.getSample1();
+        biDirectionalMap.addMapping(person, lesson);
+
+        BiDirectionalMap<Person, Lesson> readBack = BiDirectionalMap.fromLinkMap(biDirectionalMap.toLinkMap());
+        readBack.resolve(List.of(person), List.of());
+        assertEquals(new BiDirectionalMap<>(), readBack);
     }
 
     @Test
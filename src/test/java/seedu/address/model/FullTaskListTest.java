@@ -0,0 +1,110 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalLessons.getSample1;
+import static seedu.address.testutil.TypicalLessons.getTypicalScheduleList;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.lessons.Task;
+import seedu.address.model.lessons.TaskList;
+
+public class FullTaskListTest {
+
+    private ScheduleList scheduleList;
+    private FullTaskList fullTaskList;
+
+    @BeforeEach
+    public void setUp() {
+        scheduleList = getTypicalScheduleList();
+        fullTaskList = new FullTaskList();
+        fullTaskList.setFullTaskList(scheduleList);
+    }
+
+    private static List<Task> getAllTasks(ScheduleList scheduleList) {
+        List<Task> tasks = new ArrayList<>();
+        for (Lesson lesson : scheduleList.getLessonList()) {
+            lesson.getTaskList().forEach(tasks::add);
+        }
+        return tasks;
+    }
+
+    @Test
+    public void getFullTaskList_tasksOfAllLessonsInOrder() {
+        assertEquals(getAllTasks(scheduleList), fullTaskList.getFullTaskList());
+    }
+
+    @Test
+    public void addLesson_tasksInsertedInLessonOrder() throws Exception {
+        fullTaskList.getFullTaskList();
+        Lesson lesson = getSample1();
+        TaskList tasks = new TaskList();
+        tasks.add(new Task("new task"));
+        lesson.setTaskList(tasks);
+        scheduleList.addLesson(lesson);
+        assertEquals(getAllTasks(scheduleList), fullTaskList.getFullTaskList());
+    }
+
+    @Test
+    public void removeAndSetLesson_tasksUpdated() {
+        fullTaskList.getFullTaskList();
+        scheduleList.removeLesson(scheduleList.getLessonList().get(1));
+        Lesson target = scheduleList.getLessonList().get(2);
+        Lesson editedLesson = target.clone();
+        editedLesson.addToTaskList(new Task("edited task"));
+        scheduleList.setLesson(target, editedLesson);
+        assertEquals(getAllTasks(scheduleList), fullTaskList.getFullTaskList());
+    }
+
+    @Test
+    public void removeTaskInPlace_onlyThatTaskRemoved() {
+        fullTaskList.getFullTaskList();
+        List<Integer> removedSizes = new ArrayList<>();
+        fullTaskList.getFullTaskList().addListener((ListChangeListener<Task>) change -> {
+            while (change.next()) {
+                removedSizes.add(change.getRemovedSize());
+            }
+        });
+
+        scheduleList.getLessonList().get(1).removeFromTaskList(0);
+
+        assertEquals(getAllTasks(scheduleList), fullTaskList.getFullTaskList());
+        assertEquals(List.of(1), removedSizes);
+    }
+
+    @Test
+    public void refreshFullTaskList_unchanged_noChangeFired() {
+        fullTaskList.getFullTaskList();
+        List<ListChangeListener.Change<? extends Task>> changes = new ArrayList<>();
+        fullTaskList.getFullTaskList().addListener((ListChangeListener<Task>) changes::add);
+
+        fullTaskList.setFullTaskList(scheduleList);
+        assertEquals(0, changes.size());
+    }
+
+    @Test
+    public void refreshFullTaskList_taskListReplacedInPlace_tasksUpdated() {
+        fullTaskList.getFullTaskList();
+        scheduleList.getLessonList().get(0).setTaskList(new TaskList());
+        fullTaskList.refreshFullTaskList();
+        assertEquals(getAllTasks(scheduleList), fullTaskList.getFullTaskList());
+    }
+
+    @Test
+    public void setFullTaskList_otherSchedule_tasksReplaced() {
+        fullTaskList.getFullTaskList();
+        ScheduleList otherScheduleList = new ScheduleList();
+        fullTaskList.setFullTaskList(otherScheduleList);
+        assertEquals(0, fullTaskList.getFullTaskList().size());
+
+        // changes to the previous schedule no longer affect the list
+        scheduleList.removeLesson(scheduleList.getLessonList().get(0));
+        assertEquals(0, fullTaskList.getFullTaskList().size());
+    }
+}
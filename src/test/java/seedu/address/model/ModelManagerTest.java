@@ -29,6 +29,21 @@ public class ModelManagerTest {
         assertEquals(new ScheduleList(), new ScheduleList(modelManager.getScheduleList()));
     }
 
+    @Test
+    public void markModified_someData_onlyThatDataModified() {
+        assertFalse(modelManager.isAddressBookModified());
+        modelManager.markModified(true, false, true);
+        assertTrue(modelManager.isAddressBookModified());
+        assertFalse(modelManager.isScheduleListModified());
+        assertTrue(modelManager.isPersonLessonMapModified());
+
+        // data that is already modified stays modified
+        modelManager.markModified(false, false, false);
+        assertTrue(modelManager.isAddressBookModified());
+        modelManager.clearModifiedFlags();
+        assertFalse(modelManager.isAddressBookModified());
+    }
+
     @Test
     public void setUserPrefs_nullUserPrefs_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.setUserPrefs(null));
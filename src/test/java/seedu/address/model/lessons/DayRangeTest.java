@@ -0,0 +1,42 @@
+package seedu.address.model.lessons;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+
+public class DayRangeTest {
+
+    @Test
+    public void contains_boundedRanges() throws ParseException {
+        Day day = Day.of("2023/10/10");
+        assertTrue(DayRange.on(day).contains(Day.of("2023/10/10")));
+        assertFalse(DayRange.on(day).contains(Day.of("2023/10/11")));
+        assertTrue(DayRange.before(day).contains(Day.of("2023/10/09")));
+        assertFalse(DayRange.before(day).contains(day));
+        assertTrue(DayRange.after(day).contains(Day.of("2023/10/11")));
+        assertFalse(DayRange.after(day).contains(day));
+    }
+
+    @Test
+    public void contains_defaultDay_onlyInRangesWithoutLastDay() throws ParseException {
+        Day day = Day.of("2023/10/10");
+        assertTrue(DayRange.after(day).contains(Day.DEFAULT_DAY));
+        assertFalse(DayRange.before(day).contains(Day.DEFAULT_DAY));
+        assertFalse(DayRange.on(day).contains(Day.DEFAULT_DAY));
+    }
+
+    @Test
+    public void equals() throws ParseException {
+        DayRange range = DayRange.on(Day.of("2023/10/10"));
+        assertEquals(range, DayRange.on(Day.of("2023/10/10")));
+        assertEquals(range.hashCode(), DayRange.on(Day.of("2023/10/10")).hashCode());
+        assertEquals(range, new DayRange(Day.of("2023/10/10"), Day.of("2023/10/11")));
+        assertNotEquals(range, DayRange.after(Day.of("2023/10/10")));
+        assertNotEquals(range, null);
+    }
+}
@@ -0,0 +1,34 @@
+package seedu.address.model.lessons;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+
+public class DayTest {
+
+    @Test
+    public void of_validFormats_parsed() throws ParseException {
+        LocalDate now = LocalDate.now();
+        assertEquals(LocalDate.of(2023, 11, 29), Day.of("2023/11/29").getDay());
+        assertEquals(LocalDate.of(2023, 11, 29), Day.of("23/11/29").getDay());
+        assertEquals(LocalDate.of(2023, 1, 2), Day.of(" 23 / 1 / 2 ").getDay());
+        assertEquals(LocalDate.of(now.getYear(), 11, 29), Day.of("11/29").getDay());
+        assertEquals(LocalDate.of(now.getYear(), now.getMonth(), 1), Day.of("1").getDay());
+    }
+
+    @Test
+    public void of_invalidFormats_throwsParseException() {
+        assertThrows(ParseException.class, () -> Day.of(""));
+        assertThrows(ParseException.class, () -> Day.of("123"));
+        assertThrows(ParseException.class, () -> Day.of("123/11/29"));
+        assertThrows(ParseException.class, () -> Day.of("2023/11"));
+        assertThrows(ParseException.class, () -> Day.of("2023/13/01"));
+        assertThrows(ParseException.class, () -> Day.of("23/02/30"));
+        assertThrows(ParseException.class, () -> Day.of("1/2/3/4"));
+    }
+}
@@ -0,0 +1,154 @@
+package seedu.address.model.lessons;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.lessons.exceptions.DuplicateLessonException;
+import seedu.address.model.lessons.exceptions.LessonNotFoundException;
+import seedu.address.model.person.Name;
+
+public class ScheduleTest {
+    private final Schedule schedule = new Schedule();
+
+    private static Lesson lesson(String name, String start, String end, String day) throws ParseException {
+        return new Lesson(name, start, end, day, "MATHEMATICS", new TaskList());
+    }
+
+    @Test
+    public void contains_lessonWithSameFields_returnsTrue() throws ParseException {
+        schedule.add(lesson("lesson", "10:00", "12:00", "2022/10/10"));
+        assertTrue(schedule.contains(lesson("LESSON", "10:00", "12:00", "2022/10/10")));
+        assertFalse(schedule.contains(lesson("lesson", "10:00", "11:00", "2022/10/10")));
+    }
+
+    @Test
+    public void add_duplicateLesson_throwsDuplicateLessonException() throws ParseException {
+        schedule.add(lesson("lesson", "10:00", "12:00", "2022/10/10"));
+        assertThrows(DuplicateLessonException.class, () -> schedule.add(lesson("lesson", "10:00", "12:00",
+                "2022/10/10")));
+    }
+
+    @Test
+    public void add_lessonsOutOfOrder_keepsScheduleSorted() throws ParseException {
+        Lesson late = lesson("late", "14:00", "15:00", "2022/10/10");
+        Lesson early = lesson("early", "09:00", "10:00", "2022/10/10");
+        Lesson nextDay = lesson("next day", "08:00", "09:00", "2022/10/11");
+        schedule.add(nextDay);
+        schedule.add(late);
+        schedule.add(early);
+        assertEquals(Arrays.asList(early, late, nextDay), schedule.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void addAll_clashingLessons_rejectedAndRestMerged() throws ParseException {
+        Lesson existing = lesson("existing", "10:00", "12:00", "2022/10/10");
+        schedule.add(existing);
+        Lesson late = lesson("late", "14:00", "15:00", "2022/10/10");
+        Lesson early = lesson("early", "08:00", "09:00", "2022/10/10");
+        Lesson clashesWithExisting = lesson("clash", "11:00", "13:00", "2022/10/10");
+        Lesson clashesWithLate = lesson("also late", "14:30", "15:30", "2022/10/10");
+
+        assertEquals(Arrays.asList(clashesWithExisting, clashesWithLate),
+                schedule.addAll(Arrays.asList(late, clashesWithExisting, early, clashesWithLate)));
+        assertEquals(Arrays.asList(early, existing, late), schedule.asUnmodifiableObservableList());
+        assertTrue(schedule.hasLessonClashWith(lesson("other", "14:15", "14:45", "2022/10/10")));
+        assertSame(late, schedule.getLessonById(late.getId()));
+    }
+
+    @Test
+    public void hasLessonClashWith_overlappingTime_returnsTrue() throws ParseException {
+        schedule.add(lesson("long", "08:00", "18:00", "2022/10/10"));
+        schedule.add(lesson("short", "19:00", "19:30", "2022/10/10"));
+        assertTrue(schedule.hasLessonClashWith(lesson("other", "17:00", "17:30", "2022/10/10")));
+        assertTrue(schedule.hasLessonClashWith(lesson("other", "18:30", "19:10", "2022/10/10")));
+    }
+
+    @Test
+    public void hasLessonClashWith_adjacentOrOtherDay_returnsFalse() throws ParseException {
+        schedule.add(lesson("lesson", "10:00", "12:00", "2022/10/10"));
+        assertFalse(schedule.hasLessonClashWith(lesson("other", "12:00", "13:00", "2022/10/10")));
+        assertFalse(schedule.hasLessonClashWith(lesson("other", "08:00", "10:00", "2022/10/10")));
+        assertFalse(schedule.hasLessonClashWith(lesson("other", "10:00", "12:00", "2022/10/11")));
+    }
+
+    @Test
+    public void hasLessonClashWith_sameName_returnsTrue() throws ParseException {
+        schedule.add(lesson("lesson", "10:00", "12:00", "2022/10/10"));
+        Lesson sameName = Lesson.getDefaultLesson();
+        sameName.setName(new Name("LESSON"));
+        assertTrue(schedule.hasLessonClashWith(sameName));
+    }
+
+    @Test
+    public void getLessonClashWith_multipleClashes_returnsEarliest() throws ParseException {
+        Lesson first = lesson("first", "10:00", "12:00", "2022/10/10");
+        Lesson second = lesson("second", "11:00", "13:00", "2022/10/10");
+        schedule.add(second);
+        schedule.add(first);
+        assertSame(first, schedule.getLessonClashWith(lesson("other", "11:30", "12:30", "2022/10/10")));
+    }
+
+    @Test
+    public void setLesson_timeChanged_updatesOrderAndClashes() throws ParseException {
+        Lesson moved = lesson("moved", "08:00", "09:00", "2022/10/10");
+        Lesson fixed = lesson("fixed", "10:00", "11:00", "2022/10/10");
+        schedule.add(moved);
+        schedule.add(fixed);
+        Lesson edited = lesson("moved", "15:00", "16:00", "2022/10/10");
+        schedule.setLesson(moved, edited);
+        assertEquals(Arrays.asList(fixed, edited), schedule.asUnmodifiableObservableList());
+        assertFalse(schedule.hasLessonClashWith(lesson("other", "08:00", "09:00", "2022/10/10")));
+        assertTrue(schedule.hasLessonClashWith(lesson("other", "15:30", "16:30", "2022/10/10")));
+    }
+
+    @Test
+    public void remove_lesson_removesFromClashIndex() throws ParseException {
+        Lesson toRemove = lesson("lesson", "10:00", "12:00", "2022/10/10");
+        schedule.add(toRemove);
+        schedule.remove(lesson("lesson", "10:00", "12:00", "2022/10/10"));
+        assertFalse(schedule.hasLessonClashWith(lesson("lesson", "10:00", "12:00", "2022/10/10")));
+        assertThrows(LessonNotFoundException.class, () -> schedule.remove(toRemove));
+    }
+
+    @Test
+    public void remove_longestLesson_shorterLessonsStillClash() throws ParseException {
+        schedule.add(lesson("long", "08:00", "18:00", "2022/10/10"));
+        schedule.add(lesson("medium", "09:00", "12:00", "2022/10/10"));
+        schedule.remove(lesson("long", "08:00", "18:00", "2022/10/10"));
+        assertTrue(schedule.hasLessonClashWith(lesson("other", "11:00", "11:30", "2022/10/10")));
+        assertFalse(schedule.hasLessonClashWith(lesson("other", "13:00", "14:00", "2022/10/10")));
+    }
+
+    @Test
+    public void setLessons_duplicateLessons_throwsDuplicateLessonException() throws ParseException {
+        Lesson lesson = lesson("lesson", "10:00", "12:00", "2022/10/10");
+        assertThrows(DuplicateLessonException.class, () -> schedule.setLessons(Arrays.asList(lesson,
+                lesson.clone())));
+    }
+
+    @Test
+    public void getLessonsIn_ranges_returnsLessonsOnThoseDays() throws ParseException {
+        Lesson first = lesson("first", "09:00", "10:00", "2022/10/09");
+        Lesson morning = lesson("morning", "09:00", "10:00", "2022/10/10");
+        Lesson afternoon = lesson("afternoon", "14:00", "15:00", "2022/10/10");
+        Lesson last = lesson("last", "09:00", "10:00", "2022/10/12");
+        schedule.setLessons(Arrays.asList(last, afternoon, first, morning));
+        Day day = Day.of("2022/10/10");
+
+        assertEquals(Arrays.asList(morning, afternoon), schedule.getLessonsIn(DayRange.on(day)));
+        assertEquals(Arrays.asList(first), schedule.getLessonsIn(DayRange.before(day)));
+        assertEquals(Arrays.asList(last), schedule.getLessonsIn(DayRange.after(day)));
+        assertEquals(Arrays.asList(first, morning, afternoon, last),
+                schedule.getLessonsIn(new DayRange(null, null)));
+        assertEquals(Arrays.asList(), schedule.getLessonsIn(DayRange.on(Day.of("2022/10/11"))));
+        assertEquals(Arrays.asList(), schedule.getLessonsIn(new DayRange(Day.of("2022/10/12"), day)));
+    }
+}
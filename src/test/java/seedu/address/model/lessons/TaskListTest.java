@@ -2,6 +2,7 @@ package seedu.address.model.lessons;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalTasks.TASK_1;
@@ -13,6 +14,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.lessons.exceptions.DuplicateTaskException;
 import seedu.address.model.lessons.exceptions.TaskNotFoundException;
 
@@ -163,4 +165,55 @@ public class TaskListTest {
         assertThrows(UnsupportedOperationException.class, ()
                 -> taskList.asUnmodifiableObservableList().remove(0));
     }
+
+    @Test
+    public void ofEncoded_validTasks_countsWithoutDecoding() throws Exception {
+        TaskList encodedTaskList = TaskList.ofEncoded(Arrays.asList("+done", "-not done", "+also done"));
+        assertEquals(3, encodedTaskList.size());
+        assertEquals(Arrays.asList("+done", "-not done", "+also done"), encodedTaskList.getEncodedTasks());
+    }
+
+    @Test
+    public void ofEncoded_validTasks_decodedOnAccess() throws Exception {
+        TaskList encodedTaskList = TaskList.ofEncoded(Arrays.asList("+done", "-not done"));
+        TaskList expectedTaskList = new TaskList();
+        expectedTaskList.add(new Task("done", true));
+        expectedTaskList.add(new Task("not done", false));
+        assertEquals(expectedTaskList, encodedTaskList);
+        assertEquals(expectedTaskList.hashCode(), encodedTaskList.hashCode());
+        assertEquals(expectedTaskList.asUnmodifiableObservableList(), encodedTaskList.asUnmodifiableObservableList());
+        assertEquals(Arrays.asList("+done", "-not done"), encodedTaskList.getEncodedTasks());
+    }
+
+    @Test
+    public void ofEncoded_invalidEncoding_throwsParseException() {
+        assertThrows(ParseException.class, () -> TaskList.ofEncoded(Arrays.asList("done")));
+        assertThrows(ParseException.class, () -> TaskList.ofEncoded(Arrays.asList("")));
+    }
+
+    @Test
+    public void ofEncoded_duplicateTasks_throwsDuplicateTaskException() {
+        assertThrows(DuplicateTaskException.class, () -> TaskList.ofEncoded(Arrays.asList("+task", "-task ")));
+    }
+
+    @Test
+    public void clone_encodedTasks_equalAndIndependent() throws Exception {
+        TaskList encodedTaskList = TaskList.ofEncoded(Arrays.asList("+done", "-not done"));
+        TaskList cloned = encodedTaskList.clone();
+        assertEquals(encodedTaskList, cloned);
+        cloned.remove(0);
+        assertEquals(1, cloned.size());
+        assertEquals(2, encodedTaskList.size());
+    }
+
+    @Test
+    public void clone_tasks_sharedAndListIndependent() {
+        taskList.add(TASK_1);
+        TaskList cloned = taskList.clone();
+        assertSame(TASK_1, cloned.asUnmodifiableObservableList().get(0));
+
+        cloned.add(TASK_2);
+        assertEquals(2, cloned.size());
+        assertEquals(1, taskList.size());
+    }
 }
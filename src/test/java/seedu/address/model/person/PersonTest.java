@@ -2,12 +2,15 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
+import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
@@ -15,6 +18,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.Messages;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.PersonBuilder;
 
 public class PersonTest {
@@ -90,4 +94,27 @@ public class PersonTest {
         String expected = Messages.format(ALICE);
         assertEquals(expected, ALICE.toString());
     }
+
+    @Test
+    public void clone_sharesFieldsButNotTags() {
+        Person aliceClone = ALICE.clone();
+        assertEquals(ALICE, aliceClone);
+        assertSame(ALICE.getName(), aliceClone.getName());
+        assertSame(ALICE.getPhone(), aliceClone.getPhone());
+
+        aliceClone.getTags().add(new Tag("newTag"));
+        assertFalse(ALICE.getTagsSet().contains(new Tag("newTag")));
+    }
+
+    @Test
+    public void clone_keepsId() {
+        assertEquals(ALICE.getId(), ALICE.clone().getId());
+        assertNotEquals(ALICE.getId(), BOB.getId());
+        assertNotEquals(Person.getDefaultPerson().getId(), Person.getDefaultPerson().getId());
+    }
+
+    @Test
+    public void getTagsSet_modify_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> ALICE.getTagsSet().add(new Tag("newTag")));
+    }
 }
@@ -2,19 +2,25 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.testutil.PersonBuilder;
@@ -28,6 +34,19 @@ public class UniquePersonListTest {
         assertThrows(NullPointerException.class, () -> uniquePersonList.contains(null));
     }
 
+    @Test
+    public void addAll_takenNames_rejectedAndRestSorted() {
+        uniquePersonList.add(BENSON);
+        Person bensonAgain = new PersonBuilder(BENSON).withAddress(VALID_ADDRESS_BOB).build();
+        Person carlAgain = new PersonBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build();
+
+        assertEquals(Arrays.asList(bensonAgain, carlAgain),
+                uniquePersonList.addAll(Arrays.asList(CARL, bensonAgain, ALICE, carlAgain)));
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(ALICE));
+        assertSame(CARL, uniquePersonList.getPersonById(CARL.getId()));
+    }
+
     @Test
     public void contains_personNotInList_returnsFalse() {
         assertFalse(uniquePersonList.contains(ALICE));
@@ -47,6 +66,21 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void getPersonWithName_differentCase_returnsPerson() throws ParseException {
+        uniquePersonList.add(ALICE);
+        assertEquals(ALICE, uniquePersonList.getPersonWithName(new Name("ALICE PAULINE")));
+        assertNull(uniquePersonList.getPersonWithName(BOB.getName()));
+    }
+
+    @Test
+    public void add_personsOutOfOrder_keepsListSortedByName() {
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(Arrays.asList(ALICE, BOB, CARL), uniquePersonList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -162,6 +196,39 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void getPersonById_followsEdits() throws ParseException {
+        uniquePersonList.add(ALICE);
+        assertSame(ALICE, uniquePersonList.getPersonById(ALICE.getId()));
+
+        Person renamedAlice = ALICE.clone();
+        renamedAlice.setName(new Name("Alice Renamed"));
+        uniquePersonList.setPerson(ALICE, renamedAlice);
+        assertSame(renamedAlice, uniquePersonList.getPersonById(ALICE.getId()));
+
+        uniquePersonList.remove(renamedAlice);
+        assertNull(uniquePersonList.getPersonById(ALICE.getId()));
+    }
+
+    @Test
+    public void getHasAllPredicate_subjectsAndTags_followsChangesToList() throws ParseException {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        Predicate<Person> predicate = uniquePersonList.getHasAllPredicate(Subjects.of("biology"), Tags.of("friends"));
+        assertTrue(predicate.test(ALICE));
+        assertTrue(predicate.test(BENSON));
+        assertFalse(predicate.test(CARL));
+
+        Person editedBenson = new PersonBuilder(BENSON).withSubjects("ENGLISH").build();
+        uniquePersonList.setPerson(BENSON, editedBenson);
+        assertFalse(predicate.test(BENSON));
+        assertFalse(predicate.test(editedBenson));
+
+        uniquePersonList.remove(ALICE);
+        assertFalse(predicate.test(ALICE));
+        assertTrue(uniquePersonList.getHasAllPredicate(new Subjects(), new Tags()).test(CARL));
+        assertFalse(uniquePersonList.getHasAllPredicate(new Subjects(), Tags.of("unknown")).test(CARL));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
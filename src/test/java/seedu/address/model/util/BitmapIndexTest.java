@@ -0,0 +1,83 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BitmapIndexTest {
+    private static final String ALICE = "Alice";
+    private static final String BENSON = "Benson";
+    private static final String CARL = "Carl";
+
+    private BitmapIndex<String> index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new BitmapIndex<>();
+        index.add(ALICE, List.of("biology", "friends"));
+        index.add(BENSON, List.of("biology", "english", "friends", "owesMoney"));
+        index.add(CARL, List.of("english"));
+    }
+
+    @Test
+    public void find_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.find(null));
+    }
+
+    @Test
+    public void find_keys_returnsEntriesHavingAllKeys() {
+        assertEquals(Set.of(ALICE, BENSON), Set.copyOf(index.find(List.of("friends"))));
+        assertEquals(List.of(BENSON), index.find(List.of("english", "friends")));
+        assertEquals(List.of(BENSON), index.find(List.of("owesMoney", "biology", "english")));
+        assertEquals(List.of(), index.find(List.of("english", "unknown")));
+    }
+
+    @Test
+    public void find_noKeys_returnsAllEntries() {
+        assertEquals(Set.of(ALICE, BENSON, CARL), Set.copyOf(index.find(List.of())));
+    }
+
+    @Test
+    public void remove_indexedEntry_slotReused() {
+        index.remove(BENSON);
+        assertEquals(List.of(), index.find(List.of("owesMoney")));
+        assertEquals(List.of(ALICE), index.find(List.of("friends")));
+
+        // the new entry takes the freed slot without inheriting the keys of the removed entry
+        String daniel = "Daniel";
+        index.add(daniel, List.of("friends"));
+        assertEquals(List.of(), index.find(List.of("owesMoney")));
+        assertEquals(Set.of(ALICE, daniel), Set.copyOf(index.find(List.of("friends"))));
+    }
+
+    @Test
+    public void clear_removesAllEntries() {
+        index.clear();
+        assertEquals(List.of(), index.find(List.of()));
+        assertEquals(List.of(), index.find(List.of("friends")));
+    }
+
+    @Test
+    public void containingAll_followsChangesToIndex() {
+        Predicate<String> predicate = index.containingAll(List.of("biology", "friends"));
+        assertTrue(predicate.test(ALICE));
+        assertTrue(predicate.test(BENSON));
+        assertFalse(predicate.test(CARL));
+        assertFalse(predicate.test("not indexed"));
+
+        index.remove(ALICE);
+        assertFalse(predicate.test(ALICE));
+
+        String daniel = "Daniel";
+        index.add(daniel, List.of("friends", "biology"));
+        assertTrue(predicate.test(daniel));
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.BiDirectionalMap;
+import seedu.address.model.ScheduleList;
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.person.Person;
+
+public class SyntheticDataUtilTest {
+
+    @Test
+    public void getSyntheticPersons_sameSeed_samePersons() {
+        assertArrayEquals(SyntheticDataUtil.getSyntheticPersons(50, 1),
+                SyntheticDataUtil.getSyntheticPersons(50, 1));
+    }
+
+    @Test
+    public void getSyntheticAddressBook_uniquePersons() {
+        AddressBook addressBook = SyntheticDataUtil.getSyntheticAddressBook(500);
+        assertEquals(500, addressBook.getPersonList().size());
+    }
+
+    @Test
+    public void getSyntheticSchedule_noClashes() {
+        ScheduleList scheduleList = SyntheticDataUtil.getSyntheticSchedule(SyntheticDataUtil.LESSONS_PER_DAY * 3);
+        List<Lesson> lessons = scheduleList.getLessonList();
+        assertEquals(SyntheticDataUtil.LESSONS_PER_DAY * 3, lessons.size());
+        for (int i = 0; i < lessons.size(); i++) {
+            for (int j = i + 1; j < lessons.size(); j++) {
+                assertFalse(lessons.get(i).isClashWith(lessons.get(j)));
+            }
+        }
+    }
+
+    @Test
+    public void getSyntheticPersonLessonMap_linksEveryPerson() {
+        List<Person> persons = List.of(SyntheticDataUtil.getSyntheticPersons(20, 1));
+        List<Lesson> lessons = List.of(SyntheticDataUtil.getSyntheticLessons(10, 1));
+        BiDirectionalMap<Person, Lesson> map = SyntheticDataUtil.getSyntheticPersonLessonMap(persons, lessons, 2, 1);
+        for (Person person : persons) {
+            assertFalse(map.get(person).length == 0);
+        }
+    }
+}
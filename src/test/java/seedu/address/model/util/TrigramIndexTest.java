@@ -0,0 +1,89 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TrigramIndexTest {
+    private static final String ALICE = "Alice Pauline";
+    private static final String BENSON = "Benson Meier";
+    private static final String CARL = "Carl Kurz";
+
+    private TrigramIndex<String> index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new TrigramIndex<>();
+        index.add(ALICE, ALICE);
+        index.add(BENSON, BENSON);
+        index.add(CARL, CARL);
+    }
+
+    @Test
+    public void find_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.find(null));
+    }
+
+    @Test
+    public void find_longSearchString_returnsEntriesContainingIt() {
+        assertEquals(Set.of(ALICE), index.find("pAuLi"));
+        assertEquals(Set.of(BENSON), index.find("son mei"));
+        assertEquals(Set.of(), index.find("paulo"));
+        assertEquals(Set.of(), index.find("xyz"));
+    }
+
+    @Test
+    public void find_shortSearchString_returnsEntriesContainingIt() {
+        assertEquals(Set.of(ALICE, BENSON, CARL), index.find(""));
+        assertEquals(Set.of(ALICE, BENSON, CARL), index.find(" "));
+        assertEquals(Set.of(BENSON), index.find("on"));
+        assertEquals(Set.of(ALICE, CARL), index.find("l"));
+    }
+
+    @Test
+    public void find_gramsInWrongOrder_noMatch() {
+        // "lin" and "ine" are both in "Pauline", but not as "line"
+        index.add("Linear", "Linear");
+        assertEquals(Set.of(), index.find("inel"));
+    }
+
+    @Test
+    public void remove_indexedEntry_noLongerFound() {
+        index.remove(BENSON);
+        assertEquals(Set.of(), index.find("benson"));
+        assertEquals(Set.of(ALICE, CARL), index.find(" "));
+
+        // removing twice does nothing
+        index.remove(BENSON);
+        assertEquals(Set.of(ALICE, CARL), index.find(" "));
+    }
+
+    @Test
+    public void clear_removesAllEntries() {
+        index.clear();
+        assertEquals(Set.of(), index.find(""));
+        assertEquals(Set.of(), index.find("alice"));
+    }
+
+    @Test
+    public void containing_followsChangesToIndex() {
+        Predicate<String> predicate = index.containing("kurz");
+        assertTrue(predicate.test(CARL));
+        assertFalse(predicate.test(ALICE));
+
+        String otherCarl = "Dana Kurz";
+        index.add(otherCarl, otherCarl);
+        assertTrue(predicate.test(otherCarl));
+
+        index.remove(CARL);
+        assertFalse(predicate.test(CARL));
+        assertTrue(predicate.test(otherCarl));
+    }
+}
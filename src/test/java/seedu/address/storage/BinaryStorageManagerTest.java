@@ -0,0 +1,121 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalLessons.getTypicalScheduleList;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.BiDirectionalMap;
+import seedu.address.model.ScheduleList;
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.person.Person;
+
+public class BinaryStorageManagerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private BinaryStorageManager storageManager;
+
+    @BeforeEach
+    public void setUp() {
+        storageManager = createStorageManager();
+    }
+
+    private BinaryStorageManager createStorageManager() {
+        return new BinaryStorageManager(new JsonUserPrefsStorage(testFolder.resolve("prefs")),
+                testFolder.resolve("ab.json"), testFolder.resolve("sc.json"), testFolder.resolve("map.bin"));
+    }
+
+    @Test
+    public void toSnapshotFilePath_jsonFile_extensionReplaced() {
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                BinaryStorageManager.toSnapshotFilePath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                BinaryStorageManager.toSnapshotFilePath(Paths.get("data", "addressbook")));
+    }
+
+    @Test
+    public void addressBookReadSave() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storageManager.saveAddressBook(original);
+        assertTrue(Files.exists(testFolder.resolve("ab.bin")));
+        assertEquals(original, new AddressBook(createStorageManager().readAddressBook().get()));
+    }
+
+    @Test
+    public void scheduleListReadSave() throws Exception {
+        ScheduleList original = getTypicalScheduleList();
+        storageManager.saveScheduleList(original);
+        assertEquals(original, new ScheduleList(createStorageManager().readScheduleList().get()));
+    }
+
+    @Test
+    public void readSave_idsKept() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        ScheduleList scheduleList = getTypicalScheduleList();
+        storageManager.saveAddressBook(addressBook);
+        storageManager.saveScheduleList(scheduleList);
+
+        Person person = addressBook.getPersonList().get(0);
+        Lesson lesson = scheduleList.getLessonList().get(0);
+        BinaryStorageManager readBack = createStorageManager();
+        assertEquals(person.getId(), readBack.readAddressBook().get().getPersonList().get(0).getId());
+        assertEquals(lesson.getId(), readBack.readScheduleList().get().getLessonList().get(0).getId());
+    }
+
+    @Test
+    public void personLessonMapReadSave() throws Exception {
+        BiDirectionalMap<Person, Lesson> original = new BiDirectionalMap<>();
+        original.addMapping(ALICE, getTypicalScheduleList().getLessonList().get(0));
+        storageManager.savePersonLessonMap(original);
+        assertEquals(original, createStorageManager().getPersonLessonMap());
+    }
+
+    @Test
+    public void readAddressBook_noSnapshot_readsJsonFile() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(testFolder.resolve("ab.json")).saveAddressBook(original);
+        assertEquals(original, new AddressBook(storageManager.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_corruptedSnapshot_throwsDataLoadingException() throws Exception {
+        storageManager.saveAddressBook(getTypicalAddressBook());
+        Path snapshot = testFolder.resolve("ab.bin");
+        byte[] bytes = Files.readAllBytes(snapshot);
+        bytes[bytes.length - 1] ^= 1;
+        Files.write(snapshot, bytes);
+        assertThrows(DataLoadingException.class, () -> storageManager.readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_corruptedStringCount_throwsDataLoadingException() throws Exception {
+        storageManager.saveAddressBook(getTypicalAddressBook());
+        Path snapshot = testFolder.resolve("ab.bin");
+        byte[] bytes = Files.readAllBytes(snapshot);
+        // the string count follows the magic number, the version and the kind of data
+        ByteBuffer.wrap(bytes).putInt(Integer.BYTES + Short.BYTES + Byte.BYTES, Integer.MAX_VALUE);
+        Files.write(snapshot, bytes);
+        assertThrows(DataLoadingException.class, () -> storageManager.readAddressBook());
+    }
+
+    @Test
+    public void readScheduleList_addressBookSnapshot_throwsDataLoadingException() throws Exception {
+        storageManager.saveAddressBook(getTypicalAddressBook());
+        assertThrows(DataLoadingException.class, () -> storageManager.readScheduleList(testFolder.resolve("ab.bin")));
+    }
+}
@@ -0,0 +1,247 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalLessons.getTypicalScheduleList;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.BiDirectionalMap;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ScheduleList;
+import seedu.address.model.lessons.Lesson;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private SnapshotStorage snapshotStorage;
+    private Path journalFile;
+
+    @BeforeEach
+    public void setUp() {
+        snapshotStorage = new SnapshotStorage(testFolder);
+        journalFile = testFolder.resolve("journal");
+    }
+
+    private JournalStorage createJournalStorage(int compactionThreshold) {
+        return new JournalStorage(snapshotStorage, journalFile, compactionThreshold);
+    }
+
+    private long countJournalRecords() throws IOException {
+        long count = 0;
+        for (String line : Files.readAllLines(journalFile)) {
+            count += JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord[].class).length;
+        }
+        return count;
+    }
+
+    private long countJournalLines() throws IOException {
+        try (Stream<String> lines = Files.lines(journalFile)) {
+            return lines.count();
+        }
+    }
+
+    @Test
+    public void saveAddressBook_changes_appendedWithoutWritingSnapshot() throws Exception {
+        JournalStorage storage = createJournalStorage(JournalStorage.DEFAULT_COMPACTION_THRESHOLD);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        long recordsAfterFirstSave = countJournalRecords();
+        assertEquals(addressBook.getPersonList().size(), recordsAfterFirstSave);
+
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("99999999").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.removePerson(BENSON);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(recordsAfterFirstSave + 2, countJournalRecords());
+        assertFalse(Files.exists(snapshotStorage.getAddressBookFilePath()));
+        assertEquals(addressBook, createJournalStorage(10).readAddressBook().get());
+    }
+
+    @Test
+    public void saveScheduleList_taskRemovedInPlace_recorded() throws Exception {
+        JournalStorage storage = createJournalStorage(JournalStorage.DEFAULT_COMPACTION_THRESHOLD);
+        ScheduleList scheduleList = getTypicalScheduleList();
+        storage.saveScheduleList(scheduleList);
+        long recordsAfterFirstSave = countJournalRecords();
+
+        scheduleList.getLessonList().get(0).removeFromTaskList(0);
+        storage.saveScheduleList(scheduleList);
+
+        assertEquals(recordsAfterFirstSave + 1, countJournalRecords());
+        assertEquals(scheduleList, createJournalStorage(10).readScheduleList().get());
+    }
+
+    @Test
+    public void savePersonLessonMap_newLink_replayed() throws Exception {
+        JournalStorage storage = createJournalStorage(JournalStorage.DEFAULT_COMPACTION_THRESHOLD);
+        BiDirectionalMap<Person, Lesson> map = new BiDirectionalMap<>();
+        map.addMapping(ALICE, getTypicalScheduleList().getLessonList().get(0));
+        storage.savePersonLessonMap(map);
+
+        assertEquals(1, countJournalRecords());
+        assertEquals(map, createJournalStorage(10).getPersonLessonMap());
+    }
+
+    @Test
+    public void saveAddressBook_reachesThreshold_compactsIntoSnapshot() throws Exception {
+        JournalStorage storage = createJournalStorage(3);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(0, countJournalRecords());
+        assertEquals(addressBook, snapshotStorage.readAddressBook().get());
+        assertEquals(addressBook, createJournalStorage(3).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_dropped() throws Exception {
+        JournalStorage storage = createJournalStorage(JournalStorage.DEFAULT_COMPACTION_THRESHOLD);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        long completeRecords = countJournalRecords();
+        Files.write(journalFile, "{\"type\":\"PUT_PERSON\",\"person\":{\"na".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertEquals(addressBook, createJournalStorage(10).readAddressBook().get());
+        assertEquals(completeRecords, countJournalRecords());
+        assertTrue(new String(Files.readAllBytes(journalFile), StandardCharsets.UTF_8).endsWith("\n"));
+    }
+
+    @Test
+    public void saveAddressBook_afterCorruptLine_savedDataReplayed() throws Exception {
+        createJournalStorage(JournalStorage.DEFAULT_COMPACTION_THRESHOLD).saveAddressBook(getTypicalAddressBook());
+        Files.write(journalFile, "not json\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        JournalStorage storage = createJournalStorage(JournalStorage.DEFAULT_COMPACTION_THRESHOLD);
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+        assertTrue(Files.exists(testFolder.resolve("journal" + JournalStorage.CORRUPTED_FILE_SUFFIX)));
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(addressBook, createJournalStorage(10).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_snapshotWithoutIds_idsKept() throws Exception {
+        Files.copy(Paths.get("src", "test", "data", "JsonSerializableAddressBookTest",
+                "typicalPersonsAddressBook.json"), snapshotStorage.getAddressBookFilePath());
+        JournalStorage storage = createJournalStorage(JournalStorage.DEFAULT_COMPACTION_THRESHOLD);
+        ReadOnlyAddressBook addressBook = storage.readAddressBook().get();
+        assertTrue(storage.isAddressBookMissingIds());
+
+        storage.saveAddressBook(addressBook);
+
+        JournalStorage reloaded = createJournalStorage(JournalStorage.DEFAULT_COMPACTION_THRESHOLD);
+        ReadOnlyAddressBook reloadedAddressBook = reloaded.readAddressBook().get();
+        assertFalse(reloaded.isAddressBookMissingIds());
+        for (int i = 0; i < addressBook.getPersonList().size(); i++) {
+            assertEquals(addressBook.getPersonList().get(i).getId(),
+                    reloadedAddressBook.getPersonList().get(i).getId());
+        }
+    }
+
+    @Test
+    public void readScheduleList_afterReadAddressBook_journalReadOnce() throws Exception {
+        ScheduleList scheduleList = getTypicalScheduleList();
+        createJournalStorage(JournalStorage.DEFAULT_COMPACTION_THRESHOLD).saveScheduleList(scheduleList);
+
+        JournalStorage storage = createJournalStorage(JournalStorage.DEFAULT_COMPACTION_THRESHOLD);
+        storage.readAddressBook();
+        // the records read for the address book are replayed for the schedule list too
+        Files.delete(journalFile);
+        assertEquals(scheduleList, storage.readScheduleList().get());
+    }
+
+    @Test
+    public void saveTogether_cutOffWhileAppending_noneOfItReplayed() throws Exception {
+        JournalStorage storage = createJournalStorage(JournalStorage.DEFAULT_COMPACTION_THRESHOLD);
+        AddressBook addressBook = getTypicalAddressBook();
+        BiDirectionalMap<Person, Lesson> map = new BiDirectionalMap<>();
+        map.addMapping(BENSON, getTypicalScheduleList().getLessonList().get(0));
+        storage.saveTogether(() -> {
+            storage.saveAddressBook(addressBook);
+            storage.savePersonLessonMap(map);
+        });
+        AddressBook expectedAddressBook = new AddressBook(addressBook);
+        BiDirectionalMap<Person, Lesson> expectedMap = map.copy();
+        long lengthBeforeDelete = Files.size(journalFile);
+
+        addressBook.removePerson(BENSON);
+        map.remove(BENSON);
+        storage.saveTogether(() -> {
+            storage.saveAddressBook(addressBook);
+            storage.savePersonLessonMap(map);
+        });
+        assertEquals(2, countJournalLines());
+
+        // the delete of the person and of their links is cut off part way through
+        try (FileChannel channel = FileChannel.open(journalFile, StandardOpenOption.WRITE)) {
+            channel.truncate((lengthBeforeDelete + Files.size(journalFile)) / 2);
+        }
+
+        JournalStorage reopened = createJournalStorage(10);
+        assertEquals(expectedAddressBook, reopened.readAddressBook().get());
+        assertEquals(expectedMap, reopened.getPersonLessonMap());
+        assertEquals(1, countJournalLines());
+    }
+
+    @Test
+    public void readAddressBook_noSnapshotOrJournal_returnsEmpty() throws DataLoadingException {
+        assertFalse(createJournalStorage(10).readAddressBook().isPresent());
+    }
+
+    /**
+     * A {@code StorageManager} that keeps the person to lesson map in the test folder.
+     */
+    private static class SnapshotStorage extends StorageManager {
+        private final Path personLessonMapFile;
+
+        SnapshotStorage(Path folder) {
+            super(new JsonAddressBookStorage(folder.resolve("ab")),
+                    new JsonUserPrefsStorage(folder.resolve("prefs")),
+                    new JsonScheduleListStorage(folder.resolve("sc")));
+            personLessonMapFile = folder.resolve("map");
+        }
+
+        @Override
+        public BiDirectionalMap<Person, Lesson> getPersonLessonMap() throws DataLoadingException {
+            try {
+                return BiDirectionalMap.readFrom(personLessonMapFile);
+            } catch (ParseException e) {
+                throw new DataLoadingException(e);
+            }
+        }
+
+        @Override
+        public void savePersonLessonMap(BiDirectionalMap<Person, Lesson> personLessonMap) throws IOException {
+            personLessonMap.writeTo(personLessonMapFile);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindSaverTest {
+    private static final long LONG_DELAY_MILLIS = 60_000;
+    private static final long SHORT_DELAY_MILLIS = 10;
+    private static final long TIMEOUT_MILLIS = 10_000;
+
+    @TempDir
+    public Path testFolder;
+
+    private CountingStorageManager storage;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new CountingStorageManager(testFolder);
+    }
+
+    @Test
+    public void save_synchronous_writesImmediately() throws Exception {
+        WriteBehindSaver saver = new WriteBehindSaver(storage);
+        AddressBook original = getTypicalAddressBook();
+        saver.save(original, null, null);
+        assertEquals(1, storage.addressBookWrites);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void save_unchangedData_notWritten() throws Exception {
+        WriteBehindSaver saver = new WriteBehindSaver(storage);
+        saver.save(null, null, null);
+        assertEquals(0, storage.addressBookWrites);
+        assertFalse(Files.exists(storage.getScheduleListFilePath()));
+    }
+
+    @Test
+    public void save_burstOfSaves_writtenOnceOnFlush() throws Exception {
+        WriteBehindSaver saver = new WriteBehindSaver(storage, LONG_DELAY_MILLIS);
+        AddressBook addressBook = new AddressBook();
+        saver.save(addressBook, null, null);
+        addressBook.addPerson(ALICE);
+        saver.save(addressBook, null, null);
+        AddressBook expected = new AddressBook(addressBook);
+
+        // changes after the last save are not written
+        addressBook.removePerson(ALICE);
+        assertEquals(0, storage.addressBookWrites);
+        saver.shutdown();
+
+        assertEquals(1, storage.addressBookWrites);
+        assertEquals(expected, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void save_withDataLock_copiedUnderLockWhenWritten() throws Exception {
+        ReadWriteLock lock = new ReentrantReadWriteLock();
+        WriteBehindSaver saver = new WriteBehindSaver(storage, LONG_DELAY_MILLIS, lock.readLock());
+        AddressBook addressBook = new AddressBook();
+        saver.save(addressBook, null, null);
+
+        // a later change made under the lock is written by the pending save
+        lock.writeLock().lock();
+        try {
+            addressBook.addPerson(ALICE);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        AddressBook expected = new AddressBook(addressBook);
+        saver.shutdown();
+
+        assertEquals(1, storage.addressBookWrites);
+        assertEquals(expected, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void flush_storageFails_dataKeptForNextFlush() throws Exception {
+        WriteBehindSaver saver = new WriteBehindSaver(storage, LONG_DELAY_MILLIS);
+        AddressBook original = getTypicalAddressBook();
+        saver.save(original, null, null);
+        storage.isFailing = true;
+        assertThrows(IOException.class, saver::flush);
+
+        storage.isFailing = false;
+        saver.shutdown();
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void save_duringBackgroundWrite_writtenWithoutFlush() throws Exception {
+        WriteBehindSaver saver = new WriteBehindSaver(storage, SHORT_DELAY_MILLIS);
+        storage.writeStarted = new CountDownLatch(1);
+        storage.writeReleased = new CountDownLatch(1);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        saver.save(addressBook, null, null);
+        assertTrue(storage.writeStarted.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+
+        // saved while the first write is still running
+        addressBook.addPerson(BENSON);
+        saver.save(addressBook, null, null);
+        AddressBook expected = new AddressBook(addressBook);
+        storage.writeReleased.countDown();
+
+        waitForWrites(2);
+        assertEquals(expected, new AddressBook(storage.readAddressBook().get()));
+        saver.shutdown();
+    }
+
+    @Test
+    public void save_backgroundWriteFails_retriedWithoutFlush() throws Exception {
+        WriteBehindSaver saver = new WriteBehindSaver(storage, SHORT_DELAY_MILLIS);
+        List<IOException> reportedFailures = new CopyOnWriteArrayList<>();
+        saver.setBackgroundFailureHandler(reportedFailures::add);
+        storage.isFailing = true;
+        AddressBook original = getTypicalAddressBook();
+        saver.save(original, null, null);
+        waitForFailures(1);
+
+        storage.isFailing = false;
+        waitForWrites(1);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        // the failure is reported to the handler rather than to the next save, and cleared once the data is written
+        saver.save(null, null, null);
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (reportedFailures.get(reportedFailures.size() - 1) != null
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(SHORT_DELAY_MILLIS);
+        }
+        assertNotNull(reportedFailures.get(0));
+        assertNull(reportedFailures.get(reportedFailures.size() - 1));
+        saver.shutdown();
+    }
+
+    private void waitForWrites(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (storage.addressBookWrites < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(SHORT_DELAY_MILLIS);
+        }
+        assertEquals(count, storage.addressBookWrites);
+    }
+
+    private void waitForFailures(int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (storage.addressBookFailures < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(SHORT_DELAY_MILLIS);
+        }
+        assertTrue(storage.addressBookFailures >= count);
+    }
+
+    /**
+     * A {@code StorageManager} that counts address book writes and can be made to fail or hold them.
+     */
+    private static class CountingStorageManager extends StorageManager {
+        private volatile int addressBookWrites = 0;
+        private volatile int addressBookFailures = 0;
+        private volatile boolean isFailing = false;
+        // when set, address book writes signal that they have started and then wait to be released
+        private volatile CountDownLatch writeStarted;
+        private volatile CountDownLatch writeReleased;
+
+        CountingStorageManager(Path folder) {
+            super(new JsonAddressBookStorage(folder.resolve("ab")),
+                    new JsonUserPrefsStorage(folder.resolve("prefs")),
+                    new JsonScheduleListStorage(folder.resolve("sc")));
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            if (isFailing) {
+                addressBookFailures++;
+                throw new IOException("dummy IO exception");
+            }
+            if (writeStarted != null) {
+                writeStarted.countDown();
+                try {
+                    writeReleased.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+            }
+            super.saveAddressBook(addressBook);
+            addressBookWrites++;
+        }
+    }
+}
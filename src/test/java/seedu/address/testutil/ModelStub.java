@@ -6,6 +6,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
 import java.util.function.Predicate;
 
 import javafx.beans.InvalidationListener;
@@ -17,10 +18,13 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlySchedule;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.lessons.DayRange;
 import seedu.address.model.lessons.Lesson;
 import seedu.address.model.lessons.Task;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Subjects;
+import seedu.address.model.person.Tags;
 import seedu.address.model.state.State;
 import seedu.address.ui.Ui;
 
@@ -393,11 +397,31 @@ public class ModelStub implements Model {
         return null;
     }
 
+    @Override
+    public Person getPersonWithName(Name name) {
+        return null;
+    }
+
+    @Override
+    public Person getPersonById(long id) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public Set<Person> getPersonsFulfill(Predicate<Person> predicate) {
         return null;
     }
 
+    @Override
+    public Predicate<Person> getPersonNameContainsPredicate(String substring) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Predicate<Person> getPersonHasAllPredicate(Subjects subjects, Tags tags) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     public void linkWith(Person person, Lesson lesson) {
 
     }
@@ -407,6 +431,11 @@ public class ModelStub implements Model {
 
     }
 
+    @Override
+    public boolean isLinkedWith(Person person, Lesson lesson) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public String getLinkedPersonNameStr(Lesson lesson) {
 
@@ -437,10 +466,30 @@ public class ModelStub implements Model {
         return null;
     }
 
+    @Override
+    public Predicate<Lesson> getLessonNameContainsPredicate(String substring) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Lesson> getLessonsIn(DayRange range) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public Lesson getLessonClashWith(Lesson lesson) {
         throw new AssertionError("This method should not be called.");
     }
+
+    @Override
+    public Lesson getLessonById(long id) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Lesson getLessonWithName(Name name) {
+        throw new AssertionError("This method should not be called.");
+    }
     @Override
     public void addTask(Task task, int index) {
         throw new AssertionError("This method should not be called.");
@@ -475,4 +524,50 @@ public class ModelStub implements Model {
     public String getPrevCommandHistory() {
         throw new AssertionError("This method should not be called.");
     }
+
+    @Override
+    public boolean isAddressBookModified() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean isScheduleListModified() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public boolean isPersonLessonMapModified() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void markModified(boolean isAddressBookModified, boolean isScheduleListModified,
+                             boolean isPersonLessonMapModified) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public void clearModifiedFlags() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public Model copy() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public ReadWriteLock getLock() {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Person> addPersons(Collection<Person> persons) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Lesson> addLessons(Collection<Lesson> lessons) {
+        throw new AssertionError("This method should not be called.");
+    }
 }